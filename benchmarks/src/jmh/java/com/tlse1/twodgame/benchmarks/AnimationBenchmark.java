@@ -0,0 +1,63 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+import com.tlse1.twodgame.entities.handlers.AnimationHandler;
+import com.tlse1.twodgame.utils.Direction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks d'AnimationHandler : mise à jour par frame et changement de direction
+ * (appelé à chaque frame par MovementHandler.move).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnimationBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private Enemy slime;
+    private AnimationHandler animationHandler;
+    private int directionIndex;
+
+    @Setup
+    public void setup() {
+        HeadlessFixture.boot();
+        slime = new Enemy(0, 0, EnemyArchetypes.get(EnemyArchetypes.SLIME, 1));
+        animationHandler = slime.getAnimationHandler();
+        animationHandler.setMoving(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        slime.dispose();
+    }
+
+    @Benchmark
+    public void update() {
+        animationHandler.update(FRAME);
+    }
+
+    @Benchmark
+    public void setCurrentDirectionSame() {
+        animationHandler.setCurrentDirection(Direction.DOWN);
+    }
+
+    @Benchmark
+    public void setCurrentDirectionChanging() {
+        directionIndex = (directionIndex + 1) & 3;
+        animationHandler.setCurrentDirection(DIRECTIONS[directionIndex]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+import com.tlse1.twodgame.entities.handlers.AnimationClock;
+import com.tlse1.twodgame.entities.handlers.AnimationHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark des animations d'une foule de slimes sur une horloge partagée, dont seule une partie
+ * est dans la vue de la caméra. Une opération = une frame : l'horloge avance une fois, puis chaque
+ * handler est mis à jour ; le coût doit suivre le nombre de slimes visibles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationCullingBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+    private static final int SLIME_COUNT = 1000;
+
+    @Param({"100", "10"})
+    public int visiblePercent;
+
+    private final AnimationClock clock = new AnimationClock();
+    private Enemy[] slimes;
+    private AnimationHandler[] handlers;
+
+    @Setup
+    public void setup() {
+        HeadlessFixture.boot();
+        slimes = new Enemy[SLIME_COUNT];
+        handlers = new AnimationHandler[SLIME_COUNT];
+        int visibleCount = SLIME_COUNT * visiblePercent / 100;
+        for (int i = 0; i < SLIME_COUNT; i++) {
+            slimes[i] = new Enemy(0, 0, EnemyArchetypes.get(EnemyArchetypes.SLIME, 1 + i % 3));
+            handlers[i] = slimes[i].getAnimationHandler();
+            handlers[i].setClock(clock);
+            handlers[i].setMoving(i % 2 == 0);
+            handlers[i].setVisible(i < visibleCount);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Enemy slime : slimes) {
+            slime.dispose();
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        clock.advance(FRAME);
+        for (AnimationHandler handler : handlers) {
+            handler.update(FRAME);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.entities.handlers.AnimationClock;
+import com.tlse1.twodgame.utils.Direction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la hitbox d'attaque du joueur, lue dans la table [état][direction][frame].
+ * Une opération = une frame d'attaque : l'horloge avance, l'attaque est relancée (dans une autre
+ * direction) quand elle se termine, puis la hitbox de la frame en cours est calculée.
+ * Le coût doit rester constant et sans allocation (profiler gc : 0 B/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AttackHitboxBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final AnimationClock clock = new AnimationClock();
+    private final Rectangle hitbox = new Rectangle();
+    private Player player;
+    private int attackCount;
+
+    @Setup
+    public void setup() {
+        HeadlessFixture.boot();
+        player = new Player(0, 0);
+        player.getAnimationHandler().setClock(clock);
+    }
+
+    @TearDown
+    public void tearDown() {
+        player.dispose();
+    }
+
+    @Benchmark
+    public boolean currentAttackHitbox() {
+        clock.advance(FRAME);
+        player.update(FRAME);
+        if (!player.isAttacking()) {
+            player.getAnimationHandler().setCurrentDirection(DIRECTIONS[attackCount++ % DIRECTIONS.length]);
+            player.attack();
+        }
+        return player.getCurrentAttackHitbox(hitbox);
+    }
+}
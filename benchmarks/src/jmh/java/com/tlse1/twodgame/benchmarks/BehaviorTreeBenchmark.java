@@ -0,0 +1,64 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.ai.BehaviorTree;
+import com.tlse1.twodgame.ai.BehaviorTrees;
+import com.tlse1.twodgame.ai.Blackboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de l'évaluation de l'arbre de comportement des ennemis (ai/enemy.json) sur N tableaux
+ * de faits tirés au hasard : toutes les branches de l'arbre sont parcourues.
+ * Une opération = une décision pour chaque ennemi.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BehaviorTreeBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    private BehaviorTree tree;
+    private float[][] blackboards;
+
+    @Setup
+    public void setup() {
+        HeadlessFixture.boot();
+        tree = BehaviorTrees.get(BehaviorTrees.DEFAULT_PATH);
+
+        Random random = new Random(42);
+        blackboards = new float[enemyCount][];
+        for (int i = 0; i < enemyCount; i++) {
+            float[] facts = Blackboard.create();
+            facts[Blackboard.TARGET_ALIVE] = random.nextInt(10) > 0 ? 1f : 0f;
+            facts[Blackboard.READY] = random.nextInt(10) > 0 ? 1f : 0f;
+            facts[Blackboard.HAS_ZONE] = random.nextBoolean() ? 1f : 0f;
+            facts[Blackboard.HAS_MAP] = 1f;
+            facts[Blackboard.TARGET_IN_ZONE] = random.nextInt(6) == 0 ? 1f : 0f;
+            facts[Blackboard.TARGET_DISTANCE] = random.nextFloat() * 800f;
+            facts[Blackboard.DETECTION_RANGE] = 200f;
+            facts[Blackboard.HEALTH_RATIO] = random.nextFloat();
+            blackboards[i] = facts;
+        }
+    }
+
+    @Benchmark
+    public int evaluateAll() {
+        int sum = 0;
+        for (float[] facts : blackboards) {
+            sum += tree.evaluate(facts);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,77 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.tlse1.twodgame.entities.handlers.CollisionHandler;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de CollisionHandler.adjustPosition : déplacement libre et déplacement contre un mur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+
+    private static final int PROBES = 1024;
+
+    private JsonMapLoader mapLoader;
+    private CollisionHandler collisionHandler;
+    private float[] fromX;
+    private float[] fromY;
+    private float[] toX;
+    private float[] toY;
+    private int cursor;
+    private final Vector2 adjusted = new Vector2();
+
+    @Setup
+    public void setup() {
+        mapLoader = HeadlessFixture.loadMap();
+        collisionHandler = new CollisionHandler(mapLoader, 13f, 15f, 32f, 32f);
+
+        Random random = new Random(42);
+        float widthPixels = mapLoader.getMapWidth() * mapLoader.getTileWidth();
+        float heightPixels = mapLoader.getMapHeight() * mapLoader.getTileHeight();
+        fromX = new float[PROBES];
+        fromY = new float[PROBES];
+        toX = new float[PROBES];
+        toY = new float[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            fromX[i] = random.nextFloat() * widthPixels;
+            fromY[i] = random.nextFloat() * heightPixels;
+            // Pas de déplacement typique d'une frame en course (150 * 1.5 / 60)
+            toX[i] = fromX[i] + (random.nextFloat() - 0.5f) * 8f;
+            toY[i] = fromY[i] + (random.nextFloat() - 0.5f) * 8f;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mapLoader.dispose();
+    }
+
+    @Benchmark
+    public Vector2 adjustPosition() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        int i = cursor;
+        return collisionHandler.adjustPosition(fromX[i], fromY[i], toX[i], toY[i], adjusted);
+    }
+
+    @Benchmark
+    public boolean isValidPosition() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        int i = cursor;
+        return collisionHandler.isValidPosition(toX[i], toY[i]);
+    }
+}
@@ -0,0 +1,82 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.utils.CollisionMask;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark du test de coup au pixel entre deux frames (disques de la taille du rendu du joueur,
+ * 32x32, et d'un slime, 38x38) à des décalages tirés au hasard, dont une partie se chevauchent
+ * sans contact de pixels. wordLevel utilise CollisionMask.overlaps (ET de 64 pixels à la fois),
+ * perPixel la même comparaison pixel par pixel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionMaskBenchmark {
+
+    private static final int PROBES = 1024;
+
+    private CollisionMask playerMask;
+    private CollisionMask enemyMask;
+    private int[] offsetX;
+    private int[] offsetY;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        playerMask = disc(32, 12);
+        enemyMask = disc(38, 14);
+
+        Random random = new Random(42);
+        offsetX = new int[PROBES];
+        offsetY = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            offsetX[i] = random.nextInt(60) - 30;
+            offsetY[i] = random.nextInt(60) - 30;
+        }
+    }
+
+    private static CollisionMask disc(int size, int radius) {
+        CollisionMask mask = new CollisionMask(size, size);
+        float center = size / 2f;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                float dx = x + 0.5f - center;
+                float dy = y + 0.5f - center;
+                if (dx * dx + dy * dy <= radius * radius) {
+                    mask.setOpaque(x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    @Benchmark
+    public boolean wordLevel() {
+        int i = cursor++ & (PROBES - 1);
+        return CollisionMask.overlaps(playerMask, 0, 0, enemyMask, offsetX[i], offsetY[i]);
+    }
+
+    @Benchmark
+    public boolean perPixel() {
+        int i = cursor++ & (PROBES - 1);
+        for (int y = 0; y < playerMask.getHeight(); y++) {
+            for (int x = 0; x < playerMask.getWidth(); x++) {
+                if (playerMask.isOpaque(x, y) && enemyMask.isOpaque(x - offsetX[i], y - offsetY[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
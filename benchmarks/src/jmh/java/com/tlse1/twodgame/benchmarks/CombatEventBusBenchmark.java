@@ -0,0 +1,73 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.events.CombatEvent;
+import com.tlse1.twodgame.events.CombatEventBus;
+import com.tlse1.twodgame.events.CombatEventListener;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de CombatEventBus : une frame de combat chargée (eventCount dégâts, dont un sur dix tue
+ * et un sur deux de ces morts lâche un objet), publiée puis distribuée en un seul drain.
+ * Les abonnés ne font que compter : on mesure le coût du bus lui-même.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CombatEventBusBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int eventCount;
+
+    private CombatEventBus bus;
+    private long total;
+
+    @Setup
+    public void setup() {
+        bus = new CombatEventBus();
+        bus.subscribe(CombatEvent.DAMAGE_DEALT, new CombatEventListener() {
+            @Override
+            public void onEvent(CombatEvent event) {
+                total += event.getAmount();
+                // Un coup sur dix est mortel
+                if (event.getAmount() % 10 == 0) {
+                    bus.entityDied(null);
+                }
+            }
+        });
+        bus.subscribe(CombatEvent.ENTITY_DIED, new CombatEventListener() {
+            @Override
+            public void onEvent(CombatEvent event) {
+                total++;
+                if ((total & 1) == 0) {
+                    bus.itemDropped(null);
+                }
+            }
+        });
+        bus.subscribe(CombatEvent.ITEM_DROPPED, new CombatEventListener() {
+            @Override
+            public void onEvent(CombatEvent event) {
+                total++;
+            }
+        });
+        // Le tampon atteint sa taille de croisière avant la mesure
+        publishAndDrain();
+    }
+
+    @Benchmark
+    public int publishAndDrain() {
+        for (int i = 0; i < eventCount; i++) {
+            bus.damageDealt(this, null, i);
+        }
+        return bus.drain();
+    }
+}
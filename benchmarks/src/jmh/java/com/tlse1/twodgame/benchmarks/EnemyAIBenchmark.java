@@ -0,0 +1,179 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.artemis.BaseSystem;
+import com.artemis.World;
+import com.artemis.WorldConfigurationBuilder;
+import com.tlse1.twodgame.ecs.EnemyEntities;
+import com.tlse1.twodgame.ecs.components.AiLod;
+import com.tlse1.twodgame.ecs.systems.AiDecisionSystem;
+import com.tlse1.twodgame.ecs.systems.AiLodSystem;
+import com.tlse1.twodgame.ecs.systems.EnemyUpdateSystem;
+import com.tlse1.twodgame.ecs.systems.MovementSystem;
+import com.tlse1.twodgame.ecs.systems.ParallelAiDecisionSystem;
+import com.tlse1.twodgame.ecs.systems.SteeringSystem;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.utils.TimingWheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de l'IA des ennemis sur N ennemis répartis dans les 6 zones.
+ * Le joueur se trouve dans la zone 1 : les ennemis de cette zone poursuivent et attaquent,
+ * les autres retournent à leur point de spawn ou restent en idle.
+ * Une opération = une frame d'IA pour tous les ennemis.
+ * updateAI passe par les systèmes de GameWorld (décision, SteeringSystem, MovementSystem) ;
+ * updateThroughSystems y ajoute les animations (EnemyUpdateSystem) ;
+ * updateWithLod ajoute le niveau de détail de l'IA (les ennemis des zones 2 à 6 s'endorment à leur spawn) ;
+ * updateParallel calcule les décisions sur tous les cœurs (ParallelAiDecisionSystem), utile à partir
+ * de quelques milliers d'ennemis.
+ * Chaque monde référence les mêmes composants (ceux des ennemis), créés dans le même ordre.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyAIBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+    // Budget de décision assez large pour que tous les ennemis décident à chaque frame
+    private static final float UNBOUNDED_BUDGET_MILLIS = 1000f;
+
+    @Param({"6", "60", "300", "3000"})
+    public int enemyCount;
+
+    private JsonMapLoader mapLoader;
+    private Player player;
+    private List<Enemy> enemies;
+    private final TimingWheel timers = new TimingWheel();
+    private World aiWorld;
+    private World ecsWorld;
+    private World lodWorld;
+    private World parallelWorld;
+    private float playerX;
+    private float playerY;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapLoader = HeadlessFixture.loadMap();
+        player = HeadlessFixture.spawnPlayer(mapLoader, 1);
+        HeadlessFixture.makeInvulnerable(player);
+        playerX = player.getX();
+        playerY = player.getY();
+
+        Random random = new Random(42);
+        enemies = new ArrayList<>(enemyCount);
+        for (int i = 0; i < enemyCount; i++) {
+            int zoneId = 1 + (i % 6);
+            float offsetX = (random.nextFloat() - 0.5f) * 32f;
+            float offsetY = (random.nextFloat() - 0.5f) * 32f;
+            enemies.add(HeadlessFixture.spawnEnemy(mapLoader, zoneId, offsetX, offsetY));
+        }
+
+        aiWorld = createWorld(false,
+            new AiDecisionSystem(player, mapLoader, UNBOUNDED_BUDGET_MILLIS),
+            new SteeringSystem(player, timers),
+            new MovementSystem());
+        ecsWorld = createWorld(false,
+            new AiDecisionSystem(player, mapLoader, UNBOUNDED_BUDGET_MILLIS),
+            new SteeringSystem(player, timers),
+            new MovementSystem(),
+            new EnemyUpdateSystem());
+        lodWorld = createWorld(true,
+            new AiLodSystem(mapLoader, player),
+            new AiDecisionSystem(player, mapLoader, UNBOUNDED_BUDGET_MILLIS),
+            new SteeringSystem(player, timers),
+            new MovementSystem(),
+            new EnemyUpdateSystem());
+        parallelWorld = createWorld(false,
+            new ParallelAiDecisionSystem(player, mapLoader),
+            new SteeringSystem(player, timers),
+            new MovementSystem(),
+            new EnemyUpdateSystem());
+    }
+
+    /**
+     * Crée un monde ECS avec une entité par ennemi.
+     *
+     * @param lod true pour ajouter un AiLod à chaque entité
+     * @param systems Systèmes du monde, dans l'ordre de GameWorld
+     */
+    private World createWorld(boolean lod, BaseSystem... systems) {
+        World world = new World(new WorldConfigurationBuilder().with(systems).build());
+        for (Enemy enemy : enemies) {
+            int entity = EnemyEntities.create(world, enemy);
+            if (lod) {
+                world.getMapper(AiLod.class).create(entity);
+            }
+        }
+        return world;
+    }
+
+    /**
+     * Replace tout le monde au point de départ pour que chaque itération mesure
+     * le même mélange poursuite / attaque / retour.
+     */
+    @Setup(Level.Iteration)
+    public void resetPositions() {
+        player.setX(playerX);
+        player.setY(playerY);
+        timers.clear();
+        for (Enemy enemy : enemies) {
+            enemy.setX(enemy.getInitialX());
+            enemy.setY(enemy.getInitialY());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        aiWorld.dispose();
+        ecsWorld.dispose();
+        lodWorld.dispose();
+        parallelWorld.dispose();
+        for (Enemy enemy : enemies) {
+            enemy.dispose();
+        }
+        player.dispose();
+        mapLoader.dispose();
+    }
+
+    @Benchmark
+    public void updateAI() {
+        process(aiWorld);
+    }
+
+    @Benchmark
+    public void updateThroughSystems() {
+        process(ecsWorld);
+    }
+
+    @Benchmark
+    public void updateWithLod() {
+        process(lodWorld);
+    }
+
+    @Benchmark
+    public void updateParallel() {
+        process(parallelWorld);
+    }
+
+    private void process(World world) {
+        timers.advance(FRAME);
+        world.setDelta(FRAME);
+        world.process();
+    }
+}
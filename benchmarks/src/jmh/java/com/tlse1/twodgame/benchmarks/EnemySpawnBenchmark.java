@@ -0,0 +1,52 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de création d'ennemis hors pool : statistiques et animations viennent de
+ * l'archétype partagé (EnemyArchetypes), chargé une fois pendant le setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnemySpawnBenchmark {
+
+    private int level;
+
+    @Setup
+    public void setup() {
+        HeadlessFixture.boot();
+        // Charge le registre et les animations des six archétypes
+        for (int lvl = 1; lvl <= 3; lvl++) {
+            new Enemy(0, 0, EnemyArchetypes.get(EnemyArchetypes.SLIME, lvl)).dispose();
+            new Enemy(0, 0, EnemyArchetypes.get(EnemyArchetypes.VAMPIRE, lvl)).dispose();
+        }
+    }
+
+    @Benchmark
+    public Enemy createSlime() {
+        level = level % 3 + 1;
+        Enemy slime = new Enemy(0, 0, EnemyArchetypes.get(EnemyArchetypes.SLIME, level));
+        slime.dispose();
+        return slime;
+    }
+
+    @Benchmark
+    public Enemy createVampire() {
+        level = level % 3 + 1;
+        Enemy vampire = new Enemy(0, 0, EnemyArchetypes.get(EnemyArchetypes.VAMPIRE, level));
+        vampire.dispose();
+        return vampire;
+    }
+}
@@ -0,0 +1,54 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.entities.Inventory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks d'Inventory : comptage par type et cycle ajout / utilisation.
+ * Les deux doivent rester constants quel que soit itemCount (un compteur par type).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InventoryBenchmark {
+
+    private static final Inventory.ItemType[] TYPES = Inventory.ItemType.values();
+
+    @Param({"10", "100", "1000"})
+    public int itemCount;
+
+    private Inventory inventory;
+
+    @Setup
+    public void setup() {
+        inventory = new Inventory();
+        for (int i = 0; i < itemCount; i++) {
+            inventory.addItem(TYPES[i % TYPES.length]);
+        }
+    }
+
+    @Benchmark
+    public int getItemCountAllSlots() {
+        int total = 0;
+        for (Inventory.ItemType type : TYPES) {
+            total += inventory.getItemCount(type);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public boolean addThenUse() {
+        inventory.addItem(Inventory.ItemType.HEAL_POTION);
+        return inventory.useItem(Inventory.ItemType.HEAL_POTION);
+    }
+}
@@ -0,0 +1,90 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de JsonMapLoader : requêtes de collision et de zone, et parsing de la map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapBenchmark {
+
+    private static final int PROBES = 1024;
+
+    private JsonMapLoader mapLoader;
+    private float[] probeX;
+    private float[] probeY;
+    private int[] probeZone;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        mapLoader = HeadlessFixture.loadMap();
+
+        // Sondes réparties sur toute la map (graine fixe pour des résultats comparables)
+        Random random = new Random(42);
+        float widthPixels = mapLoader.getMapWidth() * mapLoader.getTileWidth();
+        float heightPixels = mapLoader.getMapHeight() * mapLoader.getTileHeight();
+        probeX = new float[PROBES];
+        probeY = new float[PROBES];
+        probeZone = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeX[i] = random.nextFloat() * widthPixels;
+            probeY[i] = random.nextFloat() * heightPixels;
+            probeZone[i] = 1 + random.nextInt(6);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mapLoader.dispose();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public boolean isColliding() {
+        int i = next();
+        return mapLoader.isColliding(probeX[i], probeY[i], 14f, 16f);
+    }
+
+    @Benchmark
+    public boolean isInZone() {
+        int i = next();
+        return mapLoader.isInZone(probeX[i], probeY[i], probeZone[i]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonValue parseMapJson() {
+        return new JsonReader().parse(Gdx.files.internal(HeadlessFixture.MAP_PATH));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loadMap() {
+        JsonMapLoader loader = new JsonMapLoader(HeadlessFixture.MAP_PATH);
+        int width = loader.getMapWidth();
+        loader.dispose();
+        return width;
+    }
+}
@@ -0,0 +1,96 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.entities.ProjectileEngine;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.utils.Direction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ProjectileEngine : N projectiles tirés depuis les cases libres de la map
+ * dans des directions aléatoires, le joueur au centre de la zone 1.
+ * Une opération = une frame (déplacement, collisions avec la map, broadphase et dégâts au joueur) ;
+ * les projectiles arrêtés sont retirés aussitôt pour garder N projectiles en vol.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectileBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @Param({"1000", "5000", "20000"})
+    public int projectileCount;
+
+    private JsonMapLoader mapLoader;
+    private Player player;
+    private ProjectileEngine projectiles;
+    private float[] startX;
+    private float[] startY;
+    private Direction[] startDirection;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapLoader = HeadlessFixture.loadMap();
+        player = HeadlessFixture.spawnPlayer(mapLoader, 1);
+        HeadlessFixture.makeInvulnerable(player);
+        projectiles = new ProjectileEngine(mapLoader);
+
+        Random random = new Random(42);
+        float mapWidth = mapLoader.getMapWidth() * mapLoader.getTileWidth();
+        float mapHeight = mapLoader.getMapHeight() * mapLoader.getTileHeight();
+        startX = new float[projectileCount];
+        startY = new float[projectileCount];
+        startDirection = new Direction[projectileCount];
+        for (int i = 0; i < projectileCount; i++) {
+            float x;
+            float y;
+            do {
+                x = random.nextFloat() * mapWidth;
+                y = random.nextFloat() * mapHeight;
+            } while (mapLoader.isColliding(x, y, 5f, 5f));
+            startX[i] = x;
+            startY[i] = y;
+            startDirection[i] = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        projectiles.clear();
+        refill();
+    }
+
+    private void refill() {
+        for (int i = projectiles.getCount(); i < projectileCount; i++) {
+            projectiles.fire(startX[i], startY[i], startDirection[i], 5f, 5f, 8f, 90f);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        player.dispose();
+        mapLoader.dispose();
+    }
+
+    @Benchmark
+    public int updateAndHit() {
+        refill();
+        projectiles.update(FRAME);
+        return projectiles.hit(player) + projectiles.getCount();
+    }
+}
@@ -0,0 +1,101 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.entities.SlimeSwarm;
+import com.tlse1.twodgame.headless.NullBatch;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de l'essaim du mode horde : N slimes répartis sur les cases libres de la map,
+ * le joueur au centre de la zone 1. Une opération = une frame (mise à jour + rendu dans un NullBatch) ;
+ * l'objectif de 5000 slimes à 60 FPS demande une frame bien en dessous de 16 666 µs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlimeSwarmBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+
+    @Param({"1000", "5000", "10000"})
+    public int slimeCount;
+
+    private JsonMapLoader mapLoader;
+    private Player player;
+    private SlimeSwarm swarm;
+    private float[] spawnX;
+    private float[] spawnY;
+    private int[] spawnLevel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapLoader = HeadlessFixture.loadMap();
+        player = HeadlessFixture.spawnPlayer(mapLoader, 1);
+        HeadlessFixture.makeInvulnerable(player);
+        swarm = new SlimeSwarm(mapLoader);
+
+        Random random = new Random(42);
+        float mapWidth = mapLoader.getMapWidth() * mapLoader.getTileWidth();
+        float mapHeight = mapLoader.getMapHeight() * mapLoader.getTileHeight();
+        spawnX = new float[slimeCount];
+        spawnY = new float[slimeCount];
+        spawnLevel = new int[slimeCount];
+        for (int i = 0; i < slimeCount; i++) {
+            float x;
+            float y;
+            do {
+                x = random.nextFloat() * mapWidth;
+                y = random.nextFloat() * mapHeight;
+            } while (swarm.isBlocked(x, y));
+            spawnX[i] = x;
+            spawnY[i] = y;
+            spawnLevel[i] = 1 + random.nextInt(3);
+        }
+    }
+
+    /**
+     * Replace l'essaim à ses positions de départ pour que chaque itération mesure
+     * le même mélange poursuite / attaque / idle.
+     */
+    @Setup(Level.Iteration)
+    public void respawn() {
+        swarm.clear();
+        for (int i = 0; i < slimeCount; i++) {
+            swarm.spawn(spawnX[i], spawnY[i], spawnLevel[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        swarm.dispose();
+        player.dispose();
+        mapLoader.dispose();
+    }
+
+    @Benchmark
+    public int update() {
+        swarm.update(FRAME, player);
+        return swarm.getCount();
+    }
+
+    @Benchmark
+    public int updateAndRender() {
+        swarm.update(FRAME, player);
+        swarm.render(NullBatch.INSTANCE);
+        return swarm.getCount();
+    }
+}
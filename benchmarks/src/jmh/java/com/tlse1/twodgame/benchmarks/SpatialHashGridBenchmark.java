@@ -0,0 +1,96 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.utils.SpatialHashGrid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de SpatialHashGrid : requête autour du joueur (comparée au parcours linéaire
+ * qu'elle remplace) et mise à jour des ennemis après leur déplacement d'une frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpatialHashGridBenchmark {
+
+    private static final float MAP_WIDTH = 800f;
+    private static final float MAP_HEIGHT = 640f;
+    private static final float HITBOX = 12f;
+    private static final int PROBES = 1024;
+
+    @Param({"10", "100", "1000"})
+    public int enemyCount;
+
+    private SpatialHashGrid<Integer> grid;
+    private float[] enemyX;
+    private float[] enemyY;
+    private Integer[] ids;
+    private float[] probeX;
+    private float[] probeY;
+    private final ArrayList<Integer> nearby = new ArrayList<>();
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        grid = new SpatialHashGrid<>(32f);
+        enemyX = new float[enemyCount];
+        enemyY = new float[enemyCount];
+        ids = new Integer[enemyCount];
+        for (int i = 0; i < enemyCount; i++) {
+            enemyX[i] = random.nextFloat() * MAP_WIDTH;
+            enemyY[i] = random.nextFloat() * MAP_HEIGHT;
+            ids[i] = i;
+            grid.insert(ids[i], enemyX[i], enemyY[i], HITBOX, HITBOX);
+        }
+        probeX = new float[PROBES];
+        probeY = new float[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeX[i] = random.nextFloat() * MAP_WIDTH;
+            probeY[i] = random.nextFloat() * MAP_HEIGHT;
+        }
+    }
+
+    @Benchmark
+    public int queryAroundPlayer() {
+        int probe = cursor++ & (PROBES - 1);
+        return grid.queryRect(probeX[probe], probeY[probe], 13f, 15f, nearby);
+    }
+
+    @Benchmark
+    public int linearScanAroundPlayer() {
+        int probe = cursor++ & (PROBES - 1);
+        float x = probeX[probe];
+        float y = probeY[probe];
+        int hits = 0;
+        for (int i = 0; i < enemyCount; i++) {
+            if (enemyX[i] <= x + 13f && enemyX[i] + HITBOX >= x
+                    && enemyY[i] <= y + 15f && enemyY[i] + HITBOX >= y) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int updateAllEnemies() {
+        // Déplacement d'une frame en marche (~2,5 px), aller puis retour pour rester stable
+        float step = (cursor++ & 1) == 0 ? 2.5f : -2.5f;
+        for (int i = 0; i < enemyCount; i++) {
+            enemyX[i] += step;
+            grid.update(ids[i], enemyX[i], enemyY[i], HITBOX, HITBOX);
+        }
+        return grid.size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.effects.StatusEffect;
+import com.tlse1.twodgame.effects.StatusEffectEngine;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark du StatusEffectEngine : enemyCount slimes portant chacun un ralentissement et trois cumuls
+ * de poison (sans dégâts, pour qu'ils restent en vie). Une opération = une frame : le moteur avance,
+ * puis un slime sur 60 reçoit de nouveaux effets (les effets se renouvellent en une seconde).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatusEffectBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+    private static final float DURATION = 3f;
+
+    @Param({"100", "500", "2000"})
+    public int enemyCount;
+
+    private final StatusEffectEngine engine = new StatusEffectEngine();
+    private Enemy[] slimes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        HeadlessFixture.boot();
+        slimes = new Enemy[enemyCount];
+        for (int i = 0; i < enemyCount; i++) {
+            slimes[i] = new Enemy(0, 0, EnemyArchetypes.get(EnemyArchetypes.SLIME, 1 + i % 3));
+            slimes[i].setStatusEffectEngine(engine);
+            applyEffects(slimes[i], DURATION * i / enemyCount);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Enemy slime : slimes) {
+            slime.dispose();
+        }
+    }
+
+    private void applyEffects(Enemy slime, float duration) {
+        engine.apply(slime, this, StatusEffect.SLOW, 0.3f, duration);
+        for (int stack = 0; stack < 3; stack++) {
+            engine.apply(slime, this, StatusEffect.POISON, 0f, duration);
+        }
+    }
+
+    @Benchmark
+    public int frame() {
+        engine.update(FRAME);
+        for (int i = 0; i < Math.max(1, enemyCount / 60); i++) {
+            applyEffects(slimes[next], DURATION);
+            next = (next + 1) % enemyCount;
+        }
+        return engine.getActiveCount();
+    }
+}
@@ -0,0 +1,64 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.utils.TimingWheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de TimingWheel : une frame de 60 FPS avec timerCount timers en attente
+ * (réapparitions de 10 s, cooldowns de 2 s, boosts de 5 s...), chaque timer échu étant replanifié,
+ * et un cycle planification / annulation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimingWheelBenchmark {
+
+    private static final float FRAME = 1f / 60f;
+
+    @Param({"1000", "10000", "100000"})
+    public int timerCount;
+
+    private TimingWheel wheel;
+    private TimingWheel.Timer extra;
+
+    @Setup
+    public void setup() {
+        wheel = new TimingWheel();
+        Random random = new Random(42);
+        for (int i = 0; i < timerCount; i++) {
+            final float period = 0.5f + random.nextFloat() * 15f;
+            TimingWheel.Timer timer = new TimingWheel.Timer() {
+                @Override
+                protected void onExpire() {
+                    wheel.schedule(this, period);
+                }
+            };
+            wheel.schedule(timer, random.nextFloat() * period);
+        }
+        extra = new TimingWheel.Timer();
+    }
+
+    @Benchmark
+    public int advanceFrame() {
+        wheel.advance(FRAME);
+        return wheel.getScheduledCount();
+    }
+
+    @Benchmark
+    public boolean scheduleThenCancel() {
+        wheel.schedule(extra, 10f);
+        extra.cancel();
+        return extra.isScheduled();
+    }
+}
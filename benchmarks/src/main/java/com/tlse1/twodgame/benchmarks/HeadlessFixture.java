@@ -0,0 +1,103 @@
+package com.tlse1.twodgame.benchmarks;
+
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.entities.handlers.CollisionHandler;
+import com.tlse1.twodgame.headless.HeadlessGdx;
+import com.tlse1.twodgame.headless.NullBatch;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+/**
+ * Fixtures headless pour les benchmarks.
+ * Démarre une application LibGDX sans fenêtre avec un GL20 simulé (HeadlessGdx), puis construit
+ * la map, le joueur et les ennemis exactement comme GameScreen.show().
+ */
+public final class HeadlessFixture {
+
+    public static final String MAP_PATH = "map/map.json";
+
+    private HeadlessFixture() {
+    }
+
+    /**
+     * Démarre l'application headless (une seule fois par JVM).
+     */
+    public static void boot() {
+        HeadlessGdx.boot();
+    }
+
+    /**
+     * Charge la map du jeu.
+     */
+    public static JsonMapLoader loadMap() {
+        boot();
+        return new JsonMapLoader(MAP_PATH);
+    }
+
+    /**
+     * Crée le joueur au centre d'une zone, avec ses collisions, et initialise ses dimensions.
+     *
+     * @param mapLoader La map
+     * @param zoneId Zone de départ (1-6)
+     */
+    public static Player spawnPlayer(JsonMapLoader mapLoader, int zoneId) {
+        boot();
+        float[] center = mapLoader.getZoneCenter(zoneId);
+        Player player = new Player(center[0], center[1]);
+        player.getMovementHandler().setCollisionHandler(new CollisionHandler(
+            mapLoader, player.getHitboxWidth(), player.getHitboxHeight(), 32f, 32f));
+        settle(player);
+        return player;
+    }
+
+    /**
+     * Crée un ennemi dans une zone, comme GameScreen : slimes dans les zones 1-3, vampires dans les zones 4-6.
+     *
+     * La cible et la map de l'IA sont données aux systèmes de décision, pas à l'ennemi.
+     *
+     * @param mapLoader La map
+     * @param zoneId Zone de l'ennemi (1-6)
+     * @param offsetX Décalage X par rapport au centre de la zone
+     * @param offsetY Décalage Y par rapport au centre de la zone
+     */
+    public static Enemy spawnEnemy(JsonMapLoader mapLoader, int zoneId, float offsetX, float offsetY) {
+        boot();
+        float[] center = mapLoader.getZoneCenter(zoneId);
+        float x = center[0] + offsetX;
+        float y = center[1] + offsetY;
+
+        Enemy enemy;
+        float spriteSize;
+        if (zoneId <= 3) {
+            enemy = new Enemy(x, y, EnemyArchetypes.get(EnemyArchetypes.SLIME, zoneId));
+            spriteSize = 16f;
+        } else {
+            enemy = new Enemy(x, y, EnemyArchetypes.get(EnemyArchetypes.VAMPIRE, zoneId - 3));
+            spriteSize = 32f;
+        }
+        enemy.setZoneId(zoneId);
+        enemy.setInitialPosition(x, y);
+        enemy.getMovementHandler().setCollisionHandler(new CollisionHandler(
+            mapLoader, enemy.getHitboxWidth(), enemy.getHitboxHeight(), spriteSize, spriteSize));
+        settle(enemy);
+        return enemy;
+    }
+
+    /**
+     * Rend le personnage une fois dans un NullBatch pour initialiser ses dimensions
+     * (l'IA attend que les dimensions soient connues).
+     */
+    public static void settle(Character character) {
+        character.render(NullBatch.INSTANCE);
+    }
+
+    /**
+     * Rend le joueur quasi invulnérable, pour que les scénarios longs ne s'arrêtent pas sur sa mort.
+     */
+    public static void makeInvulnerable(Player player) {
+        player.getCombatHandler().setMaxHealth(Integer.MAX_VALUE / 2);
+        player.getCombatHandler().setHealth(Integer.MAX_VALUE / 2);
+    }
+}
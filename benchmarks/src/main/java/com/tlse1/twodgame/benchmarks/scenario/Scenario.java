@@ -0,0 +1,166 @@
+package com.tlse1.twodgame.benchmarks.scenario;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Définition d'un scénario de benchmark, lue depuis un fichier JSON de benchmarks/scenarios.
+ *
+ * Exemple :
+ * <pre>
+ * {
+ *   "name": "zones-patrol",
+ *   "map": "map/map.json",
+ *   "seed": 42,
+ *   "duration": 60,
+ *   "warmup": 10,
+ *   "playerZone": 1,
+ *   "invulnerable": true,
+ *   "enemies": [ { "zone": 1, "slimes": 4 }, { "zone": 4, "vampires": 2 } ],
+ *   "route": { "type": "waypoints", "zones": [1, 2, 3], "running": true, "attackEvery": 30 },
+ *   "tolerance": 0.2
+ * }
+ * </pre>
+ *
+ * "horde": N lance le mode horde (N slimes en essaim) après le placement des ennemis ;
+ * "minTicksPerSecond" fixe un plancher absolu de ticks/seconde, vérifié même sans baseline ;
+ * "parallelAi": true calcule les décisions d'IA sur tous les cœurs (GameWorld.setParallelAi) ;
+ * "maxAllocatedBytesPerTick" fixe un plafond absolu d'octets alloués par tick après le warmup,
+ * vérifié même sans baseline (0 = le tick stable ne doit rien allouer).
+ */
+public class Scenario {
+
+    /**
+     * Groupe d'ennemis placés autour du centre d'une zone.
+     */
+    public static class EnemyGroup {
+        public int zone;
+        public int slimes;
+        public int vampires;
+        // 0 = niveau par défaut du jeu (zone pour les slimes, zone - 3 pour les vampires)
+        public int level;
+    }
+
+    /**
+     * Trajet du joueur : points de passage (zones ou coordonnées) ou marche aléatoire à graine fixe.
+     */
+    public static class Route {
+        public static final String WAYPOINTS = "waypoints";
+        public static final String RANDOM = "random";
+
+        public String type = WAYPOINTS;
+        public List<float[]> points = new ArrayList<>();
+        public int[] zones = new int[0];
+        public boolean loop = true;
+        public boolean running = false;
+        // Une attaque tous les N ticks (0 = jamais)
+        public int attackEvery = 0;
+        // Un ramassage tous les N ticks (0 = jamais)
+        public int pickupEvery = 0;
+        // Marche aléatoire : durée d'un segment de direction constante
+        public int segmentTicks = 45;
+    }
+
+    public String name;
+    public String description = "";
+    public String map = "map/map.json";
+    public long seed = 42L;
+    public float delta = 1f / 60f;
+    public int ticks;
+    public int warmupTicks;
+    public int playerZone = 1;
+    public boolean invulnerable = true;
+    public final List<EnemyGroup> enemies = new ArrayList<>();
+    public final Route route = new Route();
+    // Mode horde : nombre de slimes de l'essaim (0 = pas de horde)
+    public int horde = 0;
+    // Décisions d'IA réparties sur les cœurs
+    public boolean parallelAi = false;
+    // Plancher de ticks/seconde indépendant de la baseline (0 = aucun)
+    public float minTicksPerSecond = 0f;
+    // Plafond d'octets alloués par tick indépendant de la baseline (-1 = aucun)
+    public long maxAllocatedBytesPerTick = -1L;
+    // Écart relatif toléré par rapport à la baseline avant de déclarer une régression
+    public float tolerance = 0.2f;
+
+    /**
+     * Charge un scénario depuis un fichier JSON.
+     *
+     * @param file Fichier du scénario
+     * @return Le scénario
+     */
+    public static Scenario load(File file) {
+        JsonValue root = new JsonReader().parse(new FileHandle(file));
+
+        Scenario scenario = new Scenario();
+        String fileName = file.getName();
+        scenario.name = root.getString("name", fileName.substring(0, fileName.lastIndexOf('.')));
+        scenario.description = root.getString("description", scenario.description);
+        scenario.map = root.getString("map", scenario.map);
+        scenario.seed = root.getLong("seed", scenario.seed);
+        scenario.delta = root.getFloat("delta", scenario.delta);
+        scenario.playerZone = root.getInt("playerZone", scenario.playerZone);
+        scenario.invulnerable = root.getBoolean("invulnerable", scenario.invulnerable);
+        scenario.tolerance = root.getFloat("tolerance", scenario.tolerance);
+        scenario.horde = root.getInt("horde", scenario.horde);
+        scenario.minTicksPerSecond = root.getFloat("minTicksPerSecond", scenario.minTicksPerSecond);
+        scenario.parallelAi = root.getBoolean("parallelAi", scenario.parallelAi);
+        scenario.maxAllocatedBytesPerTick = root.getLong("maxAllocatedBytesPerTick", scenario.maxAllocatedBytesPerTick);
+
+        // Durées en secondes de jeu, converties en ticks
+        float duration = root.getFloat("duration", 60f);
+        float warmup = root.getFloat("warmup", 10f);
+        scenario.ticks = Math.max(1, Math.round(duration / scenario.delta));
+        scenario.warmupTicks = Math.max(0, Math.round(warmup / scenario.delta));
+
+        JsonValue enemies = root.get("enemies");
+        if (enemies != null) {
+            for (JsonValue entry = enemies.child; entry != null; entry = entry.next) {
+                EnemyGroup group = new EnemyGroup();
+                group.zone = entry.getInt("zone");
+                group.slimes = entry.getInt("slimes", 0);
+                group.vampires = entry.getInt("vampires", 0);
+                group.level = entry.getInt("level", 0);
+                scenario.enemies.add(group);
+            }
+        }
+
+        JsonValue route = root.get("route");
+        if (route != null) {
+            Route r = scenario.route;
+            r.type = route.getString("type", r.type);
+            r.loop = route.getBoolean("loop", r.loop);
+            r.running = route.getBoolean("running", r.running);
+            r.attackEvery = route.getInt("attackEvery", r.attackEvery);
+            r.pickupEvery = route.getInt("pickupEvery", r.pickupEvery);
+            r.segmentTicks = route.getInt("segmentTicks", r.segmentTicks);
+            if (route.has("zones")) {
+                r.zones = route.get("zones").asIntArray();
+            }
+            JsonValue points = route.get("points");
+            if (points != null) {
+                for (JsonValue point = points.child; point != null; point = point.next) {
+                    r.points.add(point.asFloatArray());
+                }
+            }
+        }
+
+        return scenario;
+    }
+
+    /**
+     * Nombre total d'ennemis du scénario, essaim de la horde compris.
+     */
+    public int getEnemyCount() {
+        int count = horde;
+        for (EnemyGroup group : enemies) {
+            count += group.slimes + group.vampires;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tlse1.twodgame.benchmarks.scenario;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mesures d'une exécution de scénario. Sert aussi de format de baseline
+ * (benchmarks/baselines/&lt;scénario&gt;.json).
+ */
+public class ScenarioResult {
+
+    public final String scenario;
+    public int ticks;
+    public double ticksPerSecond;
+    // Total alloué pendant les ticks mesurés, coût de la mesure retiré (-1 si la JVM ne sait pas le mesurer)
+    public long allocatedBytes = -1L;
+    // -1 si la JVM ne sait pas mesurer les allocations par thread
+    public double allocatedBytesPerTick = -1;
+    // Temps moyen par tick de chaque phase, en nanosecondes (ordre d'exécution conservé)
+    public final Map<String, Double> phaseNanos = new LinkedHashMap<>();
+    // Tick auquel le joueur est mort (-1 s'il a survécu)
+    public int playerDeathTick = -1;
+
+    public ScenarioResult(String scenario) {
+        this.scenario = scenario;
+    }
+
+    /**
+     * Charge une baseline enregistrée.
+     *
+     * @param file Fichier de baseline
+     * @return La baseline, ou null si le fichier n'existe pas
+     */
+    public static ScenarioResult load(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        JsonValue root = new JsonReader().parse(new FileHandle(file));
+        ScenarioResult result = new ScenarioResult(root.getString("scenario"));
+        result.ticks = root.getInt("ticks", 0);
+        result.ticksPerSecond = root.getDouble("ticksPerSecond");
+        result.allocatedBytesPerTick = root.getDouble("allocatedBytesPerTick", -1);
+        JsonValue phases = root.get("phaseNanos");
+        if (phases != null) {
+            for (JsonValue phase = phases.child; phase != null; phase = phase.next) {
+                result.phaseNanos.put(phase.name, phase.asDouble());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Enregistre ce résultat comme baseline.
+     *
+     * @param file Fichier de destination
+     */
+    public void save(File file) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"scenario\": \"").append(scenario).append("\",\n");
+        json.append("  \"ticks\": ").append(ticks).append(",\n");
+        json.append("  \"ticksPerSecond\": ").append(format(ticksPerSecond)).append(",\n");
+        json.append("  \"allocatedBytesPerTick\": ").append(format(allocatedBytesPerTick)).append(",\n");
+        json.append("  \"phaseNanos\": {");
+        boolean first = true;
+        for (Map.Entry<String, Double> phase : phaseNanos.entrySet()) {
+            json.append(first ? "\n" : ",\n");
+            json.append("    \"").append(phase.getKey()).append("\": ").append(format(phase.getValue()));
+            first = false;
+        }
+        json.append("\n  }\n");
+        json.append("}\n");
+
+        file.getParentFile().mkdirs();
+        new FileHandle(file).writeString(json.toString(), false, "UTF-8");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+}
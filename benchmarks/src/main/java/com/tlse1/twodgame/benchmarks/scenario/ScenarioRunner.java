@@ -0,0 +1,315 @@
+package com.tlse1.twodgame.benchmarks.scenario;
+
+import com.tlse1.twodgame.benchmarks.HeadlessFixture;
+import com.tlse1.twodgame.headless.NullBatch;
+import com.tlse1.twodgame.headless.ThreadAllocations;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.managers.GameWorld;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.managers.PlayerInput;
+import com.tlse1.twodgame.utils.ActionPanelMapping;
+import com.tlse1.twodgame.utils.FrameProfiler;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Runner de scénarios headless.
+ * Pour chaque scénario : construit un GameWorld, le pilote pendant un nombre fixe de ticks
+ * avec un joueur scripté, puis mesure ticks/seconde, octets alloués par tick et temps par phase.
+ * Les mesures sont comparées à la baseline enregistrée du scénario ; toute régression
+ * au-delà de la tolérance fait échouer le runner (code de sortie 1).
+ *
+ * Usage : ScenarioRunner [--record] [--only nom] [dossierScénarios] [dossierBaselines]
+ */
+public class ScenarioRunner {
+
+    public static final String PHASE_RENDER = "render";
+
+    // En dessous de ce temps par tick, une phase est trop courte pour être comparée de façon fiable
+    private static final double MIN_COMPARED_PHASE_NANOS = 2000.0;
+    // Marge absolue sur les allocations, pour ne pas échouer sur quelques octets autour de zéro
+    private static final double ALLOCATION_SLACK_BYTES = 256.0;
+
+    private final File baselineDir;
+    private final boolean record;
+    private ActionPanelMapping actionPanelMapping;
+
+    public ScenarioRunner(File baselineDir, boolean record) {
+        this.baselineDir = baselineDir;
+        this.record = record;
+    }
+
+    public static void main(String[] args) {
+        boolean record = false;
+        String only = null;
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--record".equals(args[i])) {
+                record = true;
+            } else if ("--only".equals(args[i]) && i + 1 < args.length) {
+                only = args[++i];
+            } else {
+                paths.add(args[i]);
+            }
+        }
+        File scenarioDir = new File(paths.size() > 0 ? paths.get(0) : "scenarios");
+        File baselineDir = new File(paths.size() > 1 ? paths.get(1) : "baselines");
+
+        File[] files = scenarioDir.listFiles((dir, name) -> name.endsWith(".json"));
+        if (files == null || files.length == 0) {
+            System.err.println("Aucun scénario dans " + scenarioDir.getAbsolutePath());
+            System.exit(2);
+        }
+        Arrays.sort(files);
+
+        HeadlessFixture.boot();
+        ScenarioRunner runner = new ScenarioRunner(baselineDir, record);
+        int regressions = 0;
+        for (File file : files) {
+            Scenario scenario = Scenario.load(file);
+            if (only != null && !only.equals(scenario.name)) {
+                continue;
+            }
+            regressions += runner.runAndCompare(scenario);
+        }
+        runner.dispose();
+
+        if (regressions > 0) {
+            System.err.println(String.format(Locale.ROOT, "%d régression(s) détectée(s).", regressions));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Exécute un scénario, affiche ses mesures et les compare à la baseline
+     * (ou enregistre la baseline en mode --record).
+     *
+     * @return Le nombre de régressions détectées
+     */
+    public int runAndCompare(Scenario scenario) {
+        System.out.println(String.format(Locale.ROOT, "== %s (%d ennemis, %d ticks) %s",
+            scenario.name, scenario.getEnemyCount(), scenario.ticks, scenario.description));
+
+        ScenarioResult result = run(scenario);
+        print(result);
+        int budgetFailures = checkBudget(scenario, result);
+
+        File baselineFile = new File(baselineDir, scenario.name + ".json");
+        if (record) {
+            result.save(baselineFile);
+            System.out.println("   baseline enregistrée : " + baselineFile.getPath());
+            return budgetFailures;
+        }
+
+        ScenarioResult baseline = ScenarioResult.load(baselineFile);
+        if (baseline == null) {
+            System.out.println("   pas de baseline (lancer avec --record pour l'enregistrer)");
+            return budgetFailures;
+        }
+        return budgetFailures + compare(scenario, baseline, result);
+    }
+
+    /**
+     * Vérifie les bornes absolues du scénario : plancher de ticks/seconde et plafond d'allocations par tick.
+     *
+     * @return Le nombre de bornes non respectées
+     */
+    private int checkBudget(Scenario scenario, ScenarioResult result) {
+        int failures = 0;
+        if (scenario.minTicksPerSecond > 0f && result.ticksPerSecond < scenario.minTicksPerSecond) {
+            failures++;
+            System.out.println(String.format(Locale.ROOT, "   BUDGET ticks/s : %.0f < %.0f exigés",
+                result.ticksPerSecond, scenario.minTicksPerSecond));
+        }
+        if (scenario.maxAllocatedBytesPerTick >= 0L) {
+            if (result.allocatedBytes < 0L) {
+                failures++;
+                System.out.println("   BUDGET allocations : mesure non supportée par cette JVM");
+            } else if (result.allocatedBytes > scenario.maxAllocatedBytesPerTick * result.ticks) {
+                // Total brut (coût de la mesure déjà retiré) : un seul octet alloué dépasse un budget de 0
+                failures++;
+                System.out.println(String.format(Locale.ROOT, "   BUDGET allocations : %d octets en %d ticks > %d o/tick autorisés",
+                    result.allocatedBytes, result.ticks, scenario.maxAllocatedBytesPerTick));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Exécute un scénario et retourne ses mesures.
+     */
+    public ScenarioResult run(Scenario scenario) {
+        if (actionPanelMapping == null) {
+            actionPanelMapping = new ActionPanelMapping();
+        }
+
+        JsonMapLoader mapLoader = new JsonMapLoader(scenario.map);
+        GameWorld world = new GameWorld(mapLoader, actionPanelMapping, scenario.seed);
+        world.setParallelAi(scenario.parallelAi);
+        populate(world, mapLoader, scenario);
+        if (scenario.horde > 0) {
+            world.startHorde(scenario.horde);
+        }
+
+        Player player = world.getPlayer();
+        if (scenario.invulnerable) {
+            HeadlessFixture.makeInvulnerable(player);
+        }
+
+        ScriptedPlayer script = new ScriptedPlayer(scenario, mapLoader);
+        PlayerInput input = new PlayerInput();
+        FrameProfiler profiler = world.getProfiler();
+        ScenarioResult result = new ScenarioResult(scenario.name);
+
+        int totalTicks = scenario.warmupTicks + scenario.ticks;
+        long startNanos = 0L;
+        long startAllocated = 0L;
+        long renderNanos = 0L;
+        boolean measuring = false;
+
+        for (int tick = 0; tick < totalTicks; tick++) {
+            if (tick == scenario.warmupTicks) {
+                // Fin du warmup : le JIT a compilé la boucle, on commence à mesurer
+                profiler.reset();
+                profiler.setEnabled(true);
+                measuring = true;
+                ThreadAllocations.measurementOverhead();
+                startAllocated = ThreadAllocations.current();
+                startNanos = System.nanoTime();
+            }
+
+            script.fill(tick, player, input);
+            world.update(scenario.delta, input);
+
+            // Le rendu (dans un NullBatch) met à jour les dimensions utilisées par l'IA et les collisions
+            long renderStart = measuring ? System.nanoTime() : 0L;
+            world.renderEntities(NullBatch.INSTANCE);
+            if (measuring) {
+                renderNanos += System.nanoTime() - renderStart;
+            }
+
+            if (result.playerDeathTick < 0 && world.isPlayerDead()) {
+                result.playerDeathTick = tick;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long endAllocated = ThreadAllocations.current();
+        profiler.setEnabled(false);
+
+        result.ticks = scenario.ticks;
+        result.ticksPerSecond = scenario.ticks / (elapsedNanos / 1e9);
+        if (startAllocated >= 0 && endAllocated >= 0) {
+            result.allocatedBytes = ThreadAllocations.between(startAllocated, endAllocated);
+            result.allocatedBytesPerTick = (double) result.allocatedBytes / scenario.ticks;
+        }
+        for (int phase = 0; phase < profiler.getPhaseCount(); phase++) {
+            result.phaseNanos.put(profiler.getPhaseName(phase), profiler.getAverageNanos(phase));
+        }
+        result.phaseNanos.put(PHASE_RENDER, (double) renderNanos / scenario.ticks);
+
+        world.dispose();
+        mapLoader.dispose();
+        return result;
+    }
+
+    /**
+     * Place les ennemis du scénario autour du centre de leur zone.
+     * Les décalages sont tirés avec la graine du scénario pour rester reproductibles.
+     */
+    private void populate(GameWorld world, JsonMapLoader mapLoader, Scenario scenario) {
+        float[] playerStart = mapLoader.getZoneCenter(scenario.playerZone);
+        if (playerStart != null) {
+            world.getPlayer().setX(playerStart[0]);
+            world.getPlayer().setY(playerStart[1]);
+        }
+
+        Random random = new Random(scenario.seed);
+        float spread = 24f;
+        for (Scenario.EnemyGroup group : scenario.enemies) {
+            float[] center = mapLoader.getZoneCenter(group.zone);
+            if (center == null) {
+                System.err.println("   zone inconnue : " + group.zone);
+                continue;
+            }
+            for (int i = 0; i < group.slimes; i++) {
+                int level = group.level > 0 ? group.level : Math.min(3, group.zone);
+                world.spawnSlime(group.zone, level,
+                    center[0] + (random.nextFloat() - 0.5f) * spread,
+                    center[1] + (random.nextFloat() - 0.5f) * spread);
+            }
+            for (int i = 0; i < group.vampires; i++) {
+                int level = group.level > 0 ? group.level : Math.max(1, group.zone - 3);
+                world.spawnVampire(group.zone, level,
+                    center[0] + (random.nextFloat() - 0.5f) * spread,
+                    center[1] + (random.nextFloat() - 0.5f) * spread);
+            }
+        }
+    }
+
+    private int compare(Scenario scenario, ScenarioResult baseline, ScenarioResult result) {
+        float tolerance = scenario.tolerance;
+        int regressions = 0;
+
+        double minTicksPerSecond = baseline.ticksPerSecond * (1.0 - tolerance);
+        if (result.ticksPerSecond < minTicksPerSecond) {
+            regressions++;
+            System.out.println(String.format(Locale.ROOT, "   REGRESSION ticks/s : %.0f < %.0f (baseline %.0f, tolérance %.0f%%)",
+                result.ticksPerSecond, minTicksPerSecond, baseline.ticksPerSecond, tolerance * 100));
+        }
+
+        if (baseline.allocatedBytesPerTick >= 0 && result.allocatedBytesPerTick >= 0) {
+            double maxAllocated = baseline.allocatedBytesPerTick * (1.0 + tolerance) + ALLOCATION_SLACK_BYTES;
+            if (result.allocatedBytesPerTick > maxAllocated) {
+                regressions++;
+                System.out.println(String.format(Locale.ROOT, "   REGRESSION allocations : %.0f o/tick > %.0f (baseline %.0f)",
+                    result.allocatedBytesPerTick, maxAllocated, baseline.allocatedBytesPerTick));
+            }
+        }
+
+        for (Map.Entry<String, Double> phase : baseline.phaseNanos.entrySet()) {
+            Double current = result.phaseNanos.get(phase.getKey());
+            double reference = phase.getValue();
+            if (current == null || reference < MIN_COMPARED_PHASE_NANOS) {
+                continue;
+            }
+            double maxNanos = reference * (1.0 + tolerance);
+            if (current > maxNanos) {
+                regressions++;
+                System.out.println(String.format(Locale.ROOT, "   REGRESSION phase %s : %.1f µs/tick > %.1f (baseline %.1f)",
+                    phase.getKey(), current / 1000.0, maxNanos / 1000.0, reference / 1000.0));
+            }
+        }
+
+        if (regressions == 0) {
+            System.out.println(String.format(Locale.ROOT, "   OK (tolérance %.0f%%)", tolerance * 100));
+        }
+        return regressions;
+    }
+
+    private static void print(ScenarioResult result) {
+        System.out.println(String.format(Locale.ROOT, "   %.0f ticks/s, %.0f octets alloués/tick",
+            result.ticksPerSecond, result.allocatedBytesPerTick));
+        StringBuilder phases = new StringBuilder("   phases (µs/tick) :");
+        for (Map.Entry<String, Double> phase : result.phaseNanos.entrySet()) {
+            phases.append(String.format(Locale.ROOT, " %s=%.1f", phase.getKey(), phase.getValue() / 1000.0));
+        }
+        System.out.println(phases);
+        if (result.playerDeathTick >= 0) {
+            System.out.println("   attention : joueur mort au tick " + result.playerDeathTick + ", la suite du scénario n'a rien simulé");
+        }
+    }
+
+    public void dispose() {
+        if (actionPanelMapping != null) {
+            actionPanelMapping.dispose();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.tlse1.twodgame.benchmarks.scenario;
+
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.managers.PlayerInput;
+import com.tlse1.twodgame.utils.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Pilote le joueur d'un scénario : produit le PlayerInput de chaque tick
+ * à partir du trajet défini dans le scénario. Le résultat ne dépend que du scénario
+ * (graine comprise), deux exécutions simulent donc exactement la même partie.
+ */
+public class ScriptedPlayer {
+
+    // Distance à partir de laquelle un point de passage est considéré comme atteint
+    private static final float REACHED_DISTANCE = 4f;
+    // Ticks sans déplacement avant de contourner l'obstacle par l'autre axe
+    private static final int STUCK_TICKS = 20;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Scenario.Route route;
+    private final List<float[]> waypoints;
+    private final Random random;
+
+    private int waypointIndex;
+    private Direction segmentDirection;
+    private int stuckTicks;
+    private int detourTicks;
+    private float lastX = Float.NaN;
+    private float lastY = Float.NaN;
+
+    public ScriptedPlayer(Scenario scenario, JsonMapLoader mapLoader) {
+        this.route = scenario.route;
+        this.random = new Random(scenario.seed);
+        this.waypoints = new ArrayList<>(route.points);
+        for (int zoneId : route.zones) {
+            float[] center = mapLoader.getZoneCenter(zoneId);
+            if (center != null) {
+                waypoints.add(center);
+            }
+        }
+    }
+
+    /**
+     * Remplit les commandes du joueur pour un tick.
+     *
+     * @param tick Numéro du tick (0 = premier tick)
+     * @param player Le joueur
+     * @param input Commandes à remplir
+     */
+    public void fill(int tick, Player player, PlayerInput input) {
+        input.clear();
+        input.running = route.running;
+
+        if (Scenario.Route.RANDOM.equals(route.type)) {
+            if (tick % route.segmentTicks == 0 || segmentDirection == null) {
+                // Un segment sur cinq immobile, pour laisser les ennemis rattraper le joueur
+                int roll = random.nextInt(DIRECTIONS.length + 1);
+                segmentDirection = roll < DIRECTIONS.length ? DIRECTIONS[roll] : null;
+            }
+            input.moveDirection = segmentDirection;
+        } else {
+            input.moveDirection = directionToWaypoint(player);
+        }
+
+        if (route.attackEvery > 0 && tick % route.attackEvery == 0) {
+            input.attack = true;
+        }
+        if (route.pickupEvery > 0 && tick % route.pickupEvery == 0) {
+            input.pickup = true;
+        }
+    }
+
+    private Direction directionToWaypoint(Player player) {
+        if (waypoints.isEmpty() || waypointIndex >= waypoints.size()) {
+            return null;
+        }
+
+        float centerX = player.getX() + player.getWidth() / 2f;
+        float centerY = player.getY() + player.getHeight() / 2f;
+        float[] target = waypoints.get(waypointIndex);
+        float dx = target[0] - centerX;
+        float dy = target[1] - centerY;
+
+        if (Math.abs(dx) < REACHED_DISTANCE && Math.abs(dy) < REACHED_DISTANCE) {
+            waypointIndex++;
+            if (waypointIndex >= waypoints.size() && route.loop) {
+                waypointIndex = 0;
+            }
+            return null;
+        }
+
+        // Détection de blocage contre un mur : passer quelques ticks sur l'autre axe
+        boolean moved = Math.abs(player.getX() - lastX) > 0.01f || Math.abs(player.getY() - lastY) > 0.01f;
+        lastX = player.getX();
+        lastY = player.getY();
+        stuckTicks = moved ? 0 : stuckTicks + 1;
+        if (stuckTicks >= STUCK_TICKS) {
+            stuckTicks = 0;
+            detourTicks = STUCK_TICKS;
+        }
+
+        boolean horizontal = Math.abs(dx) > Math.abs(dy);
+        if (detourTicks > 0) {
+            detourTicks--;
+            horizontal = !horizontal;
+        }
+
+        if (horizontal) {
+            return dx > 0 ? Direction.SIDE : Direction.SIDE_LEFT;
+        }
+        return dy > 0 ? Direction.UP : Direction.DOWN;
+    }
+}
@@ -0,0 +1,48 @@
+package com.tlse1.twodgame.benchmarks.soak;
+
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+
+/**
+ * Entrée simulée du harnais d'endurance : un clic ou une touche « tout juste pressée »
+ * est visible pendant une seule frame, comme avec un vrai clavier.
+ * Les écrans du jeu suivent ainsi leurs propres chemins de transition (clic, ÉCHAP).
+ */
+public class SoakInput extends MockInput {
+
+    private boolean touched;
+    private int justPressedKey = -1;
+
+    /**
+     * Simule un clic pour la prochaine frame.
+     */
+    public void click() {
+        touched = true;
+    }
+
+    /**
+     * Simule l'appui d'une touche pour la prochaine frame.
+     *
+     * @param keycode Code de la touche (Input.Keys)
+     */
+    public void press(int keycode) {
+        justPressedKey = keycode;
+    }
+
+    /**
+     * Oublie les événements de la frame écoulée.
+     */
+    public void endFrame() {
+        touched = false;
+        justPressedKey = -1;
+    }
+
+    @Override
+    public boolean justTouched() {
+        return touched;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return key == justPressedKey;
+    }
+}
@@ -0,0 +1,470 @@
+package com.tlse1.twodgame.benchmarks.soak;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.tlse1.twodgame.TwoDGame;
+import com.tlse1.twodgame.benchmarks.HeadlessFixture;
+import com.tlse1.twodgame.headless.NullBatch;
+import com.tlse1.twodgame.entities.Collectible;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+import com.tlse1.twodgame.managers.GameWorld;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.managers.PlayerInput;
+import com.tlse1.twodgame.screens.GameScreen;
+import com.tlse1.twodgame.screens.LoseScreen;
+import com.tlse1.twodgame.screens.MenuScreen;
+import com.tlse1.twodgame.screens.StartScreen;
+import com.tlse1.twodgame.screens.WinScreen;
+import com.tlse1.twodgame.utils.ActionPanelMapping;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Harnais d'endurance headless.
+ * Fait tourner la boucle de jeu pendant des heures de temps simulé : les ennemis sont tués
+ * en continu et réapparaissent (respawns de slimes illimités, vampires réinjectés), et un cycle
+ * complet de transitions d'écrans (démarrage, menu, paramètres, partie perdue, partie gagnée...)
+ * est rejoué à intervalle régulier.
+ *
+ * Le tas (après GC), la mémoire directe, la mémoire native allouée par LibGDX, la RSS du processus
+ * le nombre de textures vivantes et le nombre d'objets créés hors pool (GameWorld.getPoolMisses)
+ * sont échantillonnés dans un CSV. Le harnais échoue (code de sortie 1)
+ * si une de ces mesures croît au-delà de sa borne entre le début et la fin de la session :
+ * le minimum du dernier quart des échantillons est comparé au maximum du premier quart.
+ *
+ * Usage : SoakRunner [--hours h] [--sample-every s] [--transition-every s] [--kill-every s]
+ *                    [--max-heap-growth-mb n] [--max-direct-growth-mb n] [--max-native-growth-mb n]
+ *                    [--max-rss-growth-mb n] [--max-texture-growth n] [--max-pool-miss-growth n]
+ *                    [--seed n] [--csv fichier]
+ */
+public class SoakRunner {
+
+    private static final float DELTA = 1f / 60f;
+    private static final int VAMPIRES_PER_ZONE = 1;
+    private static final int EXTRA_SLIMES_PER_ZONE = 2;
+    // Frames jouées dans chaque partie du cycle d'écrans
+    private static final int GAME_FRAMES = 300;
+    private static final int MENU_FRAMES = 3;
+    // Nombre maximal de frames pour que la partie détecte la mort de tous les ennemis (un par frame)
+    private static final int MAX_WIN_FRAMES = 120;
+    private static final long MB = 1024L * 1024L;
+
+    // Options
+    private double hours = 4.0;
+    private float sampleEverySeconds = 60f;
+    private float transitionEverySeconds = 300f;
+    private float killEverySeconds = 2f;
+    private long maxHeapGrowthBytes = 16 * MB;
+    private long maxDirectGrowthBytes = 4 * MB;
+    private long maxNativeGrowthBytes = 4 * MB;
+    // -1 = RSS seulement affichée (le code JIT et les arènes malloc la font varier)
+    private long maxRssGrowthBytes = -1L;
+    private int maxTextureGrowth = 0;
+    // Morts et respawns réutilisent les objets des pools : aucune création après l'échauffement
+    private long maxPoolMissGrowth = 0L;
+    private long seed = 42L;
+    private File csvFile = new File("build/soak/soak.csv");
+
+    private final List<Sample> samples = new ArrayList<>();
+    private Random random;
+    private ActionPanelMapping actionPanelMapping;
+    private JsonMapLoader mapLoader;
+    private GameWorld world;
+    private TwoDGame game;
+    private SoakInput input;
+    private int kills;
+    private int cycles;
+    // Durée des redémarrages de partie (GameScreen.reset) après la première partie
+    private long restartCount;
+    private long totalRestartNanos;
+    private long maxRestartNanos;
+
+    /**
+     * Mesures prises à un instant de la session.
+     */
+    static class Sample {
+        double simulatedSeconds;
+        double wallSeconds;
+        long heapBytes;
+        long directBytes;
+        long nativeBytes;
+        long rssBytes;
+        int textures;
+        long poolMisses;
+        int enemies;
+        int kills;
+        int cycles;
+    }
+
+    public static void main(String[] args) {
+        SoakRunner runner = new SoakRunner();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--hours": runner.hours = Double.parseDouble(value); break;
+                case "--sample-every": runner.sampleEverySeconds = Float.parseFloat(value); break;
+                case "--transition-every": runner.transitionEverySeconds = Float.parseFloat(value); break;
+                case "--kill-every": runner.killEverySeconds = Float.parseFloat(value); break;
+                case "--max-heap-growth-mb": runner.maxHeapGrowthBytes = (long) (Double.parseDouble(value) * MB); break;
+                case "--max-direct-growth-mb": runner.maxDirectGrowthBytes = (long) (Double.parseDouble(value) * MB); break;
+                case "--max-native-growth-mb": runner.maxNativeGrowthBytes = (long) (Double.parseDouble(value) * MB); break;
+                case "--max-rss-growth-mb": runner.maxRssGrowthBytes = (long) (Double.parseDouble(value) * MB); break;
+                case "--max-texture-growth": runner.maxTextureGrowth = Integer.parseInt(value); break;
+                case "--max-pool-miss-growth": runner.maxPoolMissGrowth = Long.parseLong(value); break;
+                case "--seed": runner.seed = Long.parseLong(value); break;
+                case "--csv": runner.csvFile = new File(value); break;
+                default:
+                    System.err.println("Option inconnue : " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        HeadlessFixture.boot();
+        int failures = runner.run();
+        if (failures > 0) {
+            System.err.println(String.format(Locale.ROOT, "%d croissance(s) mémoire hors borne.", failures));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Exécute la session d'endurance, écrit le CSV et vérifie les bornes de croissance.
+     *
+     * @return Le nombre de mesures dont la croissance dépasse sa borne
+     */
+    public int run() {
+        random = new Random(seed);
+        actionPanelMapping = new ActionPanelMapping();
+        mapLoader = new JsonMapLoader(HeadlessFixture.MAP_PATH);
+        world = createWorld();
+
+        input = new SoakInput();
+        Gdx.input = input;
+        game = new TwoDGame();
+        game.create();
+
+        long totalTicks = Math.round(hours * 3600.0 / DELTA);
+        int sampleTicks = Math.max(1, Math.round(sampleEverySeconds / DELTA));
+        int transitionTicks = Math.max(1, Math.round(transitionEverySeconds / DELTA));
+        int killTicks = Math.max(1, Math.round(killEverySeconds / DELTA));
+
+        System.out.println(String.format(Locale.ROOT,
+            "Endurance : %.1f h simulées (%d ticks), échantillon toutes les %.0f s, transitions toutes les %.0f s",
+            hours, totalTicks, sampleEverySeconds, transitionEverySeconds));
+
+        PlayerInput playerInput = new PlayerInput();
+        long startNanos = System.nanoTime();
+        for (long tick = 1; tick <= totalTicks; tick++) {
+            world.update(DELTA, playerInput);
+            world.renderEntities(NullBatch.INSTANCE);
+
+            if (tick % killTicks == 0) {
+                killRandomEnemy();
+                lootDrops();
+                restockVampires();
+            }
+            if (tick % transitionTicks == 0) {
+                runScreenCycle();
+            }
+            if (tick % sampleTicks == 0) {
+                Sample sample = sample(tick * (double) DELTA, (System.nanoTime() - startNanos) / 1e9);
+                samples.add(sample);
+                print(sample);
+            }
+        }
+
+        world.dispose();
+        mapLoader.dispose();
+        actionPanelMapping.dispose();
+        // Libère les écrans persistants puis l'AssetService
+        game.dispose();
+
+        writeCsv();
+        return check();
+    }
+
+    private GameWorld createWorld() {
+        GameWorld created = new GameWorld(mapLoader, actionPanelMapping, seed);
+        created.setMaxRespawns(Integer.MAX_VALUE);
+        created.spawnDefaultEnemies();
+        for (int zoneId = 1; zoneId <= 3; zoneId++) {
+            float[] center = mapLoader.getZoneCenter(zoneId);
+            for (int i = 0; center != null && i < EXTRA_SLIMES_PER_ZONE; i++) {
+                created.spawnSlime(zoneId, zoneId, center[0] + (i + 1) * 12f, center[1]);
+            }
+        }
+        HeadlessFixture.makeInvulnerable(created.getPlayer());
+        return created;
+    }
+
+    /**
+     * Tue un ennemi vivant au hasard ; sa mort et son drop passent par le chemin normal de GameWorld.
+     */
+    private void killRandomEnemy() {
+        List<Enemy> enemies = world.getEnemies();
+        if (enemies.isEmpty()) {
+            return;
+        }
+        Enemy enemy = enemies.get(random.nextInt(enemies.size()));
+        if (enemy.isAlive()) {
+            enemy.takeDamage(Integer.MAX_VALUE / 2);
+            kills++;
+        }
+    }
+
+    /**
+     * Ramasse les drops comme le ferait le joueur, pour que la liste des collectibles reste bornée.
+     */
+    private void lootDrops() {
+        for (Collectible collectible : world.getCollectibles()) {
+            collectible.collect();
+        }
+    }
+
+    /**
+     * Les vampires ne réapparaissent pas dans le jeu : le harnais en remet un dans chaque zone vide.
+     */
+    private void restockVampires() {
+        for (int zoneId = 4; zoneId <= 6; zoneId++) {
+            int vampires = 0;
+            for (Enemy enemy : world.getEnemies()) {
+                if (EnemyArchetypes.VAMPIRE.equals(enemy.getArchetype().getType())
+                    && enemy.getZoneId() == zoneId) {
+                    vampires++;
+                }
+            }
+            float[] center = mapLoader.getZoneCenter(zoneId);
+            for (int i = vampires; center != null && i < VAMPIRES_PER_ZONE; i++) {
+                world.spawnVampire(zoneId, zoneId - 3, center[0], center[1]);
+            }
+        }
+    }
+
+    /**
+     * Rejoue un cycle de transitions d'écrans. Les clics « n'importe où » et la touche ÉCHAP passent
+     * par le code des écrans ; les boutons (dont la position dépend de la fenêtre) sont reproduits
+     * avec les mêmes appels que leurs gestionnaires de clic.
+     */
+    private void runScreenCycle() {
+        if (game.getScreen() instanceof StartScreen) {
+            renderFrames(MENU_FRAMES);
+            input.click();
+            renderFrames(1);
+        }
+
+        // Menu → Paramètres → Menu (bouton paramètres puis croix)
+        game.setScreen(game.getSettingsScreen());
+        renderFrames(MENU_FRAMES);
+        game.setScreen(game.getMenuScreen());
+        renderFrames(MENU_FRAMES);
+
+        // Menu → écran de développement, retour par ÉCHAP
+        game.setScreen(game.getDevScreen());
+        renderFrames(MENU_FRAMES);
+        input.press(Input.Keys.ESCAPE);
+        renderFrames(1);
+
+        // Partie perdue : pause par ÉCHAP, reprise par ÉCHAP, puis mort du joueur
+        GameScreen gameScreen = game.getGameScreen();
+        game.startNewGame();
+        renderFrames(GAME_FRAMES);
+        input.press(Input.Keys.ESCAPE);
+        renderFrames(1);
+        renderFrames(MENU_FRAMES);
+        input.press(Input.Keys.ESCAPE);
+        renderFrames(1);
+        if (game.getScreen() == gameScreen) {
+            gameScreen.getWorld().getPlayer().takeDamage(Integer.MAX_VALUE / 2);
+            renderFrames(1);
+        }
+        leaveEndScreen();
+
+        // Partie gagnée : tous les ennemis tués (même écran, remis à zéro)
+        long restartStart = System.nanoTime();
+        game.startNewGame();
+        long restartNanos = System.nanoTime() - restartStart;
+        restartCount++;
+        totalRestartNanos += restartNanos;
+        maxRestartNanos = Math.max(maxRestartNanos, restartNanos);
+        renderFrames(GAME_FRAMES);
+        if (game.getScreen() == gameScreen) {
+            for (Enemy enemy : gameScreen.getWorld().getEnemies()) {
+                enemy.takeDamage(Integer.MAX_VALUE / 2);
+            }
+            for (int i = 0; i < MAX_WIN_FRAMES && game.getScreen() == gameScreen; i++) {
+                renderFrames(1);
+            }
+        }
+        leaveEndScreen();
+
+        if (!(game.getScreen() instanceof MenuScreen)) {
+            throw new IllegalStateException("Cycle d'écrans terminé hors du menu : " + game.getScreen());
+        }
+        cycles++;
+    }
+
+    /**
+     * Quitte l'écran de victoire ou de défaite par un clic, vers le menu.
+     */
+    private void leaveEndScreen() {
+        Screen screen = game.getScreen();
+        if (screen instanceof LoseScreen || screen instanceof WinScreen) {
+            renderFrames(MENU_FRAMES);
+            input.click();
+            renderFrames(1);
+        }
+    }
+
+    private void renderFrames(int frames) {
+        for (int i = 0; i < frames; i++) {
+            game.getScreen().render(DELTA);
+            input.endFrame();
+        }
+    }
+
+    private Sample sample(double simulatedSeconds, double wallSeconds) {
+        // Plusieurs GC pour mesurer le tas vivant plutôt que les déchets en attente
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        Sample sample = new Sample();
+        sample.simulatedSeconds = simulatedSeconds;
+        sample.wallSeconds = wallSeconds;
+        sample.heapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                sample.directBytes = pool.getMemoryUsed();
+            }
+        }
+        // Buffers natifs alloués par LibGDX hors du tas Java (vertices des SpriteBatch, etc.)
+        sample.nativeBytes = BufferUtils.getAllocatedBytesUnsafe();
+        sample.rssBytes = readRssBytes();
+        sample.textures = Texture.getNumManagedTextures();
+        sample.poolMisses = world.getPoolMisses();
+        sample.enemies = world.getEnemies().size();
+        sample.kills = kills;
+        sample.cycles = cycles;
+        return sample;
+    }
+
+    /**
+     * RSS du processus lue dans /proc/self/status (-1 hors Linux).
+     */
+    private static long readRssBytes() {
+        File status = new File("/proc/self/status");
+        if (!status.exists()) {
+            return -1L;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(status))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("VmRSS:")) {
+                    String kilobytes = line.substring("VmRSS:".length()).replace("kB", "").trim();
+                    return Long.parseLong(kilobytes) * 1024L;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return -1L;
+        }
+        return -1L;
+    }
+
+    private static void print(Sample sample) {
+        System.out.println(String.format(Locale.ROOT,
+            "%7.0f s (%5.0f s réel)  tas %6.1f Mo  direct %5.1f Mo  natif %5.1f Mo  rss %6.1f Mo  textures %4d  hors pool %4d  ennemis %3d  kills %6d  cycles %4d",
+            sample.simulatedSeconds, sample.wallSeconds, toMb(sample.heapBytes), toMb(sample.directBytes),
+            toMb(sample.nativeBytes), toMb(sample.rssBytes), sample.textures, sample.poolMisses, sample.enemies,
+            sample.kills, sample.cycles));
+    }
+
+    private void writeCsv() {
+        StringBuilder csv = new StringBuilder(
+            "simulated_s,wall_s,heap_bytes,direct_bytes,native_bytes,rss_bytes,textures,pool_misses,enemies,kills,cycles\n");
+        for (Sample sample : samples) {
+            csv.append(String.format(Locale.ROOT, "%.0f,%.1f,%d,%d,%d,%d,%d,%d,%d,%d,%d\n",
+                sample.simulatedSeconds, sample.wallSeconds, sample.heapBytes, sample.directBytes,
+                sample.nativeBytes, sample.rssBytes, sample.textures, sample.poolMisses, sample.enemies,
+                sample.kills, sample.cycles));
+        }
+        File parent = csvFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        new FileHandle(csvFile).writeString(csv.toString(), false, "UTF-8");
+        System.out.println("Échantillons écrits dans " + csvFile.getPath());
+    }
+
+    /**
+     * Compare le début et la fin de la session pour chaque mesure bornée.
+     *
+     * @return Le nombre de mesures hors borne
+     */
+    private int check() {
+        if (restartCount > 0) {
+            System.out.println(String.format(Locale.ROOT,
+                "Redémarrage de partie : %.3f ms en moyenne, %.3f ms au pire (%d redémarrages, frame = %.1f ms)",
+                totalRestartNanos / 1e6 / restartCount, maxRestartNanos / 1e6, restartCount, DELTA * 1000f));
+        }
+        if (samples.size() < 4) {
+            System.out.println("Moins de 4 échantillons : session trop courte pour juger la croissance.");
+            return 0;
+        }
+        int window = samples.size() / 4;
+        List<Sample> first = samples.subList(0, window);
+        List<Sample> last = samples.subList(samples.size() - window, samples.size());
+
+        int failures = 0;
+        failures += checkGrowth("tas", first, last, maxHeapGrowthBytes, sample -> sample.heapBytes);
+        failures += checkGrowth("mémoire directe", first, last, maxDirectGrowthBytes, sample -> sample.directBytes);
+        failures += checkGrowth("mémoire native LibGDX", first, last, maxNativeGrowthBytes, sample -> sample.nativeBytes);
+        failures += checkGrowth("RSS", first, last, maxRssGrowthBytes, sample -> sample.rssBytes);
+        failures += checkGrowth("textures vivantes", first, last, maxTextureGrowth, sample -> sample.textures);
+        failures += checkGrowth("objets créés hors pool", first, last, maxPoolMissGrowth, sample -> sample.poolMisses);
+        if (failures == 0) {
+            System.out.println("OK : aucune croissance hors borne.");
+        }
+        return failures;
+    }
+
+    private interface Metric {
+        long of(Sample sample);
+    }
+
+    private static int checkGrowth(String name, List<Sample> first, List<Sample> last, long maxGrowth, Metric metric) {
+        long start = Long.MIN_VALUE;
+        for (Sample sample : first) {
+            start = Math.max(start, metric.of(sample));
+        }
+        long end = Long.MAX_VALUE;
+        for (Sample sample : last) {
+            end = Math.min(end, metric.of(sample));
+        }
+        long growth = end - start;
+        boolean bounded = maxGrowth >= 0 && start >= 0;
+        boolean failed = bounded && growth > maxGrowth;
+        System.out.println(String.format(Locale.ROOT, "%s %-24s : début %d, fin %d, croissance %d%s",
+            failed ? "ÉCHEC" : "     ", name, start, end, growth,
+            bounded ? " (borne " + maxGrowth + ")" : " (non bornée)"));
+        return failed ? 1 : 0;
+    }
+
+    private static double toMb(long bytes) {
+        return bytes < 0 ? -1.0 : bytes / (double) MB;
+    }
+}
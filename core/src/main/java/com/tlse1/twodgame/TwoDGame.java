@@ -1,28 +1,180 @@
 package com.tlse1.twodgame;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Screen;
 
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+import com.tlse1.twodgame.managers.AssetService;
+import com.tlse1.twodgame.screens.DevScreen;
+import com.tlse1.twodgame.screens.GameScreen;
+import com.tlse1.twodgame.screens.LoseScreen;
 import com.tlse1.twodgame.screens.MenuScreen;
 import com.tlse1.twodgame.screens.GameSettingsScreen;
+import com.tlse1.twodgame.screens.SettingsScreen;
 import com.tlse1.twodgame.screens.StartScreen;
+import com.tlse1.twodgame.screens.WinScreen;
+import com.tlse1.twodgame.utils.DisposableTracker;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
  * Classe principale du jeu utilisant le système de screens de LibGDX.
  * Gère la navigation entre les différents écrans (menu, jeu, etc.).
+ *
+ * Les écrans vivent aussi longtemps que le jeu : chacun est créé à sa première demande,
+ * réutilisé ensuite, et libéré dans dispose(). Un écran ne se libère donc jamais lui-même
+ * lors d'une transition ; il gère son état dans show() et hide().
  */
 public class TwoDGame extends Game {
-    
+
+    // Nombre de slimes du mode horde lancé depuis le menu
+    public static final int DEFAULT_HORDE_SIZE = 5000;
+
+    // Textures, polices et mappings partagés entre les écrans
+    private AssetService assets;
+
+    // Écrans persistants (créés à la demande)
+    private StartScreen startScreen;
+    private MenuScreen menuScreen;
+    private SettingsScreen settingsScreen;
+    private DevScreen devScreen;
+    private GameScreen gameScreen;
+    private GameSettingsScreen gameSettingsScreen;
+    private WinScreen winScreen;
+    private LoseScreen loseScreen;
+
+    // Écrans créés, dans l'ordre de création (libérés dans l'ordre inverse)
+    private final List<Screen> createdScreens = new ArrayList<>();
+
     @Override
     public void create() {
+        assets = new AssetService();
         // Lancer l'écran de jeu principal
-        setScreen(new StartScreen(this));
+        setScreen(getStartScreen());
     }
-    
+
+    @Override
+    public void setScreen(Screen screen) {
+        Screen previous = getScreen();
+        super.setScreen(screen);
+        // Mode debug : rapport des ressources non libérées à la frame suivante
+        DisposableTracker.screenChanged(previous, screen);
+    }
+
+    @Override
+    public void render() {
+        DisposableTracker.reportPendingTransition();
+        super.render();
+    }
+
+    /**
+     * Remet la partie à zéro et l'affiche (bouton Play, Restart).
+     * La première partie est initialisée par le show() de GameScreen.
+     */
+    public void startNewGame() {
+        GameScreen screen = getGameScreen();
+        screen.setHordeSize(0);
+        screen.reset();
+        setScreen(screen);
+    }
+
+    /**
+     * Lance une partie en mode horde (touche H du menu).
+     *
+     * @param slimeCount Nombre de slimes de l'essaim
+     */
+    public void startHorde(int slimeCount) {
+        GameScreen screen = getGameScreen();
+        screen.setHordeSize(slimeCount);
+        screen.reset();
+        setScreen(screen);
+    }
+
     @Override
     public void dispose() {
-        // Libérer les ressources globales si nécessaire
         super.dispose();
+        // Les écrans relâchent leurs assets avant que l'AssetService ne libère tout
+        for (int i = createdScreens.size() - 1; i >= 0; i--) {
+            createdScreens.get(i).dispose();
+        }
+        createdScreens.clear();
+        if (assets != null) {
+            assets.dispose();
+        }
+        // Animations des archétypes d'ennemis, gardées pour toute la durée du jeu
+        EnemyArchetypes.dispose();
+    }
+
+    /**
+     * Cache d'assets partagé par les écrans.
+     */
+    public AssetService getAssets() {
+        return assets;
+    }
+
+    public StartScreen getStartScreen() {
+        if (startScreen == null) {
+            startScreen = register(new StartScreen(this));
+        }
+        return startScreen;
+    }
+
+    public MenuScreen getMenuScreen() {
+        if (menuScreen == null) {
+            menuScreen = register(new MenuScreen(this));
+        }
+        return menuScreen;
     }
-}
 
+    public SettingsScreen getSettingsScreen() {
+        if (settingsScreen == null) {
+            settingsScreen = register(new SettingsScreen(this));
+        }
+        return settingsScreen;
+    }
+
+    public DevScreen getDevScreen() {
+        if (devScreen == null) {
+            devScreen = register(new DevScreen(this));
+        }
+        return devScreen;
+    }
+
+    public GameScreen getGameScreen() {
+        if (gameScreen == null) {
+            gameScreen = register(new GameScreen(this));
+        }
+        return gameScreen;
+    }
+
+    /**
+     * Menu pause de la partie (ÉCHAP en jeu).
+     */
+    public GameSettingsScreen getGameSettingsScreen() {
+        if (gameSettingsScreen == null) {
+            gameSettingsScreen = register(new GameSettingsScreen(this, getGameScreen()));
+        }
+        return gameSettingsScreen;
+    }
+
+    public WinScreen getWinScreen() {
+        if (winScreen == null) {
+            winScreen = register(new WinScreen(this));
+        }
+        return winScreen;
+    }
+
+    public LoseScreen getLoseScreen() {
+        if (loseScreen == null) {
+            loseScreen = register(new LoseScreen(this));
+        }
+        return loseScreen;
+    }
+
+    private <T extends Screen> T register(T screen) {
+        createdScreens.add(screen);
+        return screen;
+    }
+}
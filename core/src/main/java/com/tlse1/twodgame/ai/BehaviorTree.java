@@ -0,0 +1,252 @@
+package com.tlse1.twodgame.ai;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.util.Arrays;
+
+/**
+ * Arbre de comportement compilé en tableaux plats.
+ *
+ * Les arbres sont écrits en JSON avec des nœuds composites (selector, sequence, not),
+ * des conditions sur le tableau de faits et des actions. À la compilation, les composites
+ * disparaissent : chaque condition reçoit l'indice du nœud à visiter si elle réussit et
+ * celui à visiter si elle échoue, et chaque action devient un nœud terminal qui porte une
+ * intention encodée (mode de déplacement et changement d'agro, voir les constantes).
+ * L'évaluation est une boucle sur ces tableaux : ni récursion, ni appel virtuel, ni allocation.
+ *
+ * Sémantique : selector réussit au premier enfant qui réussit, sequence échoue au premier enfant
+ * qui échoue, not inverse son enfant ; la première action atteinte est la décision.
+ * Les nœuds d'un enfant sont compilés avant ceux de ses aînés et ne sautent que vers des nœuds
+ * compilés avant eux : les indices visités décroissent, l'évaluation termine toujours.
+ *
+ * Format d'un nœud :
+ * - {"selector": [...]} ou {"sequence": [...]} : enfants évalués dans l'ordre
+ * - {"not": {...}} : inverse le résultat de l'enfant
+ * - {"condition": "targetInZone"} : la case est non nulle (voir Blackboard)
+ * - {"condition": "targetDistance", "greater": "detectionRange"} : comparaison à une autre case
+ * - {"condition": "healthRatio", "less": 0.25} : comparaison à une constante
+ * - {"action": "chase", "aggro": "set"} : décision (idle, return, chase ; aggro set, clear ou absent)
+ */
+public final class BehaviorTree {
+
+    // Modes de déplacement (2 bits de poids faible de l'intention)
+    public static final int MODE_IDLE = 0;
+    public static final int MODE_RETURN = 1;
+    public static final int MODE_CHASE = 2;
+    public static final int MODE_MASK = 3;
+    // Changement d'agro porté par l'intention
+    public static final int AGGRO_CLEAR = 4;
+    public static final int AGGRO_SET = 8;
+    // Résultat d'un arbre qui n'atteint aucune action
+    public static final int FAILED = -1;
+
+    private static final byte KIND_CONDITION = 0;
+    private static final byte KIND_ACTION = 1;
+
+    private static final byte OP_TRUE = 0;
+    private static final byte OP_LESS = 1;
+    private static final byte OP_GREATER = 2;
+
+    // Nœuds : type, case lue, comparaison, case de référence (-1 = constante), constante,
+    // suivant en cas de succès et d'échec (FAILED = fin), intention des actions
+    private final byte[] kind;
+    private final int[] slot;
+    private final byte[] op;
+    private final int[] referenceSlot;
+    private final float[] constant;
+    private final int[] onSuccess;
+    private final int[] onFailure;
+    private final int[] intent;
+    private final int root;
+
+    private BehaviorTree(Builder builder, int root) {
+        int size = builder.size;
+        this.kind = Arrays.copyOf(builder.kind, size);
+        this.slot = Arrays.copyOf(builder.slot, size);
+        this.op = Arrays.copyOf(builder.op, size);
+        this.referenceSlot = Arrays.copyOf(builder.referenceSlot, size);
+        this.constant = Arrays.copyOf(builder.constant, size);
+        this.onSuccess = Arrays.copyOf(builder.onSuccess, size);
+        this.onFailure = Arrays.copyOf(builder.onFailure, size);
+        this.intent = Arrays.copyOf(builder.intent, size);
+        this.root = root;
+    }
+
+    /**
+     * Compile un arbre depuis son JSON.
+     *
+     * @param json Objet racine, avec le nœud racine dans "root"
+     * @return L'arbre compilé
+     * @throws IllegalArgumentException si un nœud est invalide
+     */
+    public static BehaviorTree compile(JsonValue json) {
+        Builder builder = new Builder();
+        int root = builder.compile(json.get("root"), FAILED, FAILED);
+        return new BehaviorTree(builder, root);
+    }
+
+    /**
+     * Évalue l'arbre sur un tableau de faits.
+     *
+     * @param blackboard Faits de l'ennemi (voir Blackboard)
+     * @return L'intention de l'action atteinte, ou FAILED
+     */
+    public int evaluate(float[] blackboard) {
+        int node = root;
+        while (node >= 0) {
+            if (kind[node] == KIND_ACTION) {
+                return intent[node];
+            }
+            float value = blackboard[slot[node]];
+            float reference = referenceSlot[node] >= 0 ? blackboard[referenceSlot[node]] : constant[node];
+            boolean passed;
+            switch (op[node]) {
+                case OP_LESS:
+                    passed = value < reference;
+                    break;
+                case OP_GREATER:
+                    passed = value > reference;
+                    break;
+                default:
+                    passed = value != 0f;
+                    break;
+            }
+            node = passed ? onSuccess[node] : onFailure[node];
+        }
+        return FAILED;
+    }
+
+    /**
+     * @return Le nombre de nœuds compilés (conditions et actions)
+     */
+    public int getNodeCount() {
+        return kind.length;
+    }
+
+    /**
+     * Tableaux en construction pendant la compilation.
+     */
+    private static final class Builder {
+        byte[] kind = new byte[16];
+        int[] slot = new int[16];
+        byte[] op = new byte[16];
+        int[] referenceSlot = new int[16];
+        float[] constant = new float[16];
+        int[] onSuccess = new int[16];
+        int[] onFailure = new int[16];
+        int[] intent = new int[16];
+        int size;
+
+        /**
+         * Compile un nœud et retourne l'indice où commence son évaluation.
+         *
+         * @param success Nœud à visiter si le nœud réussit
+         * @param failure Nœud à visiter si le nœud échoue
+         */
+        int compile(JsonValue node, int success, int failure) {
+            if (node == null) {
+                throw new IllegalArgumentException("Nœud d'arbre de comportement manquant");
+            }
+            if (node.has("selector")) {
+                // Du dernier enfant au premier : un échec passe à l'enfant suivant
+                JsonValue children = node.get("selector");
+                int entry = failure;
+                for (int i = children.size - 1; i >= 0; i--) {
+                    entry = compile(children.get(i), success, entry);
+                }
+                return entry;
+            }
+            if (node.has("sequence")) {
+                // Du dernier enfant au premier : un succès passe à l'enfant suivant
+                JsonValue children = node.get("sequence");
+                int entry = success;
+                for (int i = children.size - 1; i >= 0; i--) {
+                    entry = compile(children.get(i), entry, failure);
+                }
+                return entry;
+            }
+            if (node.has("not")) {
+                return compile(node.get("not"), failure, success);
+            }
+            if (node.has("condition")) {
+                return addCondition(node, success, failure);
+            }
+            if (node.has("action")) {
+                return addAction(node);
+            }
+            throw new IllegalArgumentException("Nœud d'arbre de comportement inconnu : " + node);
+        }
+
+        private int addCondition(JsonValue node, int success, int failure) {
+            int index = add(KIND_CONDITION);
+            slot[index] = Blackboard.slotOf(node.getString("condition"));
+            op[index] = OP_TRUE;
+            referenceSlot[index] = -1;
+            JsonValue reference = null;
+            if (node.has("less")) {
+                op[index] = OP_LESS;
+                reference = node.get("less");
+            } else if (node.has("greater")) {
+                op[index] = OP_GREATER;
+                reference = node.get("greater");
+            }
+            if (reference != null) {
+                if (reference.isString()) {
+                    referenceSlot[index] = Blackboard.slotOf(reference.asString());
+                } else {
+                    constant[index] = reference.asFloat();
+                }
+            }
+            onSuccess[index] = success;
+            onFailure[index] = failure;
+            return index;
+        }
+
+        private int addAction(JsonValue node) {
+            int index = add(KIND_ACTION);
+            int encoded;
+            String action = node.getString("action");
+            switch (action) {
+                case "idle":
+                    encoded = MODE_IDLE;
+                    break;
+                case "return":
+                    encoded = MODE_RETURN;
+                    break;
+                case "chase":
+                    encoded = MODE_CHASE;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Action d'arbre de comportement inconnue : " + action);
+            }
+            String aggro = node.getString("aggro", null);
+            if ("set".equals(aggro)) {
+                encoded |= AGGRO_SET;
+            } else if ("clear".equals(aggro)) {
+                encoded |= AGGRO_CLEAR;
+            } else if (aggro != null) {
+                throw new IllegalArgumentException("Changement d'agro inconnu : " + aggro);
+            }
+            intent[index] = encoded;
+            onSuccess[index] = FAILED;
+            onFailure[index] = FAILED;
+            return index;
+        }
+
+        private int add(byte nodeKind) {
+            if (size == kind.length) {
+                int capacity = size * 2;
+                kind = Arrays.copyOf(kind, capacity);
+                slot = Arrays.copyOf(slot, capacity);
+                op = Arrays.copyOf(op, capacity);
+                referenceSlot = Arrays.copyOf(referenceSlot, capacity);
+                constant = Arrays.copyOf(constant, capacity);
+                onSuccess = Arrays.copyOf(onSuccess, capacity);
+                onFailure = Arrays.copyOf(onFailure, capacity);
+                intent = Arrays.copyOf(intent, capacity);
+            }
+            kind[size] = nodeKind;
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.tlse1.twodgame.ai;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.JsonReader;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache des arbres de comportement : chaque fichier est lu et compilé une seule fois,
+ * puis l'arbre compilé est partagé par tous les ennemis qui l'utilisent.
+ */
+public final class BehaviorTrees {
+
+    // Arbre des ennemis sans archétype ou dont l'archétype n'en précise pas
+    public static final String DEFAULT_PATH = "ai/enemy.json";
+
+    private static final Map<String, BehaviorTree> treesByPath = new HashMap<>();
+
+    private BehaviorTrees() {
+    }
+
+    /**
+     * Retourne l'arbre compilé d'un fichier (chemin relatif à assets/).
+     *
+     * @param path Chemin du JSON de l'arbre
+     * @return L'arbre compilé
+     */
+    public static synchronized BehaviorTree get(String path) {
+        BehaviorTree tree = treesByPath.get(path);
+        if (tree == null) {
+            tree = BehaviorTree.compile(new JsonReader().parse(Gdx.files.internal(path)));
+            treesByPath.put(path, tree);
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,62 @@
+package com.tlse1.twodgame.ai;
+
+/**
+ * Cases du tableau de faits (blackboard) lu par les arbres de comportement.
+ *
+ * Chaque ennemi possède un float[SIZE] (AiState.blackboard), rempli avant d'évaluer son arbre (voir
+ * AiIntents) ; les booléens valent 0 ou 1. Les conditions des arbres désignent
+ * une case par son nom dans le JSON, traduit en indice à la compilation.
+ */
+public final class Blackboard {
+
+    // La cible existe et est vivante
+    public static final int TARGET_ALIVE = 0;
+    // L'ennemi et la cible ont des dimensions (après leur premier rendu)
+    public static final int READY = 1;
+    // L'ennemi est lié à une zone
+    public static final int HAS_ZONE = 2;
+    // L'ennemi connaît la map
+    public static final int HAS_MAP = 3;
+    // Le centre de la cible est dans la zone de l'ennemi
+    public static final int TARGET_IN_ZONE = 4;
+    // Distance centre à centre jusqu'à la cible, en pixels (très grande si inconnue)
+    public static final int TARGET_DISTANCE = 5;
+    // Portée de détection de l'ennemi, en pixels
+    public static final int DETECTION_RANGE = 6;
+    // Santé de l'ennemi / santé maximale (0 à 1)
+    public static final int HEALTH_RATIO = 7;
+    // L'ennemi poursuit actuellement la cible
+    public static final int AGGROED = 8;
+
+    public static final int SIZE = 9;
+
+    // Noms des cases dans les JSON des arbres (index = case)
+    private static final String[] NAMES = {
+        "targetAlive", "ready", "hasZone", "hasMap", "targetInZone",
+        "targetDistance", "detectionRange", "healthRatio", "aggroed"
+    };
+
+    private Blackboard() {
+    }
+
+    /**
+     * @param name Nom d'une case dans un JSON d'arbre (ex. "targetInZone")
+     * @return L'indice de la case
+     * @throws IllegalArgumentException si le nom est inconnu
+     */
+    public static int slotOf(String name) {
+        for (int slot = 0; slot < NAMES.length; slot++) {
+            if (NAMES[slot].equals(name)) {
+                return slot;
+            }
+        }
+        throw new IllegalArgumentException("Case de blackboard inconnue : " + name);
+    }
+
+    /**
+     * @return Un tableau de faits vide
+     */
+    public static float[] create() {
+        return new float[SIZE];
+    }
+}
@@ -0,0 +1,43 @@
+package com.tlse1.twodgame.ecs;
+
+import com.artemis.World;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.entities.Enemy;
+
+/**
+ * Création de l'entité d'un ennemi.
+ *
+ * L'état de l'ennemi n'existe qu'en un exemplaire : les composants Position, Health, Hitbox, Movement,
+ * ZoneBinding, AiState et SpriteState appartiennent à l'ennemi et à ses handlers, et ces instances sont
+ * ajoutées telles quelles à l'entité. Les systèmes et l'objet Enemy lisent et écrivent donc les mêmes
+ * valeurs ; à la suppression de l'entité, artemis retire ces composants sans les recycler, et l'ennemi
+ * les garde pour sa prochaine entité.
+ */
+public final class EnemyEntities {
+
+    private EnemyEntities() {
+    }
+
+    /**
+     * Crée l'entité d'un ennemi : lien Actor et composants d'état de l'ennemi.
+     * Les composants propres au monde (niveau de détail, butin, réapparition, tirs) sont ajoutés par l'appelant.
+     *
+     * @param world Monde ECS
+     * @param enemy L'ennemi
+     * @return L'identifiant de l'entité
+     */
+    public static int create(World world, Enemy enemy) {
+        int entity = world.create();
+        enemy.setEntityId(entity);
+        world.getMapper(Actor.class).create(entity).enemy = enemy;
+        world.edit(entity)
+            .add(enemy.getMovementHandler().getPosition())
+            .add(enemy.getCombatHandler().getHealthComponent())
+            .add(enemy.getAnimationHandler().getSpriteState())
+            .add(enemy.getHitbox())
+            .add(enemy.getMovement())
+            .add(enemy.getZoneBinding())
+            .add(enemy.getAiState());
+        return entity;
+    }
+}
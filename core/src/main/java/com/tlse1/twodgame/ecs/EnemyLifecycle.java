@@ -0,0 +1,27 @@
+package com.tlse1.twodgame.ecs;
+
+import com.tlse1.twodgame.ecs.components.RespawnTimer;
+import com.tlse1.twodgame.entities.Enemy;
+
+/**
+ * Effets de la mort et de la réapparition d'un ennemi hors du monde ECS
+ * (listes de rendu, pools). Implémenté par GameWorld.
+ */
+public interface EnemyLifecycle {
+
+    /**
+     * Un ennemi mort quitte le monde. Ce que rapporte sa mort (kills, victoire, drop) a déjà été
+     * traité par les abonnés d'ENTITY_DIED ; son entité est supprimée juste après l'appel
+     * et l'implémentation libère l'ennemi.
+     *
+     * @param enemy L'ennemi mort
+     */
+    void enemyKilled(Enemy enemy);
+
+    /**
+     * Le délai d'une réapparition est écoulé : crée l'ennemi correspondant.
+     *
+     * @param timer La réapparition (zone, archétype, point d'apparition, nombre de respawns)
+     */
+    void respawn(RespawnTimer timer);
+}
@@ -0,0 +1,19 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.PooledComponent;
+import com.tlse1.twodgame.entities.Enemy;
+
+/**
+ * Lien entre une entité et son objet Enemy, pour ce qui reste attaché à l'objet : rendu, collisions
+ * avec la map, dégâts publiés sur le bus et retour au pool. L'état de l'ennemi (Position, Hitbox, Health,
+ * Movement, ZoneBinding, AiState, SpriteState) est dans les composants de l'entité, lus et écrits
+ * directement par les systèmes (voir EnemyEntities).
+ */
+public class Actor extends PooledComponent {
+    public Enemy enemy;
+
+    @Override
+    protected void reset() {
+        enemy = null;
+    }
+}
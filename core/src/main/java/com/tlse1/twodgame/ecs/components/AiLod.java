@@ -0,0 +1,28 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.PooledComponent;
+
+/**
+ * Niveau de détail de l'IA d'un ennemi, décidé chaque frame par AiLodSystem.
+ */
+public class AiLod extends PooledComponent {
+    // Mise à jour à chaque frame (joueur dans la zone ou proche)
+    public static final int FULL = 0;
+    // Mise à jour toutes les quelques frames, avec le temps accumulé
+    public static final int REDUCED = 1;
+    // Aucune mise à jour, animation comprise (au repos dans une zone sans joueur)
+    public static final int DORMANT = 2;
+
+    public int tier = FULL;
+    // Temps accumulé depuis la dernière mise à jour
+    public float accumulated;
+    // Temps à appliquer à l'ennemi cette frame (0 = pas de mise à jour)
+    public float delta;
+
+    @Override
+    protected void reset() {
+        tier = FULL;
+        accumulated = 0f;
+        delta = 0f;
+    }
+}
@@ -0,0 +1,30 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.Component;
+import com.tlse1.twodgame.ai.BehaviorTree;
+import com.tlse1.twodgame.ai.Blackboard;
+import com.tlse1.twodgame.utils.TimingWheel;
+
+/**
+ * État de l'IA d'un ennemi : mode décidé par AiDecisionSystem (ou ParallelAiDecisionSystem), agro,
+ * faits de l'arbre de comportement, et réglages d'attaque au contact appliqués par SteeringSystem.
+ * Instance de l'ennemi, ajoutée telle quelle à son entité.
+ */
+public class AiState extends Component {
+    // Mode de la dernière décision (BehaviorTree.MODE_IDLE, MODE_RETURN ou MODE_CHASE)
+    public int mode = BehaviorTree.MODE_IDLE;
+    // L'ennemi poursuit le joueur
+    public boolean aggroed;
+    // Arbre de comportement (null = arbre par défaut, chargé à la première décision)
+    public BehaviorTree behavior;
+    // Faits lus par l'arbre, réécrits à chaque décision (voir Blackboard)
+    public final float[] blackboard = Blackboard.create();
+    // Portée de détection du joueur (ennemis sans zone)
+    public float detectionRange = 300f;
+    // Attaque au contact : dégâts, temps entre deux coups, et attente en cours (planifiée dans la roue des timers)
+    public int attackDamage = 1;
+    public float attackCooldownTime = 2f;
+    public final TimingWheel.Timer attackCooldown = new TimingWheel.Timer();
+    // Planches avec SIDE et SIDE_LEFT inversés (voir EnemyArchetype.isMirrorSides)
+    public boolean mirrorSides = true;
+}
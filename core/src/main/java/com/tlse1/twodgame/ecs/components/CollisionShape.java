@@ -0,0 +1,17 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.PooledComponent;
+
+/**
+ * Taille du sprite utilisée par le CollisionHandler de l'ennemi (la hitbox vient de l'ennemi).
+ */
+public class CollisionShape extends PooledComponent {
+    public float spriteWidth;
+    public float spriteHeight;
+
+    @Override
+    protected void reset() {
+        spriteWidth = 0f;
+        spriteHeight = 0f;
+    }
+}
@@ -0,0 +1,15 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.Component;
+
+/**
+ * Points de vie et bouclier d'un personnage.
+ * Instance du CombatHandler du personnage ; pour un ennemi, la même instance est ajoutée
+ * à son entité (voir EnemyEntities), où CombatSystem applique les dégâts.
+ */
+public class Health extends Component {
+    public int current;
+    public int max;
+    public int shield;
+    public int maxShield;
+}
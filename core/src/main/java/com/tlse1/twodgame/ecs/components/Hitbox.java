@@ -0,0 +1,15 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.Component;
+
+/**
+ * Hitbox fixe d'un ennemi (collisions et dégâts, indépendante du sprite rendu) et sa place dans le monde :
+ * coin bas gauche de la hitbox centrée sur le sprite, recalculé par MovementSystem après chaque déplacement.
+ * Instance de l'ennemi, ajoutée telle quelle à son entité.
+ */
+public class Hitbox extends Component {
+    public float width;
+    public float height;
+    public float x;
+    public float y;
+}
@@ -0,0 +1,19 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.PooledComponent;
+
+/**
+ * Ce que rapporte la mort d'un ennemi.
+ */
+public class Loot extends PooledComponent {
+    // Drop d'un collectible tiré au hasard
+    public boolean dropsItem = true;
+    // Tuer cet ennemi fait gagner la partie (vampire de niveau 3)
+    public boolean winsGame;
+
+    @Override
+    protected void reset() {
+        dropsItem = true;
+        winsGame = false;
+    }
+}
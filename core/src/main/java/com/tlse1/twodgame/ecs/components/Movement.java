@@ -0,0 +1,18 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.Component;
+import com.tlse1.twodgame.utils.Direction;
+
+/**
+ * Déplacement d'un ennemi : vitesse de base, et déplacement demandé par SteeringSystem pendant la frame,
+ * appliqué puis effacé par MovementSystem. Instance de l'ennemi, ajoutée telle quelle à son entité.
+ */
+public class Movement extends Component {
+    // Vitesse de marche hors effets temporaires (pixels par seconde)
+    public float speed;
+    // Direction demandée (null = aucun déplacement cette frame)
+    public Direction direction;
+    public boolean running;
+    // Temps de la mise à jour qui a fait la demande (celui du niveau de détail de l'IA)
+    public float delta;
+}
@@ -0,0 +1,13 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.Component;
+
+/**
+ * Position d'un personnage : coin bas gauche de son sprite, en pixels du monde.
+ * Instance du MovementHandler du personnage ; pour un ennemi, la même instance est ajoutée
+ * à son entité (voir EnemyEntities) et déplacée par MovementSystem.
+ */
+public class Position extends Component {
+    public float x;
+    public float y;
+}
@@ -0,0 +1,32 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.PooledComponent;
+import com.tlse1.twodgame.utils.TimingWheel;
+
+/**
+ * Attaque à distance : l'ennemi tire des projectiles vers sa cible quand il est agro (vampires).
+ */
+public class RangedAttack extends PooledComponent {
+    // Temps entre deux tirs (secondes)
+    public float interval;
+    // Attente avant le prochain tir : planifiée dans la roue des timers du monde, l'ennemi peut tirer quand elle a expiré
+    public final TimingWheel.Timer cooldown = new TimingWheel.Timer();
+    // Distances de tir : au-delà de range la cible est trop loin, en deçà de minRange l'ennemi frappe au contact
+    public float range;
+    public float minRange;
+    // Projectile tiré
+    public float speed;
+    public float damagePerSecond;
+    public float size;
+
+    @Override
+    protected void reset() {
+        interval = 0f;
+        cooldown.cancel();
+        range = 0f;
+        minRange = 0f;
+        speed = 0f;
+        damagePerSecond = 0f;
+        size = 0f;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.PooledComponent;
+
+/**
+ * Réapparition en attente. Porté par une entité sans Actor, planifiée dans la roue des timers
+ * par RespawnSystem et supprimée à l'échéance.
+ * Recyclé par artemis (PooledComponent) : programmer une réapparition n'alloue rien en régime établi.
+ */
+public class RespawnTimer extends PooledComponent {
+    // Délai avant la réapparition, en secondes
+    public float delay;
+    public int zoneId;
+    public String archetypeId;
+    public float x;
+    public float y;
+    public int count;
+
+    @Override
+    protected void reset() {
+        delay = 0f;
+        zoneId = 0;
+        archetypeId = null;
+        x = 0f;
+        y = 0f;
+        count = 0;
+    }
+}
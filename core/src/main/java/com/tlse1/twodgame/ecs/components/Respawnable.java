@@ -0,0 +1,25 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.PooledComponent;
+
+/**
+ * Ennemi qui réapparaît à son point d'apparition après sa mort (archétypes avec "respawnDelay").
+ */
+public class Respawnable extends PooledComponent {
+    // Archétype recréé à la réapparition (voir EnemyArchetypes)
+    public String archetypeId;
+    // Nombre de respawns déjà effectués par cette lignée d'ennemis
+    public int count;
+    // Nombre maximal de respawns de la lignée (archétype, "maxRespawns")
+    public int maxRespawns;
+    // Délai avant réapparition (secondes)
+    public float delay;
+
+    @Override
+    protected void reset() {
+        archetypeId = null;
+        count = 0;
+        maxRespawns = 0;
+        delay = 0f;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.Component;
+import com.tlse1.twodgame.utils.Direction;
+
+/**
+ * État d'animation d'un personnage : direction, mouvement, attaque, blessure, mort, visibilité
+ * et taille du dernier rendu. Instance de l'AnimationHandler, qui en déduit l'animation à jouer ;
+ * pour un ennemi, la même instance est ajoutée à son entité, et les systèmes (SteeringSystem,
+ * AnimationCullingSystem) l'écrivent directement : le handler applique leurs changements
+ * à sa mise à jour suivante (EnemyUpdateSystem).
+ */
+public class SpriteState extends Component {
+    public Direction direction = Direction.DOWN;
+    public boolean moving;
+    public boolean running;
+    public boolean attacking;
+    public boolean hurt;
+    public boolean dead;
+    // Attaque demandée par l'IA, lancée par le handler à sa mise à jour suivante
+    public boolean attackRequested;
+    // Dans la vue de la caméra (voir AnimationCullingSystem)
+    public boolean visible = true;
+    // Taille du dernier rendu (0 avant le premier rendu, ou quand rien n'est dessiné)
+    public float width;
+    public float height;
+}
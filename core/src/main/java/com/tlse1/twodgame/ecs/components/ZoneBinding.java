@@ -0,0 +1,14 @@
+package com.tlse1.twodgame.ecs.components;
+
+import com.artemis.Component;
+
+/**
+ * Zone de la map à laquelle un ennemi est rattaché, et son point d'apparition (où il retourne après désagro).
+ * Instance de l'ennemi, ajoutée telle quelle à son entité.
+ */
+public class ZoneBinding extends Component {
+    // Zone de l'ennemi (1-6, 0 = aucune)
+    public int zoneId;
+    public float spawnX;
+    public float spawnY;
+}
@@ -0,0 +1,119 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.BaseEntitySystem;
+import com.artemis.ComponentMapper;
+import com.artemis.utils.IntBag;
+import com.tlse1.twodgame.ecs.components.AiLod;
+import com.tlse1.twodgame.ecs.components.AiState;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.ecs.components.Position;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+import com.tlse1.twodgame.ecs.components.ZoneBinding;
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+/**
+ * Planificateur des décisions d'IA (zone du joueur, agro, mode de déplacement, voir AiIntents) dans un budget
+ * de temps par frame. Les ennemis sont servis à tour de rôle à partir de là où la frame précédente
+ * s'est arrêtée ; ceux qui n'ont pas eu leur tour gardent leur dernière décision (AiState.mode).
+ * Le déplacement qui en découle tourne toujours à chaque mise à jour dans SteeringSystem.
+ *
+ * Au moins une décision est prise par frame pour que la rotation avance même avec un budget nul.
+ * Les ennemis DORMANT (voir AiLodSystem) sont sautés. À exécuter après AiLodSystem
+ * et avant SteeringSystem.
+ */
+public class AiDecisionSystem extends BaseEntitySystem {
+
+    private ComponentMapper<AiState> aiMapper;
+    private ComponentMapper<Position> positionMapper;
+    private ComponentMapper<SpriteState> spriteMapper;
+    private ComponentMapper<Health> healthMapper;
+    private ComponentMapper<ZoneBinding> zoneMapper;
+    private ComponentMapper<AiLod> lodMapper;
+
+    private final Character target;
+    private final JsonMapLoader mapLoader;
+    private long budgetNanos;
+    private int cursor;
+
+    // Statistiques de la dernière frame
+    private int decisionsLastFrame;
+    private int framesPerRotation;
+    private int framesInRotation;
+
+    /**
+     * @param target Cible des ennemis (le joueur)
+     * @param mapLoader La map (zones)
+     * @param budgetMillis Temps maximal consacré aux décisions par frame, en millisecondes
+     */
+    public AiDecisionSystem(Character target, JsonMapLoader mapLoader, float budgetMillis) {
+        super(Aspect.all(AiState.class, Position.class, SpriteState.class, Health.class, ZoneBinding.class));
+        this.target = target;
+        this.mapLoader = mapLoader;
+        setBudgetMillis(budgetMillis);
+    }
+
+    public void setBudgetMillis(float budgetMillis) {
+        this.budgetNanos = (long) (Math.max(0f, budgetMillis) * 1_000_000f);
+    }
+
+    public float getBudgetMillis() {
+        return budgetNanos / 1_000_000f;
+    }
+
+    @Override
+    protected void processSystem() {
+        IntBag entities = getEntityIds();
+        int[] ids = entities.getData();
+        int count = entities.size();
+        decisionsLastFrame = 0;
+        if (count == 0) {
+            cursor = 0;
+            return;
+        }
+
+        boolean targetAlive = target != null && target.isAlive();
+        boolean targetReady = targetAlive && target.getWidth() > 0 && target.getHeight() > 0;
+        float targetCenterX = targetReady ? target.getX() + target.getWidth() / 2f : 0f;
+        float targetCenterY = targetReady ? target.getY() + target.getHeight() / 2f : 0f;
+
+        // Des ennemis ont pu être supprimés depuis la frame précédente
+        if (cursor >= count) {
+            cursor = 0;
+        }
+        framesInRotation++;
+        long deadline = System.nanoTime() + budgetNanos;
+        // Au plus un tour complet par frame
+        for (int visited = 0; visited < count; visited++) {
+            int entityId = ids[cursor++];
+            if (cursor == count) {
+                cursor = 0;
+                framesPerRotation = framesInRotation;
+                framesInRotation = 0;
+            }
+            if (lodMapper.has(entityId) && lodMapper.get(entityId).tier == AiLod.DORMANT) {
+                continue;
+            }
+            AiState ai = aiMapper.get(entityId);
+            AiIntents.apply(ai, AiIntents.compute(ai, positionMapper.get(entityId), spriteMapper.get(entityId),
+                healthMapper.get(entityId), zoneMapper.get(entityId), mapLoader,
+                targetAlive, targetReady, targetCenterX, targetCenterY));
+            decisionsLastFrame++;
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+    }
+
+    public int getDecisionsLastFrame() {
+        return decisionsLastFrame;
+    }
+
+    /**
+     * @return Nombre de frames qu'a pris le dernier tour complet des ennemis (1 = tous décidés chaque frame)
+     */
+    public int getFramesPerRotation() {
+        return framesPerRotation;
+    }
+}
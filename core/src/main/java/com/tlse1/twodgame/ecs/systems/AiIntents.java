@@ -0,0 +1,102 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.tlse1.twodgame.ai.BehaviorTree;
+import com.tlse1.twodgame.ai.BehaviorTrees;
+import com.tlse1.twodgame.ai.Blackboard;
+import com.tlse1.twodgame.ecs.components.AiState;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.ecs.components.Position;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+import com.tlse1.twodgame.ecs.components.ZoneBinding;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+/**
+ * Décision d'IA d'un ennemi à partir de ses composants, partagée par AiDecisionSystem
+ * et ParallelAiDecisionSystem.
+ *
+ * compute() remplit le tableau de faits de l'ennemi puis évalue son arbre de comportement
+ * (voir BehaviorTree) : il ne modifie que ce tableau, propre à l'ennemi, et peut donc être appelé
+ * pour plusieurs ennemis depuis plusieurs threads à la fois. apply() enregistre ensuite la décision
+ * (mode et agro) dans l'AiState.
+ */
+final class AiIntents {
+
+    // Aucune décision (ennemi mort)
+    static final int NO_INTENT = -1;
+
+    private AiIntents() {
+    }
+
+    /**
+     * Calcule la décision d'un ennemi. Ne lit que ses composants, la map et la position de la cible.
+     *
+     * @param ai IA de l'ennemi (seul son tableau de faits est écrit)
+     * @param position Position de l'ennemi
+     * @param sprite État d'animation de l'ennemi (mort, dimensions)
+     * @param health Santé de l'ennemi
+     * @param zone Zone de l'ennemi
+     * @param mapLoader La map (null = zones inconnues)
+     * @param targetAlive La cible existe et est vivante
+     * @param targetReady La cible a déjà des dimensions (après son premier rendu)
+     * @param targetCenterX Centre X de la cible
+     * @param targetCenterY Centre Y de la cible
+     * @return Intention encodée (mode de déplacement et changement d'agro), ou NO_INTENT
+     */
+    static int compute(AiState ai, Position position, SpriteState sprite, Health health, ZoneBinding zone,
+                       JsonMapLoader mapLoader, boolean targetAlive, boolean targetReady,
+                       float targetCenterX, float targetCenterY) {
+        if (sprite.dead) {
+            return NO_INTENT;
+        }
+
+        // Dimensions pas encore initialisées (avant le premier rendu) : l'arbre attend
+        boolean ready = targetAlive && targetReady && sprite.width > 0 && sprite.height > 0;
+        boolean hasZone = zone.zoneId > 0;
+        boolean hasMap = mapLoader != null;
+        float[] facts = ai.blackboard;
+        facts[Blackboard.TARGET_ALIVE] = targetAlive ? 1f : 0f;
+        facts[Blackboard.READY] = ready ? 1f : 0f;
+        facts[Blackboard.HAS_ZONE] = hasZone ? 1f : 0f;
+        facts[Blackboard.HAS_MAP] = hasMap ? 1f : 0f;
+        // isInZone convertit les pixels en tiles, donc on peut passer directement le centre
+        facts[Blackboard.TARGET_IN_ZONE] = ready && hasZone && hasMap
+            && mapLoader.isInZone(targetCenterX, targetCenterY, zone.zoneId) ? 1f : 0f;
+        if (ready) {
+            float dx = targetCenterX - (position.x + sprite.width / 2f);
+            float dy = targetCenterY - (position.y + sprite.height / 2f);
+            facts[Blackboard.TARGET_DISTANCE] = (float) Math.sqrt(dx * dx + dy * dy);
+        } else {
+            facts[Blackboard.TARGET_DISTANCE] = Float.MAX_VALUE;
+        }
+        facts[Blackboard.DETECTION_RANGE] = ai.detectionRange;
+        facts[Blackboard.HEALTH_RATIO] = health.max > 0 ? (float) health.current / health.max : 0f;
+        facts[Blackboard.AGGROED] = ai.aggroed ? 1f : 0f;
+
+        BehaviorTree behavior = ai.behavior;
+        if (behavior == null) {
+            behavior = BehaviorTrees.get(BehaviorTrees.DEFAULT_PATH);
+            ai.behavior = behavior;
+        }
+        int intent = behavior.evaluate(facts);
+        // Un arbre qui n'atteint aucune action laisse l'ennemi au repos
+        return intent == BehaviorTree.FAILED ? BehaviorTree.MODE_IDLE : intent;
+    }
+
+    /**
+     * Applique une décision calculée par compute().
+     *
+     * @param ai IA de l'ennemi
+     * @param intent Intention encodée, NO_INTENT pour ne rien changer
+     */
+    static void apply(AiState ai, int intent) {
+        if (intent == NO_INTENT) {
+            return;
+        }
+        ai.mode = intent & BehaviorTree.MODE_MASK;
+        if ((intent & BehaviorTree.AGGRO_SET) != 0) {
+            ai.aggroed = true;
+        } else if ((intent & BehaviorTree.AGGRO_CLEAR) != 0) {
+            ai.aggroed = false;
+        }
+    }
+}
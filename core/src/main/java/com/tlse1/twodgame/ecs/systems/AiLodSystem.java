@@ -0,0 +1,204 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.tlse1.twodgame.ecs.components.AiLod;
+import com.tlse1.twodgame.ecs.components.AiState;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.ecs.components.Position;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+import com.tlse1.twodgame.ecs.components.ZoneBinding;
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.events.CombatEvent;
+import com.tlse1.twodgame.events.CombatEventBus;
+import com.tlse1.twodgame.events.CombatEventListener;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+/**
+ * Choisit chaque frame le niveau de détail de l'IA de chaque ennemi (voir AiLod) :
+ * - FULL : joueur dans la zone de l'ennemi, joueur à moins de NEAR_RANGE, ou ennemi mourant
+ * - DORMANT : ennemi au repos à son spawn alors que le joueur est dans une autre zone
+ *   (sans zone : joueur hors de sa portée de détection) ; il se réveille dès que le joueur entre dans sa zone
+ * - REDUCED : les autres (retour au spawn loin du joueur), une frame sur REDUCED_INTERVAL
+ *
+ * La zone du joueur vient des événements ZONE_ENTERED du bus du monde (sans bus, elle est calculée
+ * une fois par frame) : le coût par ennemi ne dépend pas du nombre de zones.
+ * À exécuter avant les systèmes d'IA et d'animation, qui appliquent AiLod.delta.
+ */
+public class AiLodSystem extends IteratingSystem implements CombatEventListener {
+
+    // Rayon dans lequel un ennemi est toujours mis à jour (couvre la vue de la caméra)
+    public static final float NEAR_RANGE = 128f;
+    public static final int REDUCED_INTERVAL = 4;
+    // Marge au-delà de la portée de détection avant d'endormir un ennemi sans zone
+    private static final float WAKE_MARGIN = 64f;
+    // Distance au spawn en dessous de laquelle un ennemi y est au repos
+    private static final float SETTLED_DISTANCE = 5f;
+
+    private ComponentMapper<ZoneBinding> zoneMapper;
+    private ComponentMapper<AiLod> lodMapper;
+    private ComponentMapper<AiState> aiMapper;
+    private ComponentMapper<Health> healthMapper;
+    private ComponentMapper<Position> positionMapper;
+    private ComponentMapper<SpriteState> spriteMapper;
+
+    private final JsonMapLoader mapLoader;
+    private final Character target;
+    private final CombatEventBus events;
+
+    private boolean targetReady;
+    private float targetX;
+    private float targetY;
+    private int targetZone;
+    private int frame;
+
+    // Répartition de la dernière frame
+    private int fullCount;
+    private int reducedCount;
+    private int dormantCount;
+
+    /**
+     * @param mapLoader La map (zones)
+     * @param target Cible des ennemis (le joueur)
+     */
+    public AiLodSystem(JsonMapLoader mapLoader, Character target) {
+        this(mapLoader, target, null);
+    }
+
+    /**
+     * @param mapLoader La map (zones)
+     * @param target Cible des ennemis (le joueur)
+     * @param events Bus d'événements du monde, qui publie les changements de zone de la cible (null = calcul chaque frame)
+     */
+    public AiLodSystem(JsonMapLoader mapLoader, Character target, CombatEventBus events) {
+        super(Aspect.all(ZoneBinding.class, AiLod.class, AiState.class, Health.class, Position.class,
+            SpriteState.class));
+        this.mapLoader = mapLoader;
+        this.target = target;
+        this.events = events;
+    }
+
+    @Override
+    protected void initialize() {
+        if (events != null) {
+            events.subscribe(CombatEvent.ZONE_ENTERED, this);
+        }
+    }
+
+    @Override
+    public void onEvent(CombatEvent event) {
+        if (event.getTarget() == target) {
+            targetZone = event.getZoneId();
+        }
+    }
+
+    @Override
+    protected void dispose() {
+        if (events != null) {
+            events.unsubscribe(this);
+        }
+    }
+
+    @Override
+    protected void begin() {
+        frame++;
+        fullCount = 0;
+        reducedCount = 0;
+        dormantCount = 0;
+        // Tant que le joueur n'a pas de dimensions, l'IA attend : tout le monde en FULL
+        targetReady = target.isAlive() && target.getWidth() > 0 && target.getHeight() > 0;
+        if (targetReady) {
+            targetX = target.getX() + target.getWidth() / 2f;
+            targetY = target.getY() + target.getHeight() / 2f;
+            if (events == null) {
+                targetZone = mapLoader != null ? mapLoader.getZoneAt(targetX, targetY) : 0;
+            }
+        }
+    }
+
+    @Override
+    protected void process(int entityId) {
+        AiLod lod = lodMapper.get(entityId);
+        float delta = world.getDelta();
+
+        lod.tier = tierOf(entityId);
+        switch (lod.tier) {
+            case AiLod.FULL:
+                lod.delta = lod.accumulated + delta;
+                lod.accumulated = 0f;
+                fullCount++;
+                break;
+            case AiLod.REDUCED:
+                lod.accumulated += delta;
+                // Décalage par entité pour étaler les mises à jour sur les frames
+                if ((frame + entityId) % REDUCED_INTERVAL == 0) {
+                    lod.delta = lod.accumulated;
+                    lod.accumulated = 0f;
+                } else {
+                    lod.delta = 0f;
+                }
+                reducedCount++;
+                break;
+            default:
+                lod.delta = 0f;
+                lod.accumulated = 0f;
+                dormantCount++;
+                break;
+        }
+    }
+
+    private int tierOf(int entityId) {
+        if (!targetReady || healthMapper.get(entityId).current <= 0) {
+            return AiLod.FULL;
+        }
+        ZoneBinding zone = zoneMapper.get(entityId);
+        if (zone.zoneId > 0 && zone.zoneId == targetZone) {
+            return AiLod.FULL;
+        }
+
+        Position position = positionMapper.get(entityId);
+        SpriteState sprite = spriteMapper.get(entityId);
+        float dx = targetX - (position.x + sprite.width / 2f);
+        float dy = targetY - (position.y + sprite.height / 2f);
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared <= NEAR_RANGE * NEAR_RANGE) {
+            return AiLod.FULL;
+        }
+
+        AiState ai = aiMapper.get(entityId);
+        boolean dormant;
+        if (zone.zoneId > 0) {
+            dormant = isSettledAtSpawn(ai, sprite, position, zone);
+        } else {
+            float wakeRange = ai.detectionRange + WAKE_MARGIN;
+            dormant = distanceSquared > wakeRange * wakeRange;
+        }
+        return dormant ? AiLod.DORMANT : AiLod.REDUCED;
+    }
+
+    /**
+     * Un ennemi est au repos à son point de spawn s'il n'est pas agro, immobile, ni en attaque
+     * ni blessé : son IA ne changera rien tant que le joueur n'entre pas dans sa zone.
+     */
+    private static boolean isSettledAtSpawn(AiState ai, SpriteState sprite, Position position, ZoneBinding zone) {
+        if (ai.aggroed || sprite.attacking || sprite.attackRequested || sprite.hurt || sprite.moving) {
+            return false;
+        }
+        float dx = zone.spawnX - position.x;
+        float dy = zone.spawnY - position.y;
+        return dx * dx + dy * dy < SETTLED_DISTANCE * SETTLED_DISTANCE;
+    }
+
+    public int getFullCount() {
+        return fullCount;
+    }
+
+    public int getReducedCount() {
+        return reducedCount;
+    }
+
+    public int getDormantCount() {
+        return dormantCount;
+    }
+}
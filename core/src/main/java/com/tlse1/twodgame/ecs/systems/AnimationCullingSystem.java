@@ -0,0 +1,63 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.tlse1.twodgame.ecs.components.Position;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+
+/**
+ * Marque chaque frame les ennemis visibles par la caméra (SpriteState.visible) :
+ * les ennemis hors de la vue sautent leur mise à jour d'animation dans EnemyUpdateSystem.
+ * Tant que la vue n'est pas connue (largeur nulle, ex. benchmarks headless), tout le monde est visible.
+ * À exécuter avant EnemyUpdateSystem.
+ */
+public class AnimationCullingSystem extends IteratingSystem {
+
+    // Marge autour de la vue : un ennemi qui y entre a déjà son animation à jour
+    public static final float VIEW_MARGIN = 32f;
+
+    private ComponentMapper<Position> positionMapper;
+    private ComponentMapper<SpriteState> spriteMapper;
+
+    private final Rectangle view;
+    private boolean viewKnown;
+    private int visibleCount;
+
+    /**
+     * @param view Vue de la caméra en coordonnées du monde, mise à jour par son propriétaire
+     */
+    public AnimationCullingSystem(Rectangle view) {
+        super(Aspect.all(Position.class, SpriteState.class));
+        this.view = view;
+    }
+
+    @Override
+    protected void begin() {
+        viewKnown = view.width > 0f && view.height > 0f;
+        visibleCount = 0;
+    }
+
+    @Override
+    protected void process(int entityId) {
+        Position position = positionMapper.get(entityId);
+        SpriteState sprite = spriteMapper.get(entityId);
+        boolean visible = !viewKnown
+            || (position.x + sprite.width >= view.x - VIEW_MARGIN
+                && position.x <= view.x + view.width + VIEW_MARGIN
+                && position.y + sprite.height >= view.y - VIEW_MARGIN
+                && position.y <= view.y + view.height + VIEW_MARGIN);
+        sprite.visible = visible;
+        if (visible) {
+            visibleCount++;
+        }
+    }
+
+    /**
+     * @return Le nombre d'ennemis visibles à la dernière frame
+     */
+    public int getVisibleCount() {
+        return visibleCount;
+    }
+}
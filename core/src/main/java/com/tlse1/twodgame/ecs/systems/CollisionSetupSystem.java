@@ -0,0 +1,51 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.ecs.components.CollisionShape;
+import com.tlse1.twodgame.ecs.components.Hitbox;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.handlers.CollisionHandler;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+/**
+ * Donne son CollisionHandler à chaque ennemi qui n'en a pas encore.
+ * Désactivé tant que les collisions du joueur ne sont pas initialisées (après le premier rendu).
+ */
+public class CollisionSetupSystem extends IteratingSystem {
+
+    private ComponentMapper<Actor> actorMapper;
+    private ComponentMapper<CollisionShape> shapeMapper;
+    private ComponentMapper<Hitbox> hitboxMapper;
+
+    private final JsonMapLoader mapLoader;
+
+    public CollisionSetupSystem(JsonMapLoader mapLoader) {
+        super(Aspect.all(Actor.class, CollisionShape.class, Hitbox.class));
+        this.mapLoader = mapLoader;
+        setEnabled(false);
+    }
+
+    @Override
+    protected void process(int entityId) {
+        Enemy enemy = actorMapper.get(entityId).enemy;
+        if (enemy.getMovementHandler().getCollisionHandler() != null) {
+            return;
+        }
+        Hitbox hitbox = hitboxMapper.get(entityId);
+        if (hitbox.width <= 0 || hitbox.height <= 0) {
+            return;
+        }
+
+        CollisionShape shape = shapeMapper.get(entityId);
+        // Sans taille de sprite déclarée, celle du rendu courant
+        float spriteWidth = shape.spriteWidth > 0 ? shape.spriteWidth : enemy.getWidth();
+        float spriteHeight = shape.spriteHeight > 0 ? shape.spriteHeight : enemy.getHeight();
+
+        CollisionHandler enemyCollision = new CollisionHandler(
+            mapLoader, hitbox.width, hitbox.height, spriteWidth, spriteHeight);
+        enemy.getMovementHandler().setCollisionHandler(enemyCollision);
+    }
+}
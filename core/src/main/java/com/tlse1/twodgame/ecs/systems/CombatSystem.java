@@ -0,0 +1,79 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.BaseSystem;
+import com.artemis.ComponentMapper;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.handlers.CombatHandler;
+import com.tlse1.twodgame.events.CombatEvent;
+import com.tlse1.twodgame.events.CombatEventBus;
+import com.tlse1.twodgame.events.CombatEventListener;
+
+/**
+ * Applique au composant Health des ennemis les dégâts publiés sur le bus (DAMAGE_DEALT) :
+ * bouclier puis points de vie, animation de blessure ou de mort, et ENTITY_DIED au coup fatal.
+ * Les dégâts sur un personnage hors du monde ECS (le joueur) restent appliqués par son propriétaire.
+ *
+ * Tout se passe pendant le drain du bus : le système n'a rien à faire à chaque frame.
+ */
+public class CombatSystem extends BaseSystem implements CombatEventListener {
+
+    private ComponentMapper<Actor> actorMapper;
+    private ComponentMapper<Health> healthMapper;
+
+    private final CombatEventBus events;
+
+    /**
+     * @param events Bus d'événements du monde (dégâts infligés, morts publiées)
+     */
+    public CombatSystem(CombatEventBus events) {
+        this.events = events;
+    }
+
+    /**
+     * @param target Personnage touché
+     * @return true si ses dégâts sont appliqués par ce système (ennemi de ce monde, avec une santé)
+     */
+    public boolean handles(Character target) {
+        if (!(target instanceof Enemy)) {
+            return false;
+        }
+        int entityId = ((Enemy) target).getEntityId();
+        return entityId >= 0 && healthMapper.has(entityId) && actorMapper.get(entityId).enemy == target;
+    }
+
+    @Override
+    protected void initialize() {
+        events.subscribe(CombatEvent.DAMAGE_DEALT, this);
+    }
+
+    @Override
+    public void onEvent(CombatEvent event) {
+        if (!handles(event.getTarget())) {
+            return;
+        }
+        Enemy enemy = (Enemy) event.getTarget();
+        Health health = healthMapper.get(enemy.getEntityId());
+        boolean wasAlive = health.current > 0;
+        CombatHandler.applyDamage(health, event.getAmount(), enemy.getAnimationHandler());
+        if (wasAlive && health.current <= 0) {
+            events.entityDied(enemy);
+        }
+    }
+
+    @Override
+    protected boolean checkProcessing() {
+        return false;
+    }
+
+    @Override
+    protected void processSystem() {
+    }
+
+    @Override
+    protected void dispose() {
+        events.unsubscribe(this);
+    }
+}
@@ -0,0 +1,99 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.BaseSystem;
+import com.artemis.ComponentMapper;
+import com.artemis.utils.IntBag;
+import com.tlse1.twodgame.ecs.EnemyLifecycle;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.ecs.components.RespawnTimer;
+import com.tlse1.twodgame.ecs.components.Respawnable;
+import com.tlse1.twodgame.ecs.components.ZoneBinding;
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.events.CombatEvent;
+import com.tlse1.twodgame.events.CombatEventBus;
+import com.tlse1.twodgame.events.CombatEventListener;
+
+/**
+ * Retire les ennemis morts : programme leur réapparition s'ils sont Respawnable
+ * et que leur lignée n'a pas atteint son nombre maximal de respawns,
+ * notifie le propriétaire (retrait des listes, retour au pool), puis supprime leur entité.
+ *
+ * Abonné à ENTITY_DIED : seuls les ennemis morts depuis la frame précédente sont visités,
+ * au lieu de tester chaque frame tous les ennemis du monde. Les kills, la victoire et le drop
+ * sont traités par les autres abonnés pendant le drain ; le retrait attend la frame suivante,
+ * quand plus aucun événement en attente ne désigne l'ennemi.
+ */
+public class DeathSystem extends BaseSystem implements CombatEventListener {
+
+    private ComponentMapper<Actor> actorMapper;
+    private ComponentMapper<Health> healthMapper;
+    private ComponentMapper<ZoneBinding> zoneMapper;
+    private ComponentMapper<Respawnable> respawnableMapper;
+    private ComponentMapper<RespawnTimer> timerMapper;
+
+    private final EnemyLifecycle lifecycle;
+    private final CombatEventBus events;
+
+    // Entités des ennemis morts depuis le dernier passage
+    private final IntBag pending = new IntBag();
+
+    /**
+     * @param lifecycle Effets de la mort hors du monde ECS
+     * @param events Bus d'événements du monde (morts des ennemis)
+     */
+    public DeathSystem(EnemyLifecycle lifecycle, CombatEventBus events) {
+        this.lifecycle = lifecycle;
+        this.events = events;
+    }
+
+    @Override
+    protected void initialize() {
+        events.subscribe(CombatEvent.ENTITY_DIED, this);
+    }
+
+    @Override
+    public void onEvent(CombatEvent event) {
+        Character target = event.getTarget();
+        // Désactivé, le système ne retire personne : rien à retenir
+        if (isEnabled() && target instanceof Enemy && ((Enemy) target).getEntityId() >= 0) {
+            pending.add(((Enemy) target).getEntityId());
+        }
+    }
+
+    @Override
+    protected void processSystem() {
+        for (int i = 0; i < pending.size(); i++) {
+            int entityId = pending.get(i);
+            if (actorMapper.has(entityId) && healthMapper.get(entityId).current <= 0) {
+                remove(entityId);
+            }
+        }
+        pending.clear();
+    }
+
+    private void remove(int entityId) {
+        Enemy enemy = actorMapper.get(entityId).enemy;
+
+        Respawnable respawnable = respawnableMapper.has(entityId) ? respawnableMapper.get(entityId) : null;
+        ZoneBinding zone = zoneMapper.has(entityId) ? zoneMapper.get(entityId) : null;
+        if (respawnable != null && zone != null && respawnable.count < respawnable.maxRespawns) {
+            RespawnTimer timer = timerMapper.create(world.create());
+            timer.delay = respawnable.delay;
+            timer.zoneId = zone.zoneId;
+            timer.archetypeId = respawnable.archetypeId;
+            timer.x = zone.spawnX;
+            timer.y = zone.spawnY;
+            timer.count = respawnable.count + 1;
+        }
+
+        lifecycle.enemyKilled(enemy);
+        world.delete(entityId);
+    }
+
+    @Override
+    protected void dispose() {
+        events.unsubscribe(this);
+    }
+}
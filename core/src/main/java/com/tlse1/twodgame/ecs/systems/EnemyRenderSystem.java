@@ -0,0 +1,40 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.artemis.utils.IntBag;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.tlse1.twodgame.ecs.components.Actor;
+
+/**
+ * Dessine les ennemis. Système passif : World.process() ne l'exécute pas,
+ * le rendu l'appelle avec un batch ouvert via render().
+ */
+public class EnemyRenderSystem extends IteratingSystem {
+
+    private ComponentMapper<Actor> actorMapper;
+
+    public EnemyRenderSystem() {
+        super(Aspect.all(Actor.class));
+        setEnabled(false);
+    }
+
+    /**
+     * Dessine les ennemis du monde, tels qu'au dernier World.process().
+     *
+     * @param batch Batch déjà ouvert (begin)
+     */
+    public void render(Batch batch) {
+        IntBag entities = getEntityIds();
+        int[] ids = entities.getData();
+        for (int i = 0, n = entities.size(); i < n; i++) {
+            actorMapper.get(ids[i]).enemy.render(batch);
+        }
+    }
+
+    @Override
+    protected void process(int entityId) {
+        // Rendu uniquement via render(Batch)
+    }
+}
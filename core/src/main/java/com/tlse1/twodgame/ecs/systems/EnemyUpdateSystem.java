@@ -0,0 +1,37 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.ecs.components.AiLod;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+
+/**
+ * Animation des ennemis : leur AnimationHandler applique l'état de la frame (SpriteState écrit par
+ * SteeringSystem, MovementSystem et CombatSystem, attaque demandée comprise) et termine les animations
+ * uniques (attaque, blessure).
+ * Un ennemi avec un AiLod reçoit le temps décidé par AiLodSystem, et n'est pas mis à jour s'il est nul.
+ * À exécuter après MovementSystem.
+ */
+public class EnemyUpdateSystem extends IteratingSystem {
+
+    private ComponentMapper<Actor> actorMapper;
+    private ComponentMapper<AiLod> lodMapper;
+
+    public EnemyUpdateSystem() {
+        super(Aspect.all(Actor.class, SpriteState.class));
+    }
+
+    @Override
+    protected void process(int entityId) {
+        float delta = world.getDelta();
+        if (lodMapper.has(entityId)) {
+            delta = lodMapper.get(entityId).delta;
+            if (delta <= 0f) {
+                return;
+            }
+        }
+        actorMapper.get(entityId).enemy.update(delta);
+    }
+}
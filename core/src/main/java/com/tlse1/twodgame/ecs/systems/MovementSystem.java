@@ -0,0 +1,46 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.ecs.components.Hitbox;
+import com.tlse1.twodgame.ecs.components.Movement;
+import com.tlse1.twodgame.ecs.components.Position;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+
+/**
+ * Applique les déplacements demandés par SteeringSystem (composant Movement) à la Position des ennemis,
+ * avec les collisions de la map de leur MovementHandler, puis place leur Hitbox dans le monde
+ * (centrée sur le sprite rendu).
+ * À exécuter après SteeringSystem et avant les systèmes qui lisent la hitbox (tirs, index spatial).
+ */
+public class MovementSystem extends IteratingSystem {
+
+    private ComponentMapper<Actor> actorMapper;
+    private ComponentMapper<Position> positionMapper;
+    private ComponentMapper<Movement> movementMapper;
+    private ComponentMapper<Hitbox> hitboxMapper;
+    private ComponentMapper<SpriteState> spriteMapper;
+
+    public MovementSystem() {
+        super(Aspect.all(Actor.class, Position.class, Movement.class, Hitbox.class, SpriteState.class));
+    }
+
+    @Override
+    protected void process(int entityId) {
+        Movement movement = movementMapper.get(entityId);
+        if (movement.direction != null) {
+            // Le MovementHandler de l'ennemi résout les collisions et écrit dans la même Position
+            actorMapper.get(entityId).enemy.getMovementHandler()
+                .move(movement.direction, movement.delta, movement.running);
+            movement.direction = null;
+        }
+
+        Position position = positionMapper.get(entityId);
+        SpriteState sprite = spriteMapper.get(entityId);
+        Hitbox hitbox = hitboxMapper.get(entityId);
+        hitbox.x = position.x + (sprite.width - hitbox.width) / 2f;
+        hitbox.y = position.y + (sprite.height - hitbox.height) / 2f;
+    }
+}
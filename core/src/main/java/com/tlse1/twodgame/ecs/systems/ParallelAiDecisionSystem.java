@@ -0,0 +1,192 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.BaseEntitySystem;
+import com.artemis.ComponentMapper;
+import com.artemis.utils.IntBag;
+import com.tlse1.twodgame.ecs.components.AiLod;
+import com.tlse1.twodgame.ecs.components.AiState;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.ecs.components.Position;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+import com.tlse1.twodgame.ecs.components.ZoneBinding;
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Décisions d'IA de tous les ennemis, réparties sur les cœurs via un ForkJoinPool.
+ * Remplace AiDecisionSystem quand les ennemis sont nombreux (voir GameWorld.setParallelAi).
+ *
+ * Trois temps par frame :
+ * - instantané : liste des entités et position de la cible, figées avant le calcul
+ * - calcul parallèle : chaque ennemi produit une intention (AiIntents.compute) à partir de ses composants,
+ *   en ne modifiant que son propre tableau de faits (voir BehaviorTree)
+ * - application : les intentions sont appliquées à l'AiState sur le thread de rendu, dans l'ordre des entités
+ *
+ * Les intentions ne dépendent que de l'instantané : le résultat est le même qu'en séquentiel,
+ * quel que soit le découpage entre threads. Les ennemis DORMANT (voir AiLodSystem) sont sautés.
+ *
+ * Les tâches sont créées une fois et réutilisées (reinitialize) : une par lot de BATCH_SIZE ennemis,
+ * le tableau ne grandissant qu'avec le nombre d'ennemis. Une frame n'alloue rien.
+ */
+public class ParallelAiDecisionSystem extends BaseEntitySystem {
+
+    // Taille d'un lot, traité par un seul thread
+    public static final int BATCH_SIZE = 256;
+
+    private ComponentMapper<AiState> aiMapper;
+    private ComponentMapper<Position> positionMapper;
+    private ComponentMapper<SpriteState> spriteMapper;
+    private ComponentMapper<Health> healthMapper;
+    private ComponentMapper<ZoneBinding> zoneMapper;
+    private ComponentMapper<AiLod> lodMapper;
+
+    private final Character target;
+    private final JsonMapLoader mapLoader;
+    private final ForkJoinPool pool;
+
+    // Instantané de la frame (identifiants d'entités)
+    private int[] snapshot = new int[0];
+    private int[] intents = new int[0];
+    private int count;
+
+    // Tâches réutilisées d'une frame à l'autre
+    private final DecideAll decideAll = new DecideAll();
+    private DecideChunk[] chunks = new DecideChunk[0];
+    private int chunkCount;
+    private boolean targetAlive;
+    private boolean targetReady;
+    private float targetCenterX;
+    private float targetCenterY;
+
+    /**
+     * @param target Cible des ennemis (le joueur)
+     * @param mapLoader La map (zones)
+     */
+    public ParallelAiDecisionSystem(Character target, JsonMapLoader mapLoader) {
+        this(target, mapLoader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param target Cible des ennemis (le joueur)
+     * @param mapLoader La map (zones)
+     * @param pool Pool de threads du calcul des intentions
+     */
+    public ParallelAiDecisionSystem(Character target, JsonMapLoader mapLoader, ForkJoinPool pool) {
+        super(Aspect.all(AiState.class, Position.class, SpriteState.class, Health.class, ZoneBinding.class));
+        this.target = target;
+        this.mapLoader = mapLoader;
+        this.pool = pool;
+    }
+
+    @Override
+    protected void processSystem() {
+        takeSnapshot();
+        if (count == 0) {
+            return;
+        }
+
+        if (count <= BATCH_SIZE) {
+            computeRange(0, count);
+        } else {
+            prepareChunks();
+            decideAll.reinitialize();
+            pool.invoke(decideAll);
+        }
+
+        // Application séquentielle, dans l'ordre des entités
+        for (int i = 0; i < count; i++) {
+            AiIntents.apply(aiMapper.get(snapshot[i]), intents[i]);
+        }
+    }
+
+    private void takeSnapshot() {
+        targetAlive = target != null && target.isAlive();
+        targetReady = targetAlive && target.getWidth() > 0 && target.getHeight() > 0;
+        targetCenterX = targetReady ? target.getX() + target.getWidth() / 2f : 0f;
+        targetCenterY = targetReady ? target.getY() + target.getHeight() / 2f : 0f;
+
+        IntBag entities = getEntityIds();
+        int[] ids = entities.getData();
+        int size = entities.size();
+        if (snapshot.length < size) {
+            snapshot = new int[size];
+            intents = new int[size];
+        }
+        count = 0;
+        for (int i = 0; i < size; i++) {
+            int entityId = ids[i];
+            if (lodMapper.has(entityId) && lodMapper.get(entityId).tier == AiLod.DORMANT) {
+                continue;
+            }
+            snapshot[count++] = entityId;
+        }
+    }
+
+    /**
+     * Découpe l'instantané en lots de BATCH_SIZE, en créant les tâches manquantes.
+     */
+    private void prepareChunks() {
+        chunkCount = (count + BATCH_SIZE - 1) / BATCH_SIZE;
+        if (chunks.length < chunkCount) {
+            DecideChunk[] grown = new DecideChunk[chunkCount];
+            System.arraycopy(chunks, 0, grown, 0, chunks.length);
+            for (int i = chunks.length; i < chunkCount; i++) {
+                grown[i] = new DecideChunk();
+            }
+            chunks = grown;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            DecideChunk chunk = chunks[i];
+            chunk.from = i * BATCH_SIZE;
+            chunk.to = Math.min(count, chunk.from + BATCH_SIZE);
+            chunk.reinitialize();
+        }
+    }
+
+    private void computeRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            int entityId = snapshot[i];
+            intents[i] = AiIntents.compute(aiMapper.get(entityId), positionMapper.get(entityId),
+                spriteMapper.get(entityId), healthMapper.get(entityId), zoneMapper.get(entityId), mapLoader,
+                targetAlive, targetReady, targetCenterX, targetCenterY);
+        }
+    }
+
+    /**
+     * Lance les lots de la frame et attend leur fin. Comme invokeAll, qui demande un tableau
+     * de la taille exacte : les lots 1 à n sont confiés au pool, le premier est calculé sur place.
+     */
+    private final class DecideAll extends RecursiveAction {
+        @Override
+        protected void compute() {
+            for (int i = chunkCount - 1; i > 0; i--) {
+                chunks[i].fork();
+            }
+            chunks[0].compute();
+            for (int i = 1; i < chunkCount; i++) {
+                chunks[i].join();
+            }
+        }
+    }
+
+    /**
+     * Calcule les intentions d'un lot de l'instantané ; n'écrit que dans sa plage d'intents.
+     */
+    private final class DecideChunk extends RecursiveAction {
+        private int from;
+        private int to;
+
+        @Override
+        protected void compute() {
+            computeRange(from, to);
+        }
+    }
+
+    public int getDecisionsLastFrame() {
+        return count;
+    }
+}
@@ -0,0 +1,86 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.tlse1.twodgame.ecs.components.AiState;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.ecs.components.Hitbox;
+import com.tlse1.twodgame.ecs.components.RangedAttack;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.entities.ProjectileEngine;
+import com.tlse1.twodgame.utils.Direction;
+import com.tlse1.twodgame.utils.TimingWheel;
+
+/**
+ * Tirs des ennemis à distance : un ennemi agro dont la cible est entre minRange et range
+ * tire un projectile dans la direction dominante de la cible, puis attend son intervalle
+ * (timer planifié dans la roue du monde : rien n'est décompté par ennemi à chaque frame).
+ * Les projectiles sont déplacés et appliqués par ProjectileEngine.
+ * À exécuter après les systèmes de décision (état d'agro de la frame) et MovementSystem (hitbox placée).
+ */
+public class RangedAttackSystem extends IteratingSystem {
+
+    private ComponentMapper<RangedAttack> rangedMapper;
+    private ComponentMapper<AiState> aiMapper;
+    private ComponentMapper<Health> healthMapper;
+    private ComponentMapper<Hitbox> hitboxMapper;
+    private ComponentMapper<SpriteState> spriteMapper;
+
+    private final ProjectileEngine projectiles;
+    private final Character target;
+    private final TimingWheel timers;
+
+    /**
+     * @param projectiles Moteur qui reçoit les projectiles tirés
+     * @param target Cible des ennemis (le joueur)
+     * @param timers Roue des timers du monde, où sont planifiées les attentes entre deux tirs
+     */
+    public RangedAttackSystem(ProjectileEngine projectiles, Character target, TimingWheel timers) {
+        super(Aspect.all(RangedAttack.class, AiState.class, Health.class, Hitbox.class, SpriteState.class));
+        this.projectiles = projectiles;
+        this.target = target;
+        this.timers = timers;
+    }
+
+    @Override
+    protected boolean checkProcessing() {
+        return target.isAlive();
+    }
+
+    @Override
+    protected void process(int entityId) {
+        RangedAttack ranged = rangedMapper.get(entityId);
+        if (ranged.cooldown.isScheduled()) {
+            return;
+        }
+
+        if (healthMapper.get(entityId).current <= 0 || !aiMapper.get(entityId).aggroed
+                || spriteMapper.get(entityId).width <= 0 || target.getWidth() <= 0) {
+            return;
+        }
+
+        // La hitbox est centrée sur le sprite : son centre est celui de l'ennemi
+        Hitbox hitbox = hitboxMapper.get(entityId);
+        float centerX = hitbox.x + hitbox.width / 2f;
+        float centerY = hitbox.y + hitbox.height / 2f;
+        float dx = target.getX() + target.getWidth() / 2f - centerX;
+        float dy = target.getY() + target.getHeight() / 2f - centerY;
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared > ranged.range * ranged.range || distanceSquared < ranged.minRange * ranged.minRange) {
+            return;
+        }
+
+        Direction direction;
+        if (Math.abs(dx) > Math.abs(dy)) {
+            direction = dx > 0 ? Direction.SIDE : Direction.SIDE_LEFT;
+        } else {
+            direction = dy > 0 ? Direction.UP : Direction.DOWN;
+        }
+        float half = ranged.size / 2f;
+        projectiles.fire(centerX - half, centerY - half, direction, ranged.size, ranged.size,
+            ranged.damagePerSecond, ranged.speed);
+        timers.schedule(ranged.cooldown, ranged.interval);
+    }
+}
@@ -0,0 +1,84 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.BaseEntitySystem;
+import com.artemis.ComponentMapper;
+import com.artemis.utils.Bag;
+import com.tlse1.twodgame.ecs.EnemyLifecycle;
+import com.tlse1.twodgame.ecs.components.RespawnTimer;
+import com.tlse1.twodgame.utils.TimingWheel;
+
+/**
+ * Planifie chaque réapparition en attente dans la roue des timers du monde et recrée l'ennemi
+ * à l'échéance. Les réapparitions ne sont plus décomptées à chaque frame : en attente, elles ne
+ * coûtent rien. Un timer est gardé par identifiant d'entité et réutilisé (artemis recycle les identifiants).
+ */
+public class RespawnSystem extends BaseEntitySystem {
+
+    private ComponentMapper<RespawnTimer> timerMapper;
+
+    private final EnemyLifecycle lifecycle;
+    private final TimingWheel timers;
+    private final Bag<Scheduled> scheduled = new Bag<>();
+
+    /**
+     * Timer d'une réapparition : à l'échéance, recrée l'ennemi et supprime l'entité de la réapparition.
+     */
+    private class Scheduled extends TimingWheel.Timer {
+        private final int entityId;
+
+        Scheduled(int entityId) {
+            this.entityId = entityId;
+        }
+
+        @Override
+        protected void onExpire() {
+            lifecycle.respawn(timerMapper.get(entityId));
+            world.delete(entityId);
+        }
+    }
+
+    /**
+     * @param lifecycle Effets de la réapparition hors du monde ECS
+     * @param timers Roue des timers du monde
+     */
+    public RespawnSystem(EnemyLifecycle lifecycle, TimingWheel timers) {
+        super(Aspect.all(RespawnTimer.class));
+        this.lifecycle = lifecycle;
+        this.timers = timers;
+    }
+
+    @Override
+    protected void inserted(int entityId) {
+        Scheduled timer = scheduled.safeGet(entityId);
+        if (timer == null) {
+            timer = new Scheduled(entityId);
+            scheduled.set(entityId, timer);
+        }
+        timers.schedule(timer, timerMapper.get(entityId).delay);
+    }
+
+    @Override
+    protected void removed(int entityId) {
+        Scheduled timer = scheduled.safeGet(entityId);
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    @Override
+    protected void processSystem() {
+        // Tout se passe à l'échéance des timers, pendant l'avancée de la roue
+    }
+
+    @Override
+    protected void dispose() {
+        // Le monde est abandonné : ses réapparitions ne doivent pas se déclencher dans le suivant
+        for (int i = 0; i < scheduled.size(); i++) {
+            Scheduled timer = scheduled.get(i);
+            if (timer != null) {
+                timer.cancel();
+            }
+        }
+    }
+}
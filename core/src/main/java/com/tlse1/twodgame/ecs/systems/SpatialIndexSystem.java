@@ -0,0 +1,32 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.ecs.components.Hitbox;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.utils.SpatialHashGrid;
+
+/**
+ * Reporte dans la grille spatiale la hitbox des ennemis après leur déplacement (placée par MovementSystem).
+ * L'insertion et le retrait restent à la charge du propriétaire de la grille.
+ */
+public class SpatialIndexSystem extends IteratingSystem {
+
+    private ComponentMapper<Actor> actorMapper;
+    private ComponentMapper<Hitbox> hitboxMapper;
+
+    private final SpatialHashGrid<Enemy> grid;
+
+    public SpatialIndexSystem(SpatialHashGrid<Enemy> grid) {
+        super(Aspect.all(Actor.class, Hitbox.class));
+        this.grid = grid;
+    }
+
+    @Override
+    protected void process(int entityId) {
+        Hitbox hitbox = hitboxMapper.get(entityId);
+        grid.update(actorMapper.get(entityId).enemy, hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+    }
+}
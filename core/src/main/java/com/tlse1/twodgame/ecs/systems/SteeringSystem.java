@@ -0,0 +1,229 @@
+package com.tlse1.twodgame.ecs.systems;
+
+import com.artemis.Aspect;
+import com.artemis.ComponentMapper;
+import com.artemis.systems.IteratingSystem;
+import com.tlse1.twodgame.ai.BehaviorTree;
+import com.tlse1.twodgame.ecs.components.Actor;
+import com.tlse1.twodgame.ecs.components.AiLod;
+import com.tlse1.twodgame.ecs.components.AiState;
+import com.tlse1.twodgame.ecs.components.Health;
+import com.tlse1.twodgame.ecs.components.Hitbox;
+import com.tlse1.twodgame.ecs.components.Movement;
+import com.tlse1.twodgame.ecs.components.Position;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+import com.tlse1.twodgame.ecs.components.ZoneBinding;
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.utils.Direction;
+import com.tlse1.twodgame.utils.TimingWheel;
+
+/**
+ * Partie peu coûteuse de l'IA, exécutée à chaque mise à jour : applique le mode décidé (AiState.mode)
+ * par AiDecisionSystem ou ParallelAiDecisionSystem.
+ * - repos : idle vers le bas
+ * - retour au spawn : course vers le point d'apparition (ZoneBinding), arrêt à moins de 5 pixels
+ * - poursuite : course vers la cible, puis attaque au contact des hitboxes quand le cooldown
+ *   (planifié dans la roue des timers du monde) a expiré
+ *
+ * Les déplacements sont demandés à MovementSystem (composant Movement) ; direction, mouvement
+ * et attaque sont écrits dans le SpriteState, appliqués à l'animation par EnemyUpdateSystem.
+ * Un ennemi avec un AiLod reçoit le temps décidé par AiLodSystem, et n'est pas mis à jour s'il est nul.
+ * À exécuter après les systèmes de décision et avant MovementSystem.
+ */
+public class SteeringSystem extends IteratingSystem {
+
+    // Les hitboxes peuvent se chevaucher d'un pixel dans toutes les directions pour que les ennemis attaquent
+    private static final float TOUCH_TOLERANCE = 1f;
+    // Distance au spawn en dessous de laquelle l'ennemi y est revenu
+    private static final float SPAWN_REACHED = 5f;
+    // Vitesse de course (par rapport à la vitesse de marche)
+    private static final float RUN_FACTOR = 1.5f;
+
+    private ComponentMapper<Actor> actorMapper;
+    private ComponentMapper<AiState> aiMapper;
+    private ComponentMapper<Position> positionMapper;
+    private ComponentMapper<SpriteState> spriteMapper;
+    private ComponentMapper<Hitbox> hitboxMapper;
+    private ComponentMapper<ZoneBinding> zoneMapper;
+    private ComponentMapper<Movement> movementMapper;
+    private ComponentMapper<Health> healthMapper;
+    private ComponentMapper<AiLod> lodMapper;
+
+    private final Character target;
+    private final TimingWheel timers;
+
+    /**
+     * @param target Cible des ennemis (le joueur)
+     * @param timers Roue des timers du monde, où sont planifiés les cooldowns d'attaque
+     */
+    public SteeringSystem(Character target, TimingWheel timers) {
+        super(Aspect.all(Actor.class, AiState.class, Position.class, SpriteState.class, Hitbox.class,
+            ZoneBinding.class, Movement.class, Health.class));
+        this.target = target;
+        this.timers = timers;
+    }
+
+    @Override
+    protected boolean checkProcessing() {
+        return target.isAlive();
+    }
+
+    @Override
+    protected void process(int entityId) {
+        float delta = world.getDelta();
+        if (lodMapper.has(entityId)) {
+            delta = lodMapper.get(entityId).delta;
+            if (delta <= 0f) {
+                return;
+            }
+        }
+
+        SpriteState sprite = spriteMapper.get(entityId);
+        if (sprite.dead || healthMapper.get(entityId).current <= 0) {
+            return;
+        }
+
+        // Si l'ennemi ou le joueur n'ont pas encore de dimensions, attendre
+        if (sprite.width <= 0 || sprite.height <= 0 || target.getWidth() <= 0 || target.getHeight() <= 0) {
+            stand(sprite, Direction.DOWN);
+            return;
+        }
+
+        AiState ai = aiMapper.get(entityId);
+        if (ai.mode == BehaviorTree.MODE_RETURN) {
+            returnToSpawn(entityId, ai, sprite, delta);
+        } else if (ai.mode == BehaviorTree.MODE_CHASE) {
+            chase(entityId, ai, sprite, delta);
+        } else {
+            stand(sprite, Direction.DOWN);
+        }
+    }
+
+    /**
+     * Poursuit la cible et l'attaque dès que les hitboxes se touchent (tous les ennemis attaquent au corps à corps).
+     */
+    private void chase(int entityId, AiState ai, SpriteState sprite, float delta) {
+        Position position = positionMapper.get(entityId);
+        Hitbox hitbox = hitboxMapper.get(entityId);
+
+        // Distance centre à centre ; la hitbox de chacun est centrée sur son sprite
+        float enemyCenterX = position.x + sprite.width / 2f;
+        float enemyCenterY = position.y + sprite.height / 2f;
+        float targetCenterX = target.getX() + target.getWidth() / 2f;
+        float targetCenterY = target.getY() + target.getHeight() / 2f;
+        Direction directionToTarget = directionTo(targetCenterX - enemyCenterX, targetCenterY - enemyCenterY,
+            ai.mirrorSides);
+
+        float enemyHitboxX = enemyCenterX - hitbox.width / 2f;
+        float enemyHitboxY = enemyCenterY - hitbox.height / 2f;
+        float targetHitboxWidth = target.getHitboxWidth();
+        float targetHitboxHeight = target.getHitboxHeight();
+        float targetHitboxX = targetCenterX - targetHitboxWidth / 2f;
+        float targetHitboxY = targetCenterY - targetHitboxHeight / 2f;
+
+        boolean touching = enemyHitboxX < targetHitboxX + targetHitboxWidth + TOUCH_TOLERANCE
+            && enemyHitboxX + hitbox.width + TOUCH_TOLERANCE > targetHitboxX
+            && enemyHitboxY < targetHitboxY + targetHitboxHeight + TOUCH_TOLERANCE
+            && enemyHitboxY + hitbox.height + TOUCH_TOLERANCE > targetHitboxY;
+
+        if (touching && !ai.attackCooldown.isScheduled()) {
+            // Se tourner vers la cible, attaquer, puis attendre le cooldown
+            stand(sprite, directionToTarget);
+            sprite.attackRequested = true;
+            timers.schedule(ai.attackCooldown, ai.attackCooldownTime);
+            if (target instanceof Player) {
+                actorMapper.get(entityId).enemy.dealDamage(target, ai.attackDamage);
+            }
+            return;
+        }
+        if (touching) {
+            // En cooldown : s'arrêter et regarder la cible
+            stand(sprite, directionToTarget);
+            return;
+        }
+
+        // Position après un pas de course vers la cible
+        Movement movement = movementMapper.get(entityId);
+        float moveDistance = movement.speed * RUN_FACTOR * delta;
+        float newHitboxX = enemyHitboxX;
+        float newHitboxY = enemyHitboxY;
+        switch (directionToTarget) {
+            case UP:
+                newHitboxY += moveDistance;
+                break;
+            case DOWN:
+                newHitboxY -= moveDistance;
+                break;
+            case SIDE:
+                newHitboxX += moveDistance;
+                break;
+            case SIDE_LEFT:
+                newHitboxX -= moveDistance;
+                break;
+        }
+
+        // Le pas causerait une collision avec la cible (sans tolérance) : s'arrêter et la regarder
+        boolean wouldCollide = newHitboxX < targetHitboxX + targetHitboxWidth
+            && newHitboxX + hitbox.width > targetHitboxX
+            && newHitboxY < targetHitboxY + targetHitboxHeight
+            && newHitboxY + hitbox.height > targetHitboxY;
+        if (wouldCollide) {
+            stand(sprite, directionToTarget);
+        } else {
+            requestMove(movement, directionToTarget, delta);
+            sprite.running = true;
+        }
+    }
+
+    /**
+     * Retourne en courant au point d'apparition (joueur sorti de la zone de l'ennemi).
+     */
+    private void returnToSpawn(int entityId, AiState ai, SpriteState sprite, float delta) {
+        Position position = positionMapper.get(entityId);
+        ZoneBinding zone = zoneMapper.get(entityId);
+        float dx = zone.spawnX - position.x;
+        float dy = zone.spawnY - position.y;
+
+        if (dx * dx + dy * dy < SPAWN_REACHED * SPAWN_REACHED) {
+            position.x = zone.spawnX;
+            position.y = zone.spawnY;
+            stand(sprite, Direction.DOWN);
+            return;
+        }
+
+        Direction direction = directionTo(dx, dy, ai.mirrorSides);
+        requestMove(movementMapper.get(entityId), direction, delta);
+        sprite.direction = direction;
+        sprite.moving = true;
+        sprite.running = true;
+    }
+
+    private static void stand(SpriteState sprite, Direction direction) {
+        sprite.direction = direction;
+        sprite.moving = false;
+        sprite.running = false;
+    }
+
+    private static void requestMove(Movement movement, Direction direction, float delta) {
+        movement.direction = direction;
+        movement.running = true;
+        movement.delta = delta;
+    }
+
+    /**
+     * Direction dominante vers un point. Les planches des ennemis ont souvent SIDE et SIDE_LEFT inversés
+     * (voir EnemyArchetype.isMirrorSides).
+     *
+     * @param dx Différence X (point - ennemi)
+     * @param dy Différence Y (point - ennemi)
+     * @param mirrorSides SIDE et SIDE_LEFT inversés
+     * @return Direction vers le point
+     */
+    private static Direction directionTo(float dx, float dy, boolean mirrorSides) {
+        if (Math.abs(dx) > Math.abs(dy)) {
+            return (dx > 0) != mirrorSides ? Direction.SIDE : Direction.SIDE_LEFT;
+        }
+        return dy > 0 ? Direction.UP : Direction.DOWN;
+    }
+}
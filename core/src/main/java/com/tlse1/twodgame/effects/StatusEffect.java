@@ -0,0 +1,41 @@
+package com.tlse1.twodgame.effects;
+
+/**
+ * Types d'effets temporaires appliqués aux personnages par le StatusEffectEngine.
+ *
+ * Chaque type fixe son nombre maximal de cumuls : au-delà, le cumul qui expire le premier est
+ * remplacé par le nouvel effet. Un effet périodique (tickInterval > 0) inflige sa magnitude
+ * en dégâts à chaque intervalle.
+ */
+public enum StatusEffect {
+    // Bonus de dégâts des attaques (magnitude = dégâts ajoutés), remplacé et non cumulé
+    DAMAGE_BOOST(1, 0f),
+    // Bonus de vitesse (magnitude = pixels/seconde ajoutés), remplacé et non cumulé
+    SPEED_BOOST(1, 0f),
+    // Ralentissement (magnitude = part de la vitesse retirée, entre 0 et 1), jusqu'à 3 cumuls
+    SLOW(3, 0f),
+    // Poison (magnitude = dégâts par seconde), jusqu'à 5 cumuls
+    POISON(5, 1f);
+
+    private final int maxStacks;
+    private final float tickInterval;
+
+    StatusEffect(int maxStacks, float tickInterval) {
+        this.maxStacks = maxStacks;
+        this.tickInterval = tickInterval;
+    }
+
+    /**
+     * @return Le nombre maximal d'effets de ce type actifs en même temps sur un personnage
+     */
+    public int getMaxStacks() {
+        return maxStacks;
+    }
+
+    /**
+     * @return L'intervalle entre deux dégâts en secondes (0 = pas de dégâts périodiques)
+     */
+    public float getTickInterval() {
+        return tickInterval;
+    }
+}
@@ -0,0 +1,357 @@
+package com.tlse1.twodgame.effects;
+
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.events.CombatEventBus;
+
+import java.util.Arrays;
+
+/**
+ * Moteur d'effets temporaires (bonus, malus, ralentissements, dégâts sur la durée) partagé par
+ * tous les personnages d'un monde.
+ *
+ * Les effets sont stockés dans des tableaux parallèles ; ceux d'un même personnage sont chaînés
+ * à partir de ses StatusModifiers. Chaque effet a une seule entrée dans un tas binaire trié sur sa
+ * prochaine échéance (prochain dégât ou expiration) : update() ne traite que les effets échus,
+ * quel que soit le nombre de personnages porteurs d'effets. Les cases libérées sont réutilisées ;
+ * une fois les tableaux dimensionnés, appliquer ou faire expirer un effet n'alloue rien.
+ *
+ * Les dégâts périodiques passent par le bus d'événements de la cible s'il y en a un.
+ */
+public class StatusEffectEngine {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final StatusEffect[] TYPES = StatusEffect.values();
+    // Vitesse minimale conservée sous l'effet de ralentissements cumulés
+    private static final float MIN_SPEED_FACTOR = 0.1f;
+
+    // Effets : porteur, auteur, type, magnitude, expiration, prochain dégât, effet suivant du porteur
+    private Character[] owner;
+    private Object[] source;
+    private int[] type;
+    private float[] magnitude;
+    private double[] expiresAt;
+    private double[] nextTick;
+    private int[] nextOfOwner;
+    // Position de chaque effet dans le tas (-1 = case libre)
+    private int[] heapIndex;
+
+    // Tas binaire des effets actifs, trié sur min(nextTick, expiresAt)
+    private int[] heap;
+    private int heapSize;
+
+    // Cases libres, chaînées par nextOfOwner
+    private int freeHead = -1;
+    private int used;
+
+    private double now;
+    private long ticksApplied;
+
+    public StatusEffectEngine() {
+        owner = new Character[INITIAL_CAPACITY];
+        source = new Object[INITIAL_CAPACITY];
+        type = new int[INITIAL_CAPACITY];
+        magnitude = new float[INITIAL_CAPACITY];
+        expiresAt = new double[INITIAL_CAPACITY];
+        nextTick = new double[INITIAL_CAPACITY];
+        nextOfOwner = new int[INITIAL_CAPACITY];
+        heapIndex = new int[INITIAL_CAPACITY];
+        heap = new int[INITIAL_CAPACITY];
+        freeSlots(0);
+    }
+
+    /**
+     * Applique un effet à un personnage. Si le personnage a déjà le nombre maximal de cumuls de ce type,
+     * celui qui expire le premier est remplacé (magnitude, auteur et durée du nouvel effet).
+     *
+     * @param target Personnage
+     * @param effectSource Auteur de l'effet (reporté dans les événements de dégâts), ou null
+     * @param effect Type d'effet
+     * @param amount Magnitude (voir StatusEffect)
+     * @param duration Durée en secondes
+     */
+    public void apply(Character target, Object effectSource, StatusEffect effect, float amount, float duration) {
+        StatusModifiers modifiers = target.getStatusModifiers();
+        int effectType = effect.ordinal();
+
+        int stacks = 0;
+        int oldest = -1;
+        for (int slot = modifiers.firstEffect; slot >= 0; slot = nextOfOwner[slot]) {
+            if (type[slot] == effectType) {
+                stacks++;
+                if (oldest < 0 || expiresAt[slot] < expiresAt[oldest]) {
+                    oldest = slot;
+                }
+            }
+        }
+
+        int slot;
+        if (stacks >= effect.getMaxStacks() && oldest >= 0) {
+            slot = oldest;
+        } else {
+            slot = obtainSlot();
+            owner[slot] = target;
+            type[slot] = effectType;
+            nextOfOwner[slot] = modifiers.firstEffect;
+            modifiers.firstEffect = slot;
+            modifiers.effectCount++;
+            heapIndex[slot] = heapSize;
+            heap[heapSize++] = slot;
+        }
+        source[slot] = effectSource;
+        magnitude[slot] = amount;
+        expiresAt[slot] = now + duration;
+        float interval = effect.getTickInterval();
+        nextTick[slot] = interval > 0f ? now + interval : Double.POSITIVE_INFINITY;
+        // La nouvelle échéance peut être plus proche ou plus lointaine que l'ancienne
+        siftUp(heapIndex[slot]);
+        siftDown(heapIndex[slot]);
+
+        refresh(target);
+    }
+
+    /**
+     * Fait avancer le temps et traite les effets échus : dégâts périodiques, puis expirations.
+     * Les effets d'un personnage mort sont retirés.
+     *
+     * @param deltaTime Temps écoulé depuis la dernière frame
+     */
+    public void update(float deltaTime) {
+        now += deltaTime;
+        while (heapSize > 0) {
+            int slot = heap[0];
+            if (due(slot) > now) {
+                break;
+            }
+
+            Character target = owner[slot];
+            if (!target.isAlive() || nextTick[slot] > expiresAt[slot]) {
+                remove(slot);
+                refresh(target);
+                continue;
+            }
+
+            // Dégât périodique, le dernier tombant au plus tard à l'expiration
+            nextTick[slot] += TYPES[type[slot]].getTickInterval();
+            siftDown(0);
+            ticksApplied++;
+            CombatEventBus.dealDamage(target.getEventBus(), source[slot], target, (int) magnitude[slot]);
+        }
+    }
+
+    /**
+     * Retire tous les effets d'un personnage (mort, retour au pool, changement de moteur).
+     *
+     * @param target Personnage
+     */
+    public void removeAll(Character target) {
+        StatusModifiers modifiers = target.getStatusModifiers();
+        if (modifiers.firstEffect < 0) {
+            return;
+        }
+        while (modifiers.firstEffect >= 0) {
+            remove(modifiers.firstEffect);
+        }
+        refresh(target);
+    }
+
+    /**
+     * Retire tous les effets de tous les personnages (nouvelle partie).
+     */
+    public void clear() {
+        while (heapSize > 0) {
+            Character target = owner[heap[0]];
+            removeAll(target);
+        }
+    }
+
+    /**
+     * @param target Personnage
+     * @param effect Type d'effet
+     * @return Le temps restant du cumul de ce type qui expire le plus tard, en secondes (0 si aucun)
+     */
+    public float getRemaining(Character target, StatusEffect effect) {
+        int effectType = effect.ordinal();
+        double latest = now;
+        for (int slot = target.getStatusModifiers().firstEffect; slot >= 0; slot = nextOfOwner[slot]) {
+            if (type[slot] == effectType && expiresAt[slot] > latest) {
+                latest = expiresAt[slot];
+            }
+        }
+        return (float) (latest - now);
+    }
+
+    /**
+     * @param target Personnage
+     * @param effect Type d'effet
+     * @return Le nombre de cumuls actifs de ce type
+     */
+    public int getStacks(Character target, StatusEffect effect) {
+        int effectType = effect.ordinal();
+        int stacks = 0;
+        for (int slot = target.getStatusModifiers().firstEffect; slot >= 0; slot = nextOfOwner[slot]) {
+            if (type[slot] == effectType) {
+                stacks++;
+            }
+        }
+        return stacks;
+    }
+
+    /**
+     * Recalcule les modificateurs d'un personnage à partir de ses effets et les lui fait appliquer.
+     */
+    private void refresh(Character target) {
+        StatusModifiers modifiers = target.getStatusModifiers();
+        int damageBonus = 0;
+        float speedBonus = 0f;
+        float speedFactor = 1f;
+        for (int slot = modifiers.firstEffect; slot >= 0; slot = nextOfOwner[slot]) {
+            switch (TYPES[type[slot]]) {
+                case DAMAGE_BOOST:
+                    damageBonus += (int) magnitude[slot];
+                    break;
+                case SPEED_BOOST:
+                    speedBonus += magnitude[slot];
+                    break;
+                case SLOW:
+                    speedFactor *= 1f - magnitude[slot];
+                    break;
+                default:
+                    break;
+            }
+        }
+        modifiers.damageBonus = damageBonus;
+        modifiers.speedBonus = speedBonus;
+        modifiers.speedFactor = Math.max(MIN_SPEED_FACTOR, speedFactor);
+        target.applyStatusModifiers();
+    }
+
+    /**
+     * Retire un effet du tas et de la liste de son porteur, et libère sa case.
+     */
+    private void remove(int slot) {
+        StatusModifiers modifiers = owner[slot].getStatusModifiers();
+        if (modifiers.firstEffect == slot) {
+            modifiers.firstEffect = nextOfOwner[slot];
+        } else {
+            int previous = modifiers.firstEffect;
+            while (nextOfOwner[previous] != slot) {
+                previous = nextOfOwner[previous];
+            }
+            nextOfOwner[previous] = nextOfOwner[slot];
+        }
+        modifiers.effectCount--;
+
+        int index = heapIndex[slot];
+        int last = heap[--heapSize];
+        if (last != slot) {
+            heap[index] = last;
+            heapIndex[last] = index;
+            siftUp(index);
+            siftDown(heapIndex[last]);
+        }
+
+        owner[slot] = null;
+        source[slot] = null;
+        heapIndex[slot] = -1;
+        nextOfOwner[slot] = freeHead;
+        freeHead = slot;
+        used--;
+    }
+
+    private int obtainSlot() {
+        if (freeHead < 0) {
+            grow();
+        }
+        int slot = freeHead;
+        freeHead = nextOfOwner[slot];
+        used++;
+        return slot;
+    }
+
+    /**
+     * Double la capacité des tableaux.
+     */
+    private void grow() {
+        int previous = owner.length;
+        int capacity = previous * 2;
+        owner = Arrays.copyOf(owner, capacity);
+        source = Arrays.copyOf(source, capacity);
+        type = Arrays.copyOf(type, capacity);
+        magnitude = Arrays.copyOf(magnitude, capacity);
+        expiresAt = Arrays.copyOf(expiresAt, capacity);
+        nextTick = Arrays.copyOf(nextTick, capacity);
+        nextOfOwner = Arrays.copyOf(nextOfOwner, capacity);
+        heapIndex = Arrays.copyOf(heapIndex, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        freeSlots(previous);
+    }
+
+    /**
+     * Ajoute les cases à partir de first à la liste des cases libres.
+     */
+    private void freeSlots(int first) {
+        for (int slot = owner.length - 1; slot >= first; slot--) {
+            heapIndex[slot] = -1;
+            nextOfOwner[slot] = freeHead;
+            freeHead = slot;
+        }
+    }
+
+    private double due(int slot) {
+        return Math.min(nextTick[slot], expiresAt[slot]);
+    }
+
+    private void siftUp(int index) {
+        int slot = heap[index];
+        double key = due(slot);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            int parentSlot = heap[parent];
+            if (due(parentSlot) <= key) {
+                break;
+            }
+            heap[index] = parentSlot;
+            heapIndex[parentSlot] = index;
+            index = parent;
+        }
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+
+    private void siftDown(int index) {
+        int slot = heap[index];
+        double key = due(slot);
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int childSlot = heap[child];
+            int right = child + 1;
+            if (right < heapSize && due(heap[right]) < due(childSlot)) {
+                child = right;
+                childSlot = heap[child];
+            }
+            if (key <= due(childSlot)) {
+                break;
+            }
+            heap[index] = childSlot;
+            heapIndex[childSlot] = index;
+            index = child;
+        }
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+
+    /**
+     * @return Le nombre d'effets actifs, tous personnages confondus
+     */
+    public int getActiveCount() {
+        return used;
+    }
+
+    /**
+     * @return Le nombre de dégâts périodiques infligés depuis la création
+     */
+    public long getTicksApplied() {
+        return ticksApplied;
+    }
+}
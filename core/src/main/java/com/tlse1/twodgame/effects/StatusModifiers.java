@@ -0,0 +1,53 @@
+package com.tlse1.twodgame.effects;
+
+/**
+ * Effets actifs d'un personnage, sous forme compacte : tête de sa liste d'effets dans le
+ * StatusEffectEngine et modificateurs cumulés, recalculés à chaque application ou expiration.
+ * Le personnage les lit sans parcourir ses effets.
+ */
+public final class StatusModifiers {
+
+    // Premier effet du personnage dans le moteur (-1 = aucun) et nombre d'effets actifs
+    int firstEffect = -1;
+    int effectCount;
+
+    int damageBonus;
+    float speedBonus;
+    float speedFactor = 1f;
+
+    void clear() {
+        firstEffect = -1;
+        effectCount = 0;
+        damageBonus = 0;
+        speedBonus = 0f;
+        speedFactor = 1f;
+    }
+
+    /**
+     * @return Le nombre d'effets actifs
+     */
+    public int getEffectCount() {
+        return effectCount;
+    }
+
+    /**
+     * @return Les dégâts ajoutés aux attaques (DAMAGE_BOOST)
+     */
+    public int getDamageBonus() {
+        return damageBonus;
+    }
+
+    /**
+     * @return La vitesse ajoutée à la vitesse de base (SPEED_BOOST)
+     */
+    public float getSpeedBonus() {
+        return speedBonus;
+    }
+
+    /**
+     * @return Le facteur appliqué à la vitesse après le bonus (SLOW : 1 = aucun ralentissement)
+     */
+    public float getSpeedFactor() {
+        return speedFactor;
+    }
+}
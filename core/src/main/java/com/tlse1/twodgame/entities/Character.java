@@ -1,10 +1,14 @@
 package com.tlse1.twodgame.entities;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.tlse1.twodgame.effects.StatusEffectEngine;
+import com.tlse1.twodgame.effects.StatusModifiers;
 import com.tlse1.twodgame.entities.handlers.AnimationHandler;
 import com.tlse1.twodgame.entities.handlers.CombatHandler;
 import com.tlse1.twodgame.entities.handlers.MovementHandler;
+import com.tlse1.twodgame.events.CombatEventBus;
 import com.tlse1.twodgame.utils.Direction;
+import com.tlse1.twodgame.utils.TimingWheel;
 
 /**
  * Classe de base abstraite pour tous les personnages du jeu.
@@ -18,9 +22,19 @@ public abstract class Character {
     protected CombatHandler combatHandler;
     protected MovementHandler movementHandler;
     
-    // Dimensions (mises à jour par le rendu)
-    private float width;
-    private float height;
+    // Bus d'événements de combat du monde (null = dégâts appliqués immédiatement, aucune notification)
+    protected CombatEventBus events;
+    
+    // Roue des timers du personnage (cooldowns, boosts) : celle du monde, ou une roue propre
+    // créée à la demande et avancée par le personnage lui-même (hors d'un GameWorld)
+    private TimingWheel timers;
+    private boolean ownsTimers = true;
+    
+    // Effets temporaires (boosts, ralentissements, poison) : modificateurs cumulés du personnage,
+    // et moteur qui les gère (celui du monde, ou un moteur propre créé à la demande comme la roue)
+    private final StatusModifiers statusModifiers = new StatusModifiers();
+    private StatusEffectEngine statusEffects;
+    private boolean ownsStatusEffects = true;
     
     // Hitbox fixe pour les collisions et les dégâts (indépendante des sprites visuels)
     // Par défaut, utilise les dimensions visuelles, mais peut être surchargée dans les sous-classes
@@ -68,12 +82,10 @@ public abstract class Character {
     /**
      * Dessine le personnage.
      * 
-     * @param batch SpriteBatch pour le rendu
+     * @param batch Batch pour le rendu
      */
-    public void render(SpriteBatch batch) {
-        float[] dimensions = animationHandler.render(batch, movementHandler.getX(), movementHandler.getY());
-        width = dimensions[0];
-        height = dimensions[1];
+    public void render(Batch batch) {
+        animationHandler.render(batch, movementHandler.getX(), movementHandler.getY());
     }
     
     /**
@@ -104,22 +116,22 @@ public abstract class Character {
         movementHandler.setY(y);
     }
     
-    // Dimensions
+    // Dimensions (celles du dernier rendu, retenues par l'AnimationHandler)
     public float getWidth() {
-        return width;
+        return animationHandler.getSpriteState().width;
     }
     
     public float getHeight() {
-        return height;
+        return animationHandler.getSpriteState().height;
     }
     
     // Hitbox (retourne la hitbox fixe si définie, sinon les dimensions visuelles)
     public float getHitboxWidth() {
-        return hitboxWidth > 0 ? hitboxWidth : width;
+        return hitboxWidth > 0 ? hitboxWidth : getWidth();
     }
     
     public float getHitboxHeight() {
-        return hitboxHeight > 0 ? hitboxHeight : height;
+        return hitboxHeight > 0 ? hitboxHeight : getHeight();
     }
     
     public void setHitboxWidth(float hitboxWidth) {
@@ -136,7 +148,7 @@ public abstract class Character {
      * @return Position X du coin bas-gauche de la hitbox
      */
     public float getHitboxX() {
-        float spriteCenterX = getX() + width / 2f;
+        float spriteCenterX = getX() + getWidth() / 2f;
         return spriteCenterX - getHitboxWidth() / 2f;
     }
     
@@ -146,7 +158,7 @@ public abstract class Character {
      * @return Position Y du coin bas-gauche de la hitbox
      */
     public float getHitboxY() {
-        float spriteCenterY = getY() + height / 2f;
+        float spriteCenterY = getY() + getHeight() / 2f;
         return spriteCenterY - getHitboxHeight() / 2f;
     }
     
@@ -185,8 +197,124 @@ public abstract class Character {
         return animationHandler.isAttacking();
     }
     
+    /**
+     * Applique des dégâts. Publie ENTITY_DIED sur le bus si le personnage meurt de ce coup.
+     * 
+     * @param damage Dégâts
+     */
     public void takeDamage(int damage) {
+        boolean wasAlive = combatHandler.isAlive();
         combatHandler.takeDamage(damage);
+        if (events != null && wasAlive && !combatHandler.isAlive()) {
+            events.entityDied(this);
+        }
+    }
+    
+    /**
+     * Inflige des dégâts à un autre personnage : via le bus (appliqués au prochain drain), ou directement sans bus.
+     * 
+     * @param target Personnage touché
+     * @param damage Dégâts
+     */
+    public void dealDamage(Character target, int damage) {
+        CombatEventBus.dealDamage(events, this, target, damage);
+    }
+    
+    /**
+     * Roue des timers du personnage. Sans roue partagée, une roue propre est créée au premier appel.
+     */
+    protected TimingWheel getTimingWheel() {
+        if (timers == null) {
+            timers = new TimingWheel();
+            ownsTimers = true;
+        }
+        return timers;
+    }
+    
+    /**
+     * Fait avancer la roue et le moteur d'effets propres du personnage ; sans effet sur ceux du monde,
+     * avancés par leur propriétaire.
+     * 
+     * @param deltaTime Temps écoulé depuis la dernière mise à jour
+     */
+    protected void advanceOwnTimers(float deltaTime) {
+        if (ownsTimers && timers != null) {
+            timers.advance(deltaTime);
+        }
+        if (ownsStatusEffects && statusEffects != null) {
+            statusEffects.update(deltaTime);
+        }
+    }
+    
+    /**
+     * Moteur des effets temporaires du personnage. Sans moteur partagé, un moteur propre est créé au premier appel.
+     */
+    public StatusEffectEngine getStatusEffects() {
+        if (statusEffects == null) {
+            statusEffects = new StatusEffectEngine();
+            ownsStatusEffects = true;
+        }
+        return statusEffects;
+    }
+    
+    /**
+     * Partage le moteur d'effets du monde (GameWorld le fait avancer une fois par frame).
+     * Les effets en cours dans l'ancien moteur sont retirés.
+     * 
+     * @param shared Le moteur du monde, ou null pour revenir à un moteur propre
+     */
+    public void setStatusEffectEngine(StatusEffectEngine shared) {
+        if (statusEffects != null && statusEffects != shared) {
+            statusEffects.removeAll(this);
+        }
+        statusEffects = shared;
+        ownsStatusEffects = shared == null;
+    }
+    
+    /**
+     * Modificateurs cumulés des effets actifs (bonus de dégâts, de vitesse, ralentissement).
+     */
+    public StatusModifiers getStatusModifiers() {
+        return statusModifiers;
+    }
+    
+    /**
+     * Applique les modificateurs des effets : vitesse = (vitesse de base + bonus) x ralentissement.
+     * Appelé par le moteur d'effets à chaque changement.
+     */
+    public void applyStatusModifiers() {
+        movementHandler.setSpeed((getBaseSpeed() + statusModifiers.getSpeedBonus()) * statusModifiers.getSpeedFactor());
+    }
+    
+    /**
+     * @return La vitesse du personnage hors effets temporaires
+     */
+    protected abstract float getBaseSpeed();
+    
+    /**
+     * Partage la roue des timers du monde (GameWorld l'avance une fois par frame).
+     * Les sous-classes y déplacent leurs timers en cours.
+     * 
+     * @param shared La roue du monde, ou null pour revenir à une roue propre
+     */
+    public void setTimingWheel(TimingWheel shared) {
+        if (shared == null) {
+            if (!ownsTimers) {
+                timers = null;
+                ownsTimers = true;
+            }
+            return;
+        }
+        timers = shared;
+        ownsTimers = false;
+    }
+    
+    public CombatEventBus getEventBus() {
+        return events;
+    }
+    
+    public void setEventBus(CombatEventBus events) {
+        this.events = events;
     }
     
     public int getHealth() {
@@ -1,14 +1,16 @@
 package com.tlse1.twodgame.entities;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
 import com.tlse1.twodgame.utils.ActionPanelMapping;
 
 /**
  * Classe représentant un collectible droppé par un ennemi mort.
  * Peut être ramassé par le joueur avec la touche T.
+ * Réutilisable via un pool : set() le replace, reset() l'efface une fois ramassé.
  */
-public class Collectible {
+public class Collectible implements Pool.Poolable {
     
     private float x;
     private float y;
@@ -19,7 +21,7 @@ public class Collectible {
     private boolean collected;
     
     // Distance de pickup (en pixels)
-    private static final float PICKUP_RANGE = 20f;
+    public static final float PICKUP_RANGE = 20f;
     
     /**
      * Constructeur.
@@ -42,6 +44,31 @@ public class Collectible {
         this.height = 6f;
     }
     
+    /**
+     * Replace un collectible sorti du pool.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     * @param itemType Type d'item
+     */
+    public void set(float x, float y, Inventory.ItemType itemType) {
+        this.x = x;
+        this.y = y;
+        this.itemType = itemType;
+        this.collected = false;
+    }
+    
+    /**
+     * Efface le collectible avant son retour au pool (les sprites sont conservés).
+     */
+    @Override
+    public void reset() {
+        this.x = 0f;
+        this.y = 0f;
+        this.itemType = null;
+        this.collected = false;
+    }
+    
     /**
      * Récupère le sprite correspondant au type d'item.
      */
@@ -67,7 +94,7 @@ public class Collectible {
     /**
      * Dessine le collectible.
      */
-    public void render(SpriteBatch batch) {
+    public void render(Batch batch) {
         if (collected) {
             return;
         }
@@ -1,51 +1,45 @@
 package com.tlse1.twodgame.entities;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Pool;
+import com.tlse1.twodgame.ai.BehaviorTree;
+import com.tlse1.twodgame.ai.BehaviorTrees;
+import com.tlse1.twodgame.ecs.components.AiState;
+import com.tlse1.twodgame.ecs.components.Hitbox;
+import com.tlse1.twodgame.ecs.components.Movement;
+import com.tlse1.twodgame.ecs.components.ZoneBinding;
 import com.tlse1.twodgame.entities.handlers.AnimationLoader;
-import com.tlse1.twodgame.managers.JsonMapLoader;
 import com.tlse1.twodgame.utils.Direction;
+import com.tlse1.twodgame.utils.TimingWheel;
 
 /**
- * Classe représentant un ennemi dans le jeu.
- * Hérite de Character et charge les animations du vampire.
+ * Classe représentant un ennemi dans le jeu : slime, vampire ou tout autre type déclaré
+ * dans les archétypes (voir EnemyArchetypes).
+ * Hérite de Character ; son état est porté par des composants (Hitbox, Movement, ZoneBinding, AiState,
+ * plus la Position, la Health et le SpriteState de ses handlers) ajoutés tels quels à son entité
+ * (voir EnemyEntities). L'IA, le déplacement et l'animation sont pilotés par les systèmes du package ecs.
  */
-public class Enemy extends Character {
-    
-    // Vitesse de l'ennemi
-    private float speed;
-    
-    // IA : cible (joueur)
-    private Character target;
-    
-    // Distance d'attaque
-    private float attackRange = 80f;
-    
-    // Portée de détection du joueur (distance à laquelle l'ennemi commence à poursuivre)
-    private float detectionRange = 300f;
+public class Enemy extends Character implements Pool.Poolable {
     
     // Hitbox fixe pour les collisions et attaques (indépendante des sprites visuels)
-    private float hitboxWidth = 16f;
-    private float hitboxHeight = 16f;
+    private final Hitbox hitbox = new Hitbox();
     
-    // Cooldown entre les attaques
-    private float attackCooldown = 0f;
-    private float attackCooldownTime = 2.0f;
+    // Vitesse de base et déplacement demandé par SteeringSystem
+    private final Movement movement = new Movement();
     
-    // Référence à la map pour vérifier les zones (peut être null)
-    protected JsonMapLoader mapLoader;
+    // Zone assignée (1-6, 0 = aucune) et position initiale (spawn point) pour le retour après désagro
+    private final ZoneBinding zone = new ZoneBinding();
     
-    // Zone assignée à cet ennemi (1-6)
-    private int zoneId = 0; // 0 = pas de zone assignée
+    // Mode, agro, arbre de comportement et réglages d'attaque de l'IA
+    private final AiState ai = new AiState();
     
-    // Position initiale (spawn point) pour retour après désagro
-    private float initialX;
-    private float initialY;
+    // Pool d'origine (null = ennemi créé hors pool, libéré par dispose)
+    EnemyPool<?> pool;
     
-    // État d'agro (si l'ennemi est actuellement en train de poursuivre le joueur)
-    private boolean isAggroed = false;
+    // Entité ECS de l'ennemi dans son GameWorld (-1 = hors d'un monde)
+    private int entityId = -1;
     
-    // Compteur de respawns (pour les slimes uniquement, max 3 respawns = 4 slimes au total)
-    private int respawnCount = 0;
+    // Définition partagée du type d'ennemi (null = ennemi configuré à la main)
+    private EnemyArchetype archetype;
     
     
     /**
@@ -63,37 +57,101 @@ public class Enemy extends Character {
      */
     public Enemy(float x, float y) {
         super(x, y);
-        this.speed = 100f;
-        this.target = null;
-        this.attackCooldown = 0f;
-        this.initialX = x;
-        this.initialY = y;
-        this.zoneId = 0;
-        this.isAggroed = false;
+        zone.spawnX = x;
+        zone.spawnY = y;
+        
+        // Hitbox par défaut (16x16)
+        hitbox.width = 16f;
+        hitbox.height = 16f;
         
         // Configurer la santé de l'ennemi (100 HP)
         combatHandler.setMaxHealth(100);
         combatHandler.setHealth(100);
         
         // Configurer la vitesse
-        movementHandler.setSpeed(speed);
-        
-        // Ne pas charger les animations ici - les sous-classes (Vampire, Slime) le feront
-        // après avoir initialisé leurs propriétés spécifiques (level, etc.)
-        // loadAnimations();
-        
-        // Définir l'animation par défaut (sera fait après le chargement des animations dans les sous-classes)
-        // animationHandler.update(0f);
+        setSpeed(100f);
     }
     
     /**
-     * Charge toutes les animations du vampire depuis les fichiers JSON.
+     * Constructeur à partir d'un archétype : statistiques, hitbox, échelle et animations
+     * viennent de la définition partagée (voir EnemyArchetypes).
+     * 
+     * @param x Position X initiale
+     * @param y Position Y initiale
+     * @param archetype Définition du type d'ennemi
+     */
+    public Enemy(float x, float y, EnemyArchetype archetype) {
+        this(x, y);
+        this.archetype = archetype;
+        
+        setSpeed(archetype.getSpeed());
+        combatHandler.setMaxHealth(archetype.getHealth());
+        combatHandler.setHealth(archetype.getHealth());
+        ai.behavior = archetype.getBehavior();
+        ai.detectionRange = archetype.getDetectionRange();
+        ai.attackDamage = archetype.getAttackDamage();
+        ai.attackCooldownTime = archetype.getAttackCooldown();
+        ai.mirrorSides = archetype.isMirrorSides();
+        hitbox.width = archetype.getHitboxWidth();
+        hitbox.height = archetype.getHitboxHeight();
+        
+        // Animations partagées par tous les ennemis de l'archétype : rien n'est rechargé
+        loadAnimations();
+        animationHandler.setScale(archetype.getScale());
+        
+        // Définir l'animation par défaut (idle vers le bas)
+        animationHandler.update(0f);
+        animationHandler.setCurrentDirection(Direction.DOWN);
+        animationHandler.setMoving(false);
+    }
+    
+    /**
+     * Remet l'ennemi dans l'état d'un ennemi neuf, animations et CollisionHandler conservés,
+     * pour qu'il soit réutilisé par son pool (voir GameWorld) : pleine santé, idle, sans zone ni agro.
+     * La position est donnée au moment de la réutilisation.
+     */
+    @Override
+    public void reset() {
+        zone.zoneId = 0;
+        entityId = -1;
+        ai.aggroed = false;
+        ai.mode = BehaviorTree.MODE_IDLE;
+        ai.attackCooldown.cancel();
+        movement.direction = null;
+        setTimingWheel(null);
+        setStatusEffectEngine(null);
+        combatHandler.setShield(0);
+        combatHandler.setHealth(combatHandler.getMaxHealth());
+        animationHandler.reset();
+    }
+    
+    /**
+     * Rend l'ennemi à son pool après sa mort ou son retrait, ou libère ses ressources
+     * s'il n'a pas été créé par un pool.
+     */
+    public void release() {
+        if (pool != null) {
+            pool.freeEnemy(this);
+        } else {
+            dispose();
+        }
+    }
+    
+    
+    /**
+     * Charge les animations : celles de l'archétype s'il y en a un, sinon celles du vampire
+     * depuis les fichiers JSON.
      * Les sprites sont organisés en grille : 4 lignes (directions) x N colonnes
      * Ligne 1 (y=0-63): DOWN, Ligne 2 (y=64-127): UP, Ligne 3 (y=128-191): LEFT, Ligne 4 (y=192-255): RIGHT
      * yRanges format: [DOWN_MIN, DOWN_MAX, SIDE_LEFT_MIN, SIDE_LEFT_MAX, SIDE_MIN, SIDE_MAX, UP_MIN, UP_MAX]
      */
     @Override
     protected void loadAnimations() {
+        if (archetype != null) {
+            archetype.applyAnimations(animationHandler);
+            return;
+        }
+        
         // Idle: 4 sprites par direction
         // yRanges: [DOWN: 0-63, SIDE_LEFT: 128-191, SIDE: 192-255, UP: 64-127]
         AnimationLoader.loadAnimation(animationHandler,
@@ -138,367 +196,106 @@ public class Enemy extends Character {
         //     "death", 0.15f, new int[]{0, 63, 128, 191, 192, 255, 64, 127}, false);
     }
     
-    /**
-     * Définit la cible (joueur) pour l'IA.
-     * 
-     * @param target Le personnage à cibler
-     */
-    public void setTarget(Character target) {
-        this.target = target;
+    // Getters et Setters
+    public float getSpeed() {
+        return movement.speed;
     }
     
-    /**
-     * Met à jour l'IA de l'ennemi.
-     * 
-     * @param deltaTime Temps écoulé depuis la dernière frame
-     */
-    public void updateAI(float deltaTime) {
-        // Si l'ennemi est mort, ne pas mettre à jour l'IA
-        if (isDead()) {
-            return;
-        }
-        
-        if (target == null || !target.isAlive()) {
-            // Pas de cible ou cible morte, rester en idle DOWN
-            animationHandler.setCurrentDirection(Direction.DOWN);
-            animationHandler.setMoving(false);
-            animationHandler.setRunning(false);
-            isAggroed = false;
-            return;
-        }
-        
-        // Mettre à jour le cooldown d'attaque
-        if (attackCooldown > 0) {
-            attackCooldown -= deltaTime;
-        }
-        
-        // Vérifier que les dimensions sont initialisées
-        // Si les dimensions ne sont pas encore initialisées, attendre
-        if (getWidth() <= 0 || getHeight() <= 0) {
-            // L'ennemi n'a pas encore de dimensions, attendre
-            // Log pour déboguer
-            if (this instanceof Vampire) {
-                // Dimensions pas encore initialisées
-            }
-            animationHandler.setCurrentDirection(Direction.DOWN);
-            animationHandler.setMoving(false);
-            animationHandler.setRunning(false);
-            return;
-        }
-        
-        // Si le joueur n'a pas encore de dimensions, attendre aussi
-        if (target.getWidth() <= 0 || target.getHeight() <= 0) {
-            animationHandler.setCurrentDirection(Direction.DOWN);
-            animationHandler.setMoving(false);
-            animationHandler.setRunning(false);
-            return;
-        }
-        
-        // GESTION DES ZONES : Si l'ennemi a une zone assignée, vérifier si le joueur est dans cette zone
-        boolean playerInZone = false;
-        if (zoneId > 0 && mapLoader != null) {
-            // Utiliser le centre du joueur pour vérifier s'il est dans la zone (plus fiable)
-            float playerCenterX = target.getX() + target.getWidth() / 2f;
-            float playerCenterY = target.getY() + target.getHeight() / 2f;
-            
-            // isInZone convertit les pixels en tiles, donc on peut passer directement le centre
-            // La conversion (int)(x / tileWidth) trouvera la bonne tile
-            playerInZone = mapLoader.isInZone(playerCenterX, playerCenterY, zoneId);
-            
-            if (!playerInZone && isAggroed) {
-                // Le joueur est sorti de la zone et l'ennemi était aggro : désagro et retourner à la position initiale
-                isAggroed = false;
-                returnToInitialPosition(deltaTime);
-                return;
-            } else if (!playerInZone && !isAggroed) {
-                // Le joueur n'est pas dans la zone et l'ennemi n'est pas aggro
-                // Vérifier si l'ennemi est déjà à sa position initiale
-                float currentX = getX();
-                float currentY = getY();
-                float dx = initialX - currentX;
-                float dy = initialY - currentY;
-                float distance = (float) Math.sqrt(dx * dx + dy * dy);
-                
-                if (distance < 5f) {
-                    // L'ennemi est déjà à sa position initiale : rester en idle
-                    setX(initialX);
-                    setY(initialY);
-                    animationHandler.setCurrentDirection(Direction.DOWN);
-                    animationHandler.setMoving(false);
-                    animationHandler.setRunning(false);
-                } else {
-                    // L'ennemi n'est pas encore à sa position initiale : continuer à y retourner
-                    returnToInitialPosition(deltaTime);
-                }
-                return;
-            } else if (playerInZone && !isAggroed) {
-                // Le joueur entre dans la zone : aggro
-                isAggroed = true;
-            }
-            // Si playerInZone && isAggroed : continuer la poursuite normale (ne pas return, continuer le code)
-        }
-        
-        // Calculer la distance au joueur (centre à centre)
-        // Le centre de la hitbox est aligné avec le centre du sprite visuel
-        float enemySpriteCenterX = getX() + getWidth() / 2f;
-        float enemySpriteCenterY = getY() + getHeight() / 2f;
-        float enemyCenterX = enemySpriteCenterX; // Hitbox centrée sur le sprite
-        float enemyCenterY = enemySpriteCenterY; // Hitbox centrée sur le sprite
-        
-        float targetCenterX = target.getX() + target.getWidth() / 2f;
-        float targetCenterY = target.getY() + target.getHeight() / 2f;
-        
-        float dx = targetCenterX - enemyCenterX;
-        float dy = targetCenterY - enemyCenterY;
-        float distance = (float) Math.sqrt(dx * dx + dy * dy);
-        
-        // Si l'ennemi a une zone assignée, ignorer la distance de détection et se baser uniquement sur la zone
-        // Sinon, utiliser la distance de détection normale
-        if (zoneId > 0) {
-            // Si l'ennemi a une zone mais le joueur n'est pas dedans, on ne devrait pas arriver ici
-            // (normalement on a déjà return plus haut), mais on vérifie quand même par sécurité
-            if (!playerInZone) {
-                animationHandler.setCurrentDirection(Direction.DOWN);
-                animationHandler.setMoving(false);
-                animationHandler.setRunning(false);
-                isAggroed = false;
-                return;
-            }
-        } else {
-            // Pas de zone assignée : utiliser la distance de détection normale
-            if (distance > detectionRange) {
-                animationHandler.setCurrentDirection(Direction.DOWN);
-                animationHandler.setMoving(false);
-                animationHandler.setRunning(false);
-                isAggroed = false;
-                return;
-            }
-        }
-        
-        // Utiliser la hitbox fixe pour tous les ennemis (slimes et vampires)
-        // Les slimes ont une hitbox fixe de 17x16, les vampires de 30x30
-        // Utiliser les getters pour s'assurer que les hitboxes sont correctement initialisées
-        float currentHitboxWidth = getHitboxWidth();
-        float currentHitboxHeight = getHitboxHeight();
-        
-        // Calculer la direction vers le joueur (peut être surchargée dans les sous-classes)
-        Direction directionToTarget = calculateDirectionToTarget(dx, dy);
-        
-        // Vérifier la collision rectangle-rectangle entre les hitboxes
-        // Position de la hitbox de l'ennemi (centrée sur le sprite)
-        float enemyHitboxX = enemySpriteCenterX - currentHitboxWidth / 2f;
-        float enemyHitboxY = enemySpriteCenterY - currentHitboxHeight / 2f;
-        
-        // Position de la hitbox du joueur (centrée sur le sprite)
-        // Utiliser la hitbox fixe du joueur (20x27) au lieu des dimensions visuelles
-        float playerHitboxWidth = target.getHitboxWidth();
-        float playerHitboxHeight = target.getHitboxHeight();
-        
-        float playerHitboxX = targetCenterX - playerHitboxWidth / 2f;
-        float playerHitboxY = targetCenterY - playerHitboxHeight / 2f;
-        
-        // Vérifier si les rectangles se touchent (avec une tolérance de 1 pixel pour permettre un chevauchement)
-        // Cela permet aux hitboxes de se chevaucher de 1 pixel dans toutes les directions pour que les ennemis puissent attaquer
-        float touchTolerance = 1.0f; // Tolérance de 1 pixel pour permettre un chevauchement de 1 pixel dans toutes les directions
-        boolean hitboxesTouching = (enemyHitboxX < playerHitboxX + playerHitboxWidth + touchTolerance &&
-                                   enemyHitboxX + currentHitboxWidth + touchTolerance > playerHitboxX &&
-                                   enemyHitboxY < playerHitboxY + playerHitboxHeight + touchTolerance &&
-                                   enemyHitboxY + currentHitboxHeight + touchTolerance > playerHitboxY);
-        
-        // Pour la détection d'attaque, utiliser la même condition que pour le blocage de mouvement
-        // Les ennemis attaquent dès que leurs hitboxes touchent celle du joueur (avec la tolérance)
-        boolean hitboxesCollide = hitboxesTouching;
-        
-        // Tous les ennemis (vampires et slimes) attaquent au corps à corps
-        // Ils attaquent dès que leur hitbox touche celle du joueur
-        if (hitboxesCollide && attackCooldown <= 0) {
-            // Se tourner vers le joueur avant d'attaquer
-            setCurrentDirection(directionToTarget);
-            attack();
-            attackCooldown = attackCooldownTime;
-            animationHandler.setMoving(false);
-            animationHandler.setRunning(false);
-            
-            // Tous les ennemis (vampires et slimes) attaquent au corps à corps
-            // Infliger des dégâts au joueur selon le type d'ennemi et son niveau
-            if (target instanceof Player) {
-                Player player = (Player) target;
-                int damage = getAttackDamage();
-                player.takeDamage(damage);
-            }
-        } else if (hitboxesTouching) {
-            // Les hitboxes se touchent vraiment mais en cooldown : s'arrêter et regarder vers le joueur
-            setCurrentDirection(directionToTarget);
-            animationHandler.setMoving(false);
-            animationHandler.setRunning(false);
-        } else {
-            // Les hitboxes ne se touchent pas : vérifier si on peut se déplacer sans causer de collision
-            // Calculer la nouvelle position de l'ennemi
-            float currentSpeed = getSpeed() * 1.5f; // Vitesse de course
-            float moveDistance = currentSpeed * deltaTime;
-            
-            float currentX = getX();
-            float currentY = getY();
-            float newX = currentX;
-            float newY = currentY;
-            
-            switch (directionToTarget) {
-                case UP:
-                    newY += moveDistance;
-                    break;
-                case DOWN:
-                    newY -= moveDistance;
-                    break;
-                case SIDE:
-                    newX += moveDistance;
-                    break;
-                case SIDE_LEFT:
-                    newX -= moveDistance;
-                    break;
-            }
-            
-            // Calculer la hitbox de l'ennemi à sa nouvelle position
-            float newEnemySpriteCenterX = newX + getWidth() / 2f;
-            float newEnemySpriteCenterY = newY + getHeight() / 2f;
-            float newEnemyHitboxX = newEnemySpriteCenterX - currentHitboxWidth / 2f;
-            float newEnemyHitboxY = newEnemySpriteCenterY - currentHitboxHeight / 2f;
-            
-            // Vérifier si le mouvement causerait une collision avec le joueur (sans tolérance, collision stricte)
-            boolean wouldCollide = (newEnemyHitboxX < playerHitboxX + playerHitboxWidth &&
-                                   newEnemyHitboxX + currentHitboxWidth > playerHitboxX &&
-                                   newEnemyHitboxY < playerHitboxY + playerHitboxHeight &&
-                                   newEnemyHitboxY + currentHitboxHeight > playerHitboxY);
-            
-            if (wouldCollide) {
-                // Le mouvement causerait une collision : s'arrêter et regarder vers le joueur
-                setCurrentDirection(directionToTarget);
-                animationHandler.setMoving(false);
-                animationHandler.setRunning(false);
-            } else {
-                // Pas de collision : se déplacer vers le joueur en courant
-                movementHandler.move(directionToTarget, deltaTime, true); // true = run
-                animationHandler.setRunning(true);
-            }
-        }
+    public void setSpeed(float speed) {
+        movement.speed = speed;
+        applyStatusModifiers();
     }
     
-    /**
-     * Calcule la direction vers la cible. Peut être surchargée dans les sous-classes
-     * pour gérer les différences d'organisation des sprites.
-     * 
-     * @param dx Différence X (cible - ennemi)
-     * @param dy Différence Y (cible - ennemi)
-     * @return Direction vers la cible
-     */
-    protected Direction calculateDirectionToTarget(float dx, float dy) {
-        // Par défaut, les sprites du vampire ont SIDE et SIDE_LEFT inversés
-        if (Math.abs(dx) > Math.abs(dy)) {
-            if (dx > 0) {
-                return Direction.SIDE_LEFT; // Joueur à droite -> utiliser SIDE_LEFT (inversé)
-            } else {
-                return Direction.SIDE; // Joueur à gauche -> utiliser SIDE (inversé)
-            }
-        } else {
-            if (dy > 0) {
-                return Direction.UP;
-            } else {
-                return Direction.DOWN;
-            }
-        }
+    @Override
+    protected float getBaseSpeed() {
+        return movement.speed;
     }
     
-    // Getters et Setters
-    public float getSpeed() {
-        return speed;
+    public float getDetectionRange() {
+        return ai.detectionRange;
     }
     
-    public void setSpeed(float speed) {
-        this.speed = speed;
-        movementHandler.setSpeed(speed);
+    public void setDetectionRange(float detectionRange) {
+        ai.detectionRange = detectionRange;
     }
     
-    public float getAttackRange() {
-        return attackRange;
+    public float getAttackCooldownTime() {
+        return ai.attackCooldownTime;
     }
     
-    public void setAttackRange(float attackRange) {
-        this.attackRange = attackRange;
+    public void setAttackCooldownTime(float attackCooldownTime) {
+        ai.attackCooldownTime = attackCooldownTime;
     }
     
-    public float getDetectionRange() {
-        return detectionRange;
+    /**
+     * Retourne les dégâts d'une attaque au contact, donnés par l'archétype (1 sans archétype).
+     * 
+     * @return Les dégâts d'attaque
+     */
+    public int getAttackDamage() {
+        return ai.attackDamage;
     }
     
-    public void setDetectionRange(float detectionRange) {
-        this.detectionRange = detectionRange;
+    @Override
+    public void setTimingWheel(TimingWheel shared) {
+        super.setTimingWheel(shared);
+        if (ai.attackCooldown.isScheduled()) {
+            ai.attackCooldown.moveTo(getTimingWheel());
+        }
     }
     
-    public float getAttackCooldownTime() {
-        return attackCooldownTime;
+    /**
+     * Retourne l'arbre de comportement de l'ennemi (celui de son archétype, ou l'arbre par défaut).
+     * 
+     * @return L'arbre compilé
+     */
+    public BehaviorTree getBehavior() {
+        if (ai.behavior == null) {
+            ai.behavior = BehaviorTrees.get(BehaviorTrees.DEFAULT_PATH);
+        }
+        return ai.behavior;
     }
     
-    public void setAttackCooldownTime(float attackCooldownTime) {
-        this.attackCooldownTime = attackCooldownTime;
+    /**
+     * Change l'arbre de comportement de l'ennemi.
+     * 
+     * @param behavior L'arbre compilé (null = arbre par défaut)
+     */
+    public void setBehavior(BehaviorTree behavior) {
+        ai.behavior = behavior;
     }
     
     public float getHitboxWidth() {
-        return hitboxWidth;
+        return hitbox.width;
     }
     
     public void setHitboxWidth(float hitboxWidth) {
-        this.hitboxWidth = hitboxWidth;
+        hitbox.width = hitboxWidth;
     }
     
     public float getHitboxHeight() {
-        return hitboxHeight;
+        return hitbox.height;
     }
     
     public void setHitboxHeight(float hitboxHeight) {
-        this.hitboxHeight = hitboxHeight;
+        hitbox.height = hitboxHeight;
     }
     
-    /**
-     * Retourne à la position initiale en mode run.
-     * Appelé quand le joueur sort de la zone de l'ennemi.
-     * 
-     * @param deltaTime Temps écoulé depuis la dernière frame
-     */
-    private void returnToInitialPosition(float deltaTime) {
-        float currentX = getX();
-        float currentY = getY();
-        
-        // Calculer la direction vers la position initiale
-        float dx = initialX - currentX;
-        float dy = initialY - currentY;
-        float distance = (float) Math.sqrt(dx * dx + dy * dy);
-        
-        // Si on est déjà proche de la position initiale (moins de 5 pixels), s'arrêter
-        if (distance < 5f) {
-            setX(initialX);
-            setY(initialY);
-            animationHandler.setCurrentDirection(Direction.DOWN);
-            animationHandler.setMoving(false);
-            animationHandler.setRunning(false);
-            return;
-        }
-        
-        // Calculer la direction vers la position initiale
-        Direction directionToInitial = calculateDirectionToTarget(dx, dy);
-        
-        // Se déplacer vers la position initiale en mode run
-        movementHandler.move(directionToInitial, deltaTime, true); // true = run
-        animationHandler.setCurrentDirection(directionToInitial);
-        animationHandler.setRunning(true);
-        animationHandler.setMoving(true);
+    // Composants de l'ennemi, ajoutés tels quels à son entité (voir EnemyEntities)
+    public Hitbox getHitbox() {
+        return hitbox;
     }
     
-    /**
-     * Définit la référence à la map pour vérifier les zones.
-     * 
-     * @param mapLoader Référence à la map
-     */
-    public void setMapLoader(JsonMapLoader mapLoader) {
-        this.mapLoader = mapLoader;
+    public Movement getMovement() {
+        return movement;
+    }
+    
+    public ZoneBinding getZoneBinding() {
+        return zone;
+    }
+    
+    public AiState getAiState() {
+        return ai;
     }
     
     /**
@@ -507,7 +304,7 @@ public class Enemy extends Character {
      * @param zoneId ID de la zone (1-6)
      */
     public void setZoneId(int zoneId) {
-        this.zoneId = zoneId;
+        zone.zoneId = zoneId;
     }
     
     /**
@@ -516,7 +313,15 @@ public class Enemy extends Character {
      * @return L'ID de la zone (1-6), ou 0 si aucune zone n'est assignée
      */
     public int getZoneId() {
-        return zoneId;
+        return zone.zoneId;
+    }
+    
+    public int getEntityId() {
+        return entityId;
+    }
+    
+    public void setEntityId(int entityId) {
+        this.entityId = entityId;
     }
     
     /**
@@ -526,8 +331,8 @@ public class Enemy extends Character {
      * @param y Position Y initiale
      */
     public void setInitialPosition(float x, float y) {
-        this.initialX = x;
-        this.initialY = y;
+        zone.spawnX = x;
+        zone.spawnY = y;
     }
     
     /**
@@ -536,7 +341,7 @@ public class Enemy extends Character {
      * @return Position X initiale
      */
     public float getInitialX() {
-        return initialX;
+        return zone.spawnX;
     }
     
     /**
@@ -545,41 +350,24 @@ public class Enemy extends Character {
      * @return Position Y initiale
      */
     public float getInitialY() {
-        return initialY;
-    }
-    
-    /**
-     * Retourne les dégâts d'attaque de l'ennemi.
-     * Doit être surchargée dans les sous-classes pour définir les dégâts selon le niveau.
-     * 
-     * @return Les dégâts d'attaque
-     */
-    protected int getAttackDamage() {
-        return 1; // Par défaut, 1 dégât
+        return zone.spawnY;
     }
     
     /**
-     * Retourne le nombre de respawns effectués.
+     * Retourne la définition partagée du type d'ennemi.
      * 
-     * @return Le nombre de respawns
+     * @return L'archétype, ou null pour un ennemi configuré à la main
      */
-    public int getRespawnCount() {
-        return respawnCount;
+    public EnemyArchetype getArchetype() {
+        return archetype;
     }
     
     /**
-     * Définit le nombre de respawns effectués.
+     * Indique si l'ennemi poursuit actuellement le joueur (joueur dans sa zone).
      * 
-     * @param respawnCount Le nombre de respawns
-     */
-    public void setRespawnCount(int respawnCount) {
-        this.respawnCount = respawnCount;
-    }
-    
-    /**
-     * Incrémente le compteur de respawns.
+     * @return true si l'ennemi est aggro
      */
-    public void incrementRespawnCount() {
-        this.respawnCount++;
+    public boolean isAggroed() {
+        return ai.aggroed;
     }
 }
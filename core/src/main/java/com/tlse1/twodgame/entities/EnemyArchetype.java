@@ -0,0 +1,314 @@
+package com.tlse1.twodgame.entities;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.JsonValue;
+import com.tlse1.twodgame.ai.BehaviorTree;
+import com.tlse1.twodgame.ai.BehaviorTrees;
+import com.tlse1.twodgame.entities.handlers.AnimationHandler;
+import com.tlse1.twodgame.entities.handlers.AnimationLoader;
+import com.tlse1.twodgame.entities.handlers.AnimationState;
+import com.tlse1.twodgame.utils.Direction;
+
+/**
+ * Définition immuable d'un type d'ennemi à un niveau donné (ex. "slime2") : santé, dégâts,
+ * vitesse, portée de détection, hitbox, échelle, orientation des planches, attaque à distance,
+ * réapparition, arbre de comportement et animations.
+ * Chargée une fois depuis le registre (voir EnemyArchetypes) et partagée par référence
+ * entre tous les ennemis de ce type.
+ *
+ * Les animations sont chargées au premier ennemi qui les demande, dans un handler propre
+ * à l'archétype ; les ennemis n'en reçoivent que les références (applyAnimations).
+ */
+public final class EnemyArchetype {
+
+    private static final AnimationState[] STATES = AnimationState.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Animation d'un état : fichiers de sprites, durée des frames, boucle.
+     */
+    private static final class AnimationSource {
+        final String type;
+        final String jsonPath;
+        final String pngPath;
+        final float frameDuration;
+        final boolean looping;
+
+        AnimationSource(JsonValue json) {
+            this.type = json.getString("state");
+            this.jsonPath = json.getString("json");
+            this.pngPath = json.getString("png");
+            this.frameDuration = json.getFloat("frameDuration");
+            this.looping = json.getBoolean("looping");
+        }
+    }
+
+    private final String id;
+    private final String type;
+    private final int level;
+
+    private final int health;
+    private final int attackDamage;
+    private final float speed;
+    private final float detectionRange;
+    private final float attackCooldown;
+    private final float hitboxWidth;
+    private final float hitboxHeight;
+    // Taille du sprite utilisée pour les collisions avec la map (voir CollisionShape)
+    private final float spriteWidth;
+    private final float spriteHeight;
+    private final float scale;
+    // Planches dont les lignes SIDE et SIDE_LEFT sont inversées (voir Enemy.calculateDirectionToTarget)
+    private final boolean mirrorSides;
+
+    // Attaque à distance (0 = pas de tir)
+    private final float rangedAttackInterval;
+    private final float projectileDamagePerSecond;
+    private final float projectileSize;
+    private final float projectileSpeed;
+    private final float rangedAttackRange;
+    private final float rangedAttackMinRange;
+
+    // Délai de réapparition après la mort (0 = pas de réapparition)
+    private final float respawnDelay;
+    // Nombre maximal de réapparitions d'une même lignée d'ennemis
+    private final int maxRespawns;
+    // Tuer cet ennemi fait gagner la partie
+    private final boolean winsGame;
+
+    // Arbre de comportement, compilé au chargement du registre
+    private final BehaviorTree behavior;
+
+    // Plages de Y de chaque direction dans les planches [DOWN_MIN, DOWN_MAX, SIDE_LEFT_MIN, SIDE_LEFT_MAX, SIDE_MIN, SIDE_MAX, UP_MIN, UP_MAX]
+    private final int[] yRanges;
+    private final AnimationSource[] animationSources;
+
+    // Animations chargées (null tant qu'aucun ennemi ne les a demandées)
+    private AnimationHandler animations;
+
+    EnemyArchetype(JsonValue json) {
+        this.id = json.getString("id");
+        this.type = json.getString("type");
+        this.level = json.getInt("level", 1);
+
+        this.health = json.getInt("health");
+        this.attackDamage = json.getInt("damage");
+        this.speed = json.getFloat("speed");
+        this.detectionRange = json.getFloat("detectionRange");
+        this.attackCooldown = json.getFloat("attackCooldown", 2f);
+        JsonValue hitbox = json.get("hitbox");
+        this.hitboxWidth = hitbox.getFloat("width");
+        this.hitboxHeight = hitbox.getFloat("height");
+        JsonValue sprite = json.get("collisionSprite");
+        this.spriteWidth = sprite != null ? sprite.getFloat("width") : 0f;
+        this.spriteHeight = sprite != null ? sprite.getFloat("height") : 0f;
+        this.scale = json.getFloat("scale", 1f);
+        this.mirrorSides = json.getBoolean("mirrorSides", false);
+
+        JsonValue ranged = json.get("ranged");
+        this.rangedAttackInterval = ranged != null ? ranged.getFloat("interval") : 0f;
+        this.projectileDamagePerSecond = ranged != null ? ranged.getFloat("damagePerSecond") : 0f;
+        this.projectileSize = ranged != null ? ranged.getFloat("projectileSize") : 0f;
+        this.projectileSpeed = ranged != null ? ranged.getFloat("projectileSpeed") : 0f;
+        this.rangedAttackRange = ranged != null ? ranged.getFloat("range") : 0f;
+        this.rangedAttackMinRange = ranged != null ? ranged.getFloat("minRange", 0f) : 0f;
+
+        this.respawnDelay = json.getFloat("respawnDelay", 0f);
+        this.maxRespawns = json.getInt("maxRespawns", Integer.MAX_VALUE);
+        this.winsGame = json.getBoolean("winsGame", false);
+
+        this.behavior = BehaviorTrees.get(json.getString("behavior", BehaviorTrees.DEFAULT_PATH));
+
+        this.yRanges = json.get("yRanges").asIntArray();
+        JsonValue sources = json.get("animations");
+        this.animationSources = new AnimationSource[sources.size];
+        for (int i = 0; i < sources.size; i++) {
+            animationSources[i] = new AnimationSource(sources.get(i));
+        }
+    }
+
+    /**
+     * Retourne les animations de l'archétype, chargées au premier appel.
+     * Le handler retourné est partagé : n'en lire que les animations (getAnimation).
+     *
+     * @return Le handler qui contient les animations
+     */
+    public synchronized AnimationHandler getAnimations() {
+        if (animations == null) {
+            animations = new AnimationHandler();
+            for (AnimationSource source : animationSources) {
+                AnimationLoader.loadAnimation(animations, source.jsonPath, source.pngPath,
+                    source.type, source.frameDuration, yRanges, source.looping);
+            }
+        }
+        return animations;
+    }
+
+    /**
+     * Donne à un handler les animations de l'archétype, sans rien recharger.
+     * Les textures restent la propriété de l'archétype : le handler ne les libère pas.
+     *
+     * @param handler Le handler de l'ennemi
+     */
+    public void applyAnimations(AnimationHandler handler) {
+        AnimationHandler source = getAnimations();
+        for (AnimationState state : STATES) {
+            for (Direction direction : DIRECTIONS) {
+                Animation<TextureRegion> animation = source.getAnimation(state, direction);
+                if (animation != null) {
+                    handler.addAnimation(state, direction, animation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Libère les textures des animations chargées (fin du jeu, voir EnemyArchetypes.dispose).
+     */
+    synchronized void dispose() {
+        if (animations != null) {
+            animations.dispose();
+            animations = null;
+        }
+    }
+
+    /**
+     * @return L'identifiant dans le registre (ex. "slime2")
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return Le type d'ennemi (ex. "slime", "vampire")
+     */
+    public String getType() {
+        return type;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getAttackDamage() {
+        return attackDamage;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public float getDetectionRange() {
+        return detectionRange;
+    }
+
+    public float getAttackCooldown() {
+        return attackCooldown;
+    }
+
+    public float getHitboxWidth() {
+        return hitboxWidth;
+    }
+
+    public float getHitboxHeight() {
+        return hitboxHeight;
+    }
+
+    /**
+     * @return Largeur du sprite pour les collisions avec la map (0 = taille du rendu)
+     */
+    public float getSpriteWidth() {
+        return spriteWidth;
+    }
+
+    /**
+     * @return Hauteur du sprite pour les collisions avec la map (0 = taille du rendu)
+     */
+    public float getSpriteHeight() {
+        return spriteHeight;
+    }
+
+    /**
+     * @return L'arbre de comportement compilé, partagé par les ennemis de l'archétype
+     */
+    public BehaviorTree getBehavior() {
+        return behavior;
+    }
+
+    public float getScale() {
+        return scale;
+    }
+
+    /**
+     * @return true si les lignes SIDE et SIDE_LEFT des planches sont inversées
+     */
+    public boolean isMirrorSides() {
+        return mirrorSides;
+    }
+
+    /**
+     * @return true si l'ennemi tire des projectiles (bloc "ranged" du JSON)
+     */
+    public boolean hasRangedAttack() {
+        return rangedAttackInterval > 0f;
+    }
+
+    /**
+     * @return Le temps entre deux tirs en secondes (0 = pas d'attaque à distance)
+     */
+    public float getRangedAttackInterval() {
+        return rangedAttackInterval;
+    }
+
+    public float getProjectileDamagePerSecond() {
+        return projectileDamagePerSecond;
+    }
+
+    public float getProjectileSize() {
+        return projectileSize;
+    }
+
+    public float getProjectileSpeed() {
+        return projectileSpeed;
+    }
+
+    /**
+     * @return Distance de tir maximale, en pixels
+     */
+    public float getRangedAttackRange() {
+        return rangedAttackRange;
+    }
+
+    /**
+     * @return Distance en deçà de laquelle l'ennemi ne tire plus et frappe au contact, en pixels
+     */
+    public float getRangedAttackMinRange() {
+        return rangedAttackMinRange;
+    }
+
+    /**
+     * @return Le délai de réapparition en secondes (0 = l'ennemi ne réapparaît pas)
+     */
+    public float getRespawnDelay() {
+        return respawnDelay;
+    }
+
+    /**
+     * @return Le nombre maximal de réapparitions d'une même lignée (Integer.MAX_VALUE = illimité, par défaut)
+     */
+    public int getMaxRespawns() {
+        return maxRespawns;
+    }
+
+    /**
+     * @return true si tuer cet ennemi fait gagner la partie
+     */
+    public boolean isWinsGame() {
+        return winsGame;
+    }
+}
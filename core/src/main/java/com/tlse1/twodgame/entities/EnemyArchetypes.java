@@ -0,0 +1,127 @@
+package com.tlse1.twodgame.entities;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.tlse1.twodgame.utils.DisposableTracker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registre des archétypes d'ennemis, lu une fois depuis enemies/archetypes.json.
+ *
+ * Chaque entrée définit un type d'ennemi à un niveau (statistiques, hitbox, animations) ;
+ * tous les ennemis de ce type partagent la même instance d'EnemyArchetype. Changer une
+ * statistique ou ajouter un niveau ne demande que de modifier le JSON.
+ * Les animations chargées par les archétypes vivent autant que le jeu (voir dispose()).
+ */
+public final class EnemyArchetypes {
+
+    public static final String JSON_PATH = "enemies/archetypes.json";
+
+    // Types d'ennemis du jeu
+    public static final String SLIME = "slime";
+    public static final String VAMPIRE = "vampire";
+
+    static {
+        DisposableTracker.addPermanentOwner(EnemyArchetypes.class);
+    }
+
+    // Archétypes par identifiant, dans l'ordre du fichier (null = pas encore chargé)
+    private static Map<String, EnemyArchetype> byId;
+    // Archétypes par type, triés par niveau croissant
+    private static Map<String, List<EnemyArchetype>> byType;
+
+    private EnemyArchetypes() {
+    }
+
+    /**
+     * Retourne un archétype par identifiant.
+     *
+     * @param id Identifiant (ex. "vampire3")
+     * @return L'archétype
+     * @throws IllegalArgumentException si l'identifiant est inconnu
+     */
+    public static synchronized EnemyArchetype get(String id) {
+        load();
+        EnemyArchetype archetype = byId.get(id);
+        if (archetype == null) {
+            throw new IllegalArgumentException("Archétype d'ennemi inconnu : " + id);
+        }
+        return archetype;
+    }
+
+    /**
+     * Retourne l'archétype d'un type à un niveau. Un niveau hors des niveaux définis
+     * est ramené au plus proche (comme les anciens switch, qui retombaient sur le niveau 1).
+     *
+     * @param type Type d'ennemi (SLIME, VAMPIRE...)
+     * @param level Niveau
+     * @return L'archétype
+     * @throws IllegalArgumentException si le type est inconnu
+     */
+    public static synchronized EnemyArchetype get(String type, int level) {
+        load();
+        List<EnemyArchetype> levels = byType.get(type);
+        if (levels == null) {
+            throw new IllegalArgumentException("Type d'ennemi inconnu : " + type);
+        }
+        EnemyArchetype chosen = levels.get(0);
+        for (EnemyArchetype archetype : levels) {
+            if (archetype.getLevel() <= level) {
+                chosen = archetype;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * @return Tous les archétypes, dans l'ordre du fichier
+     */
+    public static synchronized List<EnemyArchetype> getAll() {
+        load();
+        return Collections.unmodifiableList(new ArrayList<>(byId.values()));
+    }
+
+    /**
+     * Libère les animations chargées par les archétypes. Le registre reste utilisable :
+     * les animations seront rechargées à la demande.
+     */
+    public static synchronized void dispose() {
+        if (byId == null) {
+            return;
+        }
+        for (EnemyArchetype archetype : byId.values()) {
+            archetype.dispose();
+        }
+    }
+
+    private static void load() {
+        if (byId != null) {
+            return;
+        }
+        JsonValue root = new JsonReader().parse(Gdx.files.internal(JSON_PATH));
+        Map<String, EnemyArchetype> archetypes = new LinkedHashMap<>();
+        Map<String, List<EnemyArchetype>> types = new LinkedHashMap<>();
+        for (JsonValue json = root.get("archetypes").child; json != null; json = json.next) {
+            EnemyArchetype archetype = new EnemyArchetype(json);
+            archetypes.put(archetype.getId(), archetype);
+            List<EnemyArchetype> levels = types.get(archetype.getType());
+            if (levels == null) {
+                levels = new ArrayList<>();
+                types.put(archetype.getType(), levels);
+            }
+            levels.add(archetype);
+        }
+        for (List<EnemyArchetype> levels : types.values()) {
+            levels.sort((a, b) -> a.getLevel() - b.getLevel());
+        }
+        byId = archetypes;
+        byType = types;
+        Gdx.app.log("EnemyArchetypes", archetypes.size() + " archétypes d'ennemis chargés");
+    }
+}
@@ -0,0 +1,57 @@
+package com.tlse1.twodgame.entities;
+
+import com.tlse1.twodgame.utils.MeteredPool;
+
+/**
+ * Pool d'ennemis d'un archétype (type et niveau : les animations dépendent du niveau).
+ * Un ennemi sorti du pool garde ses animations et son CollisionHandler : le réutiliser
+ * ne recharge rien. Enemy.release() le rend au pool qui l'a créé ; les ennemis écartés
+ * par clear() sont libérés (les animations restent à leur archétype).
+ *
+ * @param <T> Type d'ennemi
+ */
+public abstract class EnemyPool<T extends Enemy> extends MeteredPool<T> {
+
+    public EnemyPool(String name) {
+        super(name);
+    }
+
+    /**
+     * Pool d'ennemis d'un archétype. Tous les types (slime, vampire, ou un type déclaré seulement
+     * dans le JSON) sont des Enemy : ce qui les distingue vient de l'archétype et des composants
+     * de leur entité.
+     *
+     * @param archetype Archétype des ennemis du pool
+     */
+    public static EnemyPool<Enemy> forArchetype(final EnemyArchetype archetype) {
+        return new EnemyPool<Enemy>(archetype.getId()) {
+            @Override
+            protected Enemy createEnemy() {
+                return new Enemy(0, 0, archetype);
+            }
+        };
+    }
+
+    /**
+     * Crée un ennemi quand le pool est vide.
+     */
+    protected abstract T createEnemy();
+
+    @Override
+    protected final T newObject() {
+        T enemy = createEnemy();
+        enemy.pool = this;
+        return enemy;
+    }
+
+    @Override
+    protected void discard(T enemy) {
+        enemy.pool = null;
+        enemy.dispose();
+    }
+
+    @SuppressWarnings("unchecked")
+    void freeEnemy(Enemy enemy) {
+        free((T) enemy);
+    }
+}
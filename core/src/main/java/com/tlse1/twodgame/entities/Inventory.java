@@ -6,9 +6,15 @@ import java.util.List;
 /**
  * Classe représentant l'inventaire du joueur.
  * Gère les items collectés (shields, heals, etc.)
+ *
+ * Les items d'un même type sont empilés : l'inventaire ne garde qu'un compteur par type, indexé par
+ * l'ordinal de ItemType. Ajouter, utiliser et compter sont en O(1) quel que soit le nombre d'items.
+ * Chaque type a une limite de pile (illimitée par défaut) et une case de la barre d'action.
+ * Les abonnés (Listener) sont prévenus à chaque changement d'un compteur : le HUD ne relit
+ * les compteurs que lorsqu'ils changent.
  */
 public class Inventory {
-    
+
     /**
      * Types d'items disponibles
      */
@@ -18,137 +24,243 @@ public class Inventory {
         SHIELD_POTION,  // Potion pour restaurer le shield (moitié du max)
         HEAL_POTION     // Potion pour restaurer la santé (+10 HP)
     }
-    
+
     /**
      * Classe représentant un item dans l'inventaire
      */
     public static class Item {
         private ItemType type;
-        
+
         public Item(ItemType type) {
             this.type = type;
         }
-        
+
         public ItemType getType() {
             return type;
         }
     }
-    
-    // Liste des items dans l'inventaire
-    private List<Item> items;
-    
+
+    /**
+     * Abonné aux changements de l'inventaire.
+     */
+    public interface Listener {
+        /**
+         * Le nombre d'items d'un type a changé.
+         *
+         * @param type Le type d'item
+         * @param count Le nouveau nombre d'items de ce type
+         */
+        void itemCountChanged(ItemType type, int count);
+    }
+
+    private static final ItemType[] TYPES = ItemType.values();
+
+    // Nombre de cases de la barre d'action (une par type d'item)
+    public static final int SLOT_COUNT = TYPES.length;
+
+    // Nombre d'items par type (index = ordinal) et total
+    private final int[] counts = new int[TYPES.length];
+    private int totalCount;
+
+    // Taille maximale de chaque pile (index = ordinal)
+    private final int[] stackLimits = new int[TYPES.length];
+
+    // Case de la barre d'action de chaque type, et type de chaque case
+    private final int[] slotOfType = new int[TYPES.length];
+    private final ItemType[] typeOfSlot = new ItemType[SLOT_COUNT];
+
+    private final List<Listener> listeners = new ArrayList<>();
+
     public Inventory() {
-        this.items = new ArrayList<>();
+        for (int i = 0; i < TYPES.length; i++) {
+            stackLimits[i] = Integer.MAX_VALUE;
+            // Par défaut, les cases suivent l'ordre des types : boost de dégâts, de vitesse, shield, heal
+            slotOfType[i] = i;
+            typeOfSlot[i] = TYPES[i];
+        }
     }
-    
+
     /**
      * Ajoute un item à l'inventaire.
-     * L'inventaire peut contenir un nombre illimité d'items.
-     * 
+     *
      * @param item L'item à ajouter
-     * @return true si l'item a été ajouté (toujours true)
+     * @return true si l'item a été ajouté, false si sa pile est pleine
      */
     public boolean addItem(Item item) {
-        items.add(item);
-        return true;
+        return addItem(item.getType());
     }
-    
+
     /**
      * Ajoute un item par type.
-     * L'inventaire peut contenir un nombre illimité d'items.
-     * 
+     *
      * @param type Le type d'item à ajouter
-     * @return true si l'item a été ajouté (toujours true)
+     * @return true si l'item a été ajouté, false si sa pile est pleine
      */
     public boolean addItem(ItemType type) {
-        return addItem(new Item(type));
+        int index = type.ordinal();
+        if (counts[index] >= stackLimits[index]) {
+            return false;
+        }
+        setCount(type, counts[index] + 1);
+        return true;
     }
-    
+
     /**
-     * Utilise le premier item du type spécifié.
-     * 
+     * Utilise un item du type spécifié.
+     *
      * @param type Le type d'item à utiliser
      * @return true si un item a été utilisé, false si aucun item de ce type n'est disponible
      */
     public boolean useItem(ItemType type) {
-        for (int i = 0; i < items.size(); i++) {
-            if (items.get(i).getType() == type) {
-                items.remove(i);
-                return true;
-            }
+        int index = type.ordinal();
+        if (counts[index] == 0) {
+            return false;
         }
-        return false;
+        setCount(type, counts[index] - 1);
+        return true;
     }
-    
+
     /**
      * Compte le nombre d'items d'un type donné.
-     * 
+     *
      * @param type Le type d'item
      * @return Le nombre d'items de ce type
      */
     public int getItemCount(ItemType type) {
-        int count = 0;
-        for (Item item : items) {
-            if (item.getType() == type) {
-                count++;
-            }
-        }
-        return count;
+        return counts[type.ordinal()];
     }
-    
+
     /**
      * Retourne le nombre total d'items dans l'inventaire.
-     * 
+     *
      * @return Le nombre d'items
      */
     public int getItemCount() {
-        return items.size();
+        return totalCount;
     }
-    
+
     /**
-     * Vérifie si l'inventaire est plein.
-     * L'inventaire peut contenir un nombre illimité d'items, donc cette méthode retourne toujours false.
-     * 
-     * @return false (l'inventaire n'est jamais plein)
+     * Vérifie si l'inventaire est plein : toutes les piles ont atteint leur limite.
+     *
+     * @return true si plus aucun item ne peut être ajouté
      */
     public boolean isFull() {
-        return false; // Capacité illimitée
+        for (int i = 0; i < TYPES.length; i++) {
+            if (counts[i] < stackLimits[i]) {
+                return false;
+            }
+        }
+        return true;
     }
-    
+
     /**
      * Vide l'inventaire.
      */
     public void clear() {
-        items.clear();
+        for (ItemType type : TYPES) {
+            if (counts[type.ordinal()] > 0) {
+                setCount(type, 0);
+            }
+        }
     }
-    
+
     /**
-     * Retourne tous les items.
-     * 
+     * Retourne tous les items, un objet par unité (liste construite à chaque appel).
+     *
      * @return La liste des items
      */
     public List<Item> getItems() {
-        return new ArrayList<>(items);
+        List<Item> items = new ArrayList<>(totalCount);
+        for (ItemType type : TYPES) {
+            for (int i = 0; i < counts[type.ordinal()]; i++) {
+                items.add(new Item(type));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Limite la taille d'une pile. Les items déjà présents au-delà de la limite sont conservés,
+     * mais aucun n'est ajouté tant que la pile dépasse la limite.
+     *
+     * @param type Le type d'item
+     * @param limit Nombre maximal d'items de ce type (Integer.MAX_VALUE = illimité)
+     */
+    public void setStackLimit(ItemType type, int limit) {
+        stackLimits[type.ordinal()] = Math.max(0, limit);
+    }
+
+    public int getStackLimit(ItemType type) {
+        return stackLimits[type.ordinal()];
+    }
+
+    /**
+     * Place un type d'item dans une case de la barre d'action. Le type qui occupait la case
+     * prend l'ancienne case du type déplacé.
+     *
+     * @param type Le type d'item
+     * @param slot La case (0 à SLOT_COUNT - 1)
+     */
+    public void assignSlot(ItemType type, int slot) {
+        int previousSlot = slotOfType[type.ordinal()];
+        ItemType displaced = typeOfSlot[slot];
+        typeOfSlot[slot] = type;
+        slotOfType[type.ordinal()] = slot;
+        typeOfSlot[previousSlot] = displaced;
+        slotOfType[displaced.ordinal()] = previousSlot;
+    }
+
+    /**
+     * @param slot La case (0 à SLOT_COUNT - 1)
+     * @return Le type d'item affiché dans cette case
+     */
+    public ItemType getSlotType(int slot) {
+        return typeOfSlot[slot];
     }
-    
+
+    /**
+     * @param type Le type d'item
+     * @return La case de la barre d'action de ce type
+     */
+    public int getSlot(ItemType type) {
+        return slotOfType[type.ordinal()];
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private void setCount(ItemType type, int count) {
+        int index = type.ordinal();
+        totalCount += count - counts[index];
+        counts[index] = count;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).itemCountChanged(type, count);
+        }
+    }
+
     /**
      * Définit la capacité maximale de l'inventaire.
-     * Cette méthode est conservée pour compatibilité mais n'a plus d'effet (capacité illimitée).
-     * 
+     * Cette méthode est conservée pour compatibilité mais n'a plus d'effet (voir setStackLimit).
+     *
      * @param maxCapacity La nouvelle capacité maximale (ignorée)
      */
     public void setMaxCapacity(int maxCapacity) {
-        // Capacité illimitée, cette méthode n'a plus d'effet
+        // Capacité globale illimitée : les limites sont fixées par pile
     }
-    
+
     /**
      * Retourne la capacité maximale de l'inventaire.
-     * L'inventaire a une capacité illimitée, donc cette méthode retourne Integer.MAX_VALUE.
-     * 
+     * La capacité globale est illimitée (les limites sont fixées par pile), donc cette méthode
+     * retourne Integer.MAX_VALUE.
+     *
      * @return Integer.MAX_VALUE (capacité illimitée)
      */
     public int getMaxCapacity() {
         return Integer.MAX_VALUE; // Capacité illimitée
     }
 }
-
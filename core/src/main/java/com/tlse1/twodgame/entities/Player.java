@@ -1,14 +1,14 @@
 package com.tlse1.twodgame.entities;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.tlse1.twodgame.effects.StatusEffect;
 import com.tlse1.twodgame.entities.handlers.AnimationLoader;
+import com.tlse1.twodgame.entities.handlers.AnimationState;
 import com.tlse1.twodgame.utils.Direction;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Classe représentant le joueur.
  * Hérite de Character et charge les animations du swordsman.
@@ -18,37 +18,22 @@ public class Player extends Character {
     // Inventaire du joueur
     private Inventory inventory;
     
-    // Hitboxes dynamiques pour les animations d'attaque
-    // Mapping : animationType_direction_frameIndex -> hitbox {width, height}
-    private Map<String, HitboxData> attackHitboxes;
-    
-    // Boosts actifs (temporaires, 5 secondes)
-    private int damageBoost = 0;  // Bonus de dégâts (+2 par collectible)
-    private int speedBoost = 0;   // Bonus de vitesse (+2 par collectible)
-    
-    // Timers pour les boosts (en secondes)
-    private float damageBoostTimer = 0f;  // Temps restant pour le boost de dégâts
-    private float speedBoostTimer = 0f;   // Temps restant pour le boost de vitesse
+    // Zones de frappe des animations d'attaque, indexées [état][direction] (ordinaux),
+    // puis HITBOX_STRIDE floats par frame : {x, y, largeur, hauteur} en pixels de la case du sprite,
+    // origine en bas à gauche (null = pas de hitbox pour cet état ou cette direction, largeur 0 = la frame ne frappe pas).
+    // Chargées une seule fois et partagées par tous les joueurs (données en lecture seule)
+    private static float[][][] attackHitboxes;
+    private static final int HITBOX_STRIDE = 4;
+    // Taille d'une case des planches de sprites du swordsman
+    private static final int SPRITE_CELL_SIZE = 64;
     
-    // Durée des boosts (5 secondes)
+    // Boosts des collectibles : effets temporaires (voir StatusEffect) de +10 pendant 5 secondes
+    private static final int BOOST_AMOUNT = 10;
     private static final float BOOST_DURATION = 5f;
     
     // Vitesse de base (pour restaurer après les boosts)
     private float baseSpeed = 150f;
     
-    /**
-     * Structure pour stocker les données de hitbox
-     */
-    private static class HitboxData {
-        float width;
-        float height;
-        
-        HitboxData(float width, float height) {
-            this.width = width;
-            this.height = height;
-        }
-    }
-    
     /**
      * Constructeur par défaut.
      */
@@ -122,8 +107,8 @@ public class Player extends Character {
      */
     public boolean useDamageBoost() {
         if (inventory.useItem(Inventory.ItemType.DAMAGE_BOOST)) {
-            damageBoost = 10;
-            damageBoostTimer = BOOST_DURATION; // Réinitialiser le timer à 5 secondes
+            // Un seul cumul : un boost actif est remplacé et son timer revient à 5 secondes
+            getStatusEffects().apply(this, this, StatusEffect.DAMAGE_BOOST, BOOST_AMOUNT, BOOST_DURATION);
             return true;
         }
         return false;
@@ -138,10 +123,8 @@ public class Player extends Character {
      */
     public boolean useSpeedBoost() {
         if (inventory.useItem(Inventory.ItemType.SPEED_BOOST)) {
-            speedBoost = 10;
-            speedBoostTimer = BOOST_DURATION; // Réinitialiser le timer à 5 secondes
-            // Mettre à jour la vitesse
-            movementHandler.setSpeed(baseSpeed + speedBoost);
+            // La vitesse est mise à jour par applyStatusModifiers()
+            getStatusEffects().apply(this, this, StatusEffect.SPEED_BOOST, BOOST_AMOUNT, BOOST_DURATION);
             return true;
         }
         return false;
@@ -183,59 +166,47 @@ public class Player extends Character {
     }
     
     /**
-     * Met à jour le joueur, y compris les timers des boosts.
+     * Met à jour le joueur. Hors d'un GameWorld, fait aussi avancer ses timers et ses effets.
      * 
      * @param deltaTime Temps écoulé depuis la dernière frame
      */
     @Override
     public void update(float deltaTime) {
         super.update(deltaTime);
-        
-        // Mettre à jour les timers des boosts
-        if (damageBoostTimer > 0) {
-            damageBoostTimer -= deltaTime;
-            if (damageBoostTimer <= 0) {
-                // Le boost de dégâts a expiré
-                damageBoost = 0;
-            }
-        }
-        
-        if (speedBoostTimer > 0) {
-            speedBoostTimer -= deltaTime;
-            if (speedBoostTimer <= 0) {
-                // Le boost de vitesse a expiré
-                speedBoost = 0;
-                movementHandler.setSpeed(baseSpeed); // Restaurer la vitesse de base
-            }
-        }
+        advanceOwnTimers(deltaTime);
+    }
+    
+    @Override
+    protected float getBaseSpeed() {
+        return baseSpeed;
     }
     
     /**
      * Retourne le bonus de dégâts actuel.
      */
     public int getDamageBoost() {
-        return damageBoost;
+        return getStatusModifiers().getDamageBonus();
     }
     
     /**
      * Retourne le bonus de vitesse actuel.
      */
     public int getSpeedBoost() {
-        return speedBoost;
+        return (int) getStatusModifiers().getSpeedBonus();
     }
     
     /**
      * Retourne le temps restant pour le boost de dégâts.
      */
     public float getDamageBoostTimer() {
-        return damageBoostTimer;
+        return getStatusEffects().getRemaining(this, StatusEffect.DAMAGE_BOOST);
     }
     
     /**
      * Retourne le temps restant pour le boost de vitesse.
      */
     public float getSpeedBoostTimer() {
-        return speedBoostTimer;
+        return getStatusEffects().getRemaining(this, StatusEffect.SPEED_BOOST);
     }
     
     /**
@@ -298,121 +269,166 @@ public class Player extends Character {
     
     /**
      * Charge les hitboxes dynamiques depuis les fichiers JSON pour les animations d'attaque.
-     * Les hitboxes sont organisées par type d'animation (attack, walk_attack, run_attack)
-     * et mappées selon la direction et l'index de frame.
+     * Les hitboxes sont compilées dans une table [état][direction][frame] : la recherche
+     * pendant le jeu n'est qu'une suite d'accès par indice.
      */
-    private void loadAttackHitboxes() {
-        attackHitboxes = new HashMap<>();
+    private static synchronized void loadAttackHitboxes() {
+        if (attackHitboxes != null) {
+            return;
+        }
+        float[][][] hitboxes = new float[AnimationState.values().length][][];
         
         // Charger les hitboxes pour chaque type d'animation
-        loadHitboxFile("swordsman1-3/swordsman_attack_hitbox.json", "attack", 8); // 8 sprites par direction
-        loadHitboxFile("swordsman1-3/swordsman_walk_attack_hitbox.json", "walk_attack", 6); // 6 sprites par direction
-        loadHitboxFile("swordsman1-3/swordsman_run_attack_hitbox.json", "run_attack", 8); // 8 sprites par direction
+        loadHitboxFile(hitboxes, "swordsman1-3/swordsman_attack_hitbox.json", AnimationState.ATTACK, 8); // 8 sprites par direction
+        loadHitboxFile(hitboxes, "swordsman1-3/swordsman_walk_attack_hitbox.json", AnimationState.WALK_ATTACK, 6); // 6 sprites par direction
+        loadHitboxFile(hitboxes, "swordsman1-3/swordsman_run_attack_hitbox.json", AnimationState.RUN_ATTACK, 8); // 8 sprites par direction
+        attackHitboxes = hitboxes;
     }
     
     /**
-     * Charge un fichier de hitboxes et les mappe selon la direction et l'index de frame.
+     * Charge un fichier de hitboxes et les range selon la direction et l'index de frame.
      * 
+     * @param hitboxes Table en construction
      * @param filePath Chemin vers le fichier JSON
-     * @param animationType Type d'animation ("attack", "walk_attack", "run_attack")
+     * @param state État d'attaque (ATTACK, WALK_ATTACK, RUN_ATTACK)
      * @param spritesPerDirection Nombre de sprites par direction
      */
-    private void loadHitboxFile(String filePath, String animationType, int spritesPerDirection) {
+    private static void loadHitboxFile(float[][][] hitboxes, String filePath, AnimationState state,
+                                       int spritesPerDirection) {
         try {
             JsonReader jsonReader = new JsonReader();
             JsonValue hitboxData = jsonReader.parse(Gdx.files.internal(filePath));
             
             // Les hitboxes sont organisées : sprite1-6/8 (DOWN), sprite9-16 (LEFT), sprite17-24 (RIGHT), sprite25-32 (UP)
             // Pour le joueur : Ligne 1 = DOWN, Ligne 2 = LEFT (SIDE_LEFT), Ligne 3 = RIGHT (SIDE), Ligne 4 = UP
-            // Note: Les sprites ne sont pas triés dans le JSON, on doit les trier par numéro
-            
-            // Créer une liste temporaire pour trier
-            java.util.List<JsonValue> sortedHitboxes = new java.util.ArrayList<>();
-            for (int i = 0; i < hitboxData.size; i++) {
-                sortedHitboxes.add(hitboxData.get(i));
+            // Note: Les sprites ne sont pas triés dans le JSON, le numéro donne directement la place
+            Direction[] rows = {Direction.DOWN, Direction.SIDE_LEFT, Direction.SIDE, Direction.UP};
+            float[][] byDirection = new float[Direction.values().length][];
+            for (Direction direction : rows) {
+                byDirection[direction.ordinal()] = new float[spritesPerDirection * HITBOX_STRIDE];
             }
             
-            // Trier par numéro de sprite
-            sortedHitboxes.sort((a, b) -> {
-                String nameA = a.getString("name");
-                String nameB = b.getString("name");
-                int numA = Integer.parseInt(nameA.replace("sprite", ""));
-                int numB = Integer.parseInt(nameB.replace("sprite", ""));
-                return Integer.compare(numA, numB);
-            });
-            
-            // Mapper les hitboxes triées
-            for (int i = 0; i < sortedHitboxes.size(); i++) {
-                JsonValue hitbox = sortedHitboxes.get(i);
-                float width = hitbox.getFloat("width");
-                float height = hitbox.getFloat("height");
-                
-                // Le sprite numéro est i+1 (car trié de 1 à N)
-                int spriteNum = i + 1;
-                
-                // Déterminer la direction et le frame index
-                Direction direction;
-                int frameIndex;
-                
-                if (spriteNum >= 1 && spriteNum <= spritesPerDirection) {
-                    // DOWN : sprite1-6/8 -> frames 0-5/7
-                    direction = Direction.DOWN;
-                    frameIndex = spriteNum - 1;
-                } else if (spriteNum >= spritesPerDirection + 1 && spriteNum <= spritesPerDirection * 2) {
-                    // LEFT (SIDE_LEFT) : sprite9-16 -> frames 0-7
-                    direction = Direction.SIDE_LEFT;
-                    frameIndex = spriteNum - spritesPerDirection - 1;
-                } else if (spriteNum >= spritesPerDirection * 2 + 1 && spriteNum <= spritesPerDirection * 3) {
-                    // RIGHT (SIDE) : sprite17-24 -> frames 0-7
-                    direction = Direction.SIDE;
-                    frameIndex = spriteNum - spritesPerDirection * 2 - 1;
-                } else if (spriteNum >= spritesPerDirection * 3 + 1 && spriteNum <= spritesPerDirection * 4) {
-                    // UP : sprite25-32 -> frames 0-7
-                    direction = Direction.UP;
-                    frameIndex = spriteNum - spritesPerDirection * 3 - 1;
-                } else {
+            for (JsonValue hitbox = hitboxData.child; hitbox != null; hitbox = hitbox.next) {
+                // Le sprite numéro N (1 à 4 x spritesPerDirection) est à la place N-1
+                int spriteIndex = Integer.parseInt(hitbox.getString("name").replace("sprite", "")) - 1;
+                int row = spriteIndex / spritesPerDirection;
+                if (spriteIndex < 0 || row >= rows.length) {
                     continue; // Ignorer les sprites hors range
                 }
+                int frameIndex = spriteIndex % spritesPerDirection;
                 
-                // Créer la clé pour le mapping : animationType_direction_frameIndex
-                String key = animationType + "_" + direction.name() + "_" + frameIndex;
-                attackHitboxes.put(key, new HitboxData(width, height));
+                // Coordonnées dans la planche (origine en haut à gauche) ramenées à la case du sprite,
+                // Y inversé pour correspondre au rendu (origine en bas à gauche)
+                float width = hitbox.getFloat("width");
+                float height = hitbox.getFloat("height");
+                float x = hitbox.getFloat("x") % SPRITE_CELL_SIZE;
+                float y = SPRITE_CELL_SIZE - hitbox.getFloat("y") % SPRITE_CELL_SIZE - height;
+                
+                float[] frames = byDirection[rows[row].ordinal()];
+                int offset = frameIndex * HITBOX_STRIDE;
+                frames[offset] = x;
+                frames[offset + 1] = y;
+                frames[offset + 2] = width;
+                frames[offset + 3] = height;
+            }
+            for (Direction direction : rows) {
+                toStrikeRegions(byDirection[direction.ordinal()], direction);
             }
+            hitboxes[state.ordinal()] = byDirection;
         } catch (Exception e) {
             Gdx.app.error("Player", "Erreur lors du chargement des hitboxes d'attaque depuis " + filePath, e);
         }
     }
     
     /**
-     * Obtient la hitbox actuelle selon l'animation d'attaque en cours.
+     * Réduit les boîtes des frames d'une direction à leur zone de frappe.
+     * Les boîtes du fichier couvrent tout le sprite (corps et épée) : seule la partie qui dépasse
+     * du corps du côté où regarde le joueur peut toucher. Le corps est la boîte de la première
+     * frame (la préparation du coup, sans l'épée tendue). Une frame qui ne dépasse pas du corps
+     * garde une zone vide (largeur et hauteur à 0) : elle ne touche pas.
      * 
-     * @return Tableau [width, height] de la hitbox, ou null si pas en attaque
+     * @param frames Boîtes {x, y, largeur, hauteur} des frames, modifiées sur place
+     * @param direction Direction des frames
      */
-    public float[] getCurrentAttackHitbox() {
-        if (!animationHandler.isAttackAnimation()) {
-            return null;
+    static void toStrikeRegions(float[] frames, Direction direction) {
+        float bodyX = frames[0];
+        float bodyY = frames[1];
+        float bodyWidth = frames[2];
+        float bodyHeight = frames[3];
+        if (bodyWidth <= 0f || bodyHeight <= 0f) {
+            return; // Pas de corps connu : boîtes laissées telles quelles
         }
         
-        String animationType = animationHandler.getAttackAnimationType();
-        if (animationType == null) {
-            return null;
+        for (int offset = 0; offset < frames.length; offset += HITBOX_STRIDE) {
+            float x = frames[offset];
+            float y = frames[offset + 1];
+            float right = x + frames[offset + 2];
+            float top = y + frames[offset + 3];
+            switch (direction) {
+                case SIDE:
+                    x = Math.max(x, bodyX + bodyWidth);
+                    break;
+                case SIDE_LEFT:
+                    right = Math.min(right, bodyX);
+                    break;
+                case UP:
+                    y = Math.max(y, bodyY + bodyHeight);
+                    break;
+                case DOWN:
+                default:
+                    top = Math.min(top, bodyY);
+                    break;
+            }
+            if (right <= x || top <= y) {
+                frames[offset] = 0f;
+                frames[offset + 1] = 0f;
+                frames[offset + 2] = 0f;
+                frames[offset + 3] = 0f;
+            } else {
+                frames[offset] = x;
+                frames[offset + 1] = y;
+                frames[offset + 2] = right - x;
+                frames[offset + 3] = top - y;
+            }
+        }
+    }
+    
+    /**
+     * Calcule la zone de frappe de la frame d'attaque en cours, en coordonnées du monde.
+     * Aucune allocation : la table est indexée par état, direction et frame.
+     * Les frames au-delà de celles du fichier reprennent la dernière zone.
+     * 
+     * @param out Rectangle qui reçoit la zone de frappe, vide (largeur 0) si la frame ne frappe pas
+     * @return true si la table couvre cette frame (out rempli, éventuellement vide),
+     *         false si pas en attaque ou pas de table pour cet état ou cette direction
+     */
+    public boolean getCurrentAttackHitbox(Rectangle out) {
+        if (!animationHandler.isAttackAnimation()) {
+            return false;
         }
         
-        Direction direction = animationHandler.getCurrentDirection();
+        float[][] byDirection = attackHitboxes[animationHandler.getCurrentState().ordinal()];
         int frameIndex = animationHandler.getCurrentFrameIndex();
-        
-        if (frameIndex < 0) {
-            return null;
+        if (byDirection == null || frameIndex < 0) {
+            return false;
         }
         
-        // Créer la clé pour le mapping
-        String key = animationType + "_" + direction.name() + "_" + frameIndex;
-        HitboxData hitbox = attackHitboxes.get(key);
+        float[] frames = byDirection[animationHandler.getCurrentDirection().ordinal()];
+        if (frames == null) {
+            return false;
+        }
         
-        if (hitbox != null) {
-            return new float[]{hitbox.width, hitbox.height};
+        int offset = Math.min(frameIndex, frames.length / HITBOX_STRIDE - 1) * HITBOX_STRIDE;
+        float width = frames[offset + 2];
+        float height = frames[offset + 3];
+        if (width <= 0f || height <= 0f) {
+            out.set(getX(), getY(), 0f, 0f);
+            return true;
         }
         
-        return null;
+        float scale = animationHandler.getScale();
+        out.set(getX() + frames[offset] * scale, getY() + frames[offset + 1] * scale,
+            width * scale, height * scale);
+        return true;
     }
 }
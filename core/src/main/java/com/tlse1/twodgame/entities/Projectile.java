@@ -30,8 +30,8 @@ public class Projectile {
     // Temps depuis la création (pour calculer les dégâts)
     private float lifetime = 0f;
     
-    // Temps depuis le dernier dégât infligé
-    private float damageCooldown = 0f;
+    // Temps depuis le dernier dégât infligé (plein au tir : le premier contact inflige des dégâts)
+    private float damageCooldown = DAMAGE_INTERVAL;
     private static final float DAMAGE_INTERVAL = 1f; // 1 seconde entre chaque dégât
     
     // Si le projectile est actif (n'a pas touché de collision ou le joueur)
@@ -63,7 +63,7 @@ public class Projectile {
         this.damagePerSecond = damagePerSecond;
         this.speed = speed;
         this.lifetime = 0f;
-        this.damageCooldown = 0f;
+        this.damageCooldown = DAMAGE_INTERVAL;
         this.active = true;
     }
     
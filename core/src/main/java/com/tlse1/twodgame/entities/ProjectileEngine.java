@@ -0,0 +1,382 @@
+package com.tlse1.twodgame.entities;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tlse1.twodgame.events.CombatEventBus;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.utils.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Projectiles en vol, stockés en tableaux parallèles (struct-of-arrays) comme SlimeSwarm.
+ *
+ * Même comportement qu'un Projectile : déplacement en ligne droite dans une des 4 directions,
+ * arrêt sur une collision de la map, traversée de la cible avec dégâts au premier contact puis toutes
+ * les DAMAGE_INTERVAL secondes. En plus, un projectile expire après MAX_LIFETIME.
+ *
+ * - Collisions avec la map : le layer "collisions" est copié une fois dans un masque de tiles,
+ *   la mise à jour ne lit plus que ce tableau
+ * - Broadphase : après chaque mise à jour, les projectiles sont rangés par cellule de CELL_SIZE
+ *   (tri par comptage dans des tableaux d'entiers) ; une cible ne teste que les cellules sous sa hitbox
+ *
+ * Aucune allocation par frame : les tableaux ne grandissent que si le nombre de projectiles dépasse
+ * leur capacité. Un projectile retiré est remplacé par le dernier : les indices ne sont pas stables.
+ */
+public class ProjectileEngine {
+
+    // Temps entre deux dégâts d'un même projectile (voir Projectile)
+    public static final float DAMAGE_INTERVAL = 1f;
+    // Durée de vie maximale d'un projectile, même sans collision
+    public static final float MAX_LIFETIME = 6f;
+    // Taille des cellules de la broadphase (ordre de grandeur d'une hitbox)
+    public static final float CELL_SIZE = 32f;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Masque des tiles bloquantes [ligne * colonnes + colonne]
+    private final boolean[] blocked;
+    private final int tileColumns;
+    private final int tileRows;
+    private final float tileWidth;
+    private final float tileHeight;
+
+    // Broadphase : cellStart[c] .. cellStart[c + 1] délimitent les projectiles de la cellule c dans cellItems
+    private final int gridColumns;
+    private final int gridRows;
+    private final int[] cellStart;
+    private int[] cellItems;
+    private int[] projectileCell;
+    private boolean gridValid;
+
+    // Bus d'événements du monde : les dégâts à la cible y sont publiés (null = appliqués directement)
+    private CombatEventBus events;
+
+    // Projectiles : coin bas-gauche, vitesse, taille, dégâts, compteur de dégâts, âge
+    private float[] x;
+    private float[] y;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[] width;
+    private float[] height;
+    private float[] damagePerSecond;
+    private float[] damageCooldown;
+    private float[] lifetime;
+    private int count;
+    // Plus grande taille de projectile tirée (marge des requêtes de la broadphase)
+    private float maxSize;
+
+    private long fired;
+    private long mapHits;
+
+    /**
+     * @param mapLoader Map pour les collisions (null = pas de collisions, broadphase d'une cellule)
+     */
+    public ProjectileEngine(JsonMapLoader mapLoader) {
+        if (mapLoader != null) {
+            tileColumns = mapLoader.getMapWidth();
+            tileRows = mapLoader.getMapHeight();
+            tileWidth = mapLoader.getTileWidth();
+            tileHeight = mapLoader.getTileHeight();
+            blocked = new boolean[tileColumns * tileRows];
+            for (int row = 0; row < tileRows; row++) {
+                for (int column = 0; column < tileColumns; column++) {
+                    blocked[row * tileColumns + column] = mapLoader.isCollisionTile(column, row);
+                }
+            }
+            gridColumns = Math.max(1, (int) Math.ceil(tileColumns * tileWidth / CELL_SIZE));
+            gridRows = Math.max(1, (int) Math.ceil(tileRows * tileHeight / CELL_SIZE));
+        } else {
+            tileColumns = 0;
+            tileRows = 0;
+            tileWidth = 1f;
+            tileHeight = 1f;
+            blocked = null;
+            gridColumns = 1;
+            gridRows = 1;
+        }
+        cellStart = new int[gridColumns * gridRows + 1];
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Tire un projectile (mêmes paramètres que le constructeur de Projectile).
+     *
+     * @param startX Position X de départ (coin bas-gauche)
+     * @param startY Position Y de départ (coin bas-gauche)
+     * @param direction Direction du mouvement
+     * @param projectileWidth Largeur du projectile
+     * @param projectileHeight Hauteur du projectile
+     * @param damage Dégâts infligés par seconde de contact
+     * @param speed Vitesse en pixels/seconde
+     */
+    public void fire(float startX, float startY, Direction direction, float projectileWidth, float projectileHeight,
+                     float damage, float speed) {
+        if (count == x.length) {
+            allocate(count * 2);
+        }
+        int i = count++;
+        x[i] = startX;
+        y[i] = startY;
+        velocityX[i] = 0f;
+        velocityY[i] = 0f;
+        switch (direction) {
+            case UP:
+                velocityY[i] = speed;
+                break;
+            case DOWN:
+                velocityY[i] = -speed;
+                break;
+            case SIDE:
+                velocityX[i] = speed;
+                break;
+            case SIDE_LEFT:
+                velocityX[i] = -speed;
+                break;
+        }
+        width[i] = projectileWidth;
+        height[i] = projectileHeight;
+        damagePerSecond[i] = damage;
+        // Compteur déjà plein : le premier contact inflige ses dégâts, quel que soit le temps de vol
+        damageCooldown[i] = DAMAGE_INTERVAL;
+        lifetime[i] = 0f;
+        maxSize = Math.max(maxSize, Math.max(projectileWidth, projectileHeight));
+        gridValid = false;
+        fired++;
+    }
+
+    /**
+     * Déplace tous les projectiles, retire ceux qui touchent la map ou ont expiré,
+     * puis reconstruit la broadphase.
+     *
+     * @param deltaTime Temps écoulé depuis la dernière mise à jour
+     */
+    public void update(float deltaTime) {
+        for (int i = count - 1; i >= 0; i--) {
+            float age = lifetime[i] + deltaTime;
+            if (age >= MAX_LIFETIME) {
+                removeAt(i);
+                continue;
+            }
+            float newX = x[i] + velocityX[i] * deltaTime;
+            float newY = y[i] + velocityY[i] * deltaTime;
+            if (isBlocked(newX, newY, width[i], height[i])) {
+                mapHits++;
+                removeAt(i);
+                continue;
+            }
+            x[i] = newX;
+            y[i] = newY;
+            lifetime[i] = age;
+            damageCooldown[i] += deltaTime;
+        }
+        buildGrid();
+    }
+
+    /**
+     * Applique les dégâts des projectiles qui traversent la hitbox d'une cible.
+     * Comme Projectile.checkPlayerCollision : le projectile continue sa route, et inflige
+     * damagePerSecond si son compteur a atteint DAMAGE_INTERVAL.
+     *
+     * @param target Cible (le joueur)
+     * @return Nombre de projectiles qui ont infligé des dégâts
+     */
+    public int hit(Character target) {
+        if (target == null || !target.isAlive() || count == 0) {
+            return 0;
+        }
+        if (!gridValid) {
+            buildGrid();
+        }
+
+        float hitboxX = target.getHitboxX();
+        float hitboxY = target.getHitboxY();
+        float hitboxWidth = target.getHitboxWidth();
+        float hitboxHeight = target.getHitboxHeight();
+
+        // Un projectile est rangé selon son coin bas-gauche : élargir la requête de sa taille maximale
+        int firstColumn = cellColumn(hitboxX - maxSize);
+        int lastColumn = cellColumn(hitboxX + hitboxWidth);
+        int firstRow = cellRow(hitboxY - maxSize);
+        int lastRow = cellRow(hitboxY + hitboxHeight);
+
+        int hits = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * gridColumns + column;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    int i = cellItems[k];
+                    if (x[i] < hitboxX + hitboxWidth && x[i] + width[i] > hitboxX
+                            && y[i] < hitboxY + hitboxHeight && y[i] + height[i] > hitboxY
+                            && damageCooldown[i] >= DAMAGE_INTERVAL) {
+                        CombatEventBus.dealDamage(events, this, target, (int) damagePerSecond[i]);
+                        damageCooldown[i] = 0f;
+                        hits++;
+                        if (!target.isAlive()) {
+                            return hits;
+                        }
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Dessine les projectiles.
+     *
+     * @param batch Batch déjà ouvert (begin)
+     * @param region Sprite étiré à la taille de chaque projectile (null = rien à dessiner)
+     */
+    public void render(Batch batch, TextureRegion region) {
+        if (region == null) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            batch.draw(region, x[i], y[i], width[i], height[i]);
+        }
+    }
+
+    public void setEventBus(CombatEventBus events) {
+        this.events = events;
+    }
+
+    /**
+     * Retire tous les projectiles et remet les compteurs à zéro. Les tableaux sont conservés.
+     */
+    public void clear() {
+        count = 0;
+        maxSize = 0f;
+        fired = 0;
+        mapHits = 0;
+        gridValid = false;
+    }
+
+    private boolean isBlocked(float left, float bottom, float projectileWidth, float projectileHeight) {
+        if (blocked == null) {
+            return false;
+        }
+        int startColumn = (int) Math.floor(left / tileWidth);
+        int endColumn = (int) Math.floor((left + projectileWidth) / tileWidth);
+        int startRow = (int) Math.floor(bottom / tileHeight);
+        int endRow = (int) Math.floor((bottom + projectileHeight) / tileHeight);
+        // Hors de la map = collision
+        if (startColumn < 0 || startRow < 0 || endColumn >= tileColumns || endRow >= tileRows) {
+            return true;
+        }
+        for (int row = startRow; row <= endRow; row++) {
+            int offset = row * tileColumns;
+            for (int column = startColumn; column <= endColumn; column++) {
+                if (blocked[offset + column]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Range les projectiles par cellule : comptage, sommes préfixées, puis placement.
+     */
+    private void buildGrid() {
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < count; i++) {
+            int cell = cellRow(y[i]) * gridColumns + cellColumn(x[i]);
+            projectileCell[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int cell = 1; cell < cellStart.length; cell++) {
+            cellStart[cell] += cellStart[cell - 1];
+        }
+        // cellStart[c] sert de curseur d'écriture, puis est restauré en reculant d'une cellule
+        for (int i = 0; i < count; i++) {
+            cellItems[cellStart[projectileCell[i]]++] = i;
+        }
+        for (int cell = cellStart.length - 1; cell > 0; cell--) {
+            cellStart[cell] = cellStart[cell - 1];
+        }
+        cellStart[0] = 0;
+        gridValid = true;
+    }
+
+    private int cellColumn(float worldX) {
+        int column = (int) Math.floor(worldX / CELL_SIZE);
+        return Math.max(0, Math.min(gridColumns - 1, column));
+    }
+
+    private int cellRow(float worldY) {
+        int row = (int) Math.floor(worldY / CELL_SIZE);
+        return Math.max(0, Math.min(gridRows - 1, row));
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        width[i] = width[last];
+        height[i] = height[last];
+        damagePerSecond[i] = damagePerSecond[last];
+        damageCooldown[i] = damageCooldown[last];
+        lifetime[i] = lifetime[last];
+        gridValid = false;
+    }
+
+    private void allocate(int capacity) {
+        if (x == null) {
+            x = new float[capacity];
+            y = new float[capacity];
+            velocityX = new float[capacity];
+            velocityY = new float[capacity];
+            width = new float[capacity];
+            height = new float[capacity];
+            damagePerSecond = new float[capacity];
+            damageCooldown = new float[capacity];
+            lifetime = new float[capacity];
+            cellItems = new int[capacity];
+            projectileCell = new int[capacity];
+            return;
+        }
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        damagePerSecond = Arrays.copyOf(damagePerSecond, capacity);
+        damageCooldown = Arrays.copyOf(damageCooldown, capacity);
+        lifetime = Arrays.copyOf(lifetime, capacity);
+        cellItems = new int[capacity];
+        projectileCell = new int[capacity];
+    }
+
+    /**
+     * Nombre de projectiles en vol.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Nombre de projectiles tirés depuis le dernier clear().
+     */
+    public long getFiredCount() {
+        return fired;
+    }
+
+    /**
+     * Nombre de projectiles arrêtés par la map depuis le dernier clear().
+     */
+    public long getMapHitCount() {
+        return mapHits;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+}
@@ -1,210 +0,0 @@
-package com.tlse1.twodgame.entities;
-
-import com.badlogic.gdx.Gdx;
-import com.tlse1.twodgame.entities.handlers.AnimationLoader;
-import com.tlse1.twodgame.utils.Direction;
-
-/**
- * Classe représentant un slime ennemi dans le jeu.
- * Hérite de Enemy et charge les animations selon le niveau (1, 2 ou 3).
- */
-public class Slime extends Enemy {
-    
-    // Niveau du slime (1, 2 ou 3)
-    private int level;
-    
-    /**
-     * Constructeur par défaut (niveau 1).
-     */
-    public Slime() {
-        this(0, 0, 1);
-    }
-    
-    /**
-     * Constructeur avec position (niveau 1 par défaut).
-     * 
-     * @param x Position X initiale
-     * @param y Position Y initiale
-     */
-    public Slime(float x, float y) {
-        this(x, y, 1);
-    }
-    
-    /**
-     * Constructeur avec position et niveau.
-     * 
-     * @param x Position X initiale
-     * @param y Position Y initiale
-     * @param level Niveau du slime (1, 2 ou 3)
-     */
-    public Slime(float x, float y, int level) {
-        super(x, y);
-        this.level = level;
-        
-        // Configurer la vitesse du slime (1/4 de la vitesse du joueur)
-        // Le joueur a une vitesse de 150 pixels/seconde, donc 150 / 4 = 37.5
-        float playerSpeed = 150f;
-        setSpeed(playerSpeed / 4f); // 37.5 pixels/seconde
-        
-        // Configurer la santé du slime selon le niveau (+20 HP pour chaque niveau)
-        int health;
-        switch (level) {
-            case 1:
-                health = 25; // 25 HP
-                break;
-            case 2:
-                health = 30; // 30 HP
-                break;
-            case 3:
-                health = 40; // 40 HP
-                break;
-            default:
-                health = 25; // 25 HP
-                break;
-        }
-        combatHandler.setMaxHealth(health);
-        combatHandler.setHealth(health);
-        
-        // Configurer la portée de détection (agro) : plus petite pour les slimes car plus intuitifs
-        setDetectionRange(200f); // 200 pixels (plus petit que les vampires)
-        
-        // Définir la hitbox fixe du slime (centrée sur chaque sprite)
-        // La hitbox est utilisée pour les collisions et les attaques
-        // Même hitbox pour tous les ennemis (slimes et vampires)
-        setHitboxWidth(14f);  // 14 pixels de largeur
-        setHitboxHeight(16f); // 16 pixels de hauteur
-        
-        // Charger toutes les animations
-        loadAnimations();
-        
-        // Définir le scale pour que le slime ait la même taille visuelle que le joueur
-        // Le joueur utilise un scale de ~0.59 (basé sur sa hauteur de 27 pixels pour obtenir 16 pixels)
-        // On utilise le même scale pour le slime pour avoir une taille similaire
-        float targetSize = 16f;
-        float averageSpriteHeight = 27f; // Même hauteur cible que le joueur
-        
-        // Utiliser le même calcul que le joueur : scale basé sur la hauteur cible
-        float calculatedScale = targetSize / averageSpriteHeight; // ~0.59, comme le joueur
-        animationHandler.setScale(calculatedScale);
-        
-        // Définir l'animation par défaut (idle)
-        animationHandler.update(0f);
-        animationHandler.setCurrentDirection(Direction.DOWN);
-        animationHandler.setMoving(false);
-    }
-    
-    /**
-     * Retourne le niveau du slime.
-     * 
-     * @return Le niveau (1, 2 ou 3)
-     */
-    public int getLevel() {
-        return level;
-    }
-    
-    /**
-     * Retourne les dégâts d'attaque du slime selon son niveau.
-     * 
-     * @return Les dégâts d'attaque
-     */
-    @Override
-    protected int getAttackDamage() {
-        switch (level) {
-            case 1:
-                return 9;
-            case 2:
-                return 40;
-            case 3:
-                return 30;
-            default:
-                return 9;
-        }
-    }
-    
-    /**
-     * Charge toutes les animations du slime depuis les fichiers JSON selon le niveau.
-     * Les sprites sont organisés en grille : 4 lignes (directions) x N colonnes
-     * Ligne 1 (y=0-63): DOWN, Ligne 2 (y=64-127): UP, Ligne 3 (y=128-191): LEFT, Ligne 4 (y=192-255): RIGHT
-     * yRanges format: [DOWN_MIN, DOWN_MAX, SIDE_LEFT_MIN, SIDE_LEFT_MAX, SIDE_MIN, SIDE_MAX, UP_MIN, UP_MAX]
-     */
-    @Override
-    protected void loadAnimations() {
-        String slimePrefix = "slims/PNG/Slime" + level;
-        String jsonPrefix = "slims/PNG/Slime" + level;
-        
-        // Note: Le slime 1 utilise "slim1_" tandis que les slimes 2 et 3 utilisent "slime2_" et "slime3_"
-        String jsonNamePrefix = (level == 1) ? "slim" : "slime";
-        
-        // yRanges pour les slimes : 
-        // Ligne 1 (y=0-63): DOWN
-        // Ligne 2 (y=64-127): UP
-        // Ligne 3 (y=128-191): GAUCHE (SIDE_LEFT)
-        // Ligne 4 (y=192-255): DROITE (SIDE)
-        int[] yRanges = new int[]{0, 63, 128, 191, 192, 255, 64, 127};
-        
-        // Idle
-        AnimationLoader.loadAnimation(animationHandler,
-            jsonPrefix + "/" + jsonNamePrefix + level + "_idle.json",
-            slimePrefix + "/With_shadow/Slime" + level + "_Idle_with_shadow.png",
-            "idle", 0.15f, yRanges, true);
-        
-        // Walk
-        AnimationLoader.loadAnimation(animationHandler,
-            jsonPrefix + "/" + jsonNamePrefix + level + "_walk.json",
-            slimePrefix + "/With_shadow/Slime" + level + "_Walk_with_shadow.png",
-            "walk", 0.12f, yRanges, true);
-        
-        // Run
-        AnimationLoader.loadAnimation(animationHandler,
-            jsonPrefix + "/" + jsonNamePrefix + level + "_run.json",
-            slimePrefix + "/With_shadow/Slime" + level + "_Run_with_shadow.png",
-            "run", 0.10f, yRanges, true);
-        
-        // Attack
-        String attackJsonPath = jsonPrefix + "/" + jsonNamePrefix + level + "_attack.json";
-        String attackPngPath = slimePrefix + "/With_shadow/Slime" + level + "_Attack_with_shadow.png";
-        AnimationLoader.loadAnimation(animationHandler,
-            attackJsonPath,
-            attackPngPath,
-            "attack", 0.08f, yRanges, false);
-        
-        // Hurt
-        AnimationLoader.loadAnimation(animationHandler,
-            jsonPrefix + "/" + jsonNamePrefix + level + "_hurt.json",
-            slimePrefix + "/With_shadow/Slime" + level + "_Hurt_with_shadow.png",
-            "hurt", 0.1f, yRanges, false);
-        
-        // Death
-        AnimationLoader.loadAnimation(animationHandler,
-            jsonPrefix + "/" + jsonNamePrefix + level + "_death.json",
-            slimePrefix + "/With_shadow/Slime" + level + "_Death_with_shadow.png",
-            "death", 0.15f, yRanges, false);
-    }
-    
-    /**
-     * Calcule la direction vers la cible pour les slimes.
-     * Pour les slimes : Ligne 3 = LEFT (SIDE_LEFT), Ligne 4 = RIGHT (SIDE)
-     * Contrairement aux vampires, les directions ne sont pas inversées.
-     * 
-     * @param dx Différence X (cible - ennemi)
-     * @param dy Différence Y (cible - ennemi)
-     * @return Direction vers la cible
-     */
-    @Override
-    protected Direction calculateDirectionToTarget(float dx, float dy) {
-        if (Math.abs(dx) > Math.abs(dy)) {
-            if (dx > 0) {
-                return Direction.SIDE; // Joueur à droite -> utiliser SIDE (ligne 4)
-            } else {
-                return Direction.SIDE_LEFT; // Joueur à gauche -> utiliser SIDE_LEFT (ligne 3)
-            }
-        } else {
-            if (dy > 0) {
-                return Direction.UP;
-            } else {
-                return Direction.DOWN;
-            }
-        }
-    }
-}
-
@@ -0,0 +1,424 @@
+package com.tlse1.twodgame.entities;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tlse1.twodgame.entities.handlers.AnimationHandler;
+import com.tlse1.twodgame.events.CombatEventBus;
+import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.utils.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Essaim de slimes du mode horde, stocké en tableaux parallèles (struct-of-arrays).
+ *
+ * Un slime de l'essaim n'est pas un objet : c'est un indice dans des tableaux de primitives
+ * (position, santé, état, direction, temps d'animation, niveau, cooldown d'attaque).
+ * La mise à jour parcourt ces tableaux en boucles serrées sans allouer ; le rendu pioche
+ * dans une table d'animations partagée par tout l'essaim et par les ennemis slimes (archétypes des slimes).
+ * Un slime mort est retiré par échange avec le dernier : les indices ne sont pas stables.
+ *
+ * Comportement d'un slime simplifié : poursuite en 4 directions dans sa portée de détection,
+ * collisions avec la map, attaque au contact avec cooldown, blessure et mort animées.
+ * Pas de zones ni de respawn.
+ */
+public class SlimeSwarm {
+
+    // États d'un slime (indices de la table d'animations)
+    public static final byte STATE_IDLE = 0;
+    public static final byte STATE_RUN = 1;
+    public static final byte STATE_ATTACK = 2;
+    public static final byte STATE_HURT = 3;
+    public static final byte STATE_DEATH = 4;
+    private static final String[] STATE_ANIMATIONS = {"idle", "run", "attack", "hurt", "death"};
+
+    private static final int LEVEL_COUNT = 3;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Comme Enemy : les slimes poursuivent en courant, et attaquent à 1 px de contact
+    private static final float RUN_SPEED_FACTOR = 1.5f;
+    private static final float TOUCH_TOLERANCE = 1f;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final JsonMapLoader mapLoader;
+
+    // Bus d'événements du monde : les dégâts à la cible y sont publiés (null = appliqués directement)
+    private CombatEventBus events;
+
+    // Caractéristiques par niveau, lues dans les archétypes des slimes (comme les ennemis slimes)
+    private final int[] healthByLevel = new int[LEVEL_COUNT];
+    private final int[] damageByLevel = new int[LEVEL_COUNT];
+    private final float[] runSpeedByLevel = new float[LEVEL_COUNT];
+    private final float[] detectionRangeByLevel = new float[LEVEL_COUNT];
+    private final float[] hitboxWidthByLevel = new float[LEVEL_COUNT];
+    private final float[] hitboxHeightByLevel = new float[LEVEL_COUNT];
+    private final float[] attackCooldownByLevel = new float[LEVEL_COUNT];
+    private final float[] scaleByLevel = new float[LEVEL_COUNT];
+    private final boolean[] mirrorSidesByLevel = new boolean[LEVEL_COUNT];
+    // Hitbox la plus grande des niveaux (emplacement libre pour tous, voir isBlocked)
+    private float maxHitboxWidth;
+    private float maxHitboxHeight;
+
+    // Animations partagées avec les archétypes des slimes, table [niveau][état][direction]
+    @SuppressWarnings("unchecked")
+    private final Animation<TextureRegion>[][][] animations =
+        new Animation[LEVEL_COUNT][STATE_ANIMATIONS.length][DIRECTIONS.length];
+    // Durée des animations non bouclées [niveau][état]
+    private final float[][] durations = new float[LEVEL_COUNT][STATE_ANIMATIONS.length];
+
+    // Slimes : centre de la hitbox, santé, état, direction, temps d'animation, niveau (0-2), cooldown
+    private float[] x;
+    private float[] y;
+    private int[] health;
+    private byte[] state;
+    private byte[] direction;
+    private float[] animationTime;
+    private byte[] level;
+    private float[] attackCooldown;
+    private int count;
+
+    private int aliveCount;
+    private int killCount;
+
+    /**
+     * Crée un essaim vide et récupère les animations des trois niveaux de slime.
+     *
+     * @param mapLoader Map pour les collisions (null = pas de collisions)
+     */
+    public SlimeSwarm(JsonMapLoader mapLoader) {
+        this.mapLoader = mapLoader;
+        allocate(INITIAL_CAPACITY);
+        loadAnimations();
+    }
+
+    private void loadAnimations() {
+        for (int lvl = 0; lvl < LEVEL_COUNT; lvl++) {
+            EnemyArchetype archetype = EnemyArchetypes.get(EnemyArchetypes.SLIME, lvl + 1);
+            healthByLevel[lvl] = archetype.getHealth();
+            damageByLevel[lvl] = archetype.getAttackDamage();
+            runSpeedByLevel[lvl] = archetype.getSpeed() * RUN_SPEED_FACTOR;
+            detectionRangeByLevel[lvl] = archetype.getDetectionRange();
+            hitboxWidthByLevel[lvl] = archetype.getHitboxWidth();
+            hitboxHeightByLevel[lvl] = archetype.getHitboxHeight();
+            attackCooldownByLevel[lvl] = archetype.getAttackCooldown();
+            scaleByLevel[lvl] = archetype.getScale();
+            mirrorSidesByLevel[lvl] = archetype.isMirrorSides();
+            maxHitboxWidth = Math.max(maxHitboxWidth, archetype.getHitboxWidth());
+            maxHitboxHeight = Math.max(maxHitboxHeight, archetype.getHitboxHeight());
+            AnimationHandler library = archetype.getAnimations();
+            for (int s = 0; s < STATE_ANIMATIONS.length; s++) {
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    animations[lvl][s][d] = library.getAnimation(STATE_ANIMATIONS[s], DIRECTIONS[d]);
+                }
+                Animation<TextureRegion> reference = animations[lvl][s][Direction.DOWN.ordinal()];
+                durations[lvl][s] = reference != null ? reference.getAnimationDuration() : 0f;
+            }
+        }
+    }
+
+    /**
+     * Ajoute un slime.
+     *
+     * @param centerX Centre X de la hitbox
+     * @param centerY Centre Y de la hitbox
+     * @param slimeLevel Niveau du slime (1, 2 ou 3)
+     */
+    public void spawn(float centerX, float centerY, int slimeLevel) {
+        if (count == x.length) {
+            allocate(count * 2);
+        }
+        int lvl = Math.max(1, Math.min(LEVEL_COUNT, slimeLevel)) - 1;
+        int i = count++;
+        x[i] = centerX;
+        y[i] = centerY;
+        health[i] = healthByLevel[lvl];
+        state[i] = STATE_IDLE;
+        direction[i] = (byte) Direction.DOWN.ordinal();
+        // Phase décalée pour que l'essaim ne s'anime pas en rythme
+        animationTime[i] = (i * 0.137f) % 1f;
+        level[i] = (byte) lvl;
+        attackCooldown[i] = 0f;
+        aliveCount++;
+    }
+
+    /**
+     * Avance l'essaim d'une frame.
+     *
+     * @param delta Temps écoulé
+     * @param target Cible des slimes (le joueur)
+     */
+    public void update(float delta, Character target) {
+        boolean hasTarget = target != null && target.isAlive()
+            && target.getHitboxWidth() > 0 && target.getHitboxHeight() > 0;
+        float targetX = 0f;
+        float targetY = 0f;
+        float targetHalfWidth = 0f;
+        float targetHalfHeight = 0f;
+        if (hasTarget) {
+            targetX = target.getHitboxX() + target.getHitboxWidth() / 2f;
+            targetY = target.getHitboxY() + target.getHitboxHeight() / 2f;
+            targetHalfWidth = target.getHitboxWidth() / 2f;
+            targetHalfHeight = target.getHitboxHeight() / 2f;
+        }
+
+        // Parcours à rebours : le retrait par échange ne saute aucun slime
+        for (int i = count - 1; i >= 0; i--) {
+            animationTime[i] += delta;
+            attackCooldown[i] -= delta;
+            int lvl = level[i];
+
+            byte current = state[i];
+            if (current == STATE_DEATH) {
+                if (animationTime[i] >= durations[lvl][STATE_DEATH]) {
+                    removeAt(i);
+                }
+                continue;
+            }
+            if (current == STATE_ATTACK || current == STATE_HURT) {
+                if (animationTime[i] < durations[lvl][current]) {
+                    continue;
+                }
+                setState(i, STATE_IDLE);
+            }
+
+            if (!hasTarget) {
+                setState(i, STATE_IDLE);
+                continue;
+            }
+
+            float dx = targetX - x[i];
+            float dy = targetY - y[i];
+            float detectionRange = detectionRangeByLevel[lvl];
+            if (dx * dx + dy * dy > detectionRange * detectionRange) {
+                setState(i, STATE_IDLE);
+                continue;
+            }
+
+            // Distances centre à centre en dessous desquelles les hitboxes se chevauchent / se touchent
+            float blockX = hitboxWidthByLevel[lvl] / 2f + targetHalfWidth;
+            float blockY = hitboxHeightByLevel[lvl] / 2f + targetHalfHeight;
+            float touchX = blockX + TOUCH_TOLERANCE;
+            float touchY = blockY + TOUCH_TOLERANCE;
+
+            int dir = directionTo(dx, dy, mirrorSidesByLevel[lvl]);
+            direction[i] = (byte) dir;
+            float absDx = Math.abs(dx);
+            float absDy = Math.abs(dy);
+
+            if (absDx < touchX && absDy < touchY) {
+                // Au contact : attaquer si le cooldown le permet, sinon attendre face au joueur
+                if (attackCooldown[i] <= 0f) {
+                    setState(i, STATE_ATTACK);
+                    attackCooldown[i] = attackCooldownByLevel[lvl];
+                    CombatEventBus.dealDamage(events, this, target, damageByLevel[lvl]);
+                } else {
+                    setState(i, STATE_IDLE);
+                }
+                continue;
+            }
+
+            float step = runSpeedByLevel[lvl] * delta;
+            float newX = x[i];
+            float newY = y[i];
+            if (dir == Direction.UP.ordinal()) {
+                newY += step;
+            } else if (dir == Direction.DOWN.ordinal()) {
+                newY -= step;
+            } else if (dir == Direction.SIDE.ordinal()) {
+                newX += step;
+            } else {
+                newX -= step;
+            }
+
+            // Ne pas entrer dans la hitbox du joueur ni dans les collisions de la map
+            boolean wouldCollide = Math.abs(targetX - newX) < blockX && Math.abs(targetY - newY) < blockY;
+            if (wouldCollide || isBlocked(newX, newY, hitboxWidthByLevel[lvl], hitboxHeightByLevel[lvl])) {
+                setState(i, STATE_IDLE);
+                continue;
+            }
+            x[i] = newX;
+            y[i] = newY;
+            setState(i, STATE_RUN);
+        }
+    }
+
+    /**
+     * Dessine les slimes de l'essaim.
+     *
+     * @param batch Batch déjà ouvert (begin)
+     */
+    public void render(Batch batch) {
+        for (int i = 0; i < count; i++) {
+            byte current = state[i];
+            Animation<TextureRegion> animation = animations[level[i]][current][direction[i]];
+            if (animation == null) {
+                continue;
+            }
+            boolean looping = current == STATE_IDLE || current == STATE_RUN;
+            TextureRegion frame = animation.getKeyFrame(animationTime[i], looping);
+            if (frame == null) {
+                continue;
+            }
+            float scale = scaleByLevel[level[i]];
+            float width = frame.getRegionWidth() * scale;
+            float height = frame.getRegionHeight() * scale;
+            batch.draw(frame, x[i] - width / 2f, y[i] - height / 2f, width, height);
+        }
+    }
+
+    /**
+     * Inflige des dégâts au premier slime vivant dont la hitbox chevauche une zone d'attaque.
+     *
+     * @return true si un slime a été touché
+     */
+    public boolean hitFirst(float attackX, float attackY, float attackWidth, float attackHeight, int damage) {
+        for (int i = 0; i < count; i++) {
+            if (state[i] == STATE_DEATH) {
+                continue;
+            }
+            float hitboxWidth = hitboxWidthByLevel[level[i]];
+            float hitboxHeight = hitboxHeightByLevel[level[i]];
+            float hitboxX = x[i] - hitboxWidth / 2f;
+            float hitboxY = y[i] - hitboxHeight / 2f;
+            if (attackX < hitboxX + hitboxWidth && attackX + attackWidth > hitboxX
+                    && attackY < hitboxY + hitboxHeight && attackY + attackHeight > hitboxY) {
+                health[i] -= damage;
+                if (health[i] <= 0) {
+                    setState(i, STATE_DEATH);
+                    aliveCount--;
+                    killCount++;
+                } else {
+                    setState(i, STATE_HURT);
+                }
+                animationTime[i] = 0f;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indique si un slime de n'importe quel niveau centré en (centerX, centerY) toucherait une
+     * collision de la map (test avec la plus grande hitbox des archétypes).
+     */
+    public boolean isBlocked(float centerX, float centerY) {
+        return isBlocked(centerX, centerY, maxHitboxWidth, maxHitboxHeight);
+    }
+
+    private boolean isBlocked(float centerX, float centerY, float hitboxWidth, float hitboxHeight) {
+        return mapLoader != null && mapLoader.isColliding(
+            centerX - hitboxWidth / 2f, centerY - hitboxHeight / 2f, hitboxWidth, hitboxHeight);
+    }
+
+    public void setEventBus(CombatEventBus events) {
+        this.events = events;
+    }
+
+    /**
+     * Retire tous les slimes et remet le compteur de kills à zéro. Les animations restent chargées.
+     */
+    public void clear() {
+        count = 0;
+        aliveCount = 0;
+        killCount = 0;
+    }
+
+    /**
+     * Oublie les animations partagées (elles appartiennent aux archétypes des slimes).
+     */
+    public void dispose() {
+        clear();
+        for (int lvl = 0; lvl < LEVEL_COUNT; lvl++) {
+            for (Animation<TextureRegion>[] byState : animations[lvl]) {
+                Arrays.fill(byState, null);
+            }
+        }
+    }
+
+    private void setState(int i, byte newState) {
+        if (state[i] != newState) {
+            state[i] = newState;
+            animationTime[i] = 0f;
+        }
+    }
+
+    /**
+     * Direction vers la cible, axe dominant ; mirrorSides inverse SIDE et SIDE_LEFT
+     * comme pour les ennemis (voir EnemyArchetype.isMirrorSides).
+     */
+    private static int directionTo(float dx, float dy, boolean mirrorSides) {
+        if (Math.abs(dx) > Math.abs(dy)) {
+            return (dx > 0) != mirrorSides ? Direction.SIDE.ordinal() : Direction.SIDE_LEFT.ordinal();
+        }
+        return dy > 0 ? Direction.UP.ordinal() : Direction.DOWN.ordinal();
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        health[i] = health[last];
+        state[i] = state[last];
+        direction[i] = direction[last];
+        animationTime[i] = animationTime[last];
+        level[i] = level[last];
+        attackCooldown[i] = attackCooldown[last];
+    }
+
+    private void allocate(int capacity) {
+        if (x == null) {
+            x = new float[capacity];
+            y = new float[capacity];
+            health = new int[capacity];
+            state = new byte[capacity];
+            direction = new byte[capacity];
+            animationTime = new float[capacity];
+            level = new byte[capacity];
+            attackCooldown = new float[capacity];
+            return;
+        }
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        health = Arrays.copyOf(health, capacity);
+        state = Arrays.copyOf(state, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        animationTime = Arrays.copyOf(animationTime, capacity);
+        level = Arrays.copyOf(level, capacity);
+        attackCooldown = Arrays.copyOf(attackCooldown, capacity);
+    }
+
+    /**
+     * Nombre de slimes de l'essaim, mourants compris.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Nombre de slimes vivants.
+     */
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Nombre de slimes tués depuis le dernier clear().
+     */
+    public int getKillCount() {
+        return killCount;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public byte getState(int index) {
+        return state[index];
+    }
+}
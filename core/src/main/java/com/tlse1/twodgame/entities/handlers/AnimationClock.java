@@ -0,0 +1,30 @@
+package com.tlse1.twodgame.entities.handlers;
+
+/**
+ * Horloge d'animation partagée.
+ * Avancée une fois par frame par son propriétaire (GameWorld), elle remplace les compteurs
+ * de temps que chaque AnimationHandler faisait avancer lui-même : un handler ne garde plus
+ * que des horodatages (début de la boucle, de l'attaque, de la blessure) sur cette horloge.
+ *
+ * Le temps est en double pour rester précis sur de longues sessions.
+ */
+public class AnimationClock {
+
+    private double time;
+
+    /**
+     * Fait avancer l'horloge.
+     *
+     * @param deltaTime Temps écoulé depuis la dernière frame
+     */
+    public void advance(float deltaTime) {
+        time += deltaTime;
+    }
+
+    /**
+     * @return Le temps écoulé depuis la création de l'horloge, en secondes
+     */
+    public double getTime() {
+        return time;
+    }
+}
@@ -3,46 +3,73 @@ package com.tlse1.twodgame.entities.handlers;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tlse1.twodgame.ecs.components.SpriteState;
+import com.tlse1.twodgame.utils.CollisionMask;
 import com.tlse1.twodgame.utils.Direction;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Handler pour gérer toutes les animations d'un personnage.
  * Responsable du chargement, de la mise à jour et du rendu des animations.
+ *
+ * Les animations sont rangées dans une table [état][direction]. Au premier changement d'état après
+ * le chargement, les priorités et les fallbacks sont résolus une fois pour toutes les combinaisons
+ * (mort, blessé, attaque, mouvement, course) : choisir l'animation revient ensuite à lire une case.
+ *
+ * Le temps vient d'une AnimationClock : la sienne par défaut (avancée par update), ou celle du monde
+ * (setClock), partagée par tous les personnages et avancée une fois par frame. Le handler ne garde que
+ * des horodatages : début de la boucle en cours (décalage de phase propre à l'entité), de l'attaque et
+ * de la blessure. Un handler hors de la caméra (setVisible(false)) saute sa mise à jour tant qu'aucune
+ * animation unique (attaque, blessure) n'est en cours ; la fin de celles-ci reste exacte.
+ *
+ * L'état du personnage est dans un composant SpriteState (voir getSpriteState), que les systèmes
+ * des ennemis écrivent directement : update() applique leurs changements (direction, mouvement,
+ * attaque demandée) à l'animation jouée.
  */
 public class AnimationHandler {
     
-    // Animations par direction
-    private Map<Direction, Animation<TextureRegion>> idleAnimations;
-    private Map<Direction, Animation<TextureRegion>> walkAnimations;
-    private Map<Direction, Animation<TextureRegion>> runAnimations;
-    private Map<Direction, Animation<TextureRegion>> attackAnimations;
-    private Map<Direction, Animation<TextureRegion>> walkAttackAnimations;
-    private Map<Direction, Animation<TextureRegion>> runAttackAnimations;
-    private Map<Direction, Animation<TextureRegion>> hurtAnimations;
-    private Map<Direction, Animation<TextureRegion>> deathAnimations;
+    // Direction.values() copie le tableau à chaque appel
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final AnimationState[] STATES = AnimationState.values();
+    
+    // Bits de l'état du personnage, combinés en index de la table compilée
+    private static final int FLAG_DEAD = 1;
+    private static final int FLAG_HURT = 2;
+    private static final int FLAG_ATTACKING = 4;
+    private static final int FLAG_MOVING = 8;
+    private static final int FLAG_RUNNING = 16;
+    private static final int FLAG_COMBINATIONS = 32;
+    
+    // Animations chargées, table [état][direction] (null = non chargée)
+    @SuppressWarnings("unchecked")
+    private final Animation<TextureRegion>[][] animations = new Animation[STATES.length][DIRECTIONS.length];
+    // Table compilée [combinaison d'états][direction] : animation à jouer, fallbacks déjà résolus
+    @SuppressWarnings("unchecked")
+    private final Animation<TextureRegion>[][] compiledAnimations = new Animation[FLAG_COMBINATIONS][DIRECTIONS.length];
+    // État de l'animation retenue pour chaque case de la table compilée
+    private final AnimationState[][] compiledStates = new AnimationState[FLAG_COMBINATIONS][DIRECTIONS.length];
+    // Faux après un ajout d'animation : la table est recompilée au prochain changement d'état
+    private boolean compiled;
     
     // Animation actuelle
     private Animation<TextureRegion> currentAnimation;
-    private Direction currentDirection;
+    private AnimationState currentState;
     
-    // État du personnage
-    private boolean isMoving;
-    private boolean isRunning;
-    private boolean isAttacking;
-    private boolean isHurt;
-    private boolean isDead;
+    // État du personnage (direction, mouvement, attaque, blessure, mort, visibilité, taille rendue)
+    private final SpriteState sprite = new SpriteState();
     
-    // Temps d'animation
-    private float stateTime;
-    private float attackStateTime;
-    private float hurtStateTime;
+    // Horloge d'animation et horodatages (début de la boucle ou de la mort, de l'attaque, de la blessure)
+    private AnimationClock clock;
+    // Vrai tant que le handler avance sa propre horloge dans update()
+    private boolean ownsClock;
+    private double stateStart;
+    private double attackStart;
+    private double hurtStart;
     
     // Textures chargées (pour dispose)
     private List<Texture> textures;
@@ -52,62 +79,79 @@ public class AnimationHandler {
     
     public AnimationHandler() {
         this.scale = 4f;
-        this.stateTime = 0f;
-        this.attackStateTime = 0f;
-        this.hurtStateTime = 0f;
-        this.currentDirection = Direction.DOWN;
-        this.isMoving = false;
-        this.isRunning = false;
-        this.isAttacking = false;
-        this.isHurt = false;
-        this.isDead = false;
-        this.idleAnimations = new HashMap<>();
-        this.walkAnimations = new HashMap<>();
-        this.runAnimations = new HashMap<>();
-        this.attackAnimations = new HashMap<>();
-        this.walkAttackAnimations = new HashMap<>();
-        this.runAttackAnimations = new HashMap<>();
-        this.hurtAnimations = new HashMap<>();
-        this.deathAnimations = new HashMap<>();
+        this.clock = new AnimationClock();
+        this.ownsClock = true;
         this.textures = new ArrayList<>();
     }
     
+    /**
+     * Remet l'état d'animation à zéro (idle vers le bas), en gardant les animations chargées.
+     * Utilisé quand un ennemi mort est réutilisé par son pool.
+     */
+    public void reset() {
+        double now = clock.getTime();
+        stateStart = now;
+        attackStart = now;
+        hurtStart = now;
+        sprite.direction = Direction.DOWN;
+        sprite.moving = false;
+        sprite.running = false;
+        sprite.attacking = false;
+        sprite.hurt = false;
+        sprite.dead = false;
+        sprite.attackRequested = false;
+        updateCurrentAnimation();
+    }
+    
     /**
      * Met à jour les animations.
      * 
-     * @param deltaTime Temps écoulé depuis la dernière frame
+     * @param deltaTime Temps écoulé depuis la dernière frame (ignoré avec une horloge partagée)
      */
     public void update(float deltaTime) {
-        // Si le personnage est mort, continuer à mettre à jour stateTime pour l'animation de mort
-        if (isDead) {
-            stateTime += deltaTime;
+        if (ownsClock) {
+            clock.advance(deltaTime);
+        }
+        
+        // Attaque demandée depuis la dernière mise à jour (voir SpriteState.attackRequested)
+        boolean attackRequested = sprite.attackRequested;
+        sprite.attackRequested = false;
+        
+        // Hors de la caméra, seules les animations uniques ont un effet (fin de l'attaque, de la blessure)
+        if (!sprite.visible && !sprite.attacking && !sprite.hurt && !attackRequested) {
+            return;
+        }
+        
+        // Si le personnage est mort, l'animation de mort avance avec l'horloge
+        if (sprite.dead) {
             updateCurrentAnimation();
             return;
         }
         
-        stateTime += deltaTime;
+        double now = clock.getTime();
         
         // Gérer l'animation de blessure
-        if (isHurt) {
-            hurtStateTime += deltaTime;
-            if (currentAnimation != null && hurtStateTime >= currentAnimation.getAnimationDuration()) {
-                isHurt = false;
-                hurtStateTime = 0f;
+        if (sprite.hurt) {
+            if (currentAnimation != null && now - hurtStart >= currentAnimation.getAnimationDuration()) {
+                sprite.hurt = false;
+                hurtStart = now;
             }
         }
         
         // Gérer l'animation d'attaque
-        if (isAttacking) {
-            attackStateTime += deltaTime;
+        if (sprite.attacking) {
             if (currentAnimation != null) {
                 float animationDuration = currentAnimation.getAnimationDuration();
-                if (attackStateTime >= animationDuration) {
-                    isAttacking = false;
-                    attackStateTime = 0f;
+                if (now - attackStart >= animationDuration) {
+                    sprite.attacking = false;
+                    attackStart = now;
                 }
             }
         }
         
+        if (attackRequested) {
+            attack();
+        }
         updateCurrentAnimation();
     }
     
@@ -116,121 +160,190 @@ public class AnimationHandler {
      * Priorité : death > hurt > run_attack > walk_attack > attack > run > walk > idle
      */
     private void updateCurrentAnimation() {
-        Map<Direction, Animation<TextureRegion>> animations;
-        
-        if (isDead && !deathAnimations.isEmpty()) {
-            animations = deathAnimations;
-        } else if (isHurt && !hurtAnimations.isEmpty()) {
-            animations = hurtAnimations;
-        } else if (isAttacking && isMoving && isRunning && !runAttackAnimations.isEmpty()) {
-            animations = runAttackAnimations;
-        } else if (isAttacking && isMoving && !walkAttackAnimations.isEmpty()) {
-            animations = walkAttackAnimations;
-        } else if (isAttacking && !attackAnimations.isEmpty()) {
-            animations = attackAnimations;
-        } else if (isMoving && isRunning && !runAnimations.isEmpty()) {
-            animations = runAnimations;
-        } else if (isMoving && !walkAnimations.isEmpty()) {
-            animations = walkAnimations;
-        } else {
-            animations = idleAnimations;
+        if (!compiled) {
+            compile();
         }
         
-        Animation<TextureRegion> newAnimation = animations.get(currentDirection);
+        int flags = currentFlags();
+        int direction = sprite.direction.ordinal();
+        Animation<TextureRegion> newAnimation = compiledAnimations[flags][direction];
         
-        // Log si aucune animation trouvée (pour déboguer)
-        if (newAnimation == null && !animations.isEmpty()) {
-            // Essayer de trouver une animation dans une autre direction comme fallback
-            for (Direction dir : Direction.values()) {
-                Animation<TextureRegion> fallback = animations.get(dir);
-                if (fallback != null) {
-                    newAnimation = fallback;
-                    break;
-                }
+        if (newAnimation != null && newAnimation != currentAnimation) {
+            currentAnimation = newAnimation;
+            currentState = compiledStates[flags][direction];
+            double now = clock.getTime();
+            if (sprite.dead) {
+                stateStart = now;
+            } else if (sprite.hurt) {
+                hurtStart = now;
+            } else if (sprite.attacking) {
+                attackStart = now;
+            } else {
+                stateStart = now;
             }
         }
-        
-        // Fallbacks
-        if (newAnimation == null && isAttacking && isMoving && isRunning) {
-            newAnimation = walkAttackAnimations.get(currentDirection);
-            if (newAnimation == null) {
-                newAnimation = attackAnimations.get(currentDirection);
-            }
+    }
+    
+    /**
+     * Combine les booléens d'état en index de la table compilée.
+     */
+    private int currentFlags() {
+        int flags = 0;
+        if (sprite.dead) {
+            flags |= FLAG_DEAD;
         }
-        if (newAnimation == null && isAttacking && isMoving) {
-            newAnimation = attackAnimations.get(currentDirection);
+        if (sprite.hurt) {
+            flags |= FLAG_HURT;
         }
-        if (newAnimation == null && isAttacking) {
-            newAnimation = runAnimations.get(currentDirection);
-            if (newAnimation == null) {
-                newAnimation = walkAnimations.get(currentDirection);
-            }
-            if (newAnimation == null) {
-                newAnimation = idleAnimations.get(currentDirection);
-            }
+        if (sprite.attacking) {
+            flags |= FLAG_ATTACKING;
+        }
+        if (sprite.moving) {
+            flags |= FLAG_MOVING;
         }
-        if (newAnimation == null && isMoving && isRunning) {
-            newAnimation = walkAnimations.get(currentDirection);
+        if (sprite.running) {
+            flags |= FLAG_RUNNING;
+        }
+        return flags;
+    }
+    
+    /**
+     * Résout l'animation de chaque combinaison d'états et de chaque direction.
+     */
+    private void compile() {
+        for (int flags = 0; flags < FLAG_COMBINATIONS; flags++) {
+            Arrays.fill(compiledAnimations[flags], null);
+            Arrays.fill(compiledStates[flags], null);
+            for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+                resolve(flags, direction);
+            }
         }
-        if (newAnimation == null && isMoving) {
-            newAnimation = idleAnimations.get(currentDirection);
+        compiled = true;
+    }
+    
+    /**
+     * Résout l'animation d'une combinaison d'états dans une direction.
+     * On prend le premier état chargé selon la priorité, dans la direction demandée ou à défaut
+     * dans la première direction chargée ; si même idle manque, on essaie les états voisins.
+     */
+    private void resolve(int flags, int direction) {
+        boolean dead = (flags & FLAG_DEAD) != 0;
+        boolean hurt = (flags & FLAG_HURT) != 0;
+        boolean attacking = (flags & FLAG_ATTACKING) != 0;
+        boolean moving = (flags & FLAG_MOVING) != 0;
+        boolean running = (flags & FLAG_RUNNING) != 0;
+        
+        AnimationState state;
+        if (dead && isLoaded(AnimationState.DEATH)) {
+            state = AnimationState.DEATH;
+        } else if (hurt && isLoaded(AnimationState.HURT)) {
+            state = AnimationState.HURT;
+        } else if (attacking && moving && running && isLoaded(AnimationState.RUN_ATTACK)) {
+            state = AnimationState.RUN_ATTACK;
+        } else if (attacking && moving && isLoaded(AnimationState.WALK_ATTACK)) {
+            state = AnimationState.WALK_ATTACK;
+        } else if (attacking && isLoaded(AnimationState.ATTACK)) {
+            state = AnimationState.ATTACK;
+        } else if (moving && running && isLoaded(AnimationState.RUN)) {
+            state = AnimationState.RUN;
+        } else if (moving && isLoaded(AnimationState.WALK)) {
+            state = AnimationState.WALK;
+        } else {
+            state = AnimationState.IDLE;
         }
-        if (newAnimation == null && !animations.isEmpty()) {
-            newAnimation = animations.values().iterator().next();
+        
+        // Direction demandée, puis n'importe quelle direction chargée de l'état
+        choose(flags, direction, state, direction);
+        for (int other = 0; other < DIRECTIONS.length; other++) {
+            choose(flags, direction, state, other);
         }
         
-        if (newAnimation != null && newAnimation != currentAnimation) {
-            currentAnimation = newAnimation;
-            if (isDead) {
-                stateTime = 0f;
-            } else if (isHurt) {
-                hurtStateTime = 0f;
-            } else if (isAttacking) {
-                attackStateTime = 0f;
-            } else {
-                stateTime = 0f;
+        // Fallbacks vers d'autres états (idle non chargé)
+        if (attacking && moving && running) {
+            choose(flags, direction, AnimationState.WALK_ATTACK, direction);
+            choose(flags, direction, AnimationState.ATTACK, direction);
+        }
+        if (attacking && moving) {
+            choose(flags, direction, AnimationState.ATTACK, direction);
+        }
+        if (attacking) {
+            choose(flags, direction, AnimationState.RUN, direction);
+            choose(flags, direction, AnimationState.WALK, direction);
+            choose(flags, direction, AnimationState.IDLE, direction);
+        }
+        if (moving && running) {
+            choose(flags, direction, AnimationState.WALK, direction);
+        }
+        if (moving) {
+            choose(flags, direction, AnimationState.IDLE, direction);
+        }
+    }
+    
+    /**
+     * Retient l'animation d'un état si la case compilée est encore vide.
+     */
+    private void choose(int flags, int direction, AnimationState state, int sourceDirection) {
+        if (compiledAnimations[flags][direction] != null) {
+            return;
+        }
+        Animation<TextureRegion> animation = animations[state.ordinal()][sourceDirection];
+        if (animation != null) {
+            compiledAnimations[flags][direction] = animation;
+            compiledStates[flags][direction] = state;
+        }
+    }
+    
+    private boolean isLoaded(AnimationState state) {
+        for (Animation<TextureRegion> animation : animations[state.ordinal()]) {
+            if (animation != null) {
+                return true;
             }
         }
+        return false;
     }
     
     /**
-     * Dessine l'animation actuelle.
+     * Dessine l'animation actuelle et retient ses dimensions rendues dans l'état
+     * (SpriteState.width et height, 0 si rien n'est dessiné).
      * 
-     * @param batch SpriteBatch pour le rendu
+     * @param batch Batch pour le rendu
      * @param x Position X
      * @param y Position Y
-     * @return Dimensions rendues [width, height]
      */
-    public float[] render(SpriteBatch batch, float x, float y) {
+    public void render(Batch batch, float x, float y) {
         if (currentAnimation == null) {
-            return new float[]{0, 0};
+            setRenderSize(0f, 0f);
+            return;
         }
         
         float animTime;
         boolean looping;
         
-        if (isDead) {
-            animTime = stateTime;
+        double now = clock.getTime();
+        if (sprite.dead) {
+            animTime = (float) (now - stateStart);
             looping = false;
             
             // Si l'animation de mort est terminée, ne pas rendre le personnage (il disparaît)
-            if (currentAnimation != null && stateTime >= currentAnimation.getAnimationDuration()) {
-                return new float[]{0, 0};
+            if (currentAnimation != null && animTime >= currentAnimation.getAnimationDuration()) {
+                setRenderSize(0f, 0f);
+                return;
             }
-        } else if (isHurt) {
-            animTime = hurtStateTime;
+        } else if (sprite.hurt) {
+            animTime = (float) (now - hurtStart);
             looping = false;
-        } else if (isAttacking) {
-            animTime = attackStateTime;
+        } else if (sprite.attacking) {
+            animTime = (float) (now - attackStart);
             looping = false;
         } else {
-            animTime = stateTime;
+            animTime = (float) (now - stateStart);
             looping = true;
         }
         
         TextureRegion frame = currentAnimation.getKeyFrame(animTime, looping);
         if (frame == null) {
-            return new float[]{0, 0};
+            setRenderSize(0f, 0f);
+            return;
         }
         
         float renderWidth = frame.getRegionWidth() * scale;
@@ -238,7 +351,12 @@ public class AnimationHandler {
         
         batch.draw(frame, x, y, renderWidth, renderHeight);
         
-        return new float[]{renderWidth, renderHeight};
+        setRenderSize(renderWidth, renderHeight);
+    }
+    
+    private void setRenderSize(float width, float height) {
+        sprite.width = width;
+        sprite.height = height;
     }
     
     /**
@@ -254,33 +372,49 @@ public class AnimationHandler {
         float animTime;
         boolean looping;
         
-        if (isDead) {
-            animTime = stateTime;
+        double now = clock.getTime();
+        if (sprite.dead) {
+            animTime = (float) (now - stateStart);
             looping = false;
-        } else if (isHurt) {
-            animTime = hurtStateTime;
+        } else if (sprite.hurt) {
+            animTime = (float) (now - hurtStart);
             looping = false;
-        } else if (isAttacking) {
-            animTime = attackStateTime;
+        } else if (sprite.attacking) {
+            animTime = (float) (now - attackStart);
             looping = false;
         } else {
-            animTime = stateTime;
+            animTime = (float) (now - stateStart);
             looping = true;
         }
         
         return currentAnimation.getKeyFrameIndex(animTime);
     }
     
+    /**
+     * Obtient le masque de collision de la frame actuelle, à la taille du rendu (voir render()).
+     * 
+     * @return Le masque, ou null si aucune animation ou si la frame n'a pas de masque
+     */
+    public CollisionMask getCurrentMask() {
+        int frameIndex = getCurrentFrameIndex();
+        if (frameIndex < 0) {
+            return null;
+        }
+        TextureRegion frame = currentAnimation.getKeyFrames()[frameIndex];
+        if (!(frame instanceof MaskedRegion)) {
+            return null;
+        }
+        CollisionMask mask = ((MaskedRegion) frame).getMask();
+        return mask != null ? mask.atScale(scale) : null;
+    }
+    
     /**
      * Vérifie si l'animation actuelle est une animation d'attaque.
      * 
      * @return true si en train d'attaquer
      */
     public boolean isAttackAnimation() {
-        return isAttacking && currentAnimation != null && 
-               (attackAnimations.containsValue(currentAnimation) ||
-                walkAttackAnimations.containsValue(currentAnimation) ||
-                runAttackAnimations.containsValue(currentAnimation));
+        return sprite.attacking && currentAnimation != null && currentState != null && currentState.isAttack();
     }
     
     /**
@@ -289,110 +423,99 @@ public class AnimationHandler {
      * @return "attack", "walk_attack", "run_attack", ou null si pas en attaque
      */
     public String getAttackAnimationType() {
-        if (!isAttacking || currentAnimation == null) {
+        if (!isAttackAnimation()) {
             return null;
         }
-        
-        // Vérifier dans l'ordre de priorité : run_attack > walk_attack > attack
-        for (Animation<TextureRegion> anim : runAttackAnimations.values()) {
-            if (anim == currentAnimation) {
-                return "run_attack";
-            }
-        }
-        for (Animation<TextureRegion> anim : walkAttackAnimations.values()) {
-            if (anim == currentAnimation) {
-                return "walk_attack";
-            }
-        }
-        for (Animation<TextureRegion> anim : attackAnimations.values()) {
-            if (anim == currentAnimation) {
-                return "attack";
-            }
-        }
-        
-        return null;
+        return currentState.getType();
     }
     
     /**
      * Libère les ressources.
      */
     public void dispose() {
+        // Les textures sont partagées entre entités : AnimationLoader les libère à la dernière référence
         for (Texture texture : textures) {
             if (texture != null) {
-                texture.dispose();
+                AnimationLoader.releaseTexture(texture);
             }
         }
         textures.clear();
-        idleAnimations.clear();
-        walkAnimations.clear();
-        runAnimations.clear();
-        attackAnimations.clear();
-        walkAttackAnimations.clear();
-        runAttackAnimations.clear();
-        hurtAnimations.clear();
-        deathAnimations.clear();
+        for (Animation<TextureRegion>[] byDirection : animations) {
+            Arrays.fill(byDirection, null);
+        }
+        compiled = false;
     }
     
     // Getters et Setters
+    
+    /**
+     * Retourne l'état du personnage, composant partagé avec l'entité d'un ennemi (voir EnemyEntities).
+     * 
+     * @return L'état d'animation
+     */
+    public SpriteState getSpriteState() {
+        return sprite;
+    }
+    
     public Direction getCurrentDirection() {
-        return currentDirection;
+        return sprite.direction;
     }
     
     public void setCurrentDirection(Direction direction) {
-        this.currentDirection = direction;
+        sprite.direction = direction;
         updateCurrentAnimation();
     }
     
     public boolean isMoving() {
-        return isMoving;
+        return sprite.moving;
     }
     
     public void setMoving(boolean moving) {
-        if (this.isMoving != moving) {
-            this.isMoving = moving;
+        if (sprite.moving != moving) {
+            sprite.moving = moving;
             updateCurrentAnimation();
         }
     }
     
     public boolean isRunning() {
-        return isRunning;
+        return sprite.running;
     }
     
     public void setRunning(boolean running) {
-        if (this.isRunning != running) {
-            this.isRunning = running;
+        if (sprite.running != running) {
+            sprite.running = running;
             updateCurrentAnimation();
         }
     }
     
     public boolean isAttacking() {
-        return isAttacking;
+        return sprite.attacking;
     }
     
     public void attack() {
-        if (!isAttacking) {
-            isAttacking = true;
-            attackStateTime = 0f;
+        if (!sprite.attacking) {
+            sprite.attacking = true;
+            attackStart = clock.getTime();
             updateCurrentAnimation();
         }
     }
     
     public boolean isHurt() {
-        return isHurt;
+        return sprite.hurt;
     }
     
     public void setHurt(boolean hurt) {
-        if (this.isHurt != hurt) {
-            this.isHurt = hurt;
+        if (sprite.hurt != hurt) {
+            sprite.hurt = hurt;
             if (hurt) {
-                hurtStateTime = 0f;
+                hurtStart = clock.getTime();
             }
             updateCurrentAnimation();
         }
     }
     
     public boolean isDead() {
-        return isDead;
+        return sprite.dead;
     }
     
     /**
@@ -404,20 +527,62 @@ public class AnimationHandler {
         return currentAnimation;
     }
     
+    /**
+     * Retourne l'état de l'animation actuelle.
+     * 
+     * @return L'état, ou null si aucune animation n'est jouée
+     */
+    public AnimationState getCurrentState() {
+        return currentState;
+    }
+    
     public void setDead(boolean dead) {
-        if (this.isDead != dead) {
-            this.isDead = dead;
+        if (sprite.dead != dead) {
+            sprite.dead = dead;
             if (dead) {
-                stateTime = 0f;
-                isMoving = false;
-                isRunning = false;
-                isAttacking = false;
-                isHurt = false;
+                stateStart = clock.getTime();
+                sprite.moving = false;
+                sprite.running = false;
+                sprite.attacking = false;
+                sprite.hurt = false;
             }
             updateCurrentAnimation();
         }
     }
     
+    /**
+     * Branche le handler sur une horloge partagée, avancée par son propriétaire une fois par frame.
+     * Les horodatages en cours sont transposés pour que l'animation reprenne au même point.
+     * 
+     * @param clock L'horloge partagée
+     */
+    public void setClock(AnimationClock clock) {
+        double offset = clock.getTime() - this.clock.getTime();
+        stateStart += offset;
+        attackStart += offset;
+        hurtStart += offset;
+        this.clock = clock;
+        this.ownsClock = false;
+    }
+    
+    public AnimationClock getClock() {
+        return clock;
+    }
+    
+    public boolean isVisible() {
+        return sprite.visible;
+    }
+    
+    /**
+     * Indique si le personnage est dans la vue de la caméra.
+     * Hors de la vue, update() saute l'animation (voir la description de la classe).
+     * 
+     * @param visible true si le personnage est visible
+     */
+    public void setVisible(boolean visible) {
+        sprite.visible = visible;
+    }
+    
     public float getScale() {
         return scale;
     }
@@ -426,37 +591,73 @@ public class AnimationHandler {
         this.scale = scale;
     }
     
+    /**
+     * Retourne une animation chargée, par type et direction.
+     * Permet de partager les animations d'un handler entre plusieurs entités (essaim de la horde).
+     * 
+     * @param animationType Type d'animation (idle, walk, run, attack, walk_attack, run_attack, hurt, death)
+     * @param direction Direction
+     * @return L'animation, ou null si elle n'est pas chargée
+     */
+    public Animation<TextureRegion> getAnimation(String animationType, Direction direction) {
+        AnimationState state = AnimationState.fromType(animationType);
+        return state != null ? getAnimation(state, direction) : null;
+    }
+    
+    /**
+     * Retourne une animation chargée, par état et direction.
+     * 
+     * @param state État d'animation
+     * @param direction Direction
+     * @return L'animation, ou null si elle n'est pas chargée
+     */
+    public Animation<TextureRegion> getAnimation(AnimationState state, Direction direction) {
+        return animations[state.ordinal()][direction.ordinal()];
+    }
+    
+    /**
+     * Ajoute une animation ; la table des fallbacks sera recompilée au prochain changement d'état.
+     * 
+     * @param state État d'animation
+     * @param direction Direction
+     * @param animation Animation
+     */
+    public void addAnimation(AnimationState state, Direction direction, Animation<TextureRegion> animation) {
+        animations[state.ordinal()][direction.ordinal()] = animation;
+        compiled = false;
+    }
+    
     // Méthodes pour ajouter des animations (utilisées par les classes filles)
     public void addIdleAnimation(Direction direction, Animation<TextureRegion> animation) {
-        idleAnimations.put(direction, animation);
+        addAnimation(AnimationState.IDLE, direction, animation);
     }
     
     public void addWalkAnimation(Direction direction, Animation<TextureRegion> animation) {
-        walkAnimations.put(direction, animation);
+        addAnimation(AnimationState.WALK, direction, animation);
     }
     
     public void addRunAnimation(Direction direction, Animation<TextureRegion> animation) {
-        runAnimations.put(direction, animation);
+        addAnimation(AnimationState.RUN, direction, animation);
     }
     
     public void addAttackAnimation(Direction direction, Animation<TextureRegion> animation) {
-        attackAnimations.put(direction, animation);
+        addAnimation(AnimationState.ATTACK, direction, animation);
     }
     
     public void addWalkAttackAnimation(Direction direction, Animation<TextureRegion> animation) {
-        walkAttackAnimations.put(direction, animation);
+        addAnimation(AnimationState.WALK_ATTACK, direction, animation);
     }
     
     public void addRunAttackAnimation(Direction direction, Animation<TextureRegion> animation) {
-        runAttackAnimations.put(direction, animation);
+        addAnimation(AnimationState.RUN_ATTACK, direction, animation);
     }
     
     public void addHurtAnimation(Direction direction, Animation<TextureRegion> animation) {
-        hurtAnimations.put(direction, animation);
+        addAnimation(AnimationState.HURT, direction, animation);
     }
     
     public void addDeathAnimation(Direction direction, Animation<TextureRegion> animation) {
-        deathAnimations.put(direction, animation);
+        addAnimation(AnimationState.DEATH, direction, animation);
     }
     
     public void addTexture(Texture texture) {
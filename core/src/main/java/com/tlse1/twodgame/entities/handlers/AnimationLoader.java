@@ -1,21 +1,58 @@
 package com.tlse1.twodgame.entities.handlers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.tlse1.twodgame.utils.CollisionMask;
 import com.tlse1.twodgame.utils.Direction;
+import com.tlse1.twodgame.utils.DisposableTracker;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utilitaire pour charger les animations depuis des fichiers JSON.
+ *
+ * Les textures et les JSON de sprites sont partagés entre toutes les entités : une texture
+ * est chargée au premier personnage qui l'utilise et libérée quand le dernier handler
+ * qui la référence est libéré. Recréer un joueur ou faire réapparaître un slime
+ * ne relit donc aucun fichier tant qu'une entité du même type est vivante.
+ *
+ * Chaque frame reçoit aussi le masque de collision de ses pixels opaques (voir MaskedRegion),
+ * calculé une seule fois par planche depuis son PNG et gardé pour toute la durée du jeu.
  */
 public class AnimationLoader {
     
+    /**
+     * Texture partagée et nombre de handlers qui la référencent.
+     */
+    private static class SharedTexture {
+        final String path;
+        final Texture texture;
+        int references;
+        
+        SharedTexture(String path, Texture texture) {
+            this.path = path;
+            this.texture = texture;
+        }
+    }
+    
+    private static final Map<String, SharedTexture> texturesByPath = new HashMap<>();
+    private static final Map<Texture, SharedTexture> texturesByInstance = new IdentityHashMap<>();
+    // Données de sprites parsées (quelques Ko, gardées pour toute la durée du jeu)
+    private static final Map<String, JsonValue> spritesDataByPath = new HashMap<>();
+    // Masques de collision par planche, puis par sprite du JSON (quelques centaines d'octets par frame)
+    private static final Map<String, Map<JsonValue, CollisionMask>> masksByPath = new HashMap<>();
+    // Opacité minimale d'un pixel du masque : les ombres des planches "With_shadow" (alpha 89) n'en font pas partie
+    private static final int MASK_ALPHA_THRESHOLD = 128;
+    
     /**
      * Charge une animation depuis un fichier JSON et l'ajoute au handler.
      * 
@@ -30,12 +67,11 @@ public class AnimationLoader {
     public static void loadAnimation(AnimationHandler handler, String jsonPath, String pngPath,
                                     String animationType, float frameDuration, int[] yRanges, boolean looping) {
         try {
-            JsonReader jsonReader = new JsonReader();
-            JsonValue spritesData = jsonReader.parse(Gdx.files.internal(jsonPath));
+            JsonValue spritesData = getSpritesData(jsonPath);
             
-            Texture texture = new Texture(Gdx.files.internal(pngPath));
-            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            Texture texture = acquireTexture(pngPath);
             handler.addTexture(texture);
+            Map<JsonValue, CollisionMask> masks = getMasks(pngPath, spritesData);
             
             List<JsonValue> downSprites = new ArrayList<>();
             List<JsonValue> sideLeftSprites = new ArrayList<>();
@@ -64,10 +100,10 @@ public class AnimationLoader {
             upSprites.sort((a, b) -> a.getInt("x") - b.getInt("x"));
             
             // Créer les animations
-            createAndAddAnimation(handler, downSprites, Direction.DOWN, texture, frameDuration, animationType, looping);
-            createAndAddAnimation(handler, sideLeftSprites, Direction.SIDE_LEFT, texture, frameDuration, animationType, looping);
-            createAndAddAnimation(handler, sideSprites, Direction.SIDE, texture, frameDuration, animationType, looping);
-            createAndAddAnimation(handler, upSprites, Direction.UP, texture, frameDuration, animationType, looping);
+            createAndAddAnimation(handler, downSprites, Direction.DOWN, texture, masks, frameDuration, animationType, looping);
+            createAndAddAnimation(handler, sideLeftSprites, Direction.SIDE_LEFT, texture, masks, frameDuration, animationType, looping);
+            createAndAddAnimation(handler, sideSprites, Direction.SIDE, texture, masks, frameDuration, animationType, looping);
+            createAndAddAnimation(handler, upSprites, Direction.UP, texture, masks, frameDuration, animationType, looping);
             
             // Compter le nombre de directions avec des sprites
             int directionsCount = 0;
@@ -85,8 +121,105 @@ public class AnimationLoader {
         }
     }
     
+    /**
+     * Relâche une texture obtenue par loadAnimation. Elle est libérée quand plus aucun handler
+     * ne la référence. Une texture qui ne vient pas du cache est libérée directement.
+     */
+    public static synchronized void releaseTexture(Texture texture) {
+        SharedTexture shared = texturesByInstance.get(texture);
+        if (shared == null) {
+            texture.dispose();
+            return;
+        }
+        shared.references--;
+        if (shared.references <= 0) {
+            texturesByInstance.remove(texture);
+            texturesByPath.remove(shared.path);
+            texture.dispose();
+        }
+    }
+    
+    /**
+     * Nombre de textures d'animation actuellement chargées.
+     */
+    public static synchronized int getLoadedTextureCount() {
+        return texturesByPath.size();
+    }
+    
+    private static synchronized Texture acquireTexture(String pngPath) {
+        SharedTexture shared = texturesByPath.get(pngPath);
+        if (shared == null) {
+            Texture texture = DisposableTracker.texture(pngPath);
+            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            shared = new SharedTexture(pngPath, texture);
+            texturesByPath.put(pngPath, shared);
+            texturesByInstance.put(texture, shared);
+        }
+        shared.references++;
+        return shared.texture;
+    }
+    
+    private static synchronized JsonValue getSpritesData(String jsonPath) {
+        JsonValue spritesData = spritesDataByPath.get(jsonPath);
+        if (spritesData == null) {
+            spritesData = new JsonReader().parse(Gdx.files.internal(jsonPath));
+            spritesDataByPath.put(jsonPath, spritesData);
+        }
+        return spritesData;
+    }
+    
+    /**
+     * Retourne les masques de collision des sprites d'une planche, calculés au premier appel
+     * depuis le PNG. En cas d'erreur de lecture, les frames n'ont pas de masque (hitbox seule).
+     */
+    private static synchronized Map<JsonValue, CollisionMask> getMasks(String pngPath, JsonValue spritesData) {
+        Map<JsonValue, CollisionMask> masks = masksByPath.get(pngPath);
+        if (masks == null) {
+            masks = new IdentityHashMap<>();
+            masksByPath.put(pngPath, masks);
+        }
+        if (masks.containsKey(spritesData.child)) {
+            return masks;
+        }
+        
+        Pixmap pixmap = null;
+        try {
+            pixmap = new Pixmap(Gdx.files.internal(pngPath));
+            for (JsonValue sprite = spritesData.child; sprite != null; sprite = sprite.next) {
+                masks.put(sprite, createMask(pixmap, sprite.getInt("x"), sprite.getInt("y"),
+                    sprite.getInt("width"), sprite.getInt("height")));
+            }
+        } catch (Exception e) {
+            Gdx.app.error("AnimationLoader", "Erreur lors du calcul des masques de collision de " + pngPath, e);
+        } finally {
+            if (pixmap != null) {
+                pixmap.dispose();
+            }
+        }
+        return masks;
+    }
+    
+    /**
+     * Calcule le masque d'une frame : un bit par pixel assez opaque, lignes du bas vers le haut.
+     */
+    private static CollisionMask createMask(Pixmap pixmap, int x, int y, int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        for (int row = 0; row < height; row++) {
+            // Le Pixmap compte les lignes depuis le haut, le masque depuis le bas
+            int pixmapY = y + height - 1 - row;
+            for (int column = 0; column < width; column++) {
+                // getPixel() retourne du RGBA8888 : l'alpha est l'octet de poids faible
+                if ((pixmap.getPixel(x + column, pixmapY) & 0xff) >= MASK_ALPHA_THRESHOLD) {
+                    mask.setOpaque(column, row);
+                }
+            }
+        }
+        return mask;
+    }
+    
     private static void createAndAddAnimation(AnimationHandler handler, List<JsonValue> sprites,
-                                             Direction direction, Texture texture, float frameDuration,
+                                             Direction direction, Texture texture,
+                                             Map<JsonValue, CollisionMask> masks, float frameDuration,
                                              String animationType, boolean looping) {
         if (sprites.isEmpty()) {
             return;
@@ -99,7 +232,7 @@ public class AnimationLoader {
         boolean needsEmptySprite = animationType.equals("death") && actualSprites < expectedSpritesPerDirection;
         
         int totalFrames = needsEmptySprite ? expectedSpritesPerDirection : actualSprites;
-        TextureRegion[] frames = new TextureRegion[totalFrames];
+        MaskedRegion[] frames = new MaskedRegion[totalFrames];
         
         // Charger tous les sprites existants
         for (int i = 0; i < sprites.size(); i++) {
@@ -109,7 +242,7 @@ public class AnimationLoader {
             int width = sprite.getInt("width");
             int height = sprite.getInt("height");
             
-            frames[i] = new TextureRegion(texture, x, y, width, height);
+            frames[i] = new MaskedRegion(texture, x, y, width, height, masks.get(sprite));
         }
         
         // Ajouter un sprite vide (12e frame) pour les animations de mort avec 11 sprites
@@ -117,38 +250,16 @@ public class AnimationLoader {
         if (needsEmptySprite) {
             // Dupliquer le dernier sprite comme 12e frame
             // Quand l'animation atteint cette frame, elle se termine et le vampire disparaît
-            frames[actualSprites] = new TextureRegion(frames[actualSprites - 1]);
+            frames[actualSprites] = new MaskedRegion(frames[actualSprites - 1]);
         }
         
         Animation<TextureRegion> animation = new Animation<>(frameDuration, frames);
         animation.setPlayMode(looping ? Animation.PlayMode.LOOP : Animation.PlayMode.NORMAL);
         
         // Ajouter l'animation au handler selon le type
-        switch (animationType) {
-            case "idle":
-                handler.addIdleAnimation(direction, animation);
-                break;
-            case "walk":
-                handler.addWalkAnimation(direction, animation);
-                break;
-            case "run":
-                handler.addRunAnimation(direction, animation);
-                break;
-            case "attack":
-                handler.addAttackAnimation(direction, animation);
-                break;
-            case "walk_attack":
-                handler.addWalkAttackAnimation(direction, animation);
-                break;
-            case "run_attack":
-                handler.addRunAttackAnimation(direction, animation);
-                break;
-            case "hurt":
-                handler.addHurtAnimation(direction, animation);
-                break;
-            case "death":
-                handler.addDeathAnimation(direction, animation);
-                break;
+        AnimationState state = AnimationState.fromType(animationType);
+        if (state != null) {
+            handler.addAnimation(state, direction, animation);
         }
     }
 }
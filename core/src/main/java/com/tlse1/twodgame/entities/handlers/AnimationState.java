@@ -0,0 +1,55 @@
+package com.tlse1.twodgame.entities.handlers;
+
+/**
+ * États d'animation d'un personnage, dans l'ordre des tables de l'AnimationHandler.
+ * Chaque état porte le nom de type utilisé dans les fichiers de sprites et les hitboxes d'attaque.
+ */
+public enum AnimationState {
+    IDLE("idle", false),
+    WALK("walk", false),
+    RUN("run", false),
+    ATTACK("attack", true),
+    WALK_ATTACK("walk_attack", true),
+    RUN_ATTACK("run_attack", true),
+    HURT("hurt", false),
+    DEATH("death", false);
+
+    private static final AnimationState[] VALUES = values();
+
+    private final String type;
+    private final boolean attack;
+
+    AnimationState(String type, boolean attack) {
+        this.type = type;
+        this.attack = attack;
+    }
+
+    /**
+     * Retourne l'état correspondant à un type d'animation.
+     *
+     * @param type Type d'animation (idle, walk, run, attack, walk_attack, run_attack, hurt, death)
+     * @return L'état, ou null si le type est inconnu
+     */
+    public static AnimationState fromType(String type) {
+        for (AnimationState state : VALUES) {
+            if (state.type.equals(type)) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Le nom du type d'animation ("idle", "walk_attack"...)
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return true pour les trois animations d'attaque
+     */
+    public boolean isAttack() {
+        return attack;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tlse1.twodgame.entities.handlers;
 
+import com.badlogic.gdx.math.Vector2;
 import com.tlse1.twodgame.managers.JsonMapLoader;
 import com.tlse1.twodgame.utils.Direction;
 
@@ -27,27 +28,30 @@ public class CollisionHandler {
     }
     
     /**
-     * Calcule la position de la hitbox centrée à partir de la position du sprite.
+     * Calcule la coordonnée X de la hitbox centrée à partir de la position X du sprite.
      * 
      * @param spriteX Position X du sprite (coin bas-gauche)
-     * @param spriteY Position Y du sprite (coin bas-gauche)
-     * @return Position [x, y] de la hitbox (coin bas-gauche)
+     * @return Position X de la hitbox (coin bas-gauche)
      */
-    private float[] calculateHitboxPosition(float spriteX, float spriteY) {
+    private float hitboxX(float spriteX) {
         // Si les dimensions du sprite ne sont pas définies, utiliser directement la position du sprite
         if (spriteWidth <= 0 || spriteHeight <= 0) {
-            return new float[]{spriteX, spriteY};
+            return spriteX;
         }
-        
-        // Calculer le centre du sprite
-        float spriteCenterX = spriteX + spriteWidth / 2f;
-        float spriteCenterY = spriteY + spriteHeight / 2f;
-        
-        // Calculer la position de la hitbox centrée (coin bas-gauche)
-        float hitboxX = spriteCenterX - entityWidth / 2f;
-        float hitboxY = spriteCenterY - entityHeight / 2f;
-        
-        return new float[]{hitboxX, hitboxY};
+        return spriteX + spriteWidth / 2f - entityWidth / 2f;
+    }
+    
+    /**
+     * Calcule la coordonnée Y de la hitbox centrée à partir de la position Y du sprite.
+     * 
+     * @param spriteY Position Y du sprite (coin bas-gauche)
+     * @return Position Y de la hitbox (coin bas-gauche)
+     */
+    private float hitboxY(float spriteY) {
+        if (spriteWidth <= 0 || spriteHeight <= 0) {
+            return spriteY;
+        }
+        return spriteY + spriteHeight / 2f - entityHeight / 2f;
     }
     
     /**
@@ -63,12 +67,8 @@ public class CollisionHandler {
             return true; // Pas de map = toujours valide
         }
         
-        // Calculer la position de la hitbox centrée
-        float[] hitboxPos = calculateHitboxPosition(spriteX, spriteY);
-        float hitboxX = hitboxPos[0];
-        float hitboxY = hitboxPos[1];
-        
-        boolean colliding = mapLoader.isColliding(hitboxX, hitboxY, entityWidth, entityHeight);
+        // Calculer la position de la hitbox centrée (sans tableau intermédiaire : appelé plusieurs fois par déplacement)
+        boolean colliding = mapLoader.isColliding(hitboxX(spriteX), hitboxY(spriteY), entityWidth, entityHeight);
         return !colliding;
     }
     
@@ -116,38 +116,31 @@ public class CollisionHandler {
      * @param currentSpriteY Position Y actuelle du sprite (coin bas-gauche)
      * @param desiredSpriteX Position X désirée du sprite (coin bas-gauche)
      * @param desiredSpriteY Position Y désirée du sprite (coin bas-gauche)
-     * @return Tableau [x, y] avec la position ajustée du sprite
+     * @param out Vecteur fourni par l'appelant, qui reçoit la position ajustée du sprite
+     * @return out, pour chaîner les appels
      */
-    public float[] adjustPosition(float currentSpriteX, float currentSpriteY, float desiredSpriteX, float desiredSpriteY) {
-        float[] result = new float[]{desiredSpriteX, desiredSpriteY};
-        
+    public Vector2 adjustPosition(float currentSpriteX, float currentSpriteY, float desiredSpriteX, float desiredSpriteY, Vector2 out) {
         if (mapLoader == null) {
-            return result;
+            return out.set(desiredSpriteX, desiredSpriteY);
         }
         
         // Si la position désirée est valide, on l'utilise
         if (isValidPosition(desiredSpriteX, desiredSpriteY)) {
-            return result;
+            return out.set(desiredSpriteX, desiredSpriteY);
         }
         
         // Sinon, essayer de se déplacer seulement sur X
         if (isValidPosition(desiredSpriteX, currentSpriteY)) {
-            result[0] = desiredSpriteX;
-            result[1] = currentSpriteY;
-            return result;
+            return out.set(desiredSpriteX, currentSpriteY);
         }
         
         // Ou seulement sur Y
         if (isValidPosition(currentSpriteX, desiredSpriteY)) {
-            result[0] = currentSpriteX;
-            result[1] = desiredSpriteY;
-            return result;
+            return out.set(currentSpriteX, desiredSpriteY);
         }
         
         // Sinon, rester à la position actuelle
-        result[0] = currentSpriteX;
-        result[1] = currentSpriteY;
-        return result;
+        return out.set(currentSpriteX, currentSpriteY);
     }
     
     // Getters et Setters
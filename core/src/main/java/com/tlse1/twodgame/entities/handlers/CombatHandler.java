@@ -1,23 +1,23 @@
 package com.tlse1.twodgame.entities.handlers;
 
 import com.badlogic.gdx.Gdx;
+import com.tlse1.twodgame.ecs.components.Health;
 
 /**
  * Handler pour gérer le combat, la santé et les dégâts d'un personnage.
+ * Santé et bouclier sont stockés dans un composant Health propre au handler ; pour un ennemi, cette
+ * même instance est ajoutée à son entité (voir EnemyEntities), où CombatSystem applique les dégâts.
  */
 public class CombatHandler {
     
-    private int health;
-    private int maxHealth;
-    private int shield;
-    private int maxShield;
+    private final Health health = new Health();
     private AnimationHandler animationHandler;
     
     public CombatHandler(int maxHealth, AnimationHandler animationHandler) {
-        this.maxHealth = maxHealth;
-        this.health = maxHealth;
-        this.maxShield = 0;
-        this.shield = 0;
+        this.health.max = maxHealth;
+        this.health.current = maxHealth;
+        this.health.maxShield = 0;
+        this.health.shield = 0;
         this.animationHandler = animationHandler;
     }
     
@@ -28,35 +28,48 @@ public class CombatHandler {
      * @param damage Montant des dégâts
      */
     public void takeDamage(int damage) {
+        applyDamage(health, damage, animationHandler);
+    }
+    
+    /**
+     * Inflige des dégâts à une santé : d'abord absorbés par le shield, puis par les HP,
+     * avec l'animation de blessure ou de mort. Partagé avec CombatSystem, qui l'applique
+     * directement au composant Health des ennemis.
+     * 
+     * @param health Santé touchée
+     * @param damage Montant des dégâts
+     * @param animationHandler Animations du personnage touché (null = aucune)
+     */
+    public static void applyDamage(Health health, int damage, AnimationHandler animationHandler) {
         if (damage <= 0) {
             return;
         }
         
         // D'abord, les dégâts sont absorbés par le shield
-        if (shield > 0) {
-            if (shield >= damage) {
+        if (health.shield > 0) {
+            if (health.shield >= damage) {
                 // Le shield absorbe tous les dégâts
-                shield -= damage;
+                health.shield -= damage;
                 damage = 0;
             } else {
                 // Le shield est détruit, les dégâts restants passent aux HP
-                damage -= shield;
-                shield = 0;
+                damage -= health.shield;
+                health.shield = 0;
             }
         }
         
         // Les dégâts restants sont infligés aux HP
         if (damage > 0) {
-            health = Math.max(0, health - damage);
+            health.current = Math.max(0, health.current - damage);
         }
         
         // Déclencher l'animation de blessure
-        if (health > 0 && animationHandler != null) {
+        if (health.current > 0 && animationHandler != null) {
             animationHandler.setHurt(true);
         }
         
         // Si le personnage est mort, déclencher l'animation de mort
-        if (health <= 0 && animationHandler != null) {
+        if (health.current <= 0 && animationHandler != null) {
             animationHandler.setDead(true);
         }
     }
@@ -67,7 +80,7 @@ public class CombatHandler {
      * @param amount Montant de soin
      */
     public void heal(int amount) {
-        health = Math.min(maxHealth, health + amount);
+        health.current = Math.min(health.max, health.current + amount);
     }
     
     /**
@@ -76,46 +89,50 @@ public class CombatHandler {
      * @return true si vivant
      */
     public boolean isAlive() {
-        return health > 0;
+        return health.current > 0;
     }
     
     // Getters et Setters
-    public int getHealth() {
+    public Health getHealthComponent() {
         return health;
     }
     
+    public int getHealth() {
+        return health.current;
+    }
+    
     public void setHealth(int health) {
-        this.health = Math.max(0, Math.min(maxHealth, health));
+        this.health.current = Math.max(0, Math.min(this.health.max, health));
     }
     
     public int getMaxHealth() {
-        return maxHealth;
+        return health.max;
     }
     
     public void setMaxHealth(int maxHealth) {
-        this.maxHealth = maxHealth;
-        if (health > maxHealth) {
-            health = maxHealth;
+        health.max = maxHealth;
+        if (health.current > maxHealth) {
+            health.current = maxHealth;
         }
     }
     
     // Shield getters et setters
     public int getShield() {
-        return shield;
+        return health.shield;
     }
     
     public void setShield(int shield) {
-        this.shield = Math.max(0, Math.min(maxShield, shield));
+        health.shield = Math.max(0, Math.min(health.maxShield, shield));
     }
     
     public int getMaxShield() {
-        return maxShield;
+        return health.maxShield;
     }
     
     public void setMaxShield(int maxShield) {
-        this.maxShield = maxShield;
-        if (shield > maxShield) {
-            shield = maxShield;
+        health.maxShield = maxShield;
+        if (health.shield > maxShield) {
+            health.shield = maxShield;
         }
     }
 }
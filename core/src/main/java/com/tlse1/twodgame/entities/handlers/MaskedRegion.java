@@ -0,0 +1,45 @@
+package com.tlse1.twodgame.entities.handlers;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tlse1.twodgame.utils.CollisionMask;
+
+/**
+ * Frame d'animation qui porte le masque de collision de ses pixels opaques.
+ * Créée par AnimationLoader : le masque suit la frame partout où l'animation est partagée
+ * (archétypes, essaim de la horde), sans table à tenir à jour à côté.
+ */
+public class MaskedRegion extends TextureRegion {
+
+    private final CollisionMask mask;
+
+    /**
+     * @param texture Planche de sprites
+     * @param x Position X de la frame dans la planche
+     * @param y Position Y de la frame dans la planche (depuis le haut)
+     * @param width Largeur de la frame
+     * @param height Hauteur de la frame
+     * @param mask Masque de la frame (null = pas de masque, la hitbox suffit)
+     */
+    public MaskedRegion(Texture texture, int x, int y, int width, int height, CollisionMask mask) {
+        super(texture, x, y, width, height);
+        this.mask = mask;
+    }
+
+    /**
+     * Copie une frame et son masque.
+     *
+     * @param region Frame à copier
+     */
+    public MaskedRegion(MaskedRegion region) {
+        super(region);
+        this.mask = region.mask;
+    }
+
+    /**
+     * @return Le masque aux dimensions de la frame, ou null si la frame n'en a pas
+     */
+    public CollisionMask getMask() {
+        return mask;
+    }
+}
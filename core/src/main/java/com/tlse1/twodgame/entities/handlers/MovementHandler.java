@@ -1,22 +1,27 @@
 package com.tlse1.twodgame.entities.handlers;
 
+import com.badlogic.gdx.math.Vector2;
+import com.tlse1.twodgame.ecs.components.Position;
 import com.tlse1.twodgame.utils.Direction;
 
 /**
  * Handler pour gérer le déplacement et la vitesse d'un personnage.
+ * La position est stockée dans un composant Position propre au handler ; pour un ennemi, cette
+ * même instance est ajoutée à son entité (voir EnemyEntities).
  */
 public class MovementHandler {
     
-    private float x;
-    private float y;
+    private final Position position = new Position();
     private float speed;
     private float runSpeedMultiplier;
     private AnimationHandler animationHandler;
     private CollisionHandler collisionHandler;
+    // Résultat de CollisionHandler.adjustPosition, réutilisé à chaque déplacement
+    private final Vector2 adjustedPosition = new Vector2();
     
     public MovementHandler(float x, float y, float speed, AnimationHandler animationHandler) {
-        this.x = x;
-        this.y = y;
+        this.position.x = x;
+        this.position.y = y;
         this.speed = speed;
         this.runSpeedMultiplier = 1.5f;
         this.animationHandler = animationHandler;
@@ -35,11 +40,11 @@ public class MovementHandler {
         float moveDistance = currentSpeed * deltaTime;
         
         // Sauvegarder la position actuelle pour vérifier si le mouvement a réellement eu lieu
-        float oldX = x;
-        float oldY = y;
+        float oldX = position.x;
+        float oldY = position.y;
         
-        float newX = x;
-        float newY = y;
+        float newX = oldX;
+        float newY = oldY;
         
         switch (direction) {
             case UP:
@@ -58,16 +63,16 @@ public class MovementHandler {
         
         // Vérifier les collisions si un CollisionHandler est disponible
         if (collisionHandler != null) {
-            float[] adjustedPos = collisionHandler.adjustPosition(x, y, newX, newY);
-            x = adjustedPos[0];
-            y = adjustedPos[1];
+            collisionHandler.adjustPosition(oldX, oldY, newX, newY, adjustedPosition);
+            position.x = adjustedPosition.x;
+            position.y = adjustedPosition.y;
         } else {
-            x = newX;
-            y = newY;
+            position.x = newX;
+            position.y = newY;
         }
         
         // Vérifier si le mouvement a réellement eu lieu
-        boolean hasMoved = (Math.abs(x - oldX) > 0.01f || Math.abs(y - oldY) > 0.01f);
+        boolean hasMoved = (Math.abs(position.x - oldX) > 0.01f || Math.abs(position.y - oldY) > 0.01f);
         
         if (animationHandler != null) {
             // Toujours permettre le changement de direction (pour que le joueur puisse faire face à l'ennemi même bloqué)
@@ -96,20 +101,24 @@ public class MovementHandler {
     }
     
     // Getters et Setters
+    public Position getPosition() {
+        return position;
+    }
+    
     public float getX() {
-        return x;
+        return position.x;
     }
     
     public void setX(float x) {
-        this.x = x;
+        position.x = x;
     }
     
     public float getY() {
-        return y;
+        return position.y;
     }
     
     public void setY(float y) {
-        this.y = y;
+        position.y = y;
     }
     
     public float getSpeed() {
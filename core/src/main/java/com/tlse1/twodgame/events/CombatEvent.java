@@ -0,0 +1,77 @@
+package com.tlse1.twodgame.events;
+
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.entities.Collectible;
+
+/**
+ * Événement de combat, case réutilisée du tampon circulaire de CombatEventBus.
+ * Les champs ne sont valides que pendant l'appel des abonnés : un abonné qui veut garder
+ * une information la copie.
+ */
+public final class CombatEvent {
+
+    // Types d'événements
+    public static final int DAMAGE_DEALT = 0;
+    public static final int ENTITY_DIED = 1;
+    public static final int ITEM_DROPPED = 2;
+    public static final int ITEM_PICKED = 3;
+    public static final int ZONE_ENTERED = 4;
+    public static final int TYPE_COUNT = 5;
+
+    int type;
+    Object source;
+    Character target;
+    int amount;
+    Collectible item;
+    int zoneId;
+
+    void clear() {
+        source = null;
+        target = null;
+        amount = 0;
+        item = null;
+        zoneId = 0;
+    }
+
+    /**
+     * @return Le type de l'événement (DAMAGE_DEALT, ENTITY_DIED, ITEM_DROPPED, ITEM_PICKED, ZONE_ENTERED)
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * @return L'auteur des dégâts (ennemi, joueur, moteur de projectiles, essaim), ou null
+     */
+    public Object getSource() {
+        return source;
+    }
+
+    /**
+     * @return Le personnage touché, mort ou entré dans une zone ; le joueur pour un ramassage
+     */
+    public Character getTarget() {
+        return target;
+    }
+
+    /**
+     * @return Les dégâts infligés (DAMAGE_DEALT)
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * @return Le collectible lâché ou ramassé (ITEM_DROPPED, ITEM_PICKED)
+     */
+    public Collectible getItem() {
+        return item;
+    }
+
+    /**
+     * @return La zone dans laquelle le personnage vient d'entrer, 0 hors zone (ZONE_ENTERED)
+     */
+    public int getZoneId() {
+        return zoneId;
+    }
+}
@@ -0,0 +1,187 @@
+package com.tlse1.twodgame.events;
+
+import com.tlse1.twodgame.entities.Character;
+import com.tlse1.twodgame.entities.Collectible;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bus d'événements de combat : dégâts, morts, collectibles lâchés et ramassés, entrées de zone.
+ *
+ * Les événements sont écrits dans un tampon circulaire de cases préallouées, puis distribués
+ * une fois par tick par drain(), dans l'ordre de publication, aux abonnés de leur type
+ * (dans l'ordre d'abonnement). Un abonné peut publier à son tour : l'événement est traité
+ * dans le même drain() (des dégâts qui tuent produisent ENTITY_DIED, qui produit ITEM_DROPPED).
+ * Le tampon double quand il est plein : aucun événement n'est perdu, et une fois la taille
+ * de croisière atteinte la publication n'alloue plus rien.
+ */
+public class CombatEventBus {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private CombatEvent[] ring;
+    private int mask;
+    private int head;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    private final List<CombatEventListener>[] listeners = new List[CombatEvent.TYPE_COUNT];
+
+    // Compteurs depuis la création
+    private long published;
+    private long dispatched;
+
+    public CombatEventBus() {
+        ring = new CombatEvent[INITIAL_CAPACITY];
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = new CombatEvent();
+        }
+        mask = ring.length - 1;
+        for (int type = 0; type < listeners.length; type++) {
+            listeners[type] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Inflige des dégâts via le bus s'il y en a un, directement sinon (entités hors d'un GameWorld).
+     *
+     * @param bus Le bus, ou null
+     * @param source Auteur des dégâts
+     * @param target Personnage touché
+     * @param amount Dégâts
+     */
+    public static void dealDamage(CombatEventBus bus, Object source, Character target, int amount) {
+        if (bus != null) {
+            bus.damageDealt(source, target, amount);
+        } else {
+            target.takeDamage(amount);
+        }
+    }
+
+    /**
+     * Abonne un listener à un type d'événement.
+     *
+     * @param type Type d'événement (CombatEvent.DAMAGE_DEALT...)
+     * @param listener L'abonné
+     */
+    public void subscribe(int type, CombatEventListener listener) {
+        listeners[type].add(listener);
+    }
+
+    /**
+     * Désabonne un listener de tous les types.
+     */
+    public void unsubscribe(CombatEventListener listener) {
+        for (List<CombatEventListener> byType : listeners) {
+            byType.remove(listener);
+        }
+    }
+
+    public void damageDealt(Object source, Character target, int amount) {
+        CombatEvent event = publish(CombatEvent.DAMAGE_DEALT);
+        event.source = source;
+        event.target = target;
+        event.amount = amount;
+    }
+
+    public void entityDied(Character target) {
+        publish(CombatEvent.ENTITY_DIED).target = target;
+    }
+
+    public void itemDropped(Collectible item) {
+        publish(CombatEvent.ITEM_DROPPED).item = item;
+    }
+
+    public void itemPicked(Character picker, Collectible item) {
+        CombatEvent event = publish(CombatEvent.ITEM_PICKED);
+        event.target = picker;
+        event.item = item;
+    }
+
+    public void zoneEntered(Character target, int zoneId) {
+        CombatEvent event = publish(CombatEvent.ZONE_ENTERED);
+        event.target = target;
+        event.zoneId = zoneId;
+    }
+
+    /**
+     * Distribue tous les événements en attente, y compris ceux publiés pendant la distribution.
+     *
+     * @return Le nombre d'événements distribués
+     */
+    public int drain() {
+        int count = 0;
+        while (size > 0) {
+            // La case reste comptée pendant l'appel des abonnés : un agrandissement du tampon la conserve
+            CombatEvent event = ring[head];
+            List<CombatEventListener> subscribers = listeners[event.type];
+            for (int i = 0; i < subscribers.size(); i++) {
+                subscribers.get(i).onEvent(event);
+            }
+            event.clear();
+            head = (head + 1) & mask;
+            size--;
+            count++;
+        }
+        dispatched += count;
+        return count;
+    }
+
+    /**
+     * Oublie les événements en attente sans les distribuer (nouvelle partie).
+     */
+    public void clear() {
+        while (size > 0) {
+            ring[head].clear();
+            head = (head + 1) & mask;
+            size--;
+        }
+    }
+
+    private CombatEvent publish(int type) {
+        if (size == ring.length) {
+            grow();
+        }
+        CombatEvent event = ring[(head + size) & mask];
+        event.type = type;
+        size++;
+        published++;
+        return event;
+    }
+
+    /**
+     * Double le tampon en gardant l'ordre des événements en attente (la tête revient à l'index 0).
+     */
+    private void grow() {
+        CombatEvent[] larger = new CombatEvent[ring.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = ring[(head + i) & mask];
+        }
+        for (int i = size; i < larger.length; i++) {
+            larger[i] = new CombatEvent();
+        }
+        ring = larger;
+        mask = larger.length - 1;
+        head = 0;
+    }
+
+    /**
+     * @return Le nombre d'événements en attente
+     */
+    public int getPendingCount() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public long getPublishedCount() {
+        return published;
+    }
+
+    public long getDispatchedCount() {
+        return dispatched;
+    }
+}
@@ -0,0 +1,12 @@
+package com.tlse1.twodgame.events;
+
+/**
+ * Abonné d'un type d'événement de CombatEventBus, appelé pendant drain().
+ */
+public interface CombatEventListener {
+
+    /**
+     * @param event L'événement (case réutilisée : ne pas la conserver après l'appel)
+     */
+    void onEvent(CombatEvent event);
+}
@@ -0,0 +1,240 @@
+package com.tlse1.twodgame.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.tlse1.twodgame.utils.DisposableTracker;
+import com.tlse1.twodgame.utils.SpriteMapping;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache d'assets partagé par tous les écrans, possédé par TwoDGame.
+ *
+ * Les écrans acquièrent textures, polices et mappings par chemin et les relâchent dans leur dispose().
+ * Chaque asset est compté par référence : tant qu'un écran le tient, il reste chargé. Un asset
+ * qui n'est plus référencé n'est pas libéré tout de suite : il reste en cache, et n'est évincé
+ * (du moins récemment relâché au plus récent) que lorsque les assets non référencés dépassent
+ * le budget de mémoire GPU. Rouvrir un écran (menu pause, menu...) ne relit donc aucun fichier.
+ *
+ * Les assets sont partagés : un écran ne doit pas les libérer lui-même, et doit fixer la couleur
+ * d'une police avant de dessiner avec.
+ */
+public class AssetService implements Disposable {
+
+    // Budget par défaut des assets non référencés gardés en cache
+    public static final long DEFAULT_BUDGET_BYTES = 64L * 1024L * 1024L;
+
+    private static final String TAG = "AssetService";
+    private static final String FONT_PREFIX = "font:default@";
+
+    /**
+     * Asset chargé, avec son compteur de références.
+     */
+    private static class Entry {
+        final String key;
+        final Disposable asset;
+        final long bytes;
+        int references;
+
+        Entry(String key, Disposable asset, long bytes) {
+            this.key = key;
+            this.asset = asset;
+            this.bytes = bytes;
+        }
+    }
+
+    static {
+        DisposableTracker.addPermanentOwner(AssetService.class);
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<Object, Entry> entriesByAsset = new IdentityHashMap<>();
+    // Assets non référencés, du moins récemment relâché au plus récent (ordre d'éviction)
+    private final LinkedHashMap<String, Entry> unreferenced = new LinkedHashMap<>();
+
+    private long budgetBytes;
+    private long unreferencedBytes;
+    private int loadCount;
+    private int evictionCount;
+
+    public AssetService() {
+        this(DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * @param budgetBytes Mémoire GPU estimée maximale des assets non référencés gardés en cache
+     */
+    public AssetService(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Acquiert une texture (chemin relatif à assets/).
+     */
+    public Texture acquireTexture(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            Texture texture = DisposableTracker.texture(path);
+            entry = load(path, texture, estimateBytes(texture));
+        }
+        return (Texture) acquire(entry);
+    }
+
+    /**
+     * Acquiert la police par défaut de LibGDX à une échelle donnée.
+     * Une police est partagée entre les écrans qui demandent la même échelle.
+     */
+    public BitmapFont acquireFont(float scale) {
+        String key = FONT_PREFIX + scale;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            BitmapFont font = DisposableTracker.bitmapFont();
+            font.getData().setScale(scale);
+            long bytes = 0;
+            for (TextureRegion region : font.getRegions()) {
+                bytes += estimateBytes(region.getTexture());
+            }
+            entry = load(key, font, bytes);
+        }
+        return (BitmapFont) acquire(entry);
+    }
+
+    /**
+     * Acquiert un mapping de sprites.
+     *
+     * @param path Chemin du JSON du mapping (clé du cache)
+     * @param loader Crée le mapping s'il n'est pas en cache (ex. MenuMapping::new)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends SpriteMapping> T acquireMapping(String path, Supplier<T> loader) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            T mapping = loader.get();
+            entry = load(path, mapping, estimateBytes(mapping.getTexture()));
+        }
+        return (T) acquire(entry);
+    }
+
+    /**
+     * Relâche un asset acquis. Sans effet pour null.
+     */
+    public void release(Object asset) {
+        if (asset == null) {
+            return;
+        }
+        Entry entry = entriesByAsset.get(asset);
+        if (entry == null || entry.references <= 0) {
+            Gdx.app.error(TAG, "Asset relâché sans avoir été acquis : " + asset);
+            return;
+        }
+        entry.references--;
+        if (entry.references == 0) {
+            unreferenced.put(entry.key, entry);
+            unreferencedBytes += entry.bytes;
+            evictOverBudget();
+        }
+    }
+
+    /**
+     * Libère tous les assets, référencés ou non (fermeture du jeu).
+     */
+    @Override
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            entry.asset.dispose();
+        }
+        entries.clear();
+        entriesByAsset.clear();
+        unreferenced.clear();
+        unreferencedBytes = 0;
+    }
+
+    /**
+     * Change le budget des assets non référencés et évince si nécessaire.
+     */
+    public void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        evictOverBudget();
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Mémoire GPU estimée des assets non référencés gardés en cache.
+     */
+    public long getUnreferencedBytes() {
+        return unreferencedBytes;
+    }
+
+    /**
+     * Nombre de références d'un asset (0 s'il n'est pas chargé ou seulement en cache).
+     */
+    public int getReferenceCount(String key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.references : 0;
+    }
+
+    public boolean isLoaded(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Nombre d'assets chargés depuis le disque depuis la création du service.
+     */
+    public int getLoadCount() {
+        return loadCount;
+    }
+
+    public int getEvictionCount() {
+        return evictionCount;
+    }
+
+    private Entry load(String key, Disposable asset, long bytes) {
+        Entry entry = new Entry(key, asset, bytes);
+        entries.put(key, entry);
+        entriesByAsset.put(asset, entry);
+        loadCount++;
+        return entry;
+    }
+
+    private Object acquire(Entry entry) {
+        if (entry.references == 0 && unreferenced.remove(entry.key) != null) {
+            unreferencedBytes -= entry.bytes;
+        }
+        entry.references++;
+        return entry.asset;
+    }
+
+    private void evictOverBudget() {
+        Iterator<Entry> iterator = unreferenced.values().iterator();
+        while (unreferencedBytes > budgetBytes && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            iterator.remove();
+            unreferencedBytes -= entry.bytes;
+            entries.remove(entry.key);
+            entriesByAsset.remove(entry.asset);
+            entry.asset.dispose();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Taille estimée d'une texture en mémoire GPU (RGBA 8 bits).
+     */
+    private static long estimateBytes(Texture texture) {
+        if (texture == null) {
+            return 0;
+        }
+        return (long) texture.getWidth() * texture.getHeight() * 4L;
+    }
+}
@@ -0,0 +1,1331 @@
+package com.tlse1.twodgame.managers;
+
+import com.artemis.ComponentMapper;
+import com.artemis.World;
+import com.artemis.WorldConfigurationBuilder;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.tlse1.twodgame.ecs.EnemyEntities;
+import com.tlse1.twodgame.ecs.EnemyLifecycle;
+import com.tlse1.twodgame.effects.StatusEffectEngine;
+import com.tlse1.twodgame.ecs.components.AiLod;
+import com.tlse1.twodgame.ecs.components.CollisionShape;
+import com.tlse1.twodgame.ecs.components.Loot;
+import com.tlse1.twodgame.ecs.components.RangedAttack;
+import com.tlse1.twodgame.ecs.components.RespawnTimer;
+import com.tlse1.twodgame.ecs.components.Respawnable;
+import com.tlse1.twodgame.ecs.systems.AiDecisionSystem;
+import com.tlse1.twodgame.ecs.systems.AiLodSystem;
+import com.tlse1.twodgame.ecs.systems.AnimationCullingSystem;
+import com.tlse1.twodgame.ecs.systems.CollisionSetupSystem;
+import com.tlse1.twodgame.ecs.systems.CombatSystem;
+import com.tlse1.twodgame.ecs.systems.DeathSystem;
+import com.tlse1.twodgame.ecs.systems.EnemyRenderSystem;
+import com.tlse1.twodgame.ecs.systems.EnemyUpdateSystem;
+import com.tlse1.twodgame.ecs.systems.MovementSystem;
+import com.tlse1.twodgame.ecs.systems.ParallelAiDecisionSystem;
+import com.tlse1.twodgame.ecs.systems.RangedAttackSystem;
+import com.tlse1.twodgame.ecs.systems.RespawnSystem;
+import com.tlse1.twodgame.ecs.systems.SpatialIndexSystem;
+import com.tlse1.twodgame.ecs.systems.SteeringSystem;
+import com.tlse1.twodgame.entities.Collectible;
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.EnemyArchetype;
+import com.tlse1.twodgame.entities.EnemyArchetypes;
+import com.tlse1.twodgame.entities.EnemyPool;
+import com.tlse1.twodgame.entities.Inventory;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.entities.ProjectileEngine;
+import com.tlse1.twodgame.entities.SlimeSwarm;
+import com.tlse1.twodgame.entities.handlers.AnimationClock;
+import com.tlse1.twodgame.entities.handlers.CollisionHandler;
+import com.tlse1.twodgame.events.CombatEvent;
+import com.tlse1.twodgame.events.CombatEventBus;
+import com.tlse1.twodgame.events.CombatEventListener;
+import com.tlse1.twodgame.utils.ActionPanelMapping;
+import com.tlse1.twodgame.utils.CollisionMask;
+import com.tlse1.twodgame.utils.Direction;
+import com.tlse1.twodgame.utils.FrameProfiler;
+import com.tlse1.twodgame.utils.MeteredPool;
+import com.tlse1.twodgame.utils.SpatialHashGrid;
+import com.tlse1.twodgame.utils.TimingWheel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Simulation d'une partie : joueur, ennemis, collectibles, respawns et conditions de fin.
+ * Ne dépend ni du clavier ni de la caméra : GameScreen lui transmet un PlayerInput à chaque frame,
+ * et le runner de scénarios peut la piloter en headless.
+ *
+ * Les ennemis sont des entités artemis-odb : leurs composants (Position, Hitbox, Health, Movement,
+ * ZoneBinding, AiState, SpriteState, Loot, Respawnable, RangedAttack, CollisionShape) portent leur état
+ * et décrivent leur type, et les systèmes du package ecs gèrent collisions, décisions de l'IA, poursuite,
+ * déplacement, animation, dégâts, tirs, index spatial, morts, réapparitions et rendu.
+ * Les ennemis tués et les collectibles ramassés retournent à des pools (voir getPools) :
+ * en régime établi, les morts, drops et réapparitions n'allouent plus rien.
+ *
+ * Dégâts, morts, drops, ramassages et changements de zone passent par un bus d'événements
+ * (voir getEventBus) vidé une fois par frame, après le combat : kills, victoire, drops,
+ * réapparitions et niveau de détail de l'IA réagissent aux événements au lieu de
+ * parcourir chaque frame tous les ennemis et collectibles.
+ */
+public class GameWorld {
+
+    // Phases mesurées par le profileur de frame
+    public static final int PHASE_INPUT = 0;
+    public static final int PHASE_PLAYER = 1;
+    public static final int PHASE_ENEMIES = 2;
+    public static final int PHASE_COLLISIONS = 3;
+    public static final int PHASE_COMBAT = 4;
+    public static final int PHASE_LOOT = 5;
+
+    private static final float PLAYER_START_X = 32f;
+    private static final float PLAYER_START_Y = 50f;
+    // Taille des cellules des grilles spatiales (de l'ordre de la taille d'un sprite)
+    private static final float GRID_CELL_SIZE = 32f;
+    // Mode horde : aucun slime n'apparaît à moins de cette distance du joueur
+    private static final float HORDE_SAFE_RADIUS = 96f;
+    private static final int HORDE_PLACEMENT_ATTEMPTS = 20;
+
+    private final JsonMapLoader mapLoader;
+    private final ActionPanelMapping actionPanelMapping;
+    private final Random random;
+    private final FrameProfiler profiler;
+
+    private Player player;
+    private ArrayList<Enemy> enemies;
+    private ArrayList<Collectible> collectibles;
+
+    // Monde ECS des ennemis (reconstruit à chaque reset)
+    private World ecsWorld;
+    private ComponentMapper<Loot> lootMapper;
+    private ComponentMapper<Respawnable> respawnableMapper;
+    private ComponentMapper<CollisionShape> shapeMapper;
+    private ComponentMapper<AiLod> lodMapper;
+    private ComponentMapper<RangedAttack> rangedMapper;
+    private CollisionSetupSystem collisionSetupSystem;
+    private CombatSystem combatSystem;
+    private AiLodSystem aiLodSystem;
+    private AiDecisionSystem aiDecisionSystem;
+    // Budget par frame des décisions d'IA, conservé d'un reset à l'autre
+    private float aiDecisionBudgetMillis = 1f;
+    // Décisions d'IA sur tous les cœurs au lieu du budget par frame (grands nombres d'ennemis)
+    private ParallelAiDecisionSystem parallelAiDecisionSystem;
+    private boolean parallelAi = false;
+    private DeathSystem deathSystem;
+    private EnemyRenderSystem enemyRenderSystem;
+    private AnimationCullingSystem animationCullingSystem;
+
+    // Bus des événements de combat, vidé une fois par frame
+    private final CombatEventBus events = new CombatEventBus();
+    // Zone du joueur (publiée sur le bus quand elle change) et case de la dernière vérification
+    private int playerZone = -1;
+    private int playerTileX = -1;
+    private int playerTileY = -1;
+
+    // Roue des timers du monde (réapparitions, cooldowns, boosts), avancée une fois par frame
+    private final TimingWheel timers = new TimingWheel();
+    // Effets temporaires de tous les personnages (boosts du joueur, ralentissements, poison)
+    private final StatusEffectEngine statusEffects = new StatusEffectEngine();
+
+    // Horloge partagée par les animations du joueur et des ennemis, avancée une fois par frame
+    private final AnimationClock animationClock = new AnimationClock();
+    // Vue de la caméra en coordonnées du monde (vide = inconnue, tout est animé)
+    private final Rectangle viewBounds = new Rectangle();
+    // Hitbox de la frame d'attaque du joueur (réutilisée à chaque frame)
+    private final Rectangle attackArea = new Rectangle();
+
+    // Projectiles en vol (tirs des vampires), conservés d'un reset à l'autre
+    private final ProjectileEngine projectiles;
+    private final TextureRegion projectileRegion;
+
+    // Mode horde : essaim de slimes en tableaux parallèles (créé au premier startHorde)
+    private SlimeSwarm swarm;
+    private boolean hordeMode = false;
+
+    // Pools : ennemis par identifiant d'archétype (un pool par archétype du registre), collectibles
+    private final Map<String, EnemyPool<Enemy>> enemyPools = new LinkedHashMap<>();
+    private final MeteredPool<Collectible> collectiblePool;
+    private final List<MeteredPool<?>> pools = new ArrayList<>();
+
+    // Index spatiaux : hitbox des ennemis, rectangle des collectibles
+    private final SpatialHashGrid<Enemy> enemyGrid = new SpatialHashGrid<>(GRID_CELL_SIZE);
+    private final SpatialHashGrid<Collectible> collectibleGrid = new SpatialHashGrid<>(GRID_CELL_SIZE);
+    // Résultats des requêtes spatiales, réutilisés d'une frame à l'autre
+    private final ArrayList<Enemy> nearbyEnemies = new ArrayList<>();
+    private final ArrayList<Collectible> nearbyCollectibles = new ArrayList<>();
+
+    // Cooldown d'attaque du joueur : le joueur peut frapper quand il a expiré
+    private final TimingWheel.Timer playerAttackCooldown = new TimingWheel.Timer();
+    private float playerAttackCooldownTime = 0.5f;
+
+    private boolean collisionsInitialized = false;
+    private float gameTime = 0f;
+
+    private int totalKills = 0;
+    private boolean level3VampireKilled = false;
+    // Nombre maximal de respawns imposé à tous les archétypes (négatif = celui de chaque archétype)
+    private int maxRespawnsOverride = -1;
+
+    // Effets des morts et réapparitions décidées par les systèmes
+    private final EnemyLifecycle lifecycle = new EnemyLifecycle() {
+        @Override
+        public void enemyKilled(Enemy enemy) {
+            onEnemyKilled(enemy);
+        }
+
+        @Override
+        public void respawn(RespawnTimer timer) {
+            addEnemy(EnemyArchetypes.get(timer.archetypeId), timer.zoneId, timer.x, timer.y, timer.count);
+        }
+    };
+
+    /**
+     * Crée un monde avec un tirage aléatoire non reproductible (partie normale).
+     *
+     * @param mapLoader La map (non possédée : le monde ne la libère pas)
+     * @param actionPanelMapping Sprites des collectibles (non possédés)
+     */
+    public GameWorld(JsonMapLoader mapLoader, ActionPanelMapping actionPanelMapping) {
+        this(mapLoader, actionPanelMapping, new Random());
+    }
+
+    /**
+     * Crée un monde dont les drops sont reproductibles.
+     *
+     * @param mapLoader La map (non possédée : le monde ne la libère pas)
+     * @param actionPanelMapping Sprites des collectibles (non possédés)
+     * @param seed Graine du générateur aléatoire
+     */
+    public GameWorld(JsonMapLoader mapLoader, ActionPanelMapping actionPanelMapping, long seed) {
+        this(mapLoader, actionPanelMapping, new Random(seed));
+    }
+
+    private GameWorld(JsonMapLoader mapLoader, ActionPanelMapping actionPanelMapping, Random random) {
+        this.mapLoader = mapLoader;
+        this.actionPanelMapping = actionPanelMapping;
+        this.random = random;
+        this.profiler = new FrameProfiler("input", "player", "enemies", "collisions", "combat", "loot");
+
+        for (EnemyArchetype archetype : EnemyArchetypes.getAll()) {
+            enemyPools.put(archetype.getId(), EnemyPool.forArchetype(archetype));
+        }
+        collectiblePool = new MeteredPool<Collectible>("collectibles") {
+            @Override
+            protected Collectible newObject() {
+                return new Collectible(0f, 0f, null, actionPanelMapping);
+            }
+        };
+        pools.addAll(enemyPools.values());
+        pools.add(collectiblePool);
+
+        projectiles = new ProjectileEngine(mapLoader);
+        projectiles.setEventBus(events);
+        projectileRegion = actionPanelMapping != null ? actionPanelMapping.getSprite("sprite1") : null;
+
+        player = new Player(0, 0);
+        player.setX(PLAYER_START_X);
+        player.setY(PLAYER_START_Y);
+        player.getAnimationHandler().setClock(animationClock);
+        player.setEventBus(events);
+        player.setTimingWheel(timers);
+        player.setStatusEffectEngine(statusEffects);
+
+        enemies = new ArrayList<>();
+        collectibles = new ArrayList<>();
+        subscribeEvents();
+        createEcsWorld();
+    }
+
+    /**
+     * Abonne le monde aux événements qu'il traite lui-même, dans l'ordre où ils se produisent :
+     * dégâts, morts (kills, victoire, drop), collectibles lâchés puis ramassés.
+     * Les morts sont aussi suivies par DeathSystem (réapparitions) et les zones par AiLodSystem.
+     */
+    private void subscribeEvents() {
+        events.subscribe(CombatEvent.DAMAGE_DEALT, new CombatEventListener() {
+            @Override
+            public void onEvent(CombatEvent event) {
+                // Les ennemis du monde ECS sont touchés par CombatSystem, dans leur composant Health
+                if (!combatSystem.handles(event.getTarget())) {
+                    event.getTarget().takeDamage(event.getAmount());
+                }
+            }
+        });
+        events.subscribe(CombatEvent.ENTITY_DIED, new CombatEventListener() {
+            @Override
+            public void onEvent(CombatEvent event) {
+                if (event.getTarget() instanceof Enemy) {
+                    onEnemyDied((Enemy) event.getTarget());
+                }
+            }
+        });
+        events.subscribe(CombatEvent.ITEM_DROPPED, new CombatEventListener() {
+            @Override
+            public void onEvent(CombatEvent event) {
+                Collectible collectible = event.getItem();
+                collectibles.add(collectible);
+                collectibleGrid.insert(collectible, collectible.getX(), collectible.getY(),
+                    collectible.getWidth(), collectible.getHeight());
+            }
+        });
+        events.subscribe(CombatEvent.ITEM_PICKED, new CombatEventListener() {
+            @Override
+            public void onEvent(CombatEvent event) {
+                Collectible collectible = event.getItem();
+                collectibles.remove(collectible);
+                collectibleGrid.remove(collectible);
+                collectiblePool.free(collectible);
+            }
+        });
+    }
+
+    /**
+     * Crée le monde ECS et ses systèmes, dans leur ordre d'exécution :
+     * les morts de la frame précédente sont traitées avant la mise à jour des vivants.
+     */
+    private void createEcsWorld() {
+        collisionSetupSystem = new CollisionSetupSystem(mapLoader);
+        deathSystem = new DeathSystem(lifecycle, events);
+        combatSystem = new CombatSystem(events);
+        enemyRenderSystem = new EnemyRenderSystem();
+        aiLodSystem = new AiLodSystem(mapLoader, player, events);
+        aiDecisionSystem = new AiDecisionSystem(player, mapLoader, aiDecisionBudgetMillis);
+        parallelAiDecisionSystem = new ParallelAiDecisionSystem(player, mapLoader);
+        animationCullingSystem = new AnimationCullingSystem(viewBounds);
+        ecsWorld = new World(new WorldConfigurationBuilder()
+            .with(
+                combatSystem,
+                deathSystem,
+                new RespawnSystem(lifecycle, timers),
+                collisionSetupSystem,
+                aiLodSystem,
+                aiDecisionSystem,
+                parallelAiDecisionSystem,
+                animationCullingSystem,
+                new SteeringSystem(player, timers),
+                new MovementSystem(),
+                new EnemyUpdateSystem(),
+                new RangedAttackSystem(projectiles, player, timers),
+                new SpatialIndexSystem(enemyGrid),
+                enemyRenderSystem)
+            .build());
+        // Sans sprites de collectibles, les morts ne sont pas traitées
+        deathSystem.setEnabled(actionPanelMapping != null);
+        aiDecisionSystem.setEnabled(!parallelAi);
+        parallelAiDecisionSystem.setEnabled(parallelAi);
+
+        lootMapper = ecsWorld.getMapper(Loot.class);
+        respawnableMapper = ecsWorld.getMapper(Respawnable.class);
+        shapeMapper = ecsWorld.getMapper(CollisionShape.class);
+        lodMapper = ecsWorld.getMapper(AiLod.class);
+        rangedMapper = ecsWorld.getMapper(RangedAttack.class);
+    }
+
+    /**
+     * Remet le monde dans l'état d'une nouvelle partie normale : joueur neuf en (32, 50) avec
+     * inventaire vide, ennemis par défaut, aucun collectible ni respawn en attente, compteurs à zéro.
+     * La map, les sprites des collectibles et le générateur aléatoire sont conservés.
+     *
+     * Les ennemis et collectibles de la partie précédente retournent à leurs pools et sont réutilisés
+     * par la nouvelle ; le nouveau joueur est créé avant de libérer l'ancien : les textures,
+     * partagées par AnimationLoader, restent chargées et le reset ne relit aucun fichier.
+     */
+    public void reset() {
+        Player previousPlayer = player;
+        World previousEcsWorld = ecsWorld;
+
+        releaseEnemies();
+        releaseCollectibles();
+        enemyGrid.clear();
+        collectibleGrid.clear();
+        events.clear();
+
+        // Réapparitions, cooldowns et effets de la partie précédente
+        timers.clear();
+        statusEffects.clear();
+        collisionsInitialized = false;
+        gameTime = 0f;
+        totalKills = 0;
+        level3VampireKilled = false;
+        hordeMode = false;
+        if (swarm != null) {
+            swarm.clear();
+        }
+        projectiles.clear();
+        playerZone = -1;
+        playerTileX = -1;
+        playerTileY = -1;
+
+        player = new Player(0, 0);
+        player.setX(PLAYER_START_X);
+        player.setY(PLAYER_START_Y);
+        player.getAnimationHandler().setClock(animationClock);
+        player.setEventBus(events);
+        player.setTimingWheel(timers);
+        player.setStatusEffectEngine(statusEffects);
+        createEcsWorld();
+        spawnDefaultEnemies();
+
+        previousEcsWorld.dispose();
+        previousPlayer.dispose();
+    }
+
+    /**
+     * Place les ennemis de la partie normale : un slime au centre des zones 1 à 3
+     * et un vampire au centre des zones 4 à 6.
+     */
+    public void spawnDefaultEnemies() {
+        for (int zoneId = 1; zoneId <= 6; zoneId++) {
+            float[] zoneCenter = mapLoader.getZoneCenter(zoneId);
+            if (zoneCenter == null) {
+                continue;
+            }
+            if (zoneId <= 3) {
+                spawnSlime(zoneId, zoneId, zoneCenter[0], zoneCenter[1]);
+            } else {
+                spawnVampire(zoneId, zoneId - 3, zoneCenter[0], zoneCenter[1]);
+            }
+        }
+    }
+
+    /**
+     * Passe la partie en mode horde : les ennemis de la partie sont retirés et remplacés par un essaim
+     * de slimes de niveau 1 à 3, placés au hasard sur les cases libres de la map, loin du joueur.
+     * La partie est gagnée quand tout l'essaim est mort.
+     *
+     * @param slimeCount Nombre de slimes
+     */
+    public void startHorde(int slimeCount) {
+        if (swarm == null) {
+            // Chargé avant de libérer les slimes de la partie : leurs textures restent partagées
+            swarm = new SlimeSwarm(mapLoader);
+            swarm.setEventBus(events);
+        }
+        clearEnemies();
+        swarm.clear();
+        hordeMode = true;
+
+        float mapWidthPixels = mapLoader.getMapWidth() * mapLoader.getTileWidth();
+        float mapHeightPixels = mapLoader.getMapHeight() * mapLoader.getTileHeight();
+        float safeRadiusSquared = HORDE_SAFE_RADIUS * HORDE_SAFE_RADIUS;
+        int maxAttempts = slimeCount * HORDE_PLACEMENT_ATTEMPTS;
+
+        int placed = 0;
+        for (int attempt = 0; attempt < maxAttempts && placed < slimeCount; attempt++) {
+            float x = random.nextFloat() * mapWidthPixels;
+            float y = random.nextFloat() * mapHeightPixels;
+            float dx = x - player.getX();
+            float dy = y - player.getY();
+            if (dx * dx + dy * dy < safeRadiusSquared || swarm.isBlocked(x, y)) {
+                continue;
+            }
+            swarm.spawn(x, y, 1 + random.nextInt(3));
+            placed++;
+        }
+        if (placed < slimeCount) {
+            Gdx.app.error("GameWorld", "Horde : seulement " + placed + " slimes placés sur " + slimeCount);
+        }
+    }
+
+    /**
+     * Retire et libère tous les ennemis du monde ECS.
+     */
+    private void clearEnemies() {
+        World previousEcsWorld = ecsWorld;
+        releaseEnemies();
+        projectiles.clear();
+        // Les événements en attente désignent des ennemis qui viennent d'être libérés
+        events.clear();
+        createEcsWorld();
+        collisionSetupSystem.setEnabled(collisionsInitialized);
+        previousEcsWorld.dispose();
+    }
+
+    /**
+     * Rend tous les ennemis à leurs pools et vide la liste et la grille des ennemis.
+     */
+    private void releaseEnemies() {
+        for (Enemy enemy : enemies) {
+            if (enemy != null) {
+                enemy.release();
+            }
+        }
+        enemies.clear();
+        enemyGrid.clear();
+    }
+
+    /**
+     * Rend tous les collectibles au pool et vide la liste et la grille des collectibles.
+     */
+    private void releaseCollectibles() {
+        for (Collectible collectible : collectibles) {
+            collectiblePool.free(collectible);
+        }
+        collectibles.clear();
+        collectibleGrid.clear();
+    }
+
+    /**
+     * Ajoute un slime lié à une zone.
+     *
+     * @param zoneId Zone de l'ennemi (1-6)
+     * @param level Niveau du slime (1-3)
+     * @param x Position X (spawn point)
+     * @param y Position Y (spawn point)
+     * @return Le slime créé
+     */
+    public Enemy spawnSlime(int zoneId, int level, float x, float y) {
+        return addEnemy(EnemyArchetypes.get(EnemyArchetypes.SLIME, level), zoneId, x, y, 0);
+    }
+
+    /**
+     * Ajoute un vampire lié à une zone.
+     *
+     * @param zoneId Zone de l'ennemi (1-6)
+     * @param level Niveau du vampire (1-3)
+     * @param x Position X (spawn point)
+     * @param y Position Y (spawn point)
+     * @return Le vampire créé
+     */
+    public Enemy spawnVampire(int zoneId, int level, float x, float y) {
+        return addEnemy(EnemyArchetypes.get(EnemyArchetypes.VAMPIRE, level), zoneId, x, y, 0);
+    }
+
+    /**
+     * Ajoute un ennemi d'un archétype du registre, lié à une zone.
+     * Ses composants viennent des données de l'archétype : tirs si un bloc "ranged" est défini,
+     * réapparition si "respawnDelay" est positif (au plus "maxRespawns" fois), victoire à sa mort si "winsGame".
+     *
+     * @param archetypeId Identifiant de l'archétype (ex. "slime2", voir EnemyArchetypes)
+     * @param zoneId Zone de l'ennemi (1-6)
+     * @param x Position X (spawn point)
+     * @param y Position Y (spawn point)
+     * @return L'ennemi créé
+     * @throws IllegalArgumentException si l'archétype est inconnu
+     */
+    public Enemy spawnEnemy(String archetypeId, int zoneId, float x, float y) {
+        return addEnemy(EnemyArchetypes.get(archetypeId), zoneId, x, y, 0);
+    }
+
+    private Enemy addEnemy(EnemyArchetype archetype, int zoneId, float x, float y, int respawnCount) {
+        Enemy enemy = enemyPools.get(archetype.getId()).obtain();
+        enemy.setX(x);
+        enemy.setY(y);
+        int entity = addEnemy(enemy, zoneId, x, y);
+        lootMapper.get(entity).winsGame = archetype.isWinsGame();
+
+        if (archetype.getRespawnDelay() > 0f) {
+            // L'ennemi réapparaît à son point de spawn après sa mort
+            Respawnable respawnable = respawnableMapper.create(entity);
+            respawnable.archetypeId = archetype.getId();
+            respawnable.count = respawnCount;
+            respawnable.maxRespawns = maxRespawnsOverride >= 0 ? maxRespawnsOverride : archetype.getMaxRespawns();
+            respawnable.delay = archetype.getRespawnDelay();
+        }
+
+        if (archetype.hasRangedAttack()) {
+            RangedAttack ranged = rangedMapper.create(entity);
+            ranged.interval = archetype.getRangedAttackInterval();
+            // Premier tir après un intervalle complet
+            timers.schedule(ranged.cooldown, ranged.interval);
+            ranged.range = archetype.getRangedAttackRange();
+            ranged.minRange = archetype.getRangedAttackMinRange();
+            ranged.speed = archetype.getProjectileSpeed();
+            ranged.damagePerSecond = archetype.getProjectileDamagePerSecond();
+            ranged.size = archetype.getProjectileSize();
+        }
+        return enemy;
+    }
+
+    /**
+     * Crée l'entité d'un ennemi avec les composants communs à tous les types : ses composants d'état
+     * (voir EnemyEntities), puis niveau de détail de l'IA, butin et taille du sprite pour les collisions
+     * (celle de l'archétype de l'ennemi).
+     *
+     * @return L'identifiant de l'entité
+     */
+    private int addEnemy(Enemy enemy, int zoneId, float x, float y) {
+        enemy.setZoneId(zoneId);
+        enemy.setInitialPosition(x, y);
+        enemy.getAnimationHandler().setClock(animationClock);
+        enemy.setEventBus(events);
+        enemy.setTimingWheel(timers);
+        enemy.setStatusEffectEngine(statusEffects);
+        enemies.add(enemy);
+        enemyGrid.insert(enemy, enemy.getHitboxX(), enemy.getHitboxY(), enemy.getHitboxWidth(), enemy.getHitboxHeight());
+
+        int entity = EnemyEntities.create(ecsWorld, enemy);
+        lootMapper.create(entity);
+        CollisionShape shape = shapeMapper.create(entity);
+        shape.spriteWidth = enemy.getArchetype().getSpriteWidth();
+        shape.spriteHeight = enemy.getArchetype().getSpriteHeight();
+        lodMapper.create(entity);
+        return entity;
+    }
+
+    /**
+     * Avance la simulation d'une frame.
+     *
+     * @param delta Temps écoulé depuis la dernière frame
+     * @param input Commandes du joueur pour cette frame
+     */
+    public void update(float delta, PlayerInput input) {
+        profiler.beginFrame();
+
+        // Mettre à jour le temps de jeu et l'horloge des animations
+        gameTime += delta;
+        animationClock.advance(delta);
+
+        // Le rendu de la frame précédente a pu changer la taille des ennemis
+        updateEnemyGrid();
+
+        // Gérer l'input et le mouvement
+        applyInput(input, delta);
+        trackPlayerZone();
+
+        // Timers arrivés à échéance (cooldowns, réapparitions), puis effets temporaires
+        timers.advance(delta);
+        statusEffects.update(delta);
+        profiler.mark(PHASE_INPUT);
+
+        // Joueur mort : la partie est terminée, GameScreen affiche l'écran de défaite
+        if (!player.isAlive()) {
+            return;
+        }
+
+        // Mettre à jour le joueur
+        player.update(delta);
+        profiler.mark(PHASE_PLAYER);
+
+        // Systèmes ECS : morts et réapparitions, collisions des nouveaux ennemis,
+        // mise à jour et IA des ennemis, tirs, index spatial
+        ecsWorld.setDelta(delta);
+        ecsWorld.process();
+        if (hordeMode) {
+            swarm.update(delta, player);
+        }
+        projectiles.update(delta);
+        profiler.mark(PHASE_ENEMIES);
+
+        // Vérifier et résoudre les collisions entre entités
+        if (player.isAlive()) {
+            resolveEntityCollisions();
+        }
+
+        // Initialiser les collisions après le premier rendu
+        if (!collisionsInitialized && player.getWidth() > 0 && player.getHeight() > 0) {
+            initializeCollisions();
+            collisionsInitialized = true;
+            // Les ennemis reçoivent leur CollisionHandler dès la frame suivante
+            collisionSetupSystem.setEnabled(true);
+        }
+        profiler.mark(PHASE_COLLISIONS);
+
+        handlePlayerAttack();
+        projectiles.hit(player);
+        // Dégâts de la frame, puis morts, drops, ramassages et changements de zone qu'ils entraînent
+        events.drain();
+        profiler.mark(PHASE_COMBAT);
+
+        clampToMapBounds();
+        profiler.mark(PHASE_LOOT);
+    }
+
+    /**
+     * Dessine le joueur, les ennemis, les projectiles et les collectibles.
+     * Le rendu met aussi à jour les dimensions des personnages.
+     *
+     * @param batch Batch déjà ouvert (begin)
+     */
+    public void renderEntities(Batch batch) {
+        player.render(batch);
+
+        enemyRenderSystem.render(batch);
+        if (hordeMode) {
+            swarm.render(batch);
+        }
+        projectiles.render(batch, projectileRegion);
+
+        for (int i = 0; i < collectibles.size(); i++) {
+            Collectible collectible = collectibles.get(i);
+            if (collectible != null && !collectible.isCollected()) {
+                collectible.render(batch);
+            }
+        }
+    }
+
+    /**
+     * Vérifie si le joueur est mort.
+     */
+    public boolean isPlayerDead() {
+        return !player.isAlive();
+    }
+
+    /**
+     * Vérifie si le joueur a gagné :
+     * - Tuer un vampire de niveau 3
+     * OU
+     * - Tuer 20 ennemis au total
+     */
+    public boolean isWon() {
+        // Mode horde : victoire quand tout l'essaim est mort
+        if (hordeMode) {
+            return swarm.getAliveCount() == 0 && enemies.isEmpty();
+        }
+
+        // Victoire si on a tué un vampire de niveau 3
+        if (level3VampireKilled) {
+            return true;
+        }
+
+        // Victoire si on a tué 20 ennemis au total
+        if (totalKills >= 20) {
+            return true;
+        }
+
+        return false;
+    }
+
+    private void applyInput(PlayerInput input, float deltaTime) {
+        if (!player.isAlive()) {
+            player.getMovementHandler().stop();
+            return;
+        }
+
+        Direction moveDirection = input.moveDirection;
+        boolean isRunning = input.running;
+
+        if (moveDirection != null) {
+            if (canPlayerMove(moveDirection, deltaTime, isRunning)) {
+                player.getMovementHandler().move(moveDirection, deltaTime, isRunning);
+            } else {
+                player.getMovementHandler().move(moveDirection, deltaTime, isRunning);
+            }
+        } else {
+            player.getMovementHandler().stop();
+        }
+
+        if (input.attack) {
+            player.attack();
+        }
+
+        if (input.pickup) {
+            pickupCollectibles();
+        }
+
+        if (input.useDamageBoost) {
+            player.useDamageBoost();
+        }
+
+        if (input.useSpeedBoost) {
+            player.useSpeedBoost();
+        }
+
+        if (input.useShieldPotion) {
+            player.useShieldPotion();
+        }
+
+        if (input.useHealPotion) {
+            player.useHealPotion();
+        }
+    }
+
+    private void handlePlayerAttack() {
+        if (!player.isAlive() || (enemies.isEmpty() && !hordeMode)) {
+            return;
+        }
+
+        if (!player.isAttacking() || playerAttackCooldown.isScheduled()) {
+            return;
+        }
+
+        // Zone d'attaque : zone de frappe de la frame d'attaque en cours, sinon portée fixe devant le joueur
+        float playerAttackX, playerAttackY;
+        float playerAttackWidth, playerAttackHeight;
+        boolean frameHitbox = player.getCurrentAttackHitbox(attackArea);
+
+        if (frameHitbox && (attackArea.width <= 0f || attackArea.height <= 0f)) {
+            return; // Frame sans épée au-delà du corps (préparation, retour) : pas de coup
+        }
+
+        if (frameHitbox) {
+            playerAttackX = attackArea.x;
+            playerAttackY = attackArea.y;
+            playerAttackWidth = attackArea.width;
+            playerAttackHeight = attackArea.height;
+        } else {
+            Direction attackDirection = player.getCurrentDirection();
+
+            float playerHitboxX = player.getHitboxX();
+            float playerHitboxY = player.getHitboxY();
+            float playerHitboxWidth = player.getHitboxWidth();
+            float playerHitboxHeight = player.getHitboxHeight();
+            float playerHitboxCenterX = playerHitboxX + playerHitboxWidth / 2f;
+            float playerHitboxCenterY = playerHitboxY + playerHitboxHeight / 2f;
+
+            float attackRangeWidth = 25f;
+            float attackRangeHeight = 10f;
+
+            switch (attackDirection) {
+                case DOWN:
+                    playerAttackX = playerHitboxCenterX - attackRangeWidth / 2f;
+                    playerAttackY = playerHitboxY - attackRangeHeight;
+                    playerAttackWidth = attackRangeWidth;
+                    playerAttackHeight = attackRangeHeight;
+                    break;
+                case UP:
+                    playerAttackX = playerHitboxCenterX - attackRangeWidth / 2f;
+                    playerAttackY = playerHitboxY + playerHitboxHeight;
+                    playerAttackWidth = attackRangeWidth;
+                    playerAttackHeight = attackRangeHeight;
+                    break;
+                case SIDE_LEFT:
+                    playerAttackX = playerHitboxX - attackRangeHeight;
+                    playerAttackY = playerHitboxCenterY - attackRangeWidth / 2f;
+                    playerAttackWidth = attackRangeHeight;
+                    playerAttackHeight = attackRangeWidth;
+                    break;
+                case SIDE:
+                    playerAttackX = playerHitboxX + playerHitboxWidth;
+                    playerAttackY = playerHitboxCenterY - attackRangeWidth / 2f;
+                    playerAttackWidth = attackRangeHeight;
+                    playerAttackHeight = attackRangeWidth;
+                    break;
+                default:
+                    playerAttackX = playerHitboxCenterX - attackRangeWidth / 2f;
+                    playerAttackY = playerHitboxCenterY - attackRangeHeight / 2f;
+                    playerAttackWidth = attackRangeWidth;
+                    playerAttackHeight = attackRangeHeight;
+                    break;
+            }
+        }
+
+        // Seuls les ennemis proches de la zone d'attaque sont testés (dans l'ordre de la liste)
+        enemyGrid.queryRect(playerAttackX, playerAttackY, playerAttackWidth, playerAttackHeight, nearbyEnemies);
+        for (int i = 0; i < nearbyEnemies.size(); i++) {
+            Enemy enemy = nearbyEnemies.get(i);
+            if (!enemy.isAlive()) {
+                continue;
+            }
+
+            float enemyCenterX = enemy.getX() + enemy.getWidth() / 2f;
+            float enemyCenterY = enemy.getY() + enemy.getHeight() / 2f;
+
+            float enemyHitboxWidth = enemy.getHitboxWidth();
+            float enemyHitboxHeight = enemy.getHitboxHeight();
+
+            float enemyHitboxX = enemyCenterX - enemyHitboxWidth / 2f;
+            float enemyHitboxY = enemyCenterY - enemyHitboxHeight / 2f;
+
+            boolean hitboxesCollide = (playerAttackX < enemyHitboxX + enemyHitboxWidth &&
+                                       playerAttackX + playerAttackWidth > enemyHitboxX &&
+                                       playerAttackY < enemyHitboxY + enemyHitboxHeight &&
+                                       playerAttackY + playerAttackHeight > enemyHitboxY);
+
+            // Seconde phase, seulement avec la zone de frappe de la frame : la portée fixe est hors du sprite du joueur
+            if (hitboxesCollide && (!frameHitbox || attackPixelsOverlap(enemy, playerAttackX, playerAttackY,
+                    playerAttackWidth, playerAttackHeight))) {
+                int baseDamage = 10;
+                int totalDamage = baseDamage + player.getDamageBoost();
+                player.dealDamage(enemy, totalDamage);
+                timers.schedule(playerAttackCooldown, playerAttackCooldownTime);
+                return;
+            }
+        }
+
+        // Mode horde : le coup touche le premier slime de l'essaim dans la zone d'attaque
+        if (hordeMode && swarm.hitFirst(playerAttackX, playerAttackY, playerAttackWidth, playerAttackHeight,
+                10 + player.getDamageBoost())) {
+            timers.schedule(playerAttackCooldown, playerAttackCooldownTime);
+        }
+    }
+
+    /**
+     * Seconde phase du test de coup : un pixel opaque de la frame du joueur touche-t-il un pixel
+     * opaque de la frame de l'ennemi dans la zone de frappe ? Sans masque, la hitbox suffit.
+     *
+     * La recherche est limitée aux colonnes et lignes du masque du joueur entièrement comprises dans la
+     * zone de frappe (arrondi vers l'intérieur, dans la grille du masque) : les pixels du corps du joueur,
+     * hors de cette zone, ne comptent jamais comme un coup d'épée.
+     *
+     * @param x Position X de la zone de frappe (voir Player.getCurrentAttackHitbox())
+     * @param y Position Y de la zone de frappe
+     * @param width Largeur de la zone de frappe
+     * @param height Hauteur de la zone de frappe
+     */
+    private boolean attackPixelsOverlap(Enemy enemy, float x, float y, float width, float height) {
+        CollisionMask playerMask = player.getAnimationHandler().getCurrentMask();
+        CollisionMask enemyMask = enemy.getAnimationHandler().getCurrentMask();
+        if (playerMask == null || enemyMask == null) {
+            return true;
+        }
+        int playerMaskX = (int) Math.floor(player.getX());
+        int playerMaskY = (int) Math.floor(player.getY());
+        // Bornes de la zone de frappe dans le repère du masque du joueur
+        float strikeX = x - player.getX();
+        float strikeY = y - player.getY();
+        int clipX = playerMaskX + (int) Math.ceil(strikeX);
+        int clipY = playerMaskY + (int) Math.ceil(strikeY);
+        int clipRight = playerMaskX + (int) Math.floor(strikeX + width);
+        int clipTop = playerMaskY + (int) Math.floor(strikeY + height);
+        if (clipRight <= clipX || clipTop <= clipY) {
+            return false;
+        }
+        return CollisionMask.overlaps(
+            playerMask, playerMaskX, playerMaskY,
+            enemyMask, (int) Math.floor(enemy.getX()), (int) Math.floor(enemy.getY()),
+            clipX, clipY, clipRight - clipX, clipTop - clipY);
+    }
+
+    private void clampToMapBounds() {
+        int mapWidthPixels = mapLoader.getMapWidth() * mapLoader.getTileWidth();
+        int mapHeightPixels = mapLoader.getMapHeight() * mapLoader.getTileHeight();
+
+        float playerWidth = player.getWidth();
+        float playerHeight = player.getHeight();
+
+        float minX = 0;
+        float minY = 0;
+        float maxX = mapWidthPixels - playerWidth;
+        float maxY = mapHeightPixels - playerHeight;
+
+        float x = Math.max(minX, Math.min(maxX, player.getX()));
+        float y = Math.max(minY, Math.min(maxY, player.getY()));
+
+        player.setX(x);
+        player.setY(y);
+    }
+
+    private boolean canPlayerMove(Direction direction, float deltaTime, boolean isRunning) {
+        if (!player.isAlive()) {
+            return true;
+        }
+
+        float playerSpeed = player.getMovementHandler().getSpeed();
+        float currentSpeed = isRunning ? playerSpeed * 1.5f : playerSpeed;
+        float moveDistance = currentSpeed * deltaTime;
+
+        float currentX = player.getX();
+        float currentY = player.getY();
+        float newX = currentX;
+        float newY = currentY;
+
+        switch (direction) {
+            case UP:
+                newY += moveDistance;
+                break;
+            case DOWN:
+                newY -= moveDistance;
+                break;
+            case SIDE:
+                newX += moveDistance;
+                break;
+            case SIDE_LEFT:
+                newX -= moveDistance;
+                break;
+        }
+
+        float playerHitboxWidth = player.getHitboxWidth();
+        float playerHitboxHeight = player.getHitboxHeight();
+        float playerSpriteCenterX = newX + player.getWidth() / 2f;
+        float playerSpriteCenterY = newY + player.getHeight() / 2f;
+        float newPlayerHitboxX = playerSpriteCenterX - playerHitboxWidth / 2f;
+        float newPlayerHitboxY = playerSpriteCenterY - playerHitboxHeight / 2f;
+
+        enemyGrid.queryRect(newPlayerHitboxX, newPlayerHitboxY, playerHitboxWidth, playerHitboxHeight, nearbyEnemies);
+        for (int i = 0; i < nearbyEnemies.size(); i++) {
+            Enemy enemy = nearbyEnemies.get(i);
+            if (!enemy.isAlive()) {
+                continue;
+            }
+
+            float enemyHitboxX = enemy.getHitboxX();
+            float enemyHitboxY = enemy.getHitboxY();
+            float enemyHitboxWidth = enemy.getHitboxWidth();
+            float enemyHitboxHeight = enemy.getHitboxHeight();
+
+            boolean wouldCollide = (newPlayerHitboxX < enemyHitboxX + enemyHitboxWidth &&
+                                   newPlayerHitboxX + playerHitboxWidth > enemyHitboxX &&
+                                   newPlayerHitboxY < enemyHitboxY + enemyHitboxHeight &&
+                                   newPlayerHitboxY + playerHitboxHeight > enemyHitboxY);
+
+            if (wouldCollide) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void resolveEntityCollisions() {
+        if (!player.isAlive()) {
+            return;
+        }
+
+        float playerHitboxX = player.getHitboxX();
+        float playerHitboxY = player.getHitboxY();
+        float playerHitboxWidth = player.getHitboxWidth();
+        float playerHitboxHeight = player.getHitboxHeight();
+
+        enemyGrid.queryRect(playerHitboxX, playerHitboxY, playerHitboxWidth, playerHitboxHeight, nearbyEnemies);
+        for (int i = 0; i < nearbyEnemies.size(); i++) {
+            Enemy enemy = nearbyEnemies.get(i);
+            if (!enemy.isAlive()) {
+                continue;
+            }
+
+            float enemyHitboxX = enemy.getHitboxX();
+            float enemyHitboxY = enemy.getHitboxY();
+            float enemyHitboxWidth = enemy.getHitboxWidth();
+            float enemyHitboxHeight = enemy.getHitboxHeight();
+
+            boolean colliding = (playerHitboxX < enemyHitboxX + enemyHitboxWidth &&
+                               playerHitboxX + playerHitboxWidth > enemyHitboxX &&
+                               playerHitboxY < enemyHitboxY + enemyHitboxHeight &&
+                               playerHitboxY + playerHitboxHeight > enemyHitboxY);
+
+            if (colliding) {
+                float overlapX = Math.min(playerHitboxX + playerHitboxWidth - enemyHitboxX,
+                                         enemyHitboxX + enemyHitboxWidth - playerHitboxX);
+                float overlapY = Math.min(playerHitboxY + playerHitboxHeight - enemyHitboxY,
+                                         enemyHitboxY + enemyHitboxHeight - playerHitboxY);
+
+                float playerCenterX = playerHitboxX + playerHitboxWidth / 2f;
+                float playerCenterY = playerHitboxY + playerHitboxHeight / 2f;
+                float enemyCenterX = enemyHitboxX + enemyHitboxWidth / 2f;
+                float enemyCenterY = enemyHitboxY + enemyHitboxHeight / 2f;
+
+                if (overlapX < overlapY) {
+                    if (playerCenterX < enemyCenterX) {
+                        player.setX(player.getX() - overlapX);
+                    } else {
+                        player.setX(player.getX() + overlapX);
+                    }
+                } else {
+                    if (playerCenterY < enemyCenterY) {
+                        player.setY(player.getY() - overlapY);
+                    } else {
+                        player.setY(player.getY() + overlapY);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Publie un changement de zone du joueur. La zone n'est recherchée que lorsque
+     * le centre du joueur change de case.
+     */
+    private void trackPlayerZone() {
+        if (player.getWidth() <= 0 || player.getHeight() <= 0) {
+            return;
+        }
+        float centerX = player.getX() + player.getWidth() / 2f;
+        float centerY = player.getY() + player.getHeight() / 2f;
+        int tileX = (int) Math.floor(centerX / mapLoader.getTileWidth());
+        int tileY = (int) Math.floor(centerY / mapLoader.getTileHeight());
+        if (tileX == playerTileX && tileY == playerTileY) {
+            return;
+        }
+        playerTileX = tileX;
+        playerTileY = tileY;
+
+        int zone = mapLoader.getZoneAt(centerX, centerY);
+        if (zone != playerZone) {
+            playerZone = zone;
+            events.zoneEntered(player, zone);
+        }
+    }
+
+    /**
+     * Effets de la mort d'un ennemi (abonné à ENTITY_DIED) : kills, victoire, drop d'un collectible.
+     * L'ennemi reste dans le monde jusqu'au passage de DeathSystem à la frame suivante.
+     */
+    private void onEnemyDied(Enemy enemy) {
+        // Sans sprites de collectibles, les morts ne sont pas traitées
+        if (actionPanelMapping == null || enemy.getEntityId() < 0) {
+            return;
+        }
+        Loot loot = lootMapper.get(enemy.getEntityId());
+
+        // Incrémenter le compteur de kills
+        totalKills++;
+
+        // Vérifier si c'est un vampire de niveau 3
+        if (loot.winsGame) {
+            level3VampireKilled = true;
+        }
+
+        if (loot.dropsItem) {
+            float rand = random.nextFloat();
+            Inventory.ItemType itemType = null;
+
+            if (rand < 0.25f) {
+                itemType = Inventory.ItemType.DAMAGE_BOOST;
+            } else if (rand < 0.5f) {
+                itemType = Inventory.ItemType.SPEED_BOOST;
+            } else if (rand < 0.75f) {
+                itemType = Inventory.ItemType.SHIELD_POTION;
+            } else {
+                itemType = Inventory.ItemType.HEAL_POTION;
+            }
+
+            float enemyX = enemy.getX() + enemy.getWidth() / 2f;
+            float enemyY = enemy.getY() + enemy.getHeight() / 2f;
+
+            Collectible collectible = collectiblePool.obtain();
+            collectible.set(enemyX, enemyY, itemType);
+            events.itemDropped(collectible);
+        }
+    }
+
+    /**
+     * Retrait d'un ennemi mort (appelé par DeathSystem) : listes, grille et retour à son pool.
+     */
+    private void onEnemyKilled(Enemy enemy) {
+        enemies.remove(enemy);
+        enemyGrid.remove(enemy);
+        // L'ennemi garde ses animations dans le pool : le prochain spawn du même type ne recharge rien
+        enemy.release();
+    }
+
+    private void pickupCollectibles() {
+        float playerX = player.getX();
+        float playerY = player.getY();
+        float playerWidth = player.getWidth();
+        float playerHeight = player.getHeight();
+
+        // Seuls les collectibles à portée du centre du joueur sont testés (dans l'ordre de la liste)
+        collectibleGrid.queryRadius(playerX + playerWidth / 2f, playerY + playerHeight / 2f,
+            Collectible.PICKUP_RANGE, nearbyCollectibles);
+        for (int i = 0; i < nearbyCollectibles.size(); i++) {
+            Collectible collectible = nearbyCollectibles.get(i);
+            if (!collectible.isCollected()) {
+                if (collectible.canBePickedUp(playerX, playerY, playerWidth, playerHeight)) {
+                    if (player.getInventory().addItem(collectible.getItemType())) {
+                        // Retiré de la liste et de la grille au drain, par l'abonné d'ITEM_PICKED
+                        collectible.collect();
+                        events.itemPicked(player, collectible);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reporte dans la grille la hitbox courante de chaque ennemi.
+     * Un ennemi ne change de cellules que s'il a quitté les siennes.
+     */
+    private void updateEnemyGrid() {
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            enemyGrid.update(enemy, enemy.getHitboxX(), enemy.getHitboxY(),
+                enemy.getHitboxWidth(), enemy.getHitboxHeight());
+        }
+    }
+
+    private void initializeCollisions() {
+        if (player.getHitboxWidth() > 0 && player.getHitboxHeight() > 0) {
+            float spriteWidth = 32f;
+            float spriteHeight = 32f;
+            CollisionHandler playerCollision = new CollisionHandler(
+                mapLoader, player.getHitboxWidth(), player.getHitboxHeight(), spriteWidth, spriteHeight);
+            player.getMovementHandler().setCollisionHandler(playerCollision);
+        } else {
+            Gdx.app.error("GameWorld", "Impossible d'initialiser les collisions : hitbox du joueur invalide");
+        }
+    }
+
+    /**
+     * Libère les ressources du joueur, des ennemis encore présents et des ennemis en attente dans les pools.
+     */
+    public void dispose() {
+        if (player != null) {
+            player.dispose();
+        }
+        releaseEnemies();
+        releaseCollectibles();
+        for (MeteredPool<?> pool : pools) {
+            pool.clear();
+        }
+        projectiles.clear();
+        events.clear();
+        ecsWorld.dispose();
+        if (swarm != null) {
+            swarm.dispose();
+            swarm = null;
+        }
+        hordeMode = false;
+    }
+
+    /**
+     * Impose un nombre maximal de respawns à tous les ennemis apparus ensuite, à la place du
+     * "maxRespawns" de leur archétype (2 pour les slimes). Le harnais d'endurance le lève pour
+     * entretenir un cycle mort/respawn continu.
+     *
+     * @param maxRespawns Nombre maximal de respawns (Integer.MAX_VALUE = illimité, négatif = celui de l'archétype)
+     */
+    public void setMaxRespawns(int maxRespawns) {
+        this.maxRespawnsOverride = maxRespawns;
+    }
+
+    // Getters
+    public Player getPlayer() {
+        return player;
+    }
+
+    public ArrayList<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public ArrayList<Collectible> getCollectibles() {
+        return collectibles;
+    }
+
+    public JsonMapLoader getMapLoader() {
+        return mapLoader;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Niveau de détail de l'IA des ennemis (répartition FULL / REDUCED / DORMANT de la dernière frame).
+     */
+    public AiLodSystem getAiLodSystem() {
+        return aiLodSystem;
+    }
+
+    /**
+     * Roue des timers du monde (réapparitions, cooldowns d'attaque, boosts du joueur).
+     */
+    public TimingWheel getTimingWheel() {
+        return timers;
+    }
+
+    /**
+     * Effets temporaires des personnages (boosts, ralentissements, dégâts sur la durée).
+     */
+    public StatusEffectEngine getStatusEffects() {
+        return statusEffects;
+    }
+
+    /**
+     * Bus des événements de combat (dégâts, morts, drops, ramassages, changements de zone).
+     */
+    public CombatEventBus getEventBus() {
+        return events;
+    }
+
+    /**
+     * Projectiles en vol (tirs des vampires).
+     */
+    public ProjectileEngine getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Pools d'objets du monde (slimes et vampires par niveau, collectibles) et leurs statistiques.
+     */
+    public List<MeteredPool<?>> getPools() {
+        return pools;
+    }
+
+    /**
+     * @return Nombre total d'objets créés faute d'objet libre dans un pool
+     */
+    public long getPoolMisses() {
+        long misses = 0;
+        for (int i = 0; i < pools.size(); i++) {
+            misses += pools.get(i).getMisses();
+        }
+        return misses;
+    }
+
+    /**
+     * Indique la zone vue par la caméra, en coordonnées du monde.
+     * Les ennemis hors de cette zone (plus une marge) ne mettent plus à jour leur animation.
+     *
+     * @param x Bord gauche de la vue
+     * @param y Bord bas de la vue
+     * @param width Largeur de la vue (0 = vue inconnue, tous les ennemis sont animés)
+     * @param height Hauteur de la vue
+     */
+    public void setViewBounds(float x, float y, float width, float height) {
+        viewBounds.set(x, y, width, height);
+    }
+
+    /**
+     * Horloge partagée des animations (avancée par update()).
+     */
+    public AnimationClock getAnimationClock() {
+        return animationClock;
+    }
+
+    /**
+     * Marquage des ennemis visibles (nombre d'ennemis animés à la dernière frame).
+     */
+    public AnimationCullingSystem getAnimationCullingSystem() {
+        return animationCullingSystem;
+    }
+
+    /**
+     * Planificateur des décisions d'IA (décisions de la dernière frame, frames par tour complet).
+     */
+    public AiDecisionSystem getAiDecisionSystem() {
+        return aiDecisionSystem;
+    }
+
+    /**
+     * Change le temps maximal consacré aux décisions d'IA par frame.
+     *
+     * @param budgetMillis Budget en millisecondes
+     */
+    public void setAiDecisionBudget(float budgetMillis) {
+        aiDecisionBudgetMillis = budgetMillis;
+        aiDecisionSystem.setBudgetMillis(budgetMillis);
+    }
+
+    /**
+     * Active le calcul parallèle des décisions d'IA (ParallelAiDecisionSystem) : toutes les décisions
+     * chaque frame, réparties sur les cœurs, au lieu du tourniquet dans un budget d'AiDecisionSystem.
+     *
+     * @param parallel true pour le calcul parallèle
+     */
+    public void setParallelAi(boolean parallel) {
+        parallelAi = parallel;
+        aiDecisionSystem.setEnabled(!parallel);
+        parallelAiDecisionSystem.setEnabled(parallel);
+    }
+
+    public boolean isParallelAi() {
+        return parallelAi;
+    }
+
+    public float getGameTime() {
+        return gameTime;
+    }
+
+    public int getTotalKills() {
+        return hordeMode ? totalKills + swarm.getKillCount() : totalKills;
+    }
+
+    public boolean isHordeMode() {
+        return hordeMode;
+    }
+
+    /**
+     * Essaim du mode horde (null tant qu'aucune horde n'a été lancée).
+     */
+    public SlimeSwarm getSwarm() {
+        return swarm;
+    }
+}
@@ -13,10 +13,16 @@ import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.tlse1.twodgame.utils.DisposableTracker;
 
 public class JsonMapLoader {
+    // Noms des layers de zone, indexés par ID de zone : évite une concaténation à chaque test de zone
+    private static final String[] ZONE_LAYER_NAMES = {null, "zone1", "zone2", "zone3", "zone4", "zone5", "zone6"};
+    
     private OrthogonalTiledMapRenderer mapRenderer;
     private TiledMap tiledMap;
+    // Le TiledMap ne possède pas la texture du tileset : elle est libérée par dispose()
+    private Texture tilesetTexture;
     private int tileWidth;
     private int tileHeight;
     private int mapWidth;
@@ -28,6 +34,7 @@ public class JsonMapLoader {
      * @param jsonPath Chemin vers le fichier JSON (relatif à assets/)
      */
     public JsonMapLoader(String jsonPath) {
+        DisposableTracker.track(this, jsonPath);
         try {            
             // Vérification du JSON
             FileHandle jsonFile = Gdx.files.internal(jsonPath);
@@ -53,7 +60,7 @@ public class JsonMapLoader {
                 return;
             }
             
-            Texture tilesetTexture = new Texture(tilesetFile);
+            tilesetTexture = DisposableTracker.texture(tilesetFile);
             tilesetTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
             TextureRegion[][] allTiles = TextureRegion.split(tilesetTexture, tileWidth, tileHeight);
             
@@ -114,7 +121,8 @@ public class JsonMapLoader {
                 tiledMap.getLayers().add(layer);
             }
             
-            mapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+            // Le renderer (et son SpriteBatch) est créé au premier rendu :
+            // les collisions et les zones restent utilisables sans contexte OpenGL (benchmarks headless)
             
         } catch (Exception e) {
             Gdx.app.error("JsonMapLoader", "ERREUR FATALE:", e);
@@ -128,10 +136,23 @@ public class JsonMapLoader {
      * @param camera La caméra pour le rendu
      */
     public void render(OrthographicCamera camera) {
-        if (mapRenderer != null && camera != null) {
-            mapRenderer.setView(camera);
-            mapRenderer.render();
+        OrthogonalTiledMapRenderer renderer = getMapRenderer();
+        if (renderer != null && camera != null) {
+            renderer.setView(camera);
+            renderer.render();
+        }
+    }
+    
+    /**
+     * Retourne le renderer de la map, créé à la première demande.
+     * 
+     * @return Le renderer, ou null si la map n'a pas été chargée
+     */
+    private OrthogonalTiledMapRenderer getMapRenderer() {
+        if (mapRenderer == null && tiledMap != null) {
+            mapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
         }
+        return mapRenderer;
     }
     
     /**
@@ -141,12 +162,13 @@ public class JsonMapLoader {
      * @param camera La caméra pour le rendu
      */
     public void renderBeforePlayer(OrthographicCamera camera) {
-        if (mapRenderer == null || camera == null || tiledMap == null) {
+        OrthogonalTiledMapRenderer renderer = getMapRenderer();
+        if (renderer == null || camera == null) {
             return;
         }
         
-        mapRenderer.setView(camera);
-        Batch batch = mapRenderer.getBatch();
+        renderer.setView(camera);
+        Batch batch = renderer.getBatch();
         batch.begin();
         
         // Calculer les bounds visibles de la caméra pour optimiser le rendu
@@ -201,12 +223,13 @@ public class JsonMapLoader {
      * @param camera La caméra pour le rendu
      */
     public void renderAfterPlayer(OrthographicCamera camera) {
-        if (mapRenderer == null || camera == null || tiledMap == null) {
+        OrthogonalTiledMapRenderer renderer = getMapRenderer();
+        if (renderer == null || camera == null) {
             return;
         }
         
-        mapRenderer.setView(camera);
-        Batch batch = mapRenderer.getBatch();
+        renderer.setView(camera);
+        Batch batch = renderer.getBatch();
         batch.begin();
         
         // Calculer les bounds visibles de la caméra pour optimiser le rendu
@@ -276,7 +299,7 @@ public class JsonMapLoader {
         }
         
         // Récupérer le layer de la zone (zone1, zone2, etc.)
-        String zoneLayerName = "zone" + zoneId;
+        String zoneLayerName = ZONE_LAYER_NAMES[zoneId];
         TiledMapTileLayer zoneLayer = (TiledMapTileLayer) tiledMap.getLayers().get(zoneLayerName);
         
         if (zoneLayer == null) {
@@ -288,6 +311,22 @@ public class JsonMapLoader {
         return cell != null && cell.getTile() != null;
     }
     
+    /**
+     * Retourne la zone qui contient une position.
+     * 
+     * @param x Position X en pixels
+     * @param y Position Y en pixels
+     * @return ID de la zone (1-6), ou 0 si la position n'est dans aucune zone
+     */
+    public int getZoneAt(float x, float y) {
+        for (int zoneId = 1; zoneId <= 6; zoneId++) {
+            if (isInZone(x, y, zoneId)) {
+                return zoneId;
+            }
+        }
+        return 0;
+    }
+    
     /**
      * Trouve le centre d'une zone en pixels.
      * Parcourt toutes les tiles de la zone et calcule le centre.
@@ -300,7 +339,7 @@ public class JsonMapLoader {
             return null;
         }
         
-        String zoneLayerName = "zone" + zoneId;
+        String zoneLayerName = ZONE_LAYER_NAMES[zoneId];
         TiledMapTileLayer zoneLayer = (TiledMapTileLayer) tiledMap.getLayers().get(zoneLayerName);
         
         if (zoneLayer == null) {
@@ -380,6 +419,28 @@ public class JsonMapLoader {
         return false; // Pas de collision, position valide
     }
     
+    /**
+     * Vérifie si une tile est bloquante (tile non vide du layer "collisions", ou hors de la map).
+     * 
+     * @param tileX Colonne de la tile
+     * @param tileY Ligne de la tile
+     * @return true si la tile bloque
+     */
+    public boolean isCollisionTile(int tileX, int tileY) {
+        if (tiledMap == null) {
+            return false;
+        }
+        if (tileX < 0 || tileX >= mapWidth || tileY < 0 || tileY >= mapHeight) {
+            return true;
+        }
+        TiledMapTileLayer collisionsLayer = (TiledMapTileLayer) tiledMap.getLayers().get("collisions");
+        if (collisionsLayer == null) {
+            return false;
+        }
+        TiledMapTileLayer.Cell collisionCell = collisionsLayer.getCell(tileX, tileY);
+        return collisionCell != null && collisionCell.getTile() != null;
+    }
+    
     /**
      * Libère les ressources.
      */
@@ -390,6 +451,10 @@ public class JsonMapLoader {
         if (mapRenderer != null) {
             mapRenderer.dispose();
         }
+        if (tilesetTexture != null) {
+            tilesetTexture.dispose();
+        }
+        DisposableTracker.release(this);
     }
     
     // Getters
@@ -0,0 +1,36 @@
+package com.tlse1.twodgame.managers;
+
+import com.tlse1.twodgame.utils.Direction;
+
+/**
+ * Commandes du joueur pour une frame.
+ * Remplie par GameScreen à partir du clavier, ou par un script (scénarios de benchmark).
+ */
+public class PlayerInput {
+
+    // Direction de déplacement (null = immobile)
+    public Direction moveDirection;
+    public boolean running;
+
+    // Actions déclenchées pendant cette frame (équivalent de isKeyJustPressed)
+    public boolean attack;
+    public boolean pickup;
+    public boolean useDamageBoost;
+    public boolean useSpeedBoost;
+    public boolean useShieldPotion;
+    public boolean useHealPotion;
+
+    /**
+     * Remet toutes les commandes à zéro.
+     */
+    public void clear() {
+        moveDirection = null;
+        running = false;
+        attack = false;
+        pickup = false;
+        useDamageBoost = false;
+        useSpeedBoost = false;
+        useShieldPotion = false;
+        useHealPotion = false;
+    }
+}
@@ -10,6 +10,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.tlse1.twodgame.TwoDGame;
+import com.tlse1.twodgame.managers.AssetService;
+import com.tlse1.twodgame.utils.DisposableTracker;
 import com.tlse1.twodgame.utils.MenuMapping;
 
 /**
@@ -26,6 +28,7 @@ public class DevScreen implements Screen {
     
     // Core
     private final TwoDGame game;
+    private final AssetService assets;
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
     private final MenuMapping menuMapping;
@@ -54,6 +57,7 @@ public class DevScreen implements Screen {
 
     public DevScreen(TwoDGame game) {
         this.game = game;
+        this.assets = game.getAssets();
 
         // Initialisation caméra
         screenWidth = Gdx.graphics.getWidth();
@@ -62,15 +66,15 @@ public class DevScreen implements Screen {
         camera.setToOrtho(false, screenWidth, screenHeight);
         camera.update();
 
-        batch = new SpriteBatch();
-        menuMapping = new MenuMapping();
+        batch = DisposableTracker.spriteBatch();
+        menuMapping = assets.acquireMapping(MenuMapping.JSON_PATH, MenuMapping::new);
 
         // Chargement des textures
-        backgroundBlur = new Texture("gui/PNG/font_flou.png");
-        backgroundPanel = new Texture("gui/PNG/Background.png");
-        quitTexture = new Texture("gui/PNG/Quit_long.png");
-        crossTexture = new Texture("gui/PNG/Cross_button.png");
-        work = new Texture("gui/PNG/Work.png");
+        backgroundBlur = assets.acquireTexture("gui/PNG/font_flou.png");
+        backgroundPanel = assets.acquireTexture("gui/PNG/Background.png");
+        quitTexture = assets.acquireTexture("gui/PNG/Quit_long.png");
+        crossTexture = assets.acquireTexture("gui/PNG/Cross_button.png");
+        work = assets.acquireTexture("gui/PNG/Work.png");
 
         // Chargement des sprites depuis le mapping
         menuBackground = menuMapping.getSprite("sprite6");
@@ -241,8 +245,7 @@ public class DevScreen implements Screen {
      * Retourne au menu principal
      */
     private void returnToMenu() {
-        game.setScreen(new MenuScreen(game));
-        dispose();
+        game.setScreen(game.getMenuScreen());
     }
 
     /**
@@ -278,14 +281,15 @@ public class DevScreen implements Screen {
             batch.dispose();
         }
         if (menuMapping != null) {
-            menuMapping.dispose();
+            assets.release(menuMapping);
         }
         
         // Dispose des textures
-        backgroundBlur.dispose();
-        backgroundPanel.dispose();
-        quitTexture.dispose();
-        crossTexture.dispose();
-        work.dispose();
+        assets.release(backgroundBlur);
+        assets.release(backgroundPanel);
+        assets.release(quitTexture);
+        assets.release(crossTexture);
+        assets.release(work);
+        DisposableTracker.release(this);
     }
 }
\ No newline at end of file
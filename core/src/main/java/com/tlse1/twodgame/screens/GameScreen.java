@@ -10,38 +10,39 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.tlse1.twodgame.TwoDGame;
-import com.tlse1.twodgame.entities.Collectible;
-import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.managers.AssetService;
 import com.tlse1.twodgame.entities.Inventory;
 import com.tlse1.twodgame.entities.Player;
-import com.tlse1.twodgame.entities.Slime;
-import com.tlse1.twodgame.entities.Vampire;
-import java.util.ArrayList;
-import com.tlse1.twodgame.entities.handlers.CollisionHandler;
+import com.tlse1.twodgame.managers.GameWorld;
 import com.tlse1.twodgame.managers.JsonMapLoader;
+import com.tlse1.twodgame.managers.PlayerInput;
 import com.tlse1.twodgame.ui.HealthBar;
 import com.tlse1.twodgame.ui.ShieldBar;
 import com.tlse1.twodgame.utils.ActionPanelMapping;
 import com.tlse1.twodgame.utils.CharacterPanelMapping;
 import com.tlse1.twodgame.utils.Direction;
+import com.tlse1.twodgame.utils.DisposableTracker;
 
 /**
  * Écran de jeu principal.
  * Affiche le personnage au centre de l'écran.
+ * La simulation (ennemis, combats, collectibles) est déléguée à GameWorld ;
+ * l'écran gère le clavier, la caméra, le HUD et les transitions.
+ *
+ * L'écran est persistant (voir TwoDGame) : la map, les sprites et le HUD sont chargés
+ * au premier show(), et une nouvelle partie passe par reset() sans rien recharger.
  */
 public class GameScreen implements Screen {
     
     private TwoDGame game;
+    private final AssetService assets;
     private SpriteBatch batch;
     private OrthographicCamera camera;
     private OrthographicCamera uiCamera;
     private Viewport viewport;
+    private GameWorld world;
     private Player player;
-    private Enemy enemy;
-    private ArrayList<Enemy> enemies;
-    private ArrayList<Collectible> collectibles;
-    
-    private ArrayList<PendingSlimeRespawn> pendingSlimeRespawns;
+    private final PlayerInput input = new PlayerInput();
     
     private JsonMapLoader mapLoader;
     private CharacterPanelMapping characterPanelMapping;
@@ -50,56 +51,39 @@ public class GameScreen implements Screen {
     private ShieldBar shieldBar;
     private BitmapFont font;
     
-    private float playerAttackRange = 100f;
-    private float playerAttackCooldown = 0f;
-    private float playerAttackCooldownTime = 0.5f;
+    // Nombre d'items par type (index = ordinal) et texte affiché dans la case,
+    // mis à jour par l'inventaire à chaque changement plutôt que recalculé à chaque frame
+    private final int[] itemCounts = new int[Inventory.ItemType.values().length];
+    private final String[] itemCountTexts = new String[Inventory.ItemType.values().length];
+    private final Inventory.Listener inventoryListener = this::updateItemCount;
     
     private boolean playerDeathLogged = false;
-    private boolean enemyDeathLooted = false;
-    private boolean collisionsInitialized = false;
     private boolean cameraInitialized = false;
     private boolean isPaused = false;
     private boolean gameOver = false;
     
     private float lastPlayerX = -1f;
     private float lastPlayerY = -1f;
-    private float gameTime = 0f;
-    
-    private int totalKills = 0;
-    private boolean level3VampireKilled = false;
     
     private boolean isInitialized = false;
     
-    private static class PendingSlimeRespawn {
-        float deathTime;
-        int zoneId;
-        int level;
-        float initialX;
-        float initialY;
-        int respawnCount;
-        
-        PendingSlimeRespawn(float deathTime, int zoneId, int level, float initialX, float initialY, int respawnCount) {
-            this.deathTime = deathTime;
-            this.zoneId = zoneId;
-            this.level = level;
-            this.initialX = initialX;
-            this.initialY = initialY;
-            this.respawnCount = respawnCount;
-        }
-    }
+    // Mode horde : nombre de slimes de l'essaim (0 = partie normale)
+    private int hordeSize = 0;
     
     public GameScreen(TwoDGame game) {
         this.game = game;
+        this.assets = game.getAssets();
     }
     
     @Override
     public void show() {
-        // Ne s'initialiser qu'une seule fois
+        // Ne s'initialiser qu'une seule fois : les affichages suivants reprennent la partie
         if (isInitialized) {
+            resume();
             return;
         }
         
-        batch = new SpriteBatch();
+        batch = DisposableTracker.spriteBatch();
         
         float mapViewWidth = 180f;
         float mapViewHeight = 140f;
@@ -115,80 +99,17 @@ public class GameScreen implements Screen {
         
         mapLoader = new JsonMapLoader("map/map.json");
         
-        player = new Player(0, 0);
-        
-        float playerStartX = 32f;
-        float playerStartY = 50f;
-        player.setX(playerStartX);
-        player.setY(playerStartY);
-        
-        enemies = new ArrayList<>();
-        pendingSlimeRespawns = new ArrayList<>();
-        collectibles = new ArrayList<>();
-        
-        // Spawn des slimes
-        float[] zone1Center = mapLoader.getZoneCenter(1);
-        if (zone1Center != null) {
-            Slime slime1 = new Slime(zone1Center[0], zone1Center[1], 1);
-            slime1.setTarget(player);
-            slime1.setMapLoader(mapLoader);
-            slime1.setZoneId(1);
-            slime1.setInitialPosition(zone1Center[0], zone1Center[1]);
-            enemies.add(slime1);
-        }
-        
-        float[] zone2Center = mapLoader.getZoneCenter(2);
-        if (zone2Center != null) {
-            Slime slime2 = new Slime(zone2Center[0], zone2Center[1], 2);
-            slime2.setTarget(player);
-            slime2.setMapLoader(mapLoader);
-            slime2.setZoneId(2);
-            slime2.setInitialPosition(zone2Center[0], zone2Center[1]);
-            enemies.add(slime2);
-        }
-        
-        float[] zone3Center = mapLoader.getZoneCenter(3);
-        if (zone3Center != null) {
-            Slime slime3 = new Slime(zone3Center[0], zone3Center[1], 3);
-            slime3.setTarget(player);
-            slime3.setMapLoader(mapLoader);
-            slime3.setZoneId(3);
-            slime3.setInitialPosition(zone3Center[0], zone3Center[1]);
-            enemies.add(slime3);
-        }
-        
-        float[] zone4Center = mapLoader.getZoneCenter(4);
-        if (zone4Center != null) {
-            Vampire vampire1 = new Vampire(zone4Center[0], zone4Center[1], 1);
-            vampire1.setTarget(player);
-            vampire1.setMapLoader(mapLoader);
-            vampire1.setZoneId(4);
-            vampire1.setInitialPosition(zone4Center[0], zone4Center[1]);
-            enemies.add(vampire1);
-        }
+        characterPanelMapping = assets.acquireMapping(CharacterPanelMapping.JSON_PATH, CharacterPanelMapping::new);
+        actionPanelMapping = assets.acquireMapping(ActionPanelMapping.JSON_PATH, ActionPanelMapping::new);
         
-        float[] zone5Center = mapLoader.getZoneCenter(5);
-        if (zone5Center != null) {
-            Vampire vampire2 = new Vampire(zone5Center[0], zone5Center[1], 2);
-            vampire2.setTarget(player);
-            vampire2.setMapLoader(mapLoader);
-            vampire2.setZoneId(5);
-            vampire2.setInitialPosition(zone5Center[0], zone5Center[1]);
-            enemies.add(vampire2);
+        // Le joueur démarre en (32, 50), un slime dans les zones 1 à 3 et un vampire dans les zones 4 à 6
+        world = new GameWorld(mapLoader, actionPanelMapping);
+        world.spawnDefaultEnemies();
+        if (hordeSize > 0) {
+            world.startHorde(hordeSize);
         }
-        
-        float[] zone6Center = mapLoader.getZoneCenter(6);
-        if (zone6Center != null) {
-            Vampire vampire3 = new Vampire(zone6Center[0], zone6Center[1], 3);
-            vampire3.setTarget(player);
-            vampire3.setMapLoader(mapLoader);
-            vampire3.setZoneId(6);
-            vampire3.setInitialPosition(zone6Center[0], zone6Center[1]);
-            enemies.add(vampire3);
-        }
-        
-        characterPanelMapping = new CharacterPanelMapping();
-        actionPanelMapping = new ActionPanelMapping();
+        player = world.getPlayer();
+        watchInventory();
         
         float healthBarScale = 4f;
         float healthBarX = 10f;
@@ -196,12 +117,44 @@ public class GameScreen implements Screen {
         healthBar = new HealthBar(healthBarX, healthBarY, healthBarScale, characterPanelMapping);
         shieldBar = new ShieldBar(healthBarX, healthBarY, healthBarScale, characterPanelMapping);
         
-        font = new BitmapFont();
-        font.getData().setScale(1.5f);
+        font = assets.acquireFont(1.5f);
         
         isInitialized = true;
     }
     
+    /**
+     * Remet la partie à zéro (joueur, inventaire, ennemis, respawns, compteurs) en gardant
+     * la map, les sprites et le HUD déjà chargés. Sans effet avant le premier show(),
+     * qui crée lui-même une partie neuve.
+     */
+    public void reset() {
+        if (!isInitialized) {
+            return;
+        }
+        world.reset();
+        if (hordeSize > 0) {
+            world.startHorde(hordeSize);
+        }
+        player = world.getPlayer();
+        watchInventory();
+        input.clear();
+        
+        playerDeathLogged = false;
+        cameraInitialized = false;
+        isPaused = false;
+        gameOver = false;
+        lastPlayerX = -1f;
+        lastPlayerY = -1f;
+    }
+    
+    /**
+     * Mode des prochaines parties : horde de slimeCount slimes, ou partie normale si 0.
+     * Appliqué par le prochain reset() ou le premier show().
+     */
+    public void setHordeSize(int slimeCount) {
+        this.hordeSize = slimeCount;
+    }
+    
     public void pause() {
         isPaused = true;
     }
@@ -233,83 +186,50 @@ public class GameScreen implements Screen {
         return isPaused;
     }
     
+    /**
+     * Simulation de la partie en cours (null avant le premier show()).
+     */
+    public GameWorld getWorld() {
+        return world;
+    }
+    
     @Override
     public void render(float delta) {
         // Gérer la touche ÉCHAP pour ouvrir les paramètres
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE) && !isPaused && !gameOver) {
-            pause();
-            game.setScreen(new GameSettingsScreen(game, this));
+            // hide() met la partie en pause
+            game.setScreen(game.getGameSettingsScreen());
             return;
         }
         
         // Ne pas mettre à jour la logique du jeu si en pause ou game over
         if (!isPaused && !gameOver) {
-            // Mettre à jour le temps de jeu
-            gameTime += delta;
-            
-            // Gérer l'input et le mouvement
-            handleInput(delta);
-            
-            // Mettre à jour le cooldown d'attaque du joueur
-            if (playerAttackCooldown > 0) {
-                playerAttackCooldown -= delta;
-            }
+            // Lire le clavier et faire avancer la simulation
+            readInput();
+            world.update(delta, input);
             
             // Vérifier si le joueur est mort
-            if (!player.isAlive() && !playerDeathLogged) {
+            if (world.isPlayerDead() && !playerDeathLogged) {
                 playerDeathLogged = true;
                 gameOver = true;
                 // Transition vers LoseScreen après un court délai
-                game.setScreen(new LoseScreen(game));
-                dispose();
+                game.setScreen(game.getLoseScreen());
                 return;
             }
             
-            // Mettre à jour le joueur
-            player.update(delta);
-            
-            // Mettre à jour les ennemis
-            if (enemies != null) {
-                for (Enemy enemy : enemies) {
-                    if (enemy != null) {
-                        enemy.update(delta);
-                        if (enemy.isAlive() && player.isAlive()) {
-                            enemy.updateAI(delta);
-                        }
-                    }
-                }
-            }
-            
-            // Vérifier et résoudre les collisions entre entités
-            if (player.isAlive() && enemies != null) {
-                resolveEntityCollisions();
-            }
-            
             // Initialiser la caméra sur le joueur après le premier rendu
             if (!cameraInitialized && player.getWidth() > 0 && player.getHeight() > 0) {
                 updateCamera();
                 cameraInitialized = true;
             }
             
-            // Initialiser les collisions après le premier rendu
-            if (!collisionsInitialized && mapLoader != null && player.getWidth() > 0 && player.getHeight() > 0) {
-                initializeCollisions();
-                collisionsInitialized = true;
-            }
-            
-            handlePlayerAttack();
-            checkEnemyDeathsAndDropCollectibles();
-            processPendingSlimeRespawns(delta);
-            cleanupCollectedCollectibles();
-            clampToMapBounds();
             updateCamera();
             
             // Vérifier la victoire : tous les ennemis sont morts et aucun respawn en attente
-            if (checkWinCondition()) {
+            if (world.isWon()) {
                 gameOver = true;
                 // Transition vers WinScreen
-                game.setScreen(new WinScreen(game));
-                dispose();
+                game.setScreen(game.getWinScreen());
                 return;
             }
         }
@@ -318,26 +238,6 @@ public class GameScreen implements Screen {
         renderGame();
     }
     
-    /**
-     * Vérifie si le joueur a gagné :
-     * - Tuer un vampire de niveau 3
-     * OU
-     * - Tuer 20 ennemis au total
-     */
-    private boolean checkWinCondition() {
-        // Victoire si on a tué un vampire de niveau 3
-        if (level3VampireKilled) {
-            return true;
-        }
-        
-        // Victoire si on a tué 20 ennemis au total
-        if (totalKills >= 20) {
-            return true;
-        }
-        
-        return false;
-    }
-    
     private void renderGame() {
         // Nettoyer l'écran
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
@@ -356,23 +256,7 @@ public class GameScreen implements Screen {
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
         
-        player.render(batch);
-        
-        if (enemies != null) {
-            for (Enemy enemy : enemies) {
-                if (enemy != null) {
-                    enemy.render(batch);
-                }
-            }
-        }
-        
-        if (collectibles != null) {
-            for (Collectible collectible : collectibles) {
-                if (collectible != null && !collectible.isCollected()) {
-                    collectible.render(batch);
-                }
-            }
-        }
+        world.renderEntities(batch);
         
         batch.end();
         
@@ -413,167 +297,35 @@ public class GameScreen implements Screen {
         }
     }
     
-    private void handleInput(float deltaTime) {
-        if (!player.isAlive()) {
-            player.getMovementHandler().stop();
-            return;
-        }
+    /**
+     * Traduit l'état du clavier en commandes pour GameWorld.
+     */
+    private void readInput() {
+        input.clear();
         
-        Direction moveDirection = null;
-        boolean isRunning = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT);
+        boolean shiftPressed = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT);
+        input.running = shiftPressed;
         
         if (Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.Z)) {
-            moveDirection = Direction.UP;
+            input.moveDirection = Direction.UP;
         } else if (Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.S)) {
-            moveDirection = Direction.DOWN;
+            input.moveDirection = Direction.DOWN;
         } else if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.Q)) {
-            moveDirection = Direction.SIDE_LEFT;
+            input.moveDirection = Direction.SIDE_LEFT;
         } else if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) {
-            moveDirection = Direction.SIDE;
-        }
-        
-        if (moveDirection != null) {
-            if (canPlayerMove(moveDirection, deltaTime, isRunning)) {
-                player.getMovementHandler().move(moveDirection, deltaTime, isRunning);
-            } else {
-                player.getMovementHandler().move(moveDirection, deltaTime, isRunning);
-            }
-        } else {
-            player.getMovementHandler().stop();
-        }
-        
-        if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-            player.attack();
-        }
-        
-        if (Gdx.input.isKeyJustPressed(Input.Keys.T)) {
-            pickupCollectibles();
-        }
-        
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_1)) {
-            if (!Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) && !Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT)) {
-                player.useDamageBoost();
-            }
-        }
-        
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_2)) {
-            if (!Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) && !Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT)) {
-                player.useSpeedBoost();
-            }
-        }
-        
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_3)) {
-            if (!Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) && !Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT)) {
-                player.useShieldPotion();
-            }
-        }
-        
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_4)) {
-            player.useHealPotion();
-        }
-    }
-    
-    private void handlePlayerAttack() {
-        if (!player.isAlive() || enemies == null || enemies.isEmpty()) {
-            return;
-        }
-        
-        if (!player.isAttacking() || playerAttackCooldown > 0) {
-            return;
+            input.moveDirection = Direction.SIDE;
         }
         
-        Direction attackDirection = player.getCurrentDirection();
-        
-        float playerHitboxX = player.getHitboxX();
-        float playerHitboxY = player.getHitboxY();
-        float playerHitboxWidth = player.getHitboxWidth();
-        float playerHitboxHeight = player.getHitboxHeight();
-        float playerHitboxCenterX = playerHitboxX + playerHitboxWidth / 2f;
-        float playerHitboxCenterY = playerHitboxY + playerHitboxHeight / 2f;
-        
-        float attackRangeWidth = 25f;
-        float attackRangeHeight = 10f;
+        input.attack = Gdx.input.isKeyJustPressed(Input.Keys.E);
+        input.pickup = Gdx.input.isKeyJustPressed(Input.Keys.T);
         
-        float playerAttackX, playerAttackY;
-        float playerAttackWidth, playerAttackHeight;
-        
-        switch (attackDirection) {
-            case DOWN:
-                playerAttackX = playerHitboxCenterX - attackRangeWidth / 2f;
-                playerAttackY = playerHitboxY - attackRangeHeight;
-                playerAttackWidth = attackRangeWidth;
-                playerAttackHeight = attackRangeHeight;
-                break;
-            case UP:
-                playerAttackX = playerHitboxCenterX - attackRangeWidth / 2f;
-                playerAttackY = playerHitboxY + playerHitboxHeight;
-                playerAttackWidth = attackRangeWidth;
-                playerAttackHeight = attackRangeHeight;
-                break;
-            case SIDE_LEFT:
-                playerAttackX = playerHitboxX - attackRangeHeight;
-                playerAttackY = playerHitboxCenterY - attackRangeWidth / 2f;
-                playerAttackWidth = attackRangeHeight;
-                playerAttackHeight = attackRangeWidth;
-                break;
-            case SIDE:
-                playerAttackX = playerHitboxX + playerHitboxWidth;
-                playerAttackY = playerHitboxCenterY - attackRangeWidth / 2f;
-                playerAttackWidth = attackRangeHeight;
-                playerAttackHeight = attackRangeWidth;
-                break;
-            default:
-                playerAttackX = playerHitboxCenterX - attackRangeWidth / 2f;
-                playerAttackY = playerHitboxCenterY - attackRangeHeight / 2f;
-                playerAttackWidth = attackRangeWidth;
-                playerAttackHeight = attackRangeHeight;
-                break;
-        }
-        
-        for (Enemy enemy : enemies) {
-            if (enemy == null || !enemy.isAlive()) {
-                continue;
-            }
-            
-            float enemyCenterX = enemy.getX() + enemy.getWidth() / 2f;
-            float enemyCenterY = enemy.getY() + enemy.getHeight() / 2f;
-            
-            float enemyHitboxWidth = enemy.getHitboxWidth();
-            float enemyHitboxHeight = enemy.getHitboxHeight();
-            
-            float enemyHitboxX = enemyCenterX - enemyHitboxWidth / 2f;
-            float enemyHitboxY = enemyCenterY - enemyHitboxHeight / 2f;
-            
-            boolean hitboxesCollide = (playerAttackX < enemyHitboxX + enemyHitboxWidth &&
-                                       playerAttackX + playerAttackWidth > enemyHitboxX &&
-                                       playerAttackY < enemyHitboxY + enemyHitboxHeight &&
-                                       playerAttackY + playerAttackHeight > enemyHitboxY);
-            
-            if (hitboxesCollide) {
-                int baseDamage = 10;
-                int totalDamage = baseDamage + player.getDamageBoost();
-                enemy.takeDamage(totalDamage);
-                playerAttackCooldown = playerAttackCooldownTime;
-                break;
-            }
-        }
-    }
-    
-    private void checkEnemyDeath() {
-        if (enemy == null || enemy.isAlive()) {
-            enemyDeathLooted = false;
-            return;
-        }
-        
-        if (!enemyDeathLooted) {
-            if (Math.random() < 0.5) {
-                player.getInventory().addItem(Inventory.ItemType.HEAL_POTION);
-            } else {
-                player.getInventory().addItem(Inventory.ItemType.SHIELD_POTION);
-            }
-            
-            enemyDeathLooted = true;
-        }
+        input.useDamageBoost = !shiftPressed
+            && (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_1));
+        input.useSpeedBoost = !shiftPressed
+            && (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_2));
+        input.useShieldPotion = !shiftPressed
+            && (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_3));
+        input.useHealPotion = Gdx.input.isKeyJustPressed(Input.Keys.NUM_4) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_4);
     }
     
     private void updateCamera() {
@@ -605,181 +357,11 @@ public class GameScreen implements Screen {
             lastPlayerX = currentPlayerX;
             lastPlayerY = currentPlayerY;
         }
-    }
-    
-    private void clampToMapBounds() {
-        if (mapLoader == null || player == null) {
-            return;
-        }
-        
-        int mapWidthPixels = mapLoader.getMapWidth() * mapLoader.getTileWidth();
-        int mapHeightPixels = mapLoader.getMapHeight() * mapLoader.getTileHeight();
-        
-        float playerWidth = player.getWidth();
-        float playerHeight = player.getHeight();
-        
-        float minX = 0;
-        float minY = 0;
-        float maxX = mapWidthPixels - playerWidth;
-        float maxY = mapHeightPixels - playerHeight;
-        
-        float x = Math.max(minX, Math.min(maxX, player.getX()));
-        float y = Math.max(minY, Math.min(maxY, player.getY()));
-        
-        player.setX(x);
-        player.setY(y);
-    }
-    
-    private boolean canPlayerMove(Direction direction, float deltaTime, boolean isRunning) {
-        if (player == null || !player.isAlive()) {
-            return true;
-        }
-        
-        if (enemies == null) {
-            return true;
-        }
-        
-        float playerSpeed = player.getMovementHandler().getSpeed();
-        float currentSpeed = isRunning ? playerSpeed * 1.5f : playerSpeed;
-        float moveDistance = currentSpeed * deltaTime;
-        
-        float currentX = player.getX();
-        float currentY = player.getY();
-        float newX = currentX;
-        float newY = currentY;
-        
-        switch (direction) {
-            case UP:
-                newY += moveDistance;
-                break;
-            case DOWN:
-                newY -= moveDistance;
-                break;
-            case SIDE:
-                newX += moveDistance;
-                break;
-            case SIDE_LEFT:
-                newX -= moveDistance;
-                break;
-        }
-        
-        float playerHitboxWidth = player.getHitboxWidth();
-        float playerHitboxHeight = player.getHitboxHeight();
-        float playerSpriteCenterX = newX + player.getWidth() / 2f;
-        float playerSpriteCenterY = newY + player.getHeight() / 2f;
-        float newPlayerHitboxX = playerSpriteCenterX - playerHitboxWidth / 2f;
-        float newPlayerHitboxY = playerSpriteCenterY - playerHitboxHeight / 2f;
-        
-        for (Enemy enemy : enemies) {
-            if (enemy == null || !enemy.isAlive()) {
-                continue;
-            }
-            
-            float enemyHitboxX = enemy.getHitboxX();
-            float enemyHitboxY = enemy.getHitboxY();
-            float enemyHitboxWidth = enemy.getHitboxWidth();
-            float enemyHitboxHeight = enemy.getHitboxHeight();
-            
-            boolean wouldCollide = (newPlayerHitboxX < enemyHitboxX + enemyHitboxWidth &&
-                                   newPlayerHitboxX + playerHitboxWidth > enemyHitboxX &&
-                                   newPlayerHitboxY < enemyHitboxY + enemyHitboxHeight &&
-                                   newPlayerHitboxY + playerHitboxHeight > enemyHitboxY);
-            
-            if (wouldCollide) {
-                return false;
-            }
-        }
-        
-        return true;
-    }
-    
-    private void resolveEntityCollisions() {
-        if (player == null || enemies == null || !player.isAlive()) {
-            return;
-        }
-        
-        float playerHitboxX = player.getHitboxX();
-        float playerHitboxY = player.getHitboxY();
-        float playerHitboxWidth = player.getHitboxWidth();
-        float playerHitboxHeight = player.getHitboxHeight();
         
-        for (Enemy enemy : enemies) {
-            if (enemy == null || !enemy.isAlive()) {
-                continue;
-            }
-            
-            float enemyHitboxX = enemy.getHitboxX();
-            float enemyHitboxY = enemy.getHitboxY();
-            float enemyHitboxWidth = enemy.getHitboxWidth();
-            float enemyHitboxHeight = enemy.getHitboxHeight();
-            
-            boolean colliding = (playerHitboxX < enemyHitboxX + enemyHitboxWidth &&
-                               playerHitboxX + playerHitboxWidth > enemyHitboxX &&
-                               playerHitboxY < enemyHitboxY + enemyHitboxHeight &&
-                               playerHitboxY + playerHitboxHeight > enemyHitboxY);
-            
-            if (colliding) {
-                float overlapX = Math.min(playerHitboxX + playerHitboxWidth - enemyHitboxX,
-                                         enemyHitboxX + enemyHitboxWidth - playerHitboxX);
-                float overlapY = Math.min(playerHitboxY + playerHitboxHeight - enemyHitboxY,
-                                         enemyHitboxY + enemyHitboxHeight - playerHitboxY);
-                
-                float playerCenterX = playerHitboxX + playerHitboxWidth / 2f;
-                float playerCenterY = playerHitboxY + playerHitboxHeight / 2f;
-                float enemyCenterX = enemyHitboxX + enemyHitboxWidth / 2f;
-                float enemyCenterY = enemyHitboxY + enemyHitboxHeight / 2f;
-                
-                if (overlapX < overlapY) {
-                    if (playerCenterX < enemyCenterX) {
-                        player.setX(player.getX() - overlapX);
-                    } else {
-                        player.setX(player.getX() + overlapX);
-                    }
-                } else {
-                    if (playerCenterY < enemyCenterY) {
-                        player.setY(player.getY() - overlapY);
-                    } else {
-                        player.setY(player.getY() + overlapY);
-                    }
-                }
-            }
-        }
-    }
-    
-    private void clampToScreenBounds() {
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
-        float playerWidth = player.getWidth();
-        float playerHeight = player.getHeight();
-        
-        float maxX = screenWidth - playerWidth;
-        float maxY = screenHeight - playerHeight;
-        
-        float x = Math.max(0, Math.min(maxX, player.getX()));
-        float y = Math.max(0, Math.min(maxY, player.getY()));
-        
-        player.setX(x);
-        player.setY(y);
-    }
-    
-    private void clampEnemyToScreenBounds() {
-        if (enemy == null) {
-            return;
-        }
-        
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
-        float enemyWidth = enemy.getWidth();
-        float enemyHeight = enemy.getHeight();
-        
-        float maxX = screenWidth - enemyWidth;
-        float maxY = screenHeight - enemyHeight;
-        
-        float x = Math.max(0, Math.min(maxX, enemy.getX()));
-        float y = Math.max(0, Math.min(maxY, enemy.getY()));
-        
-        enemy.setX(x);
-        enemy.setY(y);
+        // Les ennemis hors de la vue n'animent plus (appliqué à la frame suivante)
+        world.setViewBounds(camera.position.x - camera.viewportWidth / 2f,
+            camera.position.y - camera.viewportHeight / 2f,
+            camera.viewportWidth, camera.viewportHeight);
     }
     
     @Override
@@ -792,6 +374,8 @@ public class GameScreen implements Screen {
     
     @Override
     public void hide() {
+        // Menu pause, fin de partie ou menu : la simulation ne doit plus avancer
+        pause();
     }
     
     private void renderActionPanel() {
@@ -817,17 +401,18 @@ public class GameScreen implements Screen {
         float slotHeight = slotSprite.getRegionHeight() * slotScale;
         float spacing = 10f;
         
-        float totalWidth = slotWidth * 4 + spacing * 3;
+        float totalWidth = slotWidth * Inventory.SLOT_COUNT + spacing * (Inventory.SLOT_COUNT - 1);
         float startX = (screenWidth - totalWidth) / 2f;
         float slotY = 20f;
         
-        for (int i = 0; i < 4; i++) {
+        Inventory inventory = player.getInventory();
+        for (int i = 0; i < Inventory.SLOT_COUNT; i++) {
             float slotX = startX + i * (slotWidth + spacing);
             batch.draw(slotSprite, slotX, slotY, slotWidth, slotHeight);
             
-            Inventory.ItemType itemType = getItemTypeForSlot(i);
-            int itemCount = itemType != null ? player.getInventory().getItemCount(itemType) : 0;
-            if (itemType != null && itemCount > 0) {
+            Inventory.ItemType itemType = inventory.getSlotType(i);
+            int itemCount = itemCounts[itemType.ordinal()];
+            if (itemCount > 0) {
                 com.badlogic.gdx.graphics.g2d.TextureRegion itemSprite = getSpriteForItemType(itemType);
                 if (itemSprite != null) {
                     float itemWidth = itemSprite.getRegionWidth() * slotScale;
@@ -836,8 +421,8 @@ public class GameScreen implements Screen {
                     float itemY = slotY + (slotHeight - itemHeight) / 2f;
                     batch.draw(itemSprite, itemX, itemY, itemWidth, itemHeight);
                     
-                    if (itemCount > 1) {
-                        String countText = String.valueOf(itemCount);
+                    String countText = itemCountTexts[itemType.ordinal()];
+                    if (countText != null) {
                         float textX = slotX + slotWidth - 5f;
                         float textY = slotY + slotHeight - 5f;
                         font.setColor(1f, 1f, 1f, 1f);
@@ -848,21 +433,24 @@ public class GameScreen implements Screen {
         }
     }
     
-    private Inventory.ItemType getItemTypeForSlot(int slotIndex) {
-        switch (slotIndex) {
-            case 0:
-                return Inventory.ItemType.DAMAGE_BOOST;
-            case 1:
-                return Inventory.ItemType.SPEED_BOOST;
-            case 2:
-                return Inventory.ItemType.SHIELD_POTION;
-            case 3:
-                return Inventory.ItemType.HEAL_POTION;
-            default:
-                return null;
+    /**
+     * Abonne le HUD à l'inventaire du joueur courant (nouveau à chaque partie)
+     * et recopie ses compteurs.
+     */
+    private void watchInventory() {
+        Inventory inventory = player.getInventory();
+        inventory.addListener(inventoryListener);
+        for (Inventory.ItemType type : Inventory.ItemType.values()) {
+            updateItemCount(type, inventory.getItemCount(type));
         }
     }
     
+    private void updateItemCount(Inventory.ItemType type, int count) {
+        itemCounts[type.ordinal()] = count;
+        // Le nombre n'est affiché qu'à partir de deux items
+        itemCountTexts[type.ordinal()] = count > 1 ? String.valueOf(count) : null;
+    }
+    
     private com.badlogic.gdx.graphics.g2d.TextureRegion getSpriteForItemType(Inventory.ItemType itemType) {
         if (actionPanelMapping == null) {
             return null;
@@ -913,184 +501,19 @@ public class GameScreen implements Screen {
         }
     }
     
-    private void checkEnemyDeathsAndDropCollectibles() {
-        if (enemies == null || actionPanelMapping == null) {
-            return;
-        }
-        
-        java.util.Iterator<Enemy> iterator = enemies.iterator();
-        while (iterator.hasNext()) {
-            Enemy enemy = iterator.next();
-            if (enemy != null && !enemy.isAlive()) {
-                // Incrémenter le compteur de kills
-                totalKills++;
-                
-                // Vérifier si c'est un vampire de niveau 3
-                if (enemy instanceof Vampire) {
-                    Vampire vampire = (Vampire) enemy;
-                    if (vampire.getLevel() == 3) {
-                        level3VampireKilled = true;
-                    }
-                }
-                
-                float rand = (float) Math.random();
-                Inventory.ItemType itemType = null;
-                
-                if (rand < 0.25f) {
-                    itemType = Inventory.ItemType.DAMAGE_BOOST;
-                } else if (rand < 0.5f) {
-                    itemType = Inventory.ItemType.SPEED_BOOST;
-                } else if (rand < 0.75f) {
-                    itemType = Inventory.ItemType.SHIELD_POTION;
-                } else {
-                    itemType = Inventory.ItemType.HEAL_POTION;
-                }
-                
-                float enemyX = enemy.getX() + enemy.getWidth() / 2f;
-                float enemyY = enemy.getY() + enemy.getHeight() / 2f;
-                
-                Collectible collectible = new Collectible(enemyX, enemyY, itemType, actionPanelMapping);
-                collectibles.add(collectible);
-                
-                if (enemy instanceof Slime && enemy.getRespawnCount() < 2) {
-                    Slime deadSlime = (Slime) enemy;
-                    int zoneId = deadSlime.getZoneId();
-                    int level = deadSlime.getLevel();
-                    float initialX = deadSlime.getInitialX();
-                    float initialY = deadSlime.getInitialY();
-                    
-                    PendingSlimeRespawn pendingRespawn = new PendingSlimeRespawn(
-                        gameTime, zoneId, level, initialX, initialY, deadSlime.getRespawnCount() + 1);
-                    pendingSlimeRespawns.add(pendingRespawn);
-                }
-                
-                iterator.remove();
-                break;
-            }
-        }
-    }
-    
-    private void processPendingSlimeRespawns(float delta) {
-        if (pendingSlimeRespawns == null || pendingSlimeRespawns.isEmpty()) {
-            return;
-        }
-        
-        float respawnDelay = 10f;
-        
-        java.util.Iterator<PendingSlimeRespawn> iterator = pendingSlimeRespawns.iterator();
-        while (iterator.hasNext()) {
-            PendingSlimeRespawn pending = iterator.next();
-            float elapsedTime = gameTime - pending.deathTime;
-            
-            if (elapsedTime >= respawnDelay) {
-                Slime newSlime = new Slime(pending.initialX, pending.initialY, pending.level);
-                newSlime.setTarget(player);
-                newSlime.setMapLoader(mapLoader);
-                newSlime.setZoneId(pending.zoneId);
-                newSlime.setInitialPosition(pending.initialX, pending.initialY);
-                newSlime.setRespawnCount(pending.respawnCount);
-                
-                enemies.add(newSlime);
-                
-                if (mapLoader != null && newSlime.getHitboxWidth() > 0 && newSlime.getHitboxHeight() > 0) {
-                    float spriteWidth = 16f;
-                    float spriteHeight = 16f;
-                    CollisionHandler enemyCollision = new CollisionHandler(
-                        mapLoader, newSlime.getHitboxWidth(), newSlime.getHitboxHeight(), spriteWidth, spriteHeight);
-                    newSlime.getMovementHandler().setCollisionHandler(enemyCollision);
-                }
-                
-                iterator.remove();
-            }
-        }
-    }
-    
-    private void pickupCollectibles() {
-        if (collectibles == null || player == null) {
-            return;
-        }
-        
-        float playerX = player.getX();
-        float playerY = player.getY();
-        float playerWidth = player.getWidth();
-        float playerHeight = player.getHeight();
-        
-        java.util.Iterator<Collectible> iterator = collectibles.iterator();
-        while (iterator.hasNext()) {
-            Collectible collectible = iterator.next();
-            if (collectible != null && !collectible.isCollected()) {
-                if (collectible.canBePickedUp(playerX, playerY, playerWidth, playerHeight)) {
-                    if (player.getInventory().addItem(collectible.getItemType())) {
-                        collectible.collect();
-                        iterator.remove();
-                    }
-                }
-            }
-        }
-    }
-    
-    private void cleanupCollectedCollectibles() {
-        if (collectibles == null) {
-            return;
-        }
-        
-        collectibles.removeIf(Collectible::isCollected);
-    }
-    
-    private void initializeCollisions() {
-        if (mapLoader == null) {
-            return;
-        }
-        
-        if (player != null && player.getHitboxWidth() > 0 && player.getHitboxHeight() > 0) {
-            float spriteWidth = 32f;
-            float spriteHeight = 32f;
-            CollisionHandler playerCollision = new CollisionHandler(
-                mapLoader, player.getHitboxWidth(), player.getHitboxHeight(), spriteWidth, spriteHeight);
-            player.getMovementHandler().setCollisionHandler(playerCollision);
-        } else {
-            Gdx.app.error("GameScreen", "Impossible d'initialiser les collisions : hitbox du joueur invalide");
-        }
-        
-        if (enemies != null) {
-            for (Enemy enemy : enemies) {
-                if (enemy != null && enemy.getHitboxWidth() > 0 && enemy.getHitboxHeight() > 0) {
-                    float spriteWidth, spriteHeight;
-                    if (enemy instanceof Slime) {
-                        spriteWidth = 16f;
-                        spriteHeight = 16f;
-                    } else if (enemy instanceof Vampire) {
-                        spriteWidth = 32f;
-                        spriteHeight = 32f;
-                    } else {
-                        spriteWidth = enemy.getWidth();
-                        spriteHeight = enemy.getHeight();
-                    }
-                    
-                    CollisionHandler enemyCollision = new CollisionHandler(
-                        mapLoader, enemy.getHitboxWidth(), enemy.getHitboxHeight(), spriteWidth, spriteHeight);
-                    enemy.getMovementHandler().setCollisionHandler(enemyCollision);
-                }
-            }
-        }
-    }
-    
     @Override
     public void dispose() {
-        if (player != null) {
-            player.dispose();
-        }
-        if (enemy != null) {
-            enemy.dispose();
+        if (world != null) {
+            world.dispose();
         }
         if (mapLoader != null) {
             mapLoader.dispose();
         }
         if (characterPanelMapping != null) {
-            characterPanelMapping.dispose();
+            assets.release(characterPanelMapping);
         }
         if (actionPanelMapping != null) {
-            actionPanelMapping.dispose();
+            assets.release(actionPanelMapping);
         }
         if (batch != null) {
             batch.dispose();
@@ -1102,7 +525,8 @@ public class GameScreen implements Screen {
             shieldBar.dispose();
         }
         if (font != null) {
-            font.dispose();
+            assets.release(font);
         }
+        DisposableTracker.release(this);
     }
-}
\ No newline at end of file
+}
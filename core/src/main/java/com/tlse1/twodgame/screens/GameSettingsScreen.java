@@ -11,6 +11,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.tlse1.twodgame.TwoDGame;
+import com.tlse1.twodgame.managers.AssetService;
+import com.tlse1.twodgame.utils.DisposableTracker;
 import com.tlse1.twodgame.utils.MenuMapping;
 
 public class GameSettingsScreen implements Screen {
@@ -20,6 +22,7 @@ public class GameSettingsScreen implements Screen {
     
     private final GameScreen gameScreen;
     private final TwoDGame game;
+    private final AssetService assets;
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
     private final MenuMapping menuMapping;
@@ -67,6 +70,7 @@ public class GameSettingsScreen implements Screen {
 
     public GameSettingsScreen(TwoDGame game, GameScreen gameScreen) {
         this.game = game;
+        this.assets = game.getAssets();
         this.gameScreen = gameScreen;
 
         screenWidth = Gdx.graphics.getWidth();
@@ -77,31 +81,30 @@ public class GameSettingsScreen implements Screen {
 
         isFullscreen = Gdx.graphics.isFullscreen();
 
-        batch = new SpriteBatch();
-        menuMapping = new MenuMapping();
+        batch = DisposableTracker.spriteBatch();
+        menuMapping = assets.acquireMapping(MenuMapping.JSON_PATH, MenuMapping::new);
 
-        backgroundBlur = new Texture("gui/PNG/font_flou.png");
-        backgroundPanel = new Texture("gui/PNG/Background.png");
-        settingsTexture = new Texture("gui/PNG/Setting.png");
-        textFont = new Texture("gui/PNG/Text_font.png");
+        backgroundBlur = assets.acquireTexture("gui/PNG/font_flou.png");
+        backgroundPanel = assets.acquireTexture("gui/PNG/Background.png");
+        settingsTexture = assets.acquireTexture("gui/PNG/Setting.png");
+        textFont = assets.acquireTexture("gui/PNG/Text_font.png");
         
-        resumeTexture = new Texture("gui/PNG/Resume.png");
-        quitTexture = new Texture("gui/PNG/Quit_long.png");
-        crossTexture = new Texture("gui/PNG/Cross_button.png");
-        commandeTexture = new Texture("gui/PNG/Commande.png");
+        resumeTexture = assets.acquireTexture("gui/PNG/Resume.png");
+        quitTexture = assets.acquireTexture("gui/PNG/Quit_long.png");
+        crossTexture = assets.acquireTexture("gui/PNG/Cross_button.png");
+        commandeTexture = assets.acquireTexture("gui/PNG/Commande.png");
         
-        clickTexture = new Texture("gui/PNG/Click.png");
-        nonClickTexture = new Texture("gui/PNG/Non_click.png");
-        fullScreenTexture = new Texture("gui/PNG/Full_screen.png");
-        windowTexture = new Texture("gui/PNG/Window.png");
+        clickTexture = assets.acquireTexture("gui/PNG/Click.png");
+        nonClickTexture = assets.acquireTexture("gui/PNG/Non_click.png");
+        fullScreenTexture = assets.acquireTexture("gui/PNG/Full_screen.png");
+        windowTexture = assets.acquireTexture("gui/PNG/Window.png");
         
-        keyZ = new Texture("gui/PNG/Z.png");
-        keyQ = new Texture("gui/PNG/Q.png");
-        keyS = new Texture("gui/PNG/S.png");
-        keyD = new Texture("gui/PNG/D.png");
+        keyZ = assets.acquireTexture("gui/PNG/Z.png");
+        keyQ = assets.acquireTexture("gui/PNG/Q.png");
+        keyS = assets.acquireTexture("gui/PNG/S.png");
+        keyD = assets.acquireTexture("gui/PNG/D.png");
         
-        instructionFont = new BitmapFont();
-        instructionFont.getData().setScale(2.5f);
+        instructionFont = assets.acquireFont(2.5f);
         instructionFont.setColor(0f, 0f, 0f, 1f); // Noir
 
         menuBackground = menuMapping.getSprite("sprite6");
@@ -117,6 +120,8 @@ public class GameSettingsScreen implements Screen {
 
     @Override
     public void show() {
+        // L'écran est réutilisé : le mode d'affichage a pu changer depuis le dernier affichage
+        isFullscreen = Gdx.graphics.isFullscreen();
     }
 
     @Override
@@ -376,22 +381,15 @@ public class GameSettingsScreen implements Screen {
     }
 
     private void returnToGameScreen() {
+        // GameScreen reprend la partie dans son show()
         if (gameScreen != null) {
-            // Réactiver le jeu
-            gameScreen.resume();
             game.setScreen(gameScreen);
         }
-        // Disposer uniquement les ressources de GameSettingsScreen
-        disposeSettingsResources();
     }
 
     private void returnToMenuScreen() {
-        // Si on retourne au menu, on dispose tout
-        if (gameScreen != null) {
-            gameScreen.dispose();
-        }
-        game.setScreen(new MenuScreen(game));
-        dispose();
+        // La partie abandonnée reste en mémoire : elle sera remise à zéro au prochain Play
+        game.setScreen(game.getMenuScreen());
     }
 
     private void toggleFullscreen(boolean fullscreen) {
@@ -429,39 +427,36 @@ public class GameSettingsScreen implements Screen {
     public void hide() {
     }
     
-    private void disposeSettingsResources() {
-        // Disposer uniquement les ressources spécifiques à GameSettingsScreen
+    @Override
+    public void dispose() {
+        // Ne libère que les ressources de GameSettingsScreen : GameScreen est libéré par TwoDGame
         if (batch != null) {
             batch.dispose();
         }
         if (menuMapping != null) {
-            menuMapping.dispose();
+            assets.release(menuMapping);
         }
         if (instructionFont != null) {
-            instructionFont.dispose();
+            assets.release(instructionFont);
         }
         
-        backgroundBlur.dispose();
-        backgroundPanel.dispose();
-        settingsTexture.dispose();
-        textFont.dispose();
-        resumeTexture.dispose();
-        quitTexture.dispose();
-        crossTexture.dispose();
-        commandeTexture.dispose();
-        clickTexture.dispose();
-        nonClickTexture.dispose();
-        fullScreenTexture.dispose();
-        windowTexture.dispose();
-        keyZ.dispose();
-        keyQ.dispose();
-        keyS.dispose();
-        keyD.dispose();
-    }
-
-    @Override
-    public void dispose() {
-        disposeSettingsResources();
+        assets.release(backgroundBlur);
+        assets.release(backgroundPanel);
+        assets.release(settingsTexture);
+        assets.release(textFont);
+        assets.release(resumeTexture);
+        assets.release(quitTexture);
+        assets.release(crossTexture);
+        assets.release(commandeTexture);
+        assets.release(clickTexture);
+        assets.release(nonClickTexture);
+        assets.release(fullScreenTexture);
+        assets.release(windowTexture);
+        assets.release(keyZ);
+        assets.release(keyQ);
+        assets.release(keyS);
+        assets.release(keyD);
+        DisposableTracker.release(this);
     }
 
     private static class UILayout {
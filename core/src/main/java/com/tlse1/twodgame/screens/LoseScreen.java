@@ -8,6 +8,8 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.tlse1.twodgame.TwoDGame;
+import com.tlse1.twodgame.managers.AssetService;
+import com.tlse1.twodgame.utils.DisposableTracker;
 
 public class LoseScreen implements Screen {
     
@@ -23,26 +25,28 @@ public class LoseScreen implements Screen {
     private float blinkSpeed = 1.5f; // Vitesse du clignotement (en secondes)
     
     private TwoDGame game; // Référence vers votre classe principale du jeu
+    private final AssetService assets;
     
     public LoseScreen(TwoDGame game) {
         this.game = game;
-    }
-    
-    @Override
-    public void show() {
-        batch = new SpriteBatch();
-        background = new Texture("gui/PNG/font_flou.png");
-        textFont = new Texture("gui/PNG/Text_font.png");
-        abyssBorn = new Texture("gui/PNG/AbyssBorn.png");
-        font = new BitmapFont(); // Ou chargez votre propre font
-        font.getData().setScale(3.0f); // 2 fois plus gros (1.5f * 2 = 3.0f)
+        this.assets = game.getAssets();
+        
+        batch = DisposableTracker.spriteBatch();
+        background = assets.acquireTexture("gui/PNG/font_flou.png");
+        textFont = assets.acquireTexture("gui/PNG/Text_font.png");
+        abyssBorn = assets.acquireTexture("gui/PNG/AbyssBorn.png");
+        font = assets.acquireFont(3.0f); // 2 fois plus gros (1.5f * 2 = 3.0f)
         
         // Font pour le titre "You Lose !!!"
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(5.0f); // Grand et gras
+        titleFont = assets.acquireFont(5.0f); // Grand et gras
         titleFont.getData().markupEnabled = true;
         
         layout = new GlyphLayout();
+    }
+    
+    @Override
+    public void show() {
+        // L'écran est réutilisé : repartir du début du clignotement à chaque affichage
         blinkTimer = 0;
     }
     
@@ -103,8 +107,7 @@ public class LoseScreen implements Screen {
         // Détecter le clic sur toute la fenêtre
         if (Gdx.input.justTouched()) {
             // Passer au MenuScreen
-            game.setScreen(new MenuScreen(game));
-            dispose();
+            game.setScreen(game.getMenuScreen());
         }
     }
     
@@ -128,10 +131,11 @@ public class LoseScreen implements Screen {
     @Override
     public void dispose() {
         batch.dispose();
-        background.dispose();
-        textFont.dispose();
-        abyssBorn.dispose();
-        font.dispose();
-        titleFont.dispose();
+        assets.release(background);
+        assets.release(textFont);
+        assets.release(abyssBorn);
+        assets.release(font);
+        assets.release(titleFont);
+        DisposableTracker.release(this);
     }
 }
\ No newline at end of file
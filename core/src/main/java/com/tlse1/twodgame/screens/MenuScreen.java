@@ -10,7 +10,9 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.tlse1.twodgame.TwoDGame;
+import com.tlse1.twodgame.managers.AssetService;
 import com.tlse1.twodgame.screens.SettingsScreen;
+import com.tlse1.twodgame.utils.DisposableTracker;
 import com.tlse1.twodgame.utils.MenuMapping;
 
 /**
@@ -30,6 +32,7 @@ public class MenuScreen implements Screen {
 
     // Core
     private final TwoDGame game;
+    private final AssetService assets;
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
     private final MenuMapping menuMapping;
@@ -72,6 +75,7 @@ public class MenuScreen implements Screen {
 
     public MenuScreen(TwoDGame game) {
         this.game = game;
+        this.assets = game.getAssets();
 
         // Initialisation caméra
         screenWidth = Gdx.graphics.getWidth();
@@ -80,22 +84,22 @@ public class MenuScreen implements Screen {
         camera.setToOrtho(false, screenWidth, screenHeight);
         camera.update();
 
-        batch = new SpriteBatch();
-        menuMapping = new MenuMapping();
+        batch = DisposableTracker.spriteBatch();
+        menuMapping = assets.acquireMapping(MenuMapping.JSON_PATH, MenuMapping::new);
 
         // Chargement des textures - Background et logo
-        backgroundBlur = new Texture("gui/PNG/font_flou.png");
-        textFont = new Texture("gui/PNG/Text_font.png");
-        abyssLogo = new Texture("gui/PNG/AbyssBorn.png");
+        backgroundBlur = assets.acquireTexture("gui/PNG/font_flou.png");
+        textFont = assets.acquireTexture("gui/PNG/Text_font.png");
+        abyssLogo = assets.acquireTexture("gui/PNG/AbyssBorn.png");
 
         // Chargement des textures - Boutons
-        levelsTexture = new Texture("gui/PNG/Levels.png");
-        inventoryTexture = new Texture("gui/PNG/Inventory_button.png");
-        stuffTexture = new Texture("gui/PNG/Stuffs.png");
-        shopTexture = new Texture("gui/PNG/Shop.png");
-        playTexture = new Texture("gui/PNG/Play.png");
-        quitTexture = new Texture("gui/PNG/Quit_long.png");
-        settingsIcon = new Texture("gui/PNG/Param.png");
+        levelsTexture = assets.acquireTexture("gui/PNG/Levels.png");
+        inventoryTexture = assets.acquireTexture("gui/PNG/Inventory_button.png");
+        stuffTexture = assets.acquireTexture("gui/PNG/Stuffs.png");
+        shopTexture = assets.acquireTexture("gui/PNG/Shop.png");
+        playTexture = assets.acquireTexture("gui/PNG/Play.png");
+        quitTexture = assets.acquireTexture("gui/PNG/Quit_long.png");
+        settingsIcon = assets.acquireTexture("gui/PNG/Param.png");
 
         // Chargement des sprites depuis le mapping
         menuBackground = menuMapping.getSprite("sprite6");
@@ -323,6 +327,11 @@ public class MenuScreen implements Screen {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             // ESC pressé
         }
+
+        // H : mode horde
+        if (Gdx.input.isKeyJustPressed(Input.Keys.H)) {
+            game.startHorde(TwoDGame.DEFAULT_HORDE_SIZE);
+        }
     }
 
     /**
@@ -356,48 +365,42 @@ public class MenuScreen implements Screen {
      * Navigue vers les paramètres
      */
     private void navigateToSettings() {
-        game.setScreen(new SettingsScreen(game));
-        dispose();
+        game.setScreen(game.getSettingsScreen());
     }
 
     /**
      * Navigue vers l'écran des niveaux
      */
     private void navigateToLevels() {
-        game.setScreen(new DevScreen(game));
-        dispose();
+        game.setScreen(game.getDevScreen());
     }
 
     /**
      * Navigue vers l'inventaire
      */
     private void navigateToInventory() {
-        game.setScreen(new DevScreen(game));
-        dispose();
+        game.setScreen(game.getDevScreen());
     }
 
     /**
      * Navigue vers l'équipement
      */
     private void navigateToStuff() {
-        game.setScreen(new DevScreen(game));
-        dispose();
+        game.setScreen(game.getDevScreen());
     }
 
     /**
      * Navigue vers la boutique
      */
     private void navigateToShop() {
-        game.setScreen(new DevScreen(game));
-        dispose();
+        game.setScreen(game.getDevScreen());
     }
 
     /**
-     * Démarre le jeu
+     * Démarre une nouvelle partie (l'écran de jeu est remis à zéro, sans recharger ses assets)
      */
     private void startGame() {
-        game.setScreen(new GameScreen(game));
-        dispose();
+        game.startNewGame();
     }
 
     /**
@@ -433,20 +436,21 @@ public class MenuScreen implements Screen {
             batch.dispose();
         }
         if (menuMapping != null) {
-            menuMapping.dispose();
+            assets.release(menuMapping);
         }
 
         // Dispose de toutes les textures
-        backgroundBlur.dispose();
-        textFont.dispose();
-        abyssLogo.dispose();
-        levelsTexture.dispose();
-        inventoryTexture.dispose();
-        stuffTexture.dispose();
-        shopTexture.dispose();
-        playTexture.dispose();
-        quitTexture.dispose();
-        settingsIcon.dispose();
+        assets.release(backgroundBlur);
+        assets.release(textFont);
+        assets.release(abyssLogo);
+        assets.release(levelsTexture);
+        assets.release(inventoryTexture);
+        assets.release(stuffTexture);
+        assets.release(shopTexture);
+        assets.release(playTexture);
+        assets.release(quitTexture);
+        assets.release(settingsIcon);
+        DisposableTracker.release(this);
     }
 
     /**
@@ -8,8 +8,10 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.tlse1.twodgame.TwoDGame;
+import com.tlse1.twodgame.managers.AssetService;
 import com.tlse1.twodgame.screens.GameScreen;
 import com.tlse1.twodgame.screens.SettingsScreen;
+import com.tlse1.twodgame.utils.DisposableTracker;
 import com.tlse1.twodgame.utils.MenuMapping;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
@@ -18,33 +20,34 @@ import com.badlogic.gdx.math.Rectangle;
 public class SettingsScreen implements Screen {
 
     private TwoDGame game;
+    private final AssetService assets;
     private SpriteBatch batch;
     private OrthographicCamera camera;
     private MenuMapping menuMapping;
 
     private TextureRegion menuBackground;
-    private Texture font = new Texture("gui/PNG/font_flou.png");
-    private Texture restart = new Texture("gui/PNG/Restart.png");
-    private Texture resume = new Texture("gui/PNG/Resume.png");
-    private Texture quit_long = new Texture("gui/PNG/Quit_long.png");
-    private Texture quit = new Texture("gui/PNG/Quit.png");
-    private Texture inventory = new Texture("gui/PNG/Inventory_button.png");
-    private Texture equipement = new Texture("gui/PNG/Equipement.png");
-    private Texture setting = new Texture("gui/PNG/Setting.png");
-    private Texture cross = new Texture("gui/PNG/Cross_button.png");
-    private Texture home = new Texture("gui/PNG/Home.png");
-    private Texture click = new Texture("gui/PNG/Click.png");
-    private Texture non_click = new Texture("gui/PNG/Non_click.png");
-    private Texture settings_font = new Texture("gui/PNG/Settings_font.png");
-    private Texture text_font = new Texture("gui/PNG/Text_font.png");
-    private Texture full_screen = new Texture("gui/PNG/Full_screen.png");
-    private Texture window = new Texture("gui/PNG/Window.png");
-    private Texture commande = new Texture("gui/PNG/Commande.png");
-    private Texture Z = new Texture("gui/PNG/Z.png");
-    private Texture Q = new Texture("gui/PNG/Q.png");
-    private Texture S = new Texture("gui/PNG/S.png");
-    private Texture D = new Texture("gui/PNG/D.png");
-    private Texture background = new Texture("gui/PNG/Background.png");
+    private Texture font;
+    private Texture restart;
+    private Texture resume;
+    private Texture quit_long;
+    private Texture quit;
+    private Texture inventory;
+    private Texture equipement;
+    private Texture setting;
+    private Texture cross;
+    private Texture home;
+    private Texture click;
+    private Texture non_click;
+    private Texture settings_font;
+    private Texture text_font;
+    private Texture full_screen;
+    private Texture window;
+    private Texture commande;
+    private Texture Z;
+    private Texture Q;
+    private Texture S;
+    private Texture D;
+    private Texture background;
 
     private TextureRegion resumeButton;
     private TextureRegion restartButton;
@@ -79,6 +82,31 @@ public class SettingsScreen implements Screen {
 
     public SettingsScreen(TwoDGame game) {
         this.game = game;
+        this.assets = game.getAssets();
+
+        // Textures partagées par l'AssetService (relâchées dans dispose())
+        font = assets.acquireTexture("gui/PNG/font_flou.png");
+        restart = assets.acquireTexture("gui/PNG/Restart.png");
+        resume = assets.acquireTexture("gui/PNG/Resume.png");
+        quit_long = assets.acquireTexture("gui/PNG/Quit_long.png");
+        quit = assets.acquireTexture("gui/PNG/Quit.png");
+        inventory = assets.acquireTexture("gui/PNG/Inventory_button.png");
+        equipement = assets.acquireTexture("gui/PNG/Equipement.png");
+        setting = assets.acquireTexture("gui/PNG/Setting.png");
+        cross = assets.acquireTexture("gui/PNG/Cross_button.png");
+        home = assets.acquireTexture("gui/PNG/Home.png");
+        click = assets.acquireTexture("gui/PNG/Click.png");
+        non_click = assets.acquireTexture("gui/PNG/Non_click.png");
+        settings_font = assets.acquireTexture("gui/PNG/Settings_font.png");
+        text_font = assets.acquireTexture("gui/PNG/Text_font.png");
+        full_screen = assets.acquireTexture("gui/PNG/Full_screen.png");
+        window = assets.acquireTexture("gui/PNG/Window.png");
+        commande = assets.acquireTexture("gui/PNG/Commande.png");
+        Z = assets.acquireTexture("gui/PNG/Z.png");
+        Q = assets.acquireTexture("gui/PNG/Q.png");
+        S = assets.acquireTexture("gui/PNG/S.png");
+        D = assets.acquireTexture("gui/PNG/D.png");
+        background = assets.acquireTexture("gui/PNG/Background.png");
 
         screenWidth = Gdx.graphics.getWidth();
         screenHeight = Gdx.graphics.getHeight();
@@ -89,8 +117,8 @@ public class SettingsScreen implements Screen {
         // Vérifier l'état initial du plein écran
         isFullscreen = Gdx.graphics.isFullscreen();
 
-        batch = new SpriteBatch();
-        menuMapping = new MenuMapping();
+        batch = DisposableTracker.spriteBatch();
+        menuMapping = assets.acquireMapping(MenuMapping.JSON_PATH, MenuMapping::new);
 
         menuBackground = menuMapping.getSprite("sprite6");
         resumeButton = menuMapping.getSprite("sprite7");
@@ -110,6 +138,8 @@ public class SettingsScreen implements Screen {
 
     @Override
     public void show() {
+        // L'écran est réutilisé : le mode d'affichage a pu changer depuis le dernier affichage
+        isFullscreen = Gdx.graphics.isFullscreen();
     }
 
     @Override
@@ -290,13 +320,13 @@ public class SettingsScreen implements Screen {
                 toggleFullscreen(!isFullscreen);
 
             } else if (isCrossButtonHovered) {
-                game.setScreen(new MenuScreen(game));
+                game.setScreen(game.getMenuScreen());
 
             } else if (isRestartButtonHovered) {
-                game.setScreen(new GameScreen(game));
+                game.startNewGame();
 
             } else if (isSettingsButtonHovered) {
-                game.setScreen(new SettingsScreen(game));
+                // Déjà sur les paramètres : rien à faire
 
             } else if (isQuitButtonHovered) {
                 Gdx.app.exit();
@@ -351,29 +381,30 @@ public class SettingsScreen implements Screen {
             batch.dispose();
         }
         if (menuMapping != null) {
-            menuMapping.dispose();
+            assets.release(menuMapping);
         }
-        font.dispose();
-        restart.dispose();
-        resume.dispose();
-        quit_long.dispose();
-        quit.dispose();
-        inventory.dispose();
-        equipement.dispose();
-        setting.dispose();
-        cross.dispose();
-        home.dispose();
-        click.dispose();
-        non_click.dispose();
-        settings_font.dispose();
-        text_font.dispose();
-        full_screen.dispose();
-        window.dispose();
-        commande.dispose();
-        Z.dispose();
-        Q.dispose();
-        S.dispose();
-        D.dispose();
-        background.dispose();
+        assets.release(font);
+        assets.release(restart);
+        assets.release(resume);
+        assets.release(quit_long);
+        assets.release(quit);
+        assets.release(inventory);
+        assets.release(equipement);
+        assets.release(setting);
+        assets.release(cross);
+        assets.release(home);
+        assets.release(click);
+        assets.release(non_click);
+        assets.release(settings_font);
+        assets.release(text_font);
+        assets.release(full_screen);
+        assets.release(window);
+        assets.release(commande);
+        assets.release(Z);
+        assets.release(Q);
+        assets.release(S);
+        assets.release(D);
+        assets.release(background);
+        DisposableTracker.release(this);
     }
 }
\ No newline at end of file
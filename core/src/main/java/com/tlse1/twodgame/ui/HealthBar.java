@@ -1,10 +1,10 @@
 package com.tlse1.twodgame.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.tlse1.twodgame.utils.CharacterPanelMapping;
+import com.tlse1.twodgame.utils.DisposableTracker;
 
 /**
  * Classe pour afficher une barre de santé (HP) en utilisant les sprites du character_panel.
@@ -71,7 +71,7 @@ public class HealthBar {
         this.panelMapping = panelMapping;
         
         // Charger la texture panel_vide.png (fond permanent)
-        panelVideTexture = new Texture(Gdx.files.internal("gui/PNG/panel_vide.png"));
+        panelVideTexture = DisposableTracker.texture("gui/PNG/panel_vide.png");
         panelVideTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         panelVideSprite = new TextureRegion(panelVideTexture);
         
@@ -13,7 +13,9 @@ import java.util.Map;
  * Classe pour charger et gérer le mapping JSON des éléments de action_panel.png.
  * Permet de découper automatiquement les sprites selon les coordonnées définies dans le JSON.
  */
-public class ActionPanelMapping {
+public class ActionPanelMapping implements SpriteMapping {
+    
+    public static final String JSON_PATH = "gui/action_panel.json";
     
     private Texture panelTexture;
     
@@ -36,7 +38,7 @@ public class ActionPanelMapping {
             JsonReader jsonReader = new JsonReader();
             
             // Charger tous les sprites depuis action_panel.json
-            JsonValue spritesData = jsonReader.parse(Gdx.files.internal("gui/action_panel.json"));
+            JsonValue spritesData = jsonReader.parse(Gdx.files.internal(JSON_PATH));
             loadAllSprites(spritesData);
         } catch (Exception e) {
             Gdx.app.error("ActionPanelMapping", "Erreur lors du chargement du mapping action panel: " + e.getMessage());
@@ -49,7 +51,7 @@ public class ActionPanelMapping {
      */
     private void loadAllSprites(JsonValue spritesData) {
         // Charger la texture (on suppose qu'elle est dans gui/PNG/action_panel.png)
-        panelTexture = new Texture(Gdx.files.internal("gui/PNG/action_panel.png"));
+        panelTexture = DisposableTracker.texture("gui/PNG/action_panel.png");
         panelTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         
         // Parcourir tous les sprites dans le tableau JSON
@@ -70,6 +72,7 @@ public class ActionPanelMapping {
     /**
      * Retourne un sprite par son nom (sprite1, sprite2, etc.)
      */
+    @Override
     public TextureRegion getSprite(String spriteName) {
         return allSprites.get(spriteName);
     }
@@ -77,6 +80,7 @@ public class ActionPanelMapping {
     /**
      * Retourne tous les sprites
      */
+    @Override
     public Map<String, TextureRegion> getAllSprites() {
         return allSprites;
     }
@@ -84,6 +88,7 @@ public class ActionPanelMapping {
     /**
      * Retourne la texture complète
      */
+    @Override
     public Texture getTexture() {
         return panelTexture;
     }
@@ -91,6 +96,7 @@ public class ActionPanelMapping {
     /**
      * Libère les ressources
      */
+    @Override
     public void dispose() {
         if (panelTexture != null) {
             panelTexture.dispose();
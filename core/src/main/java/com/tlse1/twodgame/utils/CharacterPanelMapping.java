@@ -13,7 +13,9 @@ import java.util.Map;
  * Classe pour charger et gérer le mapping JSON des éléments de character_panel.png.
  * Permet de découper automatiquement les sprites selon les coordonnées définies dans le JSON.
  */
-public class CharacterPanelMapping {
+public class CharacterPanelMapping implements SpriteMapping {
+    
+    public static final String JSON_PATH = "gui/character_panel.json";
     
     private Texture panelTexture;
     
@@ -36,7 +38,7 @@ public class CharacterPanelMapping {
             JsonReader jsonReader = new JsonReader();
             
             // Charger tous les sprites depuis character_panel.json
-            JsonValue spritesData = jsonReader.parse(Gdx.files.internal("gui/character_panel.json"));
+            JsonValue spritesData = jsonReader.parse(Gdx.files.internal(JSON_PATH));
             loadAllSprites(spritesData);
         } catch (Exception e) {
             Gdx.app.error("CharacterPanelMapping", "Erreur lors du chargement du mapping character panel: " + e.getMessage());
@@ -49,7 +51,7 @@ public class CharacterPanelMapping {
      */
     private void loadAllSprites(JsonValue spritesData) {
         // Charger la texture (on suppose qu'elle est dans gui/PNG/character_panel.png)
-        panelTexture = new Texture(Gdx.files.internal("gui/PNG/character_panel.png"));
+        panelTexture = DisposableTracker.texture("gui/PNG/character_panel.png");
         panelTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         
         // Parcourir tous les sprites dans le tableau JSON
@@ -70,6 +72,7 @@ public class CharacterPanelMapping {
     /**
      * Retourne un sprite par son nom (sprite1, sprite2, etc.)
      */
+    @Override
     public TextureRegion getSprite(String spriteName) {
         return allSprites.get(spriteName);
     }
@@ -77,6 +80,7 @@ public class CharacterPanelMapping {
     /**
      * Retourne tous les sprites
      */
+    @Override
     public Map<String, TextureRegion> getAllSprites() {
         return allSprites;
     }
@@ -84,6 +88,7 @@ public class CharacterPanelMapping {
     /**
      * Retourne la texture complète
      */
+    @Override
     public Texture getTexture() {
         return panelTexture;
     }
@@ -91,6 +96,7 @@ public class CharacterPanelMapping {
     /**
      * Libère les ressources
      */
+    @Override
     public void dispose() {
         if (panelTexture != null) {
             panelTexture.dispose();
@@ -0,0 +1,186 @@
+package com.tlse1.twodgame.utils;
+
+/**
+ * Masque de collision 1 bit d'une frame de sprite : un bit par pixel opaque.
+ *
+ * Les pixels sont rangés en lignes de long (pixel x = bit x % 64 du mot x / 64 de sa ligne),
+ * la ligne 0 en bas comme les coordonnées du monde. Le test de contact se fait en deux phases :
+ * intersection des rectangles englobants, puis ET des mots des lignes qui se chevauchent
+ * (64 pixels par opération), arrêté au premier pixel commun. Aucune allocation.
+ *
+ * Les masques sont construits une fois au chargement des planches (voir AnimationLoader) ;
+ * setOpaque() ne sert qu'à cette construction.
+ */
+public final class CollisionMask {
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+    // Échelle par rapport à la frame d'origine (1 = pixels de la planche)
+    private final float scale;
+
+    // Dernière version mise à l'échelle (une planche est dessinée à une seule échelle en pratique)
+    private volatile CollisionMask scaled;
+
+    /**
+     * Crée un masque vide.
+     *
+     * @param width Largeur en pixels
+     * @param height Hauteur en pixels
+     */
+    public CollisionMask(int width, int height) {
+        this(width, height, 1f);
+    }
+
+    private CollisionMask(int width, int height, float scale) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+        this.scale = scale;
+    }
+
+    /**
+     * Marque un pixel comme opaque (construction du masque uniquement).
+     *
+     * @param x Colonne, depuis la gauche
+     * @param y Ligne, depuis le bas
+     */
+    public void setOpaque(int x, int y) {
+        bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+    }
+
+    /**
+     * @param x Colonne, depuis la gauche
+     * @param y Ligne, depuis le bas
+     * @return true si le pixel est opaque (false hors du masque)
+     */
+    public boolean isOpaque(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    /**
+     * Retourne le masque à la taille de rendu d'une frame dessinée avec cette échelle
+     * (voir AnimationHandler.render) : chaque pixel d'origine opaque remplit tout le bloc de pixels
+     * rendus qu'il couvre (un seul en réduction, scale x scale en agrandissement, sans trou).
+     * Le résultat est gardé pour les appels suivants à la même échelle.
+     *
+     * @param renderScale Échelle de rendu
+     * @return Le masque mis à l'échelle (this si l'échelle vaut 1)
+     */
+    public CollisionMask atScale(float renderScale) {
+        if (renderScale == scale) {
+            return this;
+        }
+        CollisionMask cached = scaled;
+        if (cached != null && cached.scale == renderScale) {
+            return cached;
+        }
+        int scaledWidth = Math.max(1, (int) Math.ceil(width * renderScale));
+        int scaledHeight = Math.max(1, (int) Math.ceil(height * renderScale));
+        cached = new CollisionMask(scaledWidth, scaledHeight, renderScale);
+        for (int y = 0; y < height; y++) {
+            int row = y * wordsPerRow;
+            // Lignes rendues couvertes par la ligne d'origine (au moins une, plusieurs si l'échelle dépasse 1)
+            int minY = Math.min(scaledHeight - 1, (int) (y * renderScale));
+            int maxY = Math.min(scaledHeight, Math.max(minY + 1, (int) Math.ceil((y + 1) * renderScale)));
+            for (int word = 0; word < wordsPerRow; word++) {
+                long remaining = bits[row + word];
+                while (remaining != 0) {
+                    int x = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                    int minX = Math.min(scaledWidth - 1, (int) (x * renderScale));
+                    int maxX = Math.min(scaledWidth, Math.max(minX + 1, (int) Math.ceil((x + 1) * renderScale)));
+                    for (int scaledY = minY; scaledY < maxY; scaledY++) {
+                        for (int scaledX = minX; scaledX < maxX; scaledX++) {
+                            cached.setOpaque(scaledX, scaledY);
+                        }
+                    }
+                    remaining &= remaining - 1;
+                }
+            }
+        }
+        scaled = cached;
+        return cached;
+    }
+
+    /**
+     * Teste si deux masques placés dans le monde ont un pixel opaque en commun.
+     *
+     * @param a Premier masque
+     * @param ax Position X (coin bas gauche) du premier masque
+     * @param ay Position Y du premier masque
+     * @param b Second masque
+     * @param bx Position X du second masque
+     * @param by Position Y du second masque
+     * @return true si au moins un pixel est opaque dans les deux
+     */
+    public static boolean overlaps(CollisionMask a, int ax, int ay, CollisionMask b, int bx, int by) {
+        return overlaps(a, ax, ay, b, bx, by, ax, ay, a.width, a.height);
+    }
+
+    /**
+     * Teste si deux masques placés dans le monde ont un pixel opaque en commun dans un rectangle.
+     *
+     * @param a Premier masque
+     * @param ax Position X (coin bas gauche) du premier masque
+     * @param ay Position Y du premier masque
+     * @param b Second masque
+     * @param bx Position X du second masque
+     * @param by Position Y du second masque
+     * @param clipX Position X du rectangle où chercher
+     * @param clipY Position Y du rectangle où chercher
+     * @param clipWidth Largeur du rectangle
+     * @param clipHeight Hauteur du rectangle
+     * @return true si au moins un pixel du rectangle est opaque dans les deux
+     */
+    public static boolean overlaps(CollisionMask a, int ax, int ay, CollisionMask b, int bx, int by,
+                                   int clipX, int clipY, int clipWidth, int clipHeight) {
+        // Phase 1 : intersection des rectangles englobants (et du rectangle de recherche)
+        int minX = Math.max(clipX, Math.max(ax, bx));
+        int maxX = Math.min(clipX + clipWidth, Math.min(ax + a.width, bx + b.width));
+        int minY = Math.max(clipY, Math.max(ay, by));
+        int maxY = Math.min(clipY + clipHeight, Math.min(ay + a.height, by + b.height));
+        if (minX >= maxX || minY >= maxY) {
+            return false;
+        }
+
+        // Phase 2 : ET des lignes communes, 64 pixels à la fois
+        for (int y = minY; y < maxY; y++) {
+            int rowA = (y - ay) * a.wordsPerRow;
+            int rowB = (y - by) * b.wordsPerRow;
+            for (int x = minX; x < maxX; x += 64) {
+                int count = maxX - x;
+                long keep = count >= 64 ? -1L : (1L << count) - 1;
+                if ((a.read(rowA, x - ax) & b.read(rowB, x - bx) & keep) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lit 64 pixels d'une ligne à partir d'une colonne quelconque (0 au-delà de la largeur).
+     */
+    private long read(int row, int x) {
+        int word = x >>> 6;
+        int shift = x & 63;
+        long value = bits[row + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            value |= bits[row + word + 1] << (64 - shift);
+        }
+        return value;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
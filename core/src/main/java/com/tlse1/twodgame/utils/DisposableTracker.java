@@ -0,0 +1,288 @@
+package com.tlse1.twodgame.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registre de debug des ressources libérables (textures, batches, polices, maps).
+ *
+ * Les ressources sont créées via les fabriques texture(), spriteBatch() et bitmapFont(),
+ * ou enregistrées avec track() et retirées avec release() dans leur dispose().
+ * En mode debug, chaque ressource est notée avec son site de création et l'écran propriétaire
+ * (le premier Screen trouvé dans la pile d'appels), et un rapport des ressources non libérées
+ * est écrit dans le log à chaque transition d'écran.
+ *
+ * Désactivé par défaut (activer avec -Dtwodgame.trackDisposables=true ou setEnabled(true)) :
+ * les fabriques créent alors directement les objets LibGDX, sans aucun surcoût.
+ */
+public final class DisposableTracker {
+
+    public static final String ENABLED_PROPERTY = "twodgame.trackDisposables";
+
+    private static final String TAG = "DisposableTracker";
+    private static final String GLOBAL_OWNER = "(global)";
+
+    /**
+     * Ressource vivante enregistrée.
+     */
+    private static class Record {
+        final String type;
+        final String description;
+        final String site;
+        final String owner;
+        final boolean permanent;
+
+        Record(String type, String description, String site, String owner, boolean permanent) {
+            this.type = type;
+            this.description = description;
+            this.site = site;
+            this.owner = owner;
+            this.permanent = permanent;
+        }
+    }
+
+    private static boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final Map<Object, Record> live = new IdentityHashMap<>();
+    // Écrans affichés au moins une fois et pas encore libérés
+    private static final Map<Screen, Boolean> liveScreens = new IdentityHashMap<>();
+    private static final Map<String, Boolean> screenClasses = new HashMap<>();
+    // Propriétaires qui vivent autant que le jeu (caches) : leurs ressources ne sont jamais signalées
+    private static final List<String> permanentOwners = new ArrayList<>();
+
+    private static String pendingTransition;
+
+    private DisposableTracker() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Active ou désactive le suivi. Les ressources créées pendant que le suivi est désactivé
+     * ne sont jamais suivies.
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        DisposableTracker.enabled = enabled;
+        if (!enabled) {
+            live.clear();
+            liveScreens.clear();
+            pendingTransition = null;
+        }
+    }
+
+    /**
+     * Déclare une classe propriétaire permanente : les ressources créées sous un de ses appels
+     * (même depuis un écran) lui sont attribuées et ne sont pas signalées comme non libérées.
+     */
+    public static synchronized void addPermanentOwner(Class<?> ownerClass) {
+        if (!permanentOwners.contains(ownerClass.getName())) {
+            permanentOwners.add(ownerClass.getName());
+        }
+    }
+
+    /**
+     * Charge une texture (Gdx.files.internal).
+     */
+    public static Texture texture(String internalPath) {
+        return texture(Gdx.files.internal(internalPath));
+    }
+
+    /**
+     * Charge une texture.
+     */
+    public static Texture texture(FileHandle file) {
+        if (!enabled) {
+            return new Texture(file);
+        }
+        Texture texture = new Texture(file) {
+            @Override
+            public void dispose() {
+                super.dispose();
+                release(this);
+            }
+        };
+        return register(texture, "Texture", file.path());
+    }
+
+    /**
+     * Crée un SpriteBatch.
+     */
+    public static SpriteBatch spriteBatch() {
+        if (!enabled) {
+            return new SpriteBatch();
+        }
+        SpriteBatch batch = new SpriteBatch() {
+            @Override
+            public void dispose() {
+                super.dispose();
+                release(this);
+            }
+        };
+        return register(batch, "SpriteBatch", "");
+    }
+
+    /**
+     * Crée la police par défaut de LibGDX.
+     */
+    public static BitmapFont bitmapFont() {
+        if (!enabled) {
+            return new BitmapFont();
+        }
+        BitmapFont font = new BitmapFont() {
+            @Override
+            public void dispose() {
+                super.dispose();
+                release(this);
+            }
+        };
+        return register(font, "BitmapFont", "");
+    }
+
+    /**
+     * Enregistre une ressource créée ailleurs ; elle doit appeler release() dans son dispose().
+     *
+     * @param resource La ressource
+     * @param description Description (chemin du fichier, etc.)
+     */
+    public static void track(Object resource, String description) {
+        if (enabled) {
+            register(resource, resource.getClass().getSimpleName(), description);
+        }
+    }
+
+    /**
+     * Marque une ressource (ou un écran) comme libérée. Sans effet si elle n'était pas suivie.
+     */
+    public static synchronized void release(Object resource) {
+        if (!enabled) {
+            return;
+        }
+        live.remove(resource);
+        if (resource instanceof Screen) {
+            liveScreens.remove(resource);
+        }
+    }
+
+    /**
+     * À appeler quand un écran est affiché. Le rapport est différé à la frame suivante,
+     * pour laisser l'écran précédent se libérer s'il doit l'être après setScreen().
+     *
+     * @param previous Écran précédent (peut être null)
+     * @param next Nouvel écran
+     */
+    public static synchronized void screenChanged(Screen previous, Screen next) {
+        if (!enabled || next == null) {
+            return;
+        }
+        liveScreens.put(next, Boolean.TRUE);
+        pendingTransition = (previous != null ? previous.getClass().getSimpleName() : "-")
+            + " -> " + next.getClass().getSimpleName();
+    }
+
+    /**
+     * Écrit le rapport de la dernière transition d'écran, s'il y en a une en attente.
+     */
+    public static synchronized void reportPendingTransition() {
+        if (!enabled || pendingTransition == null) {
+            return;
+        }
+        String transition = pendingTransition;
+        pendingTransition = null;
+        report(transition);
+    }
+
+    /**
+     * Écrit dans le log les ressources non libérées dont l'écran propriétaire n'existe plus,
+     * puis le nombre de ressources vivantes par propriétaire.
+     */
+    public static synchronized void report(String title) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> liveOwners = new ArrayList<>();
+        for (Screen screen : liveScreens.keySet()) {
+            liveOwners.add(screen.getClass().getSimpleName());
+        }
+
+        Map<String, Integer> countByOwner = new LinkedHashMap<>();
+        List<Record> leaked = new ArrayList<>();
+        for (Record record : live.values()) {
+            Integer count = countByOwner.get(record.owner);
+            countByOwner.put(record.owner, count == null ? 1 : count + 1);
+            if (!record.permanent && !liveOwners.contains(record.owner)) {
+                leaked.add(record);
+            }
+        }
+
+        Gdx.app.log(TAG, "Transition " + title + " : " + live.size() + " ressource(s) vivante(s) " + countByOwner
+            + ", " + leaked.size() + " non libérée(s) par un écran disparu");
+        for (Record record : leaked) {
+            Gdx.app.log(TAG, "  " + record.type + " " + record.description
+                + " (écran " + record.owner + ", créée à " + record.site + ")");
+        }
+    }
+
+    /**
+     * Nombre de ressources suivies et pas encore libérées.
+     */
+    public static synchronized int getLiveCount() {
+        return live.size();
+    }
+
+    private static synchronized <T> T register(T resource, String type, String description) {
+        StackTraceElement[] stack = new Throwable().getStackTrace();
+        String site = "?";
+        String owner = GLOBAL_OWNER;
+        boolean permanent = true;
+        for (StackTraceElement element : stack) {
+            String className = element.getClassName();
+            if (className.startsWith(DisposableTracker.class.getName())) {
+                continue;
+            }
+            if ("?".equals(site)) {
+                site = element.getClassName().substring(element.getClassName().lastIndexOf('.') + 1)
+                    + "." + element.getMethodName() + "(" + element.getFileName() + ":" + element.getLineNumber() + ")";
+            }
+            boolean permanentOwner = permanentOwners.contains(className);
+            if (permanentOwner || isScreenClass(className)) {
+                owner = className.substring(className.lastIndexOf('.') + 1);
+                int inner = owner.indexOf('$');
+                if (inner > 0) {
+                    owner = owner.substring(0, inner);
+                }
+                permanent = permanentOwner;
+                break;
+            }
+        }
+        live.put(resource, new Record(type, description, site, owner, permanent));
+        return resource;
+    }
+
+    private static boolean isScreenClass(String className) {
+        Boolean known = screenClasses.get(className);
+        if (known == null) {
+            try {
+                Class<?> type = Class.forName(className, false, DisposableTracker.class.getClassLoader());
+                known = Screen.class.isAssignableFrom(type);
+            } catch (ClassNotFoundException | LinkageError e) {
+                known = Boolean.FALSE;
+            }
+            screenClasses.put(className, known);
+        }
+        return known;
+    }
+}
@@ -0,0 +1,93 @@
+package com.tlse1.twodgame.utils;
+
+/**
+ * Profileur de frame par phases.
+ * Chaque appel à mark() attribue le temps écoulé depuis la marque précédente à une phase.
+ * Désactivé par défaut : les appels ne coûtent alors qu'un test de booléen.
+ */
+public class FrameProfiler {
+
+    private final String[] phaseNames;
+    private final long[] totalNanos;
+    private long frameCount;
+    private long lastMark;
+    private boolean enabled;
+
+    /**
+     * @param phaseNames Noms des phases, dans l'ordre de leurs indices
+     */
+    public FrameProfiler(String... phaseNames) {
+        this.phaseNames = phaseNames;
+        this.totalNanos = new long[phaseNames.length];
+        this.enabled = false;
+    }
+
+    /**
+     * Démarre une nouvelle frame.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        frameCount++;
+        lastMark = System.nanoTime();
+    }
+
+    /**
+     * Attribue le temps écoulé depuis la dernière marque à une phase.
+     *
+     * @param phase Indice de la phase
+     */
+    public void mark(int phase) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        totalNanos[phase] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Remet les compteurs à zéro.
+     */
+    public void reset() {
+        for (int i = 0; i < totalNanos.length; i++) {
+            totalNanos[i] = 0L;
+        }
+        frameCount = 0L;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPhaseCount() {
+        return phaseNames.length;
+    }
+
+    public String getPhaseName(int phase) {
+        return phaseNames[phase];
+    }
+
+    public long getTotalNanos(int phase) {
+        return totalNanos[phase];
+    }
+
+    /**
+     * Retourne le temps moyen passé dans une phase par frame.
+     *
+     * @param phase Indice de la phase
+     * @return Temps moyen en nanosecondes (0 si aucune frame)
+     */
+    public double getAverageNanos(int phase) {
+        return frameCount > 0 ? (double) totalNanos[phase] / frameCount : 0.0;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+}
@@ -13,7 +13,9 @@ import java.util.Map;
  * Classe pour charger et gérer le mapping JSON des éléments de Main_menu.png.
  * Permet de découper automatiquement les sprites selon les coordonnées définies dans le JSON.
  */
-public class MenuMapping {
+public class MenuMapping implements SpriteMapping {
+    
+    public static final String JSON_PATH = "gui/main_menu_sprites.json";
     
     private Texture menuTexture;
     
@@ -36,7 +38,7 @@ public class MenuMapping {
             JsonReader jsonReader = new JsonReader();
             
             // Charger tous les sprites depuis main_menu_sprites.json
-            JsonValue spritesData = jsonReader.parse(Gdx.files.internal("gui/main_menu_sprites.json"));
+            JsonValue spritesData = jsonReader.parse(Gdx.files.internal(JSON_PATH));
             loadAllSprites(spritesData);
         } catch (Exception e) {
             Gdx.app.error("MenuMapping", "Erreur lors du chargement du mapping menu: " + e.getMessage());
@@ -49,7 +51,7 @@ public class MenuMapping {
      */
     private void loadAllSprites(JsonValue spritesData) {
         // Charger la texture (on suppose qu'elle est dans gui/PNG/Main_menu.png)
-        menuTexture = new Texture(Gdx.files.internal("gui/PNG/Main_menu.png"));
+        menuTexture = DisposableTracker.texture("gui/PNG/Main_menu.png");
         menuTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         
         // Parcourir tous les sprites dans le tableau JSON
@@ -70,6 +72,7 @@ public class MenuMapping {
     /**
      * Retourne un sprite par son nom (sprite1, sprite2, etc.)
      */
+    @Override
     public TextureRegion getSprite(String spriteName) {
         return allSprites.get(spriteName);
     }
@@ -77,6 +80,7 @@ public class MenuMapping {
     /**
      * Retourne tous les sprites
      */
+    @Override
     public Map<String, TextureRegion> getAllSprites() {
         return allSprites;
     }
@@ -84,6 +88,7 @@ public class MenuMapping {
     /**
      * Retourne la texture complète
      */
+    @Override
     public Texture getTexture() {
         return menuTexture;
     }
@@ -91,6 +96,7 @@ public class MenuMapping {
     /**
      * Libère les ressources
      */
+    @Override
     public void dispose() {
         if (menuTexture != null) {
             menuTexture.dispose();
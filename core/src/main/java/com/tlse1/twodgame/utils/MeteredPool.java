@@ -0,0 +1,74 @@
+package com.tlse1.twodgame.utils;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Pool LibGDX qui compte ses succès (objet réutilisé) et ses échecs (objet créé).
+ * En régime établi, le nombre d'échecs ne doit plus augmenter : chaque objet libéré est réutilisé.
+ * Les objets Poolable sont remis à zéro par leur reset() au moment de free().
+ *
+ * @param <T> Type des objets du pool
+ */
+public abstract class MeteredPool<T> extends Pool<T> {
+
+    private final String name;
+    private long hits;
+    private long misses;
+    private long frees;
+
+    /**
+     * @param name Nom du pool (affichage des statistiques)
+     */
+    public MeteredPool(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public T obtain() {
+        if (getFree() > 0) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return super.obtain();
+    }
+
+    @Override
+    public void free(T object) {
+        frees++;
+        super.free(object);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Nombre d'obtain() servis par un objet libéré
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Nombre d'obtain() qui ont dû créer un objet
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getFrees() {
+        return frees;
+    }
+
+    public void resetMetrics() {
+        hits = 0;
+        misses = 0;
+        frees = 0;
+    }
+
+    @Override
+    public String toString() {
+        return name + " : " + hits + " réutilisés, " + misses + " créés, " + getFree() + " libres";
+    }
+}
@@ -13,7 +13,9 @@ import java.util.Map;
  * Classe pour charger et gérer le mapping JSON des éléments de Settings.png.
  * Permet de découper automatiquement les sprites selon les coordonnées définies dans le JSON.
  */
-public class SettingsMapping {
+public class SettingsMapping implements SpriteMapping {
+    
+    public static final String JSON_PATH = "gui/settings_sprites.json";
     
     private Texture settingsTexture;
     private JsonValue mappingData;
@@ -91,7 +93,7 @@ public class SettingsMapping {
             JsonReader jsonReader = new JsonReader();
             
             // Charger d'abord tous les sprites depuis settings_sprites.json
-            JsonValue spritesData = jsonReader.parse(Gdx.files.internal("gui/settings_sprites.json"));
+            JsonValue spritesData = jsonReader.parse(Gdx.files.internal(JSON_PATH));
             loadAllSprites(spritesData);
             
             // Charger le mapping des noms sémantiques (si disponible)
@@ -115,7 +117,7 @@ public class SettingsMapping {
      */
     private void loadAllSprites(JsonValue spritesData) {
         // Charger la texture (on suppose qu'elle est dans gui/PNG/Settings.png)
-        settingsTexture = new Texture(Gdx.files.internal("gui/PNG/Settings.png"));
+        settingsTexture = DisposableTracker.texture("gui/PNG/Settings.png");
         settingsTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         
         // Parcourir tous les sprites dans le tableau JSON
@@ -274,6 +276,7 @@ public class SettingsMapping {
     /**
      * Retourne un sprite par son nom (sprite1, sprite2, etc.)
      */
+    @Override
     public TextureRegion getSprite(String spriteName) {
         return allSprites.get(spriteName);
     }
@@ -281,6 +284,7 @@ public class SettingsMapping {
     /**
      * Retourne tous les sprites
      */
+    @Override
     public Map<String, TextureRegion> getAllSprites() {
         return allSprites;
     }
@@ -302,6 +306,7 @@ public class SettingsMapping {
     /**
      * Retourne la texture complète
      */
+    @Override
     public Texture getTexture() {
         return settingsTexture;
     }
@@ -309,6 +314,7 @@ public class SettingsMapping {
     /**
      * Libère les ressources
      */
+    @Override
     public void dispose() {
         if (settingsTexture != null) {
             settingsTexture.dispose();
@@ -0,0 +1,310 @@
+package com.tlse1.twodgame.utils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grille de hachage spatial uniforme pour les requêtes de proximité.
+ *
+ * Chaque objet est enregistré avec son rectangle englobant et occupe toutes les cellules
+ * que ce rectangle recouvre. Les cellules sont hachées dans une table de taille fixe :
+ * la grille n'a pas de bornes et n'alloue rien par frame. update() ne déplace un objet
+ * entre cellules que si son rectangle a changé de cellules.
+ *
+ * Les requêtes sont un broadphase : elles retournent les objets dont le rectangle enregistré
+ * touche la zone demandée (bords inclus), dans leur ordre d'insertion, sans doublon.
+ * Le test exact reste à la charge de l'appelant. Les entrées des objets retirés sont gardées
+ * dans une liste libre et réutilisées par les insertions suivantes : sans allocation une fois
+ * les listes dimensionnées, même quand des objets apparaissent et disparaissent ; non thread-safe.
+ *
+ * @param <T> Type des objets indexés (comparés par identité)
+ */
+public class SpatialHashGrid<T> {
+
+    private static final int DEFAULT_BUCKET_COUNT = 1024;
+
+    /**
+     * Objet enregistré et plage de cellules qu'il occupe (réutilisée après retrait).
+     */
+    private static class Entry<T> {
+        T item;
+        long sequence;
+        float x;
+        float y;
+        float width;
+        float height;
+        int minCellX;
+        int minCellY;
+        int maxCellX;
+        int maxCellY;
+        int queryStamp;
+    }
+
+    private final float cellSize;
+    private final float inverseCellSize;
+    private final ArrayList<Entry<T>>[] buckets;
+    private final int bucketMask;
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    // Résultats de la requête en cours, triés par ordre d'insertion avant d'être copiés
+    private final ArrayList<Entry<T>> results = new ArrayList<>();
+    // Entrées des objets retirés, prêtes pour les prochaines insertions
+    private final ArrayList<Entry<T>> freeEntries = new ArrayList<>();
+
+    private long nextSequence;
+    private int queryStamp;
+
+    /**
+     * @param cellSize Taille d'une cellule en pixels (de l'ordre de la taille des objets)
+     */
+    public SpatialHashGrid(float cellSize) {
+        this(cellSize, DEFAULT_BUCKET_COUNT);
+    }
+
+    /**
+     * @param cellSize Taille d'une cellule en pixels (de l'ordre de la taille des objets)
+     * @param bucketCount Nombre de cases de la table de hachage (arrondi à la puissance de 2 supérieure)
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialHashGrid(float cellSize, int bucketCount) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Taille de cellule invalide : " + cellSize);
+        }
+        int size = Integer.highestOneBit(Math.max(1, bucketCount - 1)) << 1;
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+        this.buckets = new ArrayList[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.bucketMask = size - 1;
+    }
+
+    /**
+     * Enregistre un objet. S'il est déjà enregistré, son rectangle est mis à jour.
+     *
+     * @param item L'objet
+     * @param x Coin bas-gauche X
+     * @param y Coin bas-gauche Y
+     * @param width Largeur (0 accepté)
+     * @param height Hauteur (0 accepté)
+     */
+    public void insert(T item, float x, float y, float width, float height) {
+        if (entries.containsKey(item)) {
+            update(item, x, y, width, height);
+            return;
+        }
+        Entry<T> entry = obtainEntry();
+        entry.item = item;
+        entry.sequence = nextSequence++;
+        setBounds(entry, x, y, width, height);
+        entries.put(item, entry);
+        addToCells(entry);
+    }
+
+    /**
+     * Met à jour le rectangle d'un objet enregistré. Sans effet s'il ne l'est pas.
+     */
+    public void update(T item, float x, float y, float width, float height) {
+        Entry<T> entry = entries.get(item);
+        if (entry == null) {
+            return;
+        }
+        int minCellX = cell(x);
+        int minCellY = cell(y);
+        int maxCellX = cell(x + Math.max(0f, width));
+        int maxCellY = cell(y + Math.max(0f, height));
+        if (minCellX == entry.minCellX && minCellY == entry.minCellY
+                && maxCellX == entry.maxCellX && maxCellY == entry.maxCellY) {
+            // Mêmes cellules : seul le rectangle change
+            entry.x = x;
+            entry.y = y;
+            entry.width = width;
+            entry.height = height;
+            return;
+        }
+        removeFromCells(entry);
+        setBounds(entry, x, y, width, height);
+        addToCells(entry);
+    }
+
+    /**
+     * Retire un objet. Sans effet s'il n'est pas enregistré.
+     */
+    public void remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry != null) {
+            removeFromCells(entry);
+            freeEntry(entry);
+        }
+    }
+
+    public boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    /**
+     * Retire tous les objets.
+     */
+    public void clear() {
+        for (ArrayList<Entry<T>> bucket : buckets) {
+            bucket.clear();
+        }
+        for (Entry<T> entry : entries.values()) {
+            freeEntry(entry);
+        }
+        entries.clear();
+        results.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Objets dont le rectangle touche un rectangle donné.
+     *
+     * @param out Liste vidée puis remplie, dans l'ordre d'insertion
+     * @return Le nombre d'objets trouvés
+     */
+    public int queryRect(float x, float y, float width, float height, List<T> out) {
+        out.clear();
+        results.clear();
+        float right = x + Math.max(0f, width);
+        float top = y + Math.max(0f, height);
+        int stamp = ++queryStamp;
+
+        for (int cellY = cell(y); cellY <= cell(top); cellY++) {
+            for (int cellX = cell(x); cellX <= cell(right); cellX++) {
+                ArrayList<Entry<T>> bucket = buckets[bucketIndex(cellX, cellY)];
+                for (int i = 0, n = bucket.size(); i < n; i++) {
+                    Entry<T> entry = bucket.get(i);
+                    if (entry.queryStamp == stamp) {
+                        continue;
+                    }
+                    entry.queryStamp = stamp;
+                    if (entry.x <= right && entry.x + entry.width >= x
+                            && entry.y <= top && entry.y + entry.height >= y) {
+                        results.add(entry);
+                    }
+                }
+            }
+        }
+        return copySortedResults(out);
+    }
+
+    /**
+     * Objets dont le rectangle touche un disque donné.
+     *
+     * @param out Liste vidée puis remplie, dans l'ordre d'insertion
+     * @return Le nombre d'objets trouvés
+     */
+    public int queryRadius(float centerX, float centerY, float radius, List<T> out) {
+        out.clear();
+        results.clear();
+        float radiusSquared = radius * radius;
+        int stamp = ++queryStamp;
+
+        for (int cellY = cell(centerY - radius); cellY <= cell(centerY + radius); cellY++) {
+            for (int cellX = cell(centerX - radius); cellX <= cell(centerX + radius); cellX++) {
+                ArrayList<Entry<T>> bucket = buckets[bucketIndex(cellX, cellY)];
+                for (int i = 0, n = bucket.size(); i < n; i++) {
+                    Entry<T> entry = bucket.get(i);
+                    if (entry.queryStamp == stamp) {
+                        continue;
+                    }
+                    entry.queryStamp = stamp;
+                    // Point du rectangle le plus proche du centre
+                    float nearestX = Math.max(entry.x, Math.min(centerX, entry.x + entry.width));
+                    float nearestY = Math.max(entry.y, Math.min(centerY, entry.y + entry.height));
+                    float dx = centerX - nearestX;
+                    float dy = centerY - nearestY;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        results.add(entry);
+                    }
+                }
+            }
+        }
+        return copySortedResults(out);
+    }
+
+    private int copySortedResults(List<T> out) {
+        // Tri par insertion : les résultats sont peu nombreux et souvent déjà presque triés
+        for (int i = 1; i < results.size(); i++) {
+            Entry<T> entry = results.get(i);
+            int j = i - 1;
+            while (j >= 0 && results.get(j).sequence > entry.sequence) {
+                results.set(j + 1, results.get(j));
+                j--;
+            }
+            results.set(j + 1, entry);
+        }
+        for (int i = 0; i < results.size(); i++) {
+            out.add(results.get(i).item);
+        }
+        int count = results.size();
+        results.clear();
+        return count;
+    }
+
+    private Entry<T> obtainEntry() {
+        int last = freeEntries.size() - 1;
+        return last >= 0 ? freeEntries.remove(last) : new Entry<T>();
+    }
+
+    private void freeEntry(Entry<T> entry) {
+        // Plus de référence vers l'objet retiré tant que l'entrée attend dans la liste libre
+        entry.item = null;
+        entry.queryStamp = 0;
+        freeEntries.add(entry);
+    }
+
+    private void setBounds(Entry<T> entry, float x, float y, float width, float height) {
+        entry.x = x;
+        entry.y = y;
+        entry.width = width;
+        entry.height = height;
+        entry.minCellX = cell(x);
+        entry.minCellY = cell(y);
+        entry.maxCellX = cell(x + Math.max(0f, width));
+        entry.maxCellY = cell(y + Math.max(0f, height));
+    }
+
+    private void addToCells(Entry<T> entry) {
+        for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+            for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+                buckets[bucketIndex(cellX, cellY)].add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<T> entry) {
+        for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+            for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+                ArrayList<Entry<T>> bucket = buckets[bucketIndex(cellX, cellY)];
+                // Retrait par échange avec le dernier élément (une occurrence par cellule)
+                for (int i = bucket.size() - 1; i >= 0; i--) {
+                    if (bucket.get(i) == entry) {
+                        int last = bucket.size() - 1;
+                        bucket.set(i, bucket.get(last));
+                        bucket.remove(last);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    private int bucketIndex(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & bucketMask;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tlse1.twodgame.utils;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Map;
+
+/**
+ * Planche de sprites découpée selon un fichier JSON (menu, panneaux, textes...).
+ * Permet à l'AssetService de partager les mappings entre écrans et d'estimer leur taille en mémoire GPU.
+ */
+public interface SpriteMapping extends Disposable {
+
+    /**
+     * Retourne un sprite par son nom (null s'il n'existe pas).
+     */
+    TextureRegion getSprite(String spriteName);
+
+    /**
+     * Retourne tous les sprites chargés.
+     */
+    Map<String, TextureRegion> getAllSprites();
+
+    /**
+     * Retourne la texture complète.
+     */
+    Texture getTexture();
+}
@@ -13,7 +13,9 @@ import java.util.Map;
  * Classe pour charger et gérer le mapping JSON des lettres de Text1.png.
  * Permet de découper automatiquement les sprites de texte selon les coordonnées définies dans le JSON.
  */
-public class TextMapping {
+public class TextMapping implements SpriteMapping {
+    
+    public static final String JSON_PATH = "gui/text1_sprites.json";
     
     private Texture textTexture;
     
@@ -36,7 +38,7 @@ public class TextMapping {
             JsonReader jsonReader = new JsonReader();
             
             // Charger tous les sprites depuis text1_sprites.json
-            JsonValue spritesData = jsonReader.parse(Gdx.files.internal("gui/text1_sprites.json"));
+            JsonValue spritesData = jsonReader.parse(Gdx.files.internal(JSON_PATH));
             loadAllSprites(spritesData);
         } catch (Exception e) {
             Gdx.app.error("TextMapping", "Erreur lors du chargement du mapping texte: " + e.getMessage());
@@ -49,7 +51,7 @@ public class TextMapping {
      */
     private void loadAllSprites(JsonValue spritesData) {
         // Charger la texture (on suppose qu'elle est dans gui/PNG/Text1.png)
-        textTexture = new Texture(Gdx.files.internal("gui/PNG/Text1.png"));
+        textTexture = DisposableTracker.texture("gui/PNG/Text1.png");
         textTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         
         // Parcourir tous les sprites dans le tableau JSON
@@ -70,6 +72,7 @@ public class TextMapping {
     /**
      * Retourne un sprite de texte par son nom (sprite1, sprite2, etc.)
      */
+    @Override
     public TextureRegion getSprite(String spriteName) {
         return allSprites.get(spriteName);
     }
@@ -77,6 +80,7 @@ public class TextMapping {
     /**
      * Retourne tous les sprites de texte
      */
+    @Override
     public Map<String, TextureRegion> getAllSprites() {
         return allSprites;
     }
@@ -84,6 +88,7 @@ public class TextMapping {
     /**
      * Retourne la texture complète
      */
+    @Override
     public Texture getTexture() {
         return textTexture;
     }
@@ -91,6 +96,7 @@ public class TextMapping {
     /**
      * Libère les ressources
      */
+    @Override
     public void dispose() {
         if (textTexture != null) {
             textTexture.dispose();
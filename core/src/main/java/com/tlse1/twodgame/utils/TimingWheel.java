@@ -0,0 +1,267 @@
+package com.tlse1.twodgame.utils;
+
+/**
+ * Roue temporelle hiérarchique : planifie des timers de jeu (réapparitions, cooldowns, boosts).
+ *
+ * Le temps avance par ticks de TICK_SECONDS. La roue a LEVELS niveaux de SLOTS cases : le niveau 0
+ * couvre les SLOTS prochains ticks, le niveau 1 les SLOTS² suivants, etc. (2^24 ticks, soit plus de
+ * 46 heures ; au-delà un timer est replacé dans le dernier niveau jusqu'à ce qu'il soit à portée).
+ * Chaque case est une liste chaînée des timers qu'elle contient :
+ * - schedule() et cancel() sont en O(1) et n'allouent rien (les timers appartiennent à l'appelant)
+ * - advance() ne visite que la case du tick courant ; quand le niveau 0 a fait un tour, la case
+ *   suivante du niveau 1 est redistribuée dans le niveau 0 (et ainsi de suite)
+ * Un timer en attente ne coûte donc rien avant son échéance, hormis ces redistributions.
+ *
+ * Non thread-safe ; l'ordre de déclenchement des timers d'un même tick n'est pas garanti.
+ */
+public class TimingWheel {
+
+    // Durée d'un tick de la roue (précision des timers)
+    public static final float TICK_SECONDS = 0.01f;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // Délai maximal placé directement dans la roue, en ticks
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * Timer planifiable dans une roue. Un même timer est réutilisé d'une planification à l'autre ;
+     * tant qu'il est en attente, isScheduled() vaut true.
+     * Sous-classer et redéfinir onExpire() pour réagir à l'échéance ; sans redéfinition,
+     * le timer sert de simple cooldown.
+     */
+    public static class Timer {
+        private TimingWheel wheel;
+        private Timer previous;
+        private Timer next;
+        private long deadline;
+        private int level;
+        private int slot;
+
+        /**
+         * Appelé à l'échéance, après que le timer a quitté la roue : il peut être replanifié.
+         */
+        protected void onExpire() {
+        }
+
+        /**
+         * @return true si le timer attend son échéance
+         */
+        public boolean isScheduled() {
+            return wheel != null;
+        }
+
+        /**
+         * @return Le temps restant avant l'échéance, en secondes (0 si le timer n'est pas planifié)
+         */
+        public float getRemaining() {
+            if (wheel == null) {
+                return 0f;
+            }
+            return Math.max(0f, (float) ((deadline - wheel.now) * TICK_SECONDS - wheel.accumulated));
+        }
+
+        /**
+         * Annule le timer s'il est planifié.
+         */
+        public void cancel() {
+            if (wheel != null) {
+                wheel.cancel(this);
+            }
+        }
+
+        /**
+         * Déplace le timer vers une autre roue en conservant le temps restant.
+         *
+         * @param target La nouvelle roue
+         */
+        public void moveTo(TimingWheel target) {
+            if (wheel != null && wheel != target) {
+                float remaining = getRemaining();
+                wheel.cancel(this);
+                target.schedule(this, remaining);
+            }
+        }
+    }
+
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+
+    // Tick courant et temps accumulé depuis ce tick
+    private long now;
+    private double accumulated;
+    private int scheduledCount;
+
+    // Timers de la case en cours de déclenchement
+    private Timer firing;
+
+    /**
+     * Planifie un timer. Un timer déjà planifié est replanifié (son ancienne échéance est oubliée).
+     *
+     * @param timer Le timer
+     * @param delaySeconds Délai avant l'échéance (au moins un tick)
+     */
+    public void schedule(Timer timer, float delaySeconds) {
+        if (timer.wheel != null) {
+            timer.wheel.cancel(timer);
+        }
+        long ticks = Math.max(1L, Math.round((delaySeconds + accumulated) / TICK_SECONDS));
+        timer.deadline = now + ticks;
+        timer.wheel = this;
+        scheduledCount++;
+        insert(timer);
+    }
+
+    /**
+     * Annule un timer planifié dans cette roue.
+     *
+     * @param timer Le timer
+     */
+    public void cancel(Timer timer) {
+        if (timer.wheel != this) {
+            return;
+        }
+        unlink(timer);
+        timer.wheel = null;
+        scheduledCount--;
+    }
+
+    /**
+     * Fait avancer la roue et déclenche les timers arrivés à échéance.
+     *
+     * @param deltaTime Temps écoulé depuis le dernier appel
+     */
+    public void advance(float deltaTime) {
+        accumulated += deltaTime;
+        while (accumulated >= TICK_SECONDS) {
+            accumulated -= TICK_SECONDS;
+            tick();
+        }
+    }
+
+    /**
+     * Annule tous les timers en attente (nouvelle partie).
+     */
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                while (slots[level][slot] != null) {
+                    cancel(slots[level][slot]);
+                }
+            }
+        }
+        while (firing != null) {
+            cancel(firing);
+        }
+    }
+
+    private void tick() {
+        now++;
+        // Quand un niveau a fait un tour, la case suivante du niveau supérieur descend d'un niveau
+        for (int level = 1; level < LEVELS; level++) {
+            if ((now & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            cascade(level, (int) ((now >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+
+        // Les timers sont retirés de la case avant d'être déclenchés : un timer peut
+        // en replanifier ou en annuler un autre de la même case
+        int slot = (int) (now & SLOT_MASK);
+        firing = slots[0][slot];
+        slots[0][slot] = null;
+        for (Timer timer = firing; timer != null; timer = timer.next) {
+            timer.level = -1;
+        }
+        while (firing != null) {
+            Timer timer = firing;
+            unlink(timer);
+            timer.wheel = null;
+            scheduledCount--;
+            timer.onExpire();
+        }
+    }
+
+    /**
+     * Redistribue une case d'un niveau supérieur selon l'échéance de chacun de ses timers.
+     */
+    private void cascade(int level, int slot) {
+        Timer timer = slots[level][slot];
+        slots[level][slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delay = Math.min(timer.deadline - now, MAX_DELAY);
+        long target = now + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        timer.level = level;
+        timer.slot = slot;
+        timer.next = null;
+        Timer head = slots[level][slot];
+        if (head == null) {
+            timer.previous = timer;
+            slots[level][slot] = timer;
+        } else {
+            Timer tail = head.previous;
+            tail.next = timer;
+            timer.previous = tail;
+            head.previous = timer;
+        }
+    }
+
+    /**
+     * Retire un timer de sa liste. La tête d'une liste garde un lien vers la queue (previous).
+     */
+    private void unlink(Timer timer) {
+        Timer head = timer.level >= 0 ? slots[timer.level][timer.slot] : firing;
+        Timer next = timer.next;
+        if (timer == head) {
+            if (next != null) {
+                next.previous = timer.previous;
+            }
+            setHead(timer, next);
+        } else {
+            timer.previous.next = next;
+            if (next != null) {
+                next.previous = timer.previous;
+            } else {
+                head.previous = timer.previous;
+            }
+        }
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    private void setHead(Timer timer, Timer head) {
+        if (timer.level >= 0) {
+            slots[timer.level][timer.slot] = head;
+        } else {
+            firing = head;
+        }
+    }
+
+    /**
+     * @return Le nombre de timers en attente
+     */
+    public int getScheduledCount() {
+        return scheduledCount;
+    }
+
+    /**
+     * @return Le nombre de ticks écoulés depuis la création de la roue
+     */
+    public long getTick() {
+        return now;
+    }
+}
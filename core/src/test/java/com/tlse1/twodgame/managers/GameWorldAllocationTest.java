@@ -0,0 +1,120 @@
+package com.tlse1.twodgame.managers;
+
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.headless.HeadlessGdx;
+import com.tlse1.twodgame.headless.NullBatch;
+import com.tlse1.twodgame.headless.ThreadAllocations;
+import com.tlse1.twodgame.utils.ActionPanelMapping;
+import com.tlse1.twodgame.utils.Direction;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Le tick stable du monde (déplacement, collisions, IA, combat, rendu) ne doit rien allouer.
+ *
+ * Même charge que le scénario zero-alloc-100 : 100 ennemis répartis sur les 6 zones, le joueur
+ * (invulnérable) marche sans attaquer. Après le warmup, le total alloué pendant les ticks mesurés,
+ * coût de la mesure retiré, doit valoir exactement 0 octet.
+ */
+public class GameWorldAllocationTest {
+
+    private static final String MAP_PATH = "map/map.json";
+    private static final float DELTA = 1f / 60f;
+    // Assez de ticks pour que le JIT compile la boucle et que les pools atteignent leur taille stable
+    private static final int WARMUP_TICKS = 600;
+    private static final int MEASURED_TICKS = 1200;
+    // Le joueur change de sens toutes les secondes pour rester près de sa zone
+    private static final int TURN_EVERY_TICKS = 60;
+    private static final float SPREAD = 24f;
+
+    // Slimes dans les zones 1-3, vampires dans les zones 4-6 : 100 ennemis au total
+    private static final int[] ENEMIES_PER_ZONE = {17, 17, 16, 17, 17, 16};
+
+    private static ActionPanelMapping actionPanelMapping;
+
+    @BeforeClass
+    public static void bootGdx() {
+        HeadlessGdx.boot();
+        actionPanelMapping = new ActionPanelMapping();
+    }
+
+    @AfterClass
+    public static void disposeSprites() {
+        if (actionPanelMapping != null) {
+            actionPanelMapping.dispose();
+        }
+    }
+
+    @Test
+    public void steadyTickDoesNotAllocate() {
+        assumeTrue("allocations par thread non mesurables sur cette JVM", ThreadAllocations.isSupported());
+
+        JsonMapLoader mapLoader = new JsonMapLoader(MAP_PATH);
+        GameWorld world = new GameWorld(mapLoader, actionPanelMapping, 42L);
+        try {
+            populate(world, mapLoader);
+            PlayerInput input = new PlayerInput();
+
+            for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+                tick(world, input, tick);
+            }
+
+            ThreadAllocations.measurementOverhead();
+            long start = ThreadAllocations.current();
+            for (int tick = WARMUP_TICKS; tick < WARMUP_TICKS + MEASURED_TICKS; tick++) {
+                tick(world, input, tick);
+            }
+            long end = ThreadAllocations.current();
+
+            assertEquals("octets alloués pendant " + MEASURED_TICKS + " ticks stables",
+                0L, ThreadAllocations.between(start, end));
+        } finally {
+            world.dispose();
+            mapLoader.dispose();
+        }
+    }
+
+    /**
+     * Place le joueur (invulnérable) au centre de la zone 1 et les 100 ennemis autour du centre de leur zone.
+     */
+    private static void populate(GameWorld world, JsonMapLoader mapLoader) {
+        Player player = world.getPlayer();
+        float[] playerStart = mapLoader.getZoneCenter(1);
+        player.setX(playerStart[0]);
+        player.setY(playerStart[1]);
+        player.getCombatHandler().setMaxHealth(Integer.MAX_VALUE / 2);
+        player.getCombatHandler().setHealth(Integer.MAX_VALUE / 2);
+
+        Random random = new Random(42L);
+        for (int zone = 1; zone <= ENEMIES_PER_ZONE.length; zone++) {
+            float[] center = mapLoader.getZoneCenter(zone);
+            for (int i = 0; i < ENEMIES_PER_ZONE[zone - 1]; i++) {
+                float x = center[0] + (random.nextFloat() - 0.5f) * SPREAD;
+                float y = center[1] + (random.nextFloat() - 0.5f) * SPREAD;
+                if (zone <= 3) {
+                    world.spawnSlime(zone, zone, x, y);
+                } else {
+                    world.spawnVampire(zone, zone - 3, x, y);
+                }
+            }
+        }
+    }
+
+    /**
+     * Une frame de jeu : commandes, simulation, puis rendu dans un NullBatch
+     * (le rendu met à jour les dimensions utilisées par l'IA et les collisions).
+     */
+    private static void tick(GameWorld world, PlayerInput input, int tick) {
+        input.clear();
+        input.moveDirection = (tick / TURN_EVERY_TICKS) % 2 == 0 ? Direction.SIDE : Direction.SIDE_LEFT;
+        world.update(DELTA, input);
+        world.renderEntities(NullBatch.INSTANCE);
+    }
+}
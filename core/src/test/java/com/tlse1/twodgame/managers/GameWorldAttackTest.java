@@ -0,0 +1,110 @@
+package com.tlse1.twodgame.managers;
+
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.headless.HeadlessGdx;
+import com.tlse1.twodgame.headless.NullBatch;
+import com.tlse1.twodgame.utils.ActionPanelMapping;
+import com.tlse1.twodgame.utils.Direction;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Le coup du joueur ne touche que devant lui : la zone de frappe de chaque frame est la partie
+ * de l'épée qui dépasse du corps, du côté où il regarde.
+ *
+ * Le joueur (invulnérable) regarde à droite et attaque pendant plusieurs secondes ; un slime immobile
+ * collé à son dos ne perd aucun point de vie, le même slime placé devant lui est touché.
+ */
+public class GameWorldAttackTest {
+
+    private static final String MAP_PATH = "map/map.json";
+    private static final float DELTA = 1f / 60f;
+    // Plusieurs attaques complètes, cooldown compris
+    private static final int ATTACK_TICKS = 240;
+
+    private static ActionPanelMapping actionPanelMapping;
+
+    @BeforeClass
+    public static void bootGdx() {
+        HeadlessGdx.boot();
+        actionPanelMapping = new ActionPanelMapping();
+    }
+
+    @AfterClass
+    public static void disposeSprites() {
+        if (actionPanelMapping != null) {
+            actionPanelMapping.dispose();
+        }
+    }
+
+    @Test
+    public void enemyBehindPlayerIsNotHit() {
+        assertEquals("points de vie du slime derrière le joueur", 0, damageTaken(false));
+    }
+
+    @Test
+    public void enemyInFrontOfPlayerIsHit() {
+        assertTrue("le slime devant le joueur doit être touché", damageTaken(true) > 0);
+    }
+
+    /**
+     * Fait attaquer le joueur, tourné vers la droite, avec un slime immobile juste devant ou juste derrière lui.
+     *
+     * @param inFront true pour placer le slime devant le joueur, false contre son dos
+     * @return Points de vie perdus par le slime
+     */
+    private static int damageTaken(boolean inFront) {
+        JsonMapLoader mapLoader = new JsonMapLoader(MAP_PATH);
+        GameWorld world = new GameWorld(mapLoader, actionPanelMapping, 42L);
+        try {
+            Player player = world.getPlayer();
+            float[] center = mapLoader.getZoneCenter(1);
+            player.setX(center[0]);
+            player.setY(center[1]);
+            player.getCombatHandler().setMaxHealth(Integer.MAX_VALUE / 2);
+            player.getCombatHandler().setHealth(Integer.MAX_VALUE / 2);
+            player.setCurrentDirection(Direction.SIDE);
+
+            Enemy slime = world.spawnSlime(1, 1, center[0], center[1]);
+            slime.setSpeed(0f);
+
+            // Un premier tick et un rendu donnent leurs dimensions au joueur et au slime
+            PlayerInput input = new PlayerInput();
+            tick(world, input);
+
+            // Hitbox du slime contre le dos du joueur (jusqu'à son centre), ou contre sa face avant
+            float playerCenterY = player.getHitboxY() + player.getHitboxHeight() / 2f;
+            float slimeCenterX;
+            if (inFront) {
+                slimeCenterX = player.getHitboxX() + player.getHitboxWidth() - 2f + slime.getHitboxWidth() / 2f;
+            } else {
+                slimeCenterX = player.getHitboxX() + player.getHitboxWidth() / 2f - slime.getHitboxWidth() / 2f;
+            }
+            slime.setX(slimeCenterX - slime.getWidth() / 2f);
+            slime.setY(playerCenterY - slime.getHeight() / 2f);
+            player.setCurrentDirection(Direction.SIDE);
+
+            int startHealth = slime.getHealth();
+            for (int i = 0; i < ATTACK_TICKS && slime.isAlive(); i++) {
+                input.clear();
+                input.attack = true;
+                tick(world, input);
+            }
+            return startHealth - slime.getHealth();
+        } finally {
+            world.dispose();
+            mapLoader.dispose();
+        }
+    }
+
+    private static void tick(GameWorld world, PlayerInput input) {
+        world.update(DELTA, input);
+        world.renderEntities(NullBatch.INSTANCE);
+    }
+}
@@ -0,0 +1,136 @@
+package com.tlse1.twodgame.managers;
+
+import com.tlse1.twodgame.entities.Enemy;
+import com.tlse1.twodgame.entities.Player;
+import com.tlse1.twodgame.headless.HeadlessGdx;
+import com.tlse1.twodgame.headless.NullBatch;
+import com.tlse1.twodgame.headless.ThreadAllocations;
+import com.tlse1.twodgame.utils.ActionPanelMapping;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Morts, réapparitions et ramassages ne doivent rien allouer une fois les pools remplis.
+ *
+ * Le joueur (invulnérable) reste au centre de la zone 1 entouré de slimes à réapparitions illimitées.
+ * Toutes les demi-secondes, un slime vivant est tué contre lui : sa mort, son drop, le ramassage
+ * du drop (index des collectibles) et sa réapparition dix secondes plus tard (index des ennemis)
+ * passent par le chemin normal de GameWorld. Après le warmup, le total alloué pendant les ticks
+ * mesurés, coût de la mesure retiré, doit valoir exactement 0 octet.
+ */
+public class GameWorldLifecycleAllocationTest {
+
+    private static final String MAP_PATH = "map/map.json";
+    private static final float DELTA = 1f / 60f;
+    // Plusieurs délais de réapparition : chaque pool et chaque liste libre atteint sa taille stable
+    private static final int WARMUP_TICKS = 2400;
+    private static final int MEASURED_TICKS = 2400;
+    private static final int KILL_EVERY_TICKS = 30;
+    private static final int SLIMES = 30;
+    private static final float SPREAD = 48f;
+
+    private static ActionPanelMapping actionPanelMapping;
+
+    @BeforeClass
+    public static void bootGdx() {
+        HeadlessGdx.boot();
+        actionPanelMapping = new ActionPanelMapping();
+    }
+
+    @AfterClass
+    public static void disposeSprites() {
+        if (actionPanelMapping != null) {
+            actionPanelMapping.dispose();
+        }
+    }
+
+    @Test
+    public void killRespawnPickupCycleDoesNotAllocate() {
+        assumeTrue("allocations par thread non mesurables sur cette JVM", ThreadAllocations.isSupported());
+
+        JsonMapLoader mapLoader = new JsonMapLoader(MAP_PATH);
+        GameWorld world = new GameWorld(mapLoader, actionPanelMapping, 42L);
+        try {
+            world.setMaxRespawns(Integer.MAX_VALUE);
+            populate(world, mapLoader);
+            PlayerInput input = new PlayerInput();
+
+            for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+                tick(world, input, tick);
+            }
+
+            int itemsBefore = world.getPlayer().getInventory().getItemCount();
+            ThreadAllocations.measurementOverhead();
+            long start = ThreadAllocations.current();
+            for (int tick = WARMUP_TICKS; tick < WARMUP_TICKS + MEASURED_TICKS; tick++) {
+                tick(world, input, tick);
+            }
+            long end = ThreadAllocations.current();
+
+            // Le cycle a bien tourné : des drops ont été ramassés pendant la mesure
+            assertTrue("aucun drop ramassé pendant la mesure",
+                world.getPlayer().getInventory().getItemCount() > itemsBefore);
+            assertEquals("octets alloués pendant " + MEASURED_TICKS + " ticks de morts, réapparitions et ramassages",
+                0L, ThreadAllocations.between(start, end));
+        } finally {
+            world.dispose();
+            mapLoader.dispose();
+        }
+    }
+
+    /**
+     * Place le joueur (invulnérable) au centre de la zone 1 et les slimes autour de lui.
+     */
+    private static void populate(GameWorld world, JsonMapLoader mapLoader) {
+        Player player = world.getPlayer();
+        float[] center = mapLoader.getZoneCenter(1);
+        player.setX(center[0]);
+        player.setY(center[1]);
+        player.getCombatHandler().setMaxHealth(Integer.MAX_VALUE / 2);
+        player.getCombatHandler().setHealth(Integer.MAX_VALUE / 2);
+
+        Random random = new Random(42L);
+        for (int i = 0; i < SLIMES; i++) {
+            float x = center[0] + (random.nextFloat() - 0.5f) * SPREAD;
+            float y = center[1] + (random.nextFloat() - 0.5f) * SPREAD;
+            world.spawnSlime(1, 1 + i % 3, x, y);
+        }
+    }
+
+    /**
+     * Une frame de jeu : à intervalle régulier, un slime vivant est amené contre le joueur et tué
+     * (son drop tombe à portée), puis le joueur ramasse ce qui est à sa portée.
+     */
+    private static void tick(GameWorld world, PlayerInput input, int tick) {
+        if (tick % KILL_EVERY_TICKS == 0) {
+            killNextToPlayer(world);
+        }
+        input.clear();
+        input.pickup = true;
+        world.update(DELTA, input);
+        world.renderEntities(NullBatch.INSTANCE);
+    }
+
+    private static void killNextToPlayer(GameWorld world) {
+        Player player = world.getPlayer();
+        ArrayList<Enemy> enemies = world.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isAlive()) {
+                enemy.setX(player.getX());
+                enemy.setY(player.getY());
+                enemy.takeDamage(Integer.MAX_VALUE / 2);
+                return;
+            }
+        }
+    }
+}
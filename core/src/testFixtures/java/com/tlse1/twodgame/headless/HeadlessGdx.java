@@ -0,0 +1,59 @@
+package com.tlse1.twodgame.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application LibGDX sans fenêtre avec un GL20 simulé, partagée par les tests et les benchmarks.
+ * Les maps, sprite sheets et écrans du jeu se chargent ensuite comme en jeu, sans contexte OpenGL.
+ */
+public final class HeadlessGdx {
+
+    private static HeadlessApplication application;
+
+    private HeadlessGdx() {
+    }
+
+    /**
+     * Démarre l'application headless (une seule fois par JVM).
+     */
+    public static synchronized void boot() {
+        if (application != null) {
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // Pas de boucle de rendu : l'appelant pilote lui-même les mises à jour
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+        GL20 gl = Mockito.mock(GL20.class, Mockito.withSettings().stubOnly());
+        // Handles de texture non nuls : Texture.dispose() ignore une texture de handle 0,
+        // elle resterait alors comptée dans Texture.getNumManagedTextures()
+        AtomicInteger textureHandles = new AtomicInteger();
+        Mockito.when(gl.glGenTexture()).thenAnswer(invocation -> textureHandles.incrementAndGet());
+        // Shaders compilés et programmes liés : SpriteBatch, BitmapFont et donc les écrans du jeu
+        // peuvent être construits sans contexte OpenGL
+        Mockito.when(gl.glCreateShader(Mockito.anyInt())).thenReturn(1);
+        Mockito.when(gl.glCreateProgram()).thenReturn(1);
+        Mockito.doAnswer(HeadlessGdx::reportSuccess)
+            .when(gl).glGetShaderiv(Mockito.anyInt(), Mockito.eq(GL20.GL_COMPILE_STATUS), Mockito.any(IntBuffer.class));
+        Mockito.doAnswer(HeadlessGdx::reportSuccess)
+            .when(gl).glGetProgramiv(Mockito.anyInt(), Mockito.eq(GL20.GL_LINK_STATUS), Mockito.any(IntBuffer.class));
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    private static Object reportSuccess(InvocationOnMock invocation) {
+        IntBuffer params = invocation.getArgument(2);
+        params.put(0, GL20.GL_TRUE);
+        return null;
+    }
+}
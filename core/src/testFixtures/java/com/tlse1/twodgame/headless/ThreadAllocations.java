@@ -0,0 +1,70 @@
+package com.tlse1.twodgame.headless;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Compteur d'octets alloués par le thread courant, pour les mesures d'allocation des tests et des scénarios.
+ *
+ * Lire le compteur peut lui-même allouer quelques octets : ce coût est mesuré une fois
+ * (measurementOverhead()) et retiré de chaque mesure, pour comparer des totaux bruts
+ * sans arrondir une moyenne par tick.
+ */
+public final class ThreadAllocations {
+
+    // Paires de lectures consécutives pour calibrer le coût de la mesure (le minimum est retenu)
+    private static final int CALIBRATION_ROUNDS = 16;
+
+    private static long overhead = -1L;
+
+    private ThreadAllocations() {
+    }
+
+    /**
+     * @return true si la JVM sait compter les allocations par thread
+     */
+    public static boolean isSupported() {
+        return current() >= 0L;
+    }
+
+    /**
+     * @return Octets alloués par le thread courant depuis son démarrage (-1 si non supporté par la JVM)
+     */
+    public static long current() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspotBean = (com.sun.management.ThreadMXBean) bean;
+            if (hotspotBean.isThreadAllocatedMemorySupported() && hotspotBean.isThreadAllocatedMemoryEnabled()) {
+                return hotspotBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * Octets alloués par une paire de lectures du compteur (début et fin d'une mesure), calibrés au premier appel.
+     *
+     * @return Coût d'une mesure, à retirer de end - start
+     */
+    public static synchronized long measurementOverhead() {
+        if (overhead < 0L) {
+            long min = Long.MAX_VALUE;
+            for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+                long start = current();
+                long end = current();
+                min = Math.min(min, end - start);
+            }
+            overhead = Math.max(0L, min);
+        }
+        return overhead;
+    }
+
+    /**
+     * @param start Valeur de current() au début de la mesure
+     * @param end Valeur de current() à la fin de la mesure
+     * @return Octets alloués entre les deux lectures, coût de la mesure retiré
+     */
+    public static long between(long start, long end) {
+        return end - start - measurementOverhead();
+    }
+}